@@ -0,0 +1,83 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.editor.benchmark;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.kotcrab.vis.editor.util.polygon.Clipper;
+import com.kotcrab.vis.editor.util.polygon.Clipper.Polygonizer;
+import com.kotcrab.vis.editor.util.polygon.earclipping.bayazit.BayazitDecomposer;
+import com.kotcrab.vis.editor.util.polygon.earclipping.ewjordan.EwjordanDecomposer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of polygon decomposers used by PolygonTool. Uses terrain like polygons: flat bottom edge and random top edge.
+ * Run using: mvn -P benchmark test-compile exec:exec (from Editor directory, Runtime and UI must be installed first)
+ * @author Kotcrab
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PolygonDecompositionBenchmark {
+	@Param({"16", "64", "256"})
+	public int vertexCount;
+
+	private Vector2[] points;
+	private int frame;
+
+	@Setup
+	public void setup () {
+		Random random = new Random(42);
+		int topVertices = vertexCount - 2;
+		points = new Vector2[vertexCount];
+
+		for (int i = 0; i < topVertices; i++)
+			points[i] = new Vector2(i * 10, 50 + random.nextFloat() * 50);
+
+		points[topVertices] = new Vector2((topVertices - 1) * 10, 0);
+		points[topVertices + 1] = new Vector2(0, 0);
+	}
+
+	@Benchmark
+	public Vector2[][] ewjordan () {
+		return EwjordanDecomposer.decompose(points);
+	}
+
+	@Benchmark
+	public Array<Array<Vector2>> bayazit () {
+		//decomposer reverses input when polygon is clockwise so each invocation needs new array
+		Array<Vector2> vertices = new Array<>(points);
+		return BayazitDecomposer.ConvexPartition(vertices);
+	}
+
+	/** Simulates dragging one vertex between two positions, every decomposition after first two is cached */
+	@Benchmark
+	public Vector2[][] clipperCachedDrag () {
+		Vector2 dragged = points[vertexCount / 3];
+		float oldY = dragged.y;
+		dragged.y = (frame++ & 1) == 0 ? 60 : 90;
+		Vector2[][] faces = Clipper.polygonize(Polygonizer.EWJORDAN, points);
+		dragged.y = oldY;
+		return faces;
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.kotcrab.vis.editor.benchmark;
+
+import com.artemis.Entity;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.kotcrab.vis.editor.entity.EntityScheme;
+import com.kotcrab.vis.editor.entity.UUIDComponent;
+import com.kotcrab.vis.editor.module.project.SceneIOModule;
+import com.kotcrab.vis.editor.scene.EditorScene;
+import com.kotcrab.vis.editor.serializer.ChunkedSceneReader;
+import com.kotcrab.vis.editor.serializer.ChunkedSceneWriter;
+import com.kotcrab.vis.editor.serializer.SceneFileLayout;
+import com.kotcrab.vis.runtime.component.LayerComponent;
+import com.kotcrab.vis.runtime.component.PositionComponent;
+import com.kotcrab.vis.runtime.component.VariablesComponent;
+import com.kotcrab.vis.runtime.scene.SceneViewport;
+import com.kotcrab.vis.runtime.util.EntityEngine;
+import com.kotcrab.vis.runtime.util.EntityEngineConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of scene loading and saving using legacy scene format (single Kryo object) and chunked scene format.
+ * Files are read and written the same way as in SceneIOModule, scene contains entities with position, layer and
+ * variables components.
+ * Run using: mvn -P benchmark test-compile exec:exec (from Editor directory, Runtime and UI must be installed first)
+ * @author Kotcrab
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SceneIOBenchmark {
+	private static final int LEGACY_BUFFER_SIZE = 64 * 1024;
+
+	@Param({"1000", "5000"})
+	public int entityCount;
+
+	//separate Kryo instances are used because reference map grown while writing whole legacy scene would make
+	//resetting Kryo after each entity block much slower than it is in editor
+	private Kryo legacyKryo;
+	private BenchmarkSceneIO sceneIO;
+	private Kryo kryo;
+	private ChunkedSceneWriter writer;
+
+	private EditorScene scene;
+	private PositionComponent movedEntityPosition;
+
+	private File directory;
+	private File legacyFile;
+	private File chunkedFile;
+	private SceneFileLayout chunkedLayout;
+	private int frame;
+
+	@Setup
+	public void setup () throws IOException {
+		legacyKryo = new BenchmarkSceneIO().getKryo();
+		sceneIO = new BenchmarkSceneIO();
+		kryo = sceneIO.getKryo();
+		writer = new ChunkedSceneWriter(kryo);
+
+		EntityEngine engine = new EntityEngine(new EntityEngineConfiguration());
+		Array<Entity> entities = new Array<>(entityCount);
+
+		for (int i = 0; i < entityCount; i++) {
+			VariablesComponent variables = new VariablesComponent();
+			variables.variables.put("name", "entity" + i);
+			variables.variables.put("health", String.valueOf(i % 100));
+
+			PositionComponent position = new PositionComponent();
+			position.x = i % 100 * 10;
+			position.y = i / 100 * 10;
+			if (i == entityCount / 2) movedEntityPosition = position;
+
+			entities.add(engine.createEntity().edit()
+					.add(new UUIDComponent())
+					.add(new LayerComponent(i % 3))
+					.add(position)
+					.add(variables)
+					.getEntity());
+		}
+
+		engine.process(); //components are available after entities are added to engine
+
+		Array<EntityScheme> schemes = new Array<>(entityCount);
+		for (Entity entity : entities)
+			schemes.add(new EntityScheme(entity));
+
+		scene = new EditorScene(new FileHandle("benchmark.scene"), SceneViewport.FIT, 1000, 1000, 100);
+		scene.setSchemes(schemes);
+
+		directory = Files.createTempDirectory("vis-scene-benchmark").toFile();
+		legacyFile = new File(directory, "legacy.scene");
+		chunkedFile = new File(directory, "chunked.scene");
+
+		saveLegacy(legacyFile);
+		chunkedLayout = writer.write(scene, chunkedFile, null);
+	}
+
+	@TearDown
+	public void tearDown () {
+		legacyFile.delete();
+		chunkedFile.delete();
+		directory.delete();
+	}
+
+	@Benchmark
+	public EditorScene legacyLoad () throws IOException {
+		try (Input input = new Input(new FileInputStream(legacyFile), LEGACY_BUFFER_SIZE)) {
+			return legacyKryo.readObject(input, EditorScene.class);
+		}
+	}
+
+	@Benchmark
+	public EditorScene chunkedLoad () throws IOException {
+		try (ChunkedSceneReader reader = new ChunkedSceneReader(kryo, sceneIO, chunkedFile)) {
+			EditorScene loadedScene = reader.getScene();
+			loadedScene.setSchemes(reader.readAllEntities());
+			return loadedScene;
+		}
+	}
+
+	@Benchmark
+	public void legacySave () throws IOException {
+		saveLegacy(legacyFile);
+	}
+
+	/** Save without known previous layout, whole file is written */
+	@Benchmark
+	public SceneFileLayout chunkedFullSave () throws IOException {
+		return writer.write(scene, chunkedFile, null);
+	}
+
+	/** Simulates moving single entity between saves, only its block and table of contents are rewritten */
+	@Benchmark
+	public SceneFileLayout chunkedPartialSave () throws IOException {
+		movedEntityPosition.x = (frame++ & 1) == 0 ? 10 : 20;
+		chunkedLayout = writer.write(scene, chunkedFile, chunkedLayout);
+		return chunkedLayout;
+	}
+
+	private void saveLegacy (File file) throws IOException {
+		try (Output output = new Output(new FileOutputStream(file), LEGACY_BUFFER_SIZE)) {
+			legacyKryo.writeObject(output, scene);
+		}
+	}
+
+	/** Provides Kryo configured the same way as in editor, without need to create whole project modules container */
+	private static class BenchmarkSceneIO extends SceneIOModule {
+		public BenchmarkSceneIO () {
+			added();
+			setupKryo();
+		}
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.editor;
+
+import com.kotcrab.vis.editor.Log.OverflowPolicy;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Log back end used by {@link Log}. Log records are stored in bounded lock-free ring buffer (multiple producers, single
+ * consumer) and written to log file and console by single writer thread, so logging threads never wait for IO.
+ * @author Kotcrab
+ */
+class AsyncLogWriter {
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+	private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+	/** level of records logged by {@link #logRaw(String)} */
+	private static final int RAW = -1;
+
+	private final PrintWriter fileWriter;
+	private final PrintStream out;
+	private final PrintStream err;
+
+	private final int mask;
+	private final LogRecord[] records;
+	private final AtomicLongArray sequences;
+	private final AtomicLong enqueuePos = new AtomicLong();
+	private final AtomicLong droppedRecords = new AtomicLong();
+	/** accessed only by writer thread, or by thread draining buffer after writer thread died */
+	private long dequeuePos;
+	private volatile long flushedPos;
+
+	private volatile OverflowPolicy overflowPolicy = OverflowPolicy.DISCARD;
+	private volatile boolean running = true;
+	private final Thread thread;
+
+	private final SimpleDateFormat dateFormat = new SimpleDateFormat("[HH:mm]");
+	private long timestampMinute = -1;
+	private String timestamp;
+
+	/**
+	 * @param fileWriter log file writer, may be null
+	 * @param capacity ring buffer capacity, rounded up to power of two
+	 */
+	public AsyncLogWriter (PrintWriter fileWriter, PrintStream out, PrintStream err, int capacity) {
+		this.fileWriter = fileWriter;
+		this.out = out;
+		this.err = err;
+
+		int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+		mask = size - 1;
+		records = new LogRecord[size];
+		sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++)
+			sequences.set(i, i);
+
+		thread = new Thread(this::run, "Log");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	public void setOverflowPolicy (OverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/** Logs line that will be written to log file only, without any formatting */
+	public void logRaw (String line) {
+		log(RAW, null, line);
+	}
+
+	public void log (int level, String tag, String msg) {
+		LogRecord record = new LogRecord(System.currentTimeMillis(), level, tag, msg);
+
+		while (offer(record) == false) {
+			//records with level warning or more important are never discarded
+			if (overflowPolicy == OverflowPolicy.DISCARD && level > Log.WARN || running == false) {
+				droppedRecords.incrementAndGet();
+				return;
+			}
+
+			if (Thread.currentThread() == thread) drain(); //should not happen but better than deadlock
+			LockSupport.unpark(thread);
+			LockSupport.parkNanos(FULL_PARK_NANOS);
+		}
+	}
+
+	private boolean offer (LogRecord record) {
+		long pos = enqueuePos.get();
+
+		while (true) {
+			int index = (int) (pos & mask);
+			long diff = sequences.get(index) - pos;
+
+			if (diff == 0) {
+				if (enqueuePos.compareAndSet(pos, pos + 1)) {
+					records[index] = record;
+					sequences.lazySet(index, pos + 1);
+					return true;
+				}
+
+				pos = enqueuePos.get();
+			} else if (diff < 0)
+				return false; //buffer is full
+			else
+				pos = enqueuePos.get();
+		}
+	}
+
+	private LogRecord poll () {
+		int index = (int) (dequeuePos & mask);
+		if (sequences.get(index) - (dequeuePos + 1) < 0) return null;
+
+		LogRecord record = records[index];
+		records[index] = null;
+		sequences.lazySet(index, dequeuePos + mask + 1);
+		dequeuePos++;
+		return record;
+	}
+
+	private void run () {
+		while (running) {
+			if (drain() == 0) LockSupport.parkNanos(IDLE_PARK_NANOS);
+		}
+
+		drain();
+	}
+
+	/** @return count of written records */
+	private int drain () {
+		int written = 0;
+
+		LogRecord record;
+		while ((record = poll()) != null) {
+			write(record);
+			written++;
+		}
+
+		long dropped = droppedRecords.getAndSet(0);
+		if (dropped > 0)
+			write(new LogRecord(System.currentTimeMillis(), Log.WARN, "Log", "Log buffer overflow, discarded " + dropped + " records"));
+
+		if (written > 0 || dropped > 0) {
+			if (fileWriter != null) fileWriter.flush();
+			out.flush();
+		}
+
+		flushedPos = dequeuePos;
+		return written;
+	}
+
+	private void write (LogRecord record) {
+		if (record.level == RAW) { //already printed to console
+			if (fileWriter != null) fileWriter.println(record.msg);
+			return;
+		}
+
+		String line = getTimestamp(record.time) + Log.getLevelPrefix(record.level) + (record.tag == null ? "" : "[" + record.tag + "]") + " " + record.msg;
+		if (fileWriter != null) fileWriter.println(line);
+
+		if (record.level <= Log.ERROR)
+			err.println(line);
+		else
+			out.println(line);
+	}
+
+	private String getTimestamp (long time) {
+		long minute = time / 60000;
+		if (minute != timestampMinute) {
+			timestampMinute = minute;
+			timestamp = dateFormat.format(new Date(time));
+		}
+
+		return timestamp;
+	}
+
+	/**
+	 * Waits until all records logged before this call are written to log file, or until timeout expires. If writer
+	 * thread is not alive, records are written by calling thread.
+	 */
+	public void flush (long timeoutMillis) {
+		long target = enqueuePos.get();
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+
+		while (flushedPos < target) {
+			if (thread.isAlive() == false || Thread.currentThread() == thread) {
+				synchronized (this) {
+					drain();
+				}
+				return;
+			}
+
+			if (System.currentTimeMillis() > deadline) return;
+
+			LockSupport.unpark(thread);
+			LockSupport.parkNanos(FULL_PARK_NANOS);
+		}
+	}
+
+	/** Writes all pending records, stops writer thread and closes log file */
+	public void dispose () {
+		running = false;
+		LockSupport.unpark(thread);
+
+		try {
+			thread.join(TimeUnit.SECONDS.toMillis(5));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (fileWriter != null) fileWriter.close();
+	}
+
+	private static class LogRecord {
+		final long time;
+		final int level;
+		final String tag;
+		final String msg;
+
+		public LogRecord (long time, int level, String tag, String msg) {
+			this.time = time;
+			this.level = level;
+			this.tag = tag;
+			this.msg = msg;
+		}
+	}
+}
@@ -87,6 +87,7 @@ public class Editor extends ApplicationAdapter {
 	private GeneralSettingsModule settings;
 	private ColorSettingsModule colorSettings;
 	private ExperimentalSettingsModule experimentalSettings;
+	private RenderingSettingsModule renderingSettings;
 
 	// TODO move to module
 	private Table mainContentTable;
@@ -113,6 +114,7 @@ public class Editor extends ApplicationAdapter {
 	@Override
 	public void create () {
 		instance = this;
+		ThreadUtils.markGLThread();
 
 		Log.debug("Starting loading");
 
@@ -240,12 +242,16 @@ public class Editor extends ApplicationAdapter {
 
 	@Override
 	public void render () {
+		renderingSettings.frameStarted();
+
 		Color bgColor = colorSettings.getBackgroundColor();
 		Gdx.gl.glClearColor(bgColor.r, bgColor.g, bgColor.b, 1f);
 		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 		stage.act(Gdx.graphics.getDeltaTime());
 		if (tab != null) tab.render(stage.getBatch());
 		stage.draw();
+
+		renderingSettings.frameEnded();
 	}
 
 	@Override
@@ -409,9 +415,9 @@ public class Editor extends ApplicationAdapter {
 				setProgressPercent(50);
 				ThreadUtils.sleep(10);
 
-				executeOnOpenGL(() -> {
-					projectMC.init();
+				projectMC.initConcurrently(Gdx.app::postRunnable);
 
+				executeOnOpenGL(() -> {
 					settingsDialog.addAll(projectMC.getModules());
 
 					statusBar.setText("Project loaded");
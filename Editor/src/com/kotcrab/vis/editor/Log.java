@@ -27,9 +27,11 @@ import javax.swing.JOptionPane;
 import java.io.*;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Log utility, log events are redirected to listener and printed to standard output
+ * Log utility, log events are redirected to listener and printed to standard output. Messages are written to log file and
+ * console asynchronously by {@link AsyncLogWriter}
  * @author Pawel Pastuszak
  */
 public class Log {
@@ -42,21 +44,26 @@ public class Log {
 	public static final int FATAL = 0;
 
 	private static final boolean DEBUG_INTERRUPTED = false;
+	private static final int BUFFER_CAPACITY = 8192;
+	private static final long CRASH_FLUSH_TIMEOUT = 3000;
 
 	public static int LOG_LEVEL = DEBUG;
 
 	private static File logFile;
-	private static PrintWriter logFileWriter;
-	private static SimpleDateFormat msgDateFormat = new SimpleDateFormat("[HH:mm]");
+	private static PrintStream consoleErr;
+	private static AsyncLogWriter writer;
+	private static ConcurrentHashMap<String, Integer> tagLevels = new ConcurrentHashMap<>();
+	private static OverflowPolicy overflowPolicy = OverflowPolicy.DISCARD;
 
 	public static void init () {
-		System.setErr(new ErrorStreamInterceptor(System.err));
+		consoleErr = System.err;
+		System.setErr(new ErrorStreamInterceptor(consoleErr));
 
 		Thread.setDefaultUncaughtExceptionHandler((t, e) -> {
 			Log.exception(e);
 			Log.fatal("Uncaught exception occurred, error report will be saved");
 
-			logFileWriter.flush();
+			if (writer != null) writer.flush(CRASH_FLUSH_TIMEOUT);
 
 			boolean openGlCrash = false;
 			if (e.getMessage() != null && e.getMessage().contains("No OpenGL context found in the current thread."))
@@ -84,7 +91,37 @@ public class Log {
 
 	public static void dispose () {
 		info("Exiting");
-		logFileWriter.close();
+		if (writer != null) {
+			writer.dispose();
+			writer = null;
+		}
+	}
+
+	/**
+	 * Sets log level for messages with given tag, overriding {@link #LOG_LEVEL}.
+	 * @param level new level for tag or null to use global log level
+	 */
+	public static void setTagLevel (String tag, Integer level) {
+		if (level == null)
+			tagLevels.remove(tag);
+		else
+			tagLevels.put(tag, level);
+	}
+
+	/** Changes what happens when log buffer is full, see {@link OverflowPolicy} */
+	public static void setOverflowPolicy (OverflowPolicy policy) {
+		overflowPolicy = policy;
+		if (writer != null) writer.setOverflowPolicy(policy);
+	}
+
+	/** @return true if message with given tag and level would be logged */
+	public static boolean isLoggable (String tag, int level) {
+		if (tag != null && tagLevels.size() > 0) {
+			Integer tagLevel = tagLevels.get(tag);
+			if (tagLevel != null) return tagLevel >= level;
+		}
+
+		return LOG_LEVEL >= level;
 	}
 
 	public static FileHandle getLogFile () {
@@ -105,15 +142,19 @@ public class Log {
 		for (File f : files)
 			if (f.getName().contains(fileNameYearMonth) == false) f.delete();
 
+		PrintWriter logFileWriter = null;
+
 		try {
 			logFile = new File(logDirectory, "viseditor " + fileName + ".txt");
 			logFile.createNewFile();
-			logFileWriter = new PrintWriter(new FileWriter(logFile, true));
+			logFileWriter = new PrintWriter(new BufferedWriter(new FileWriter(logFile, true)));
+			logFileWriter.println();
 		} catch (IOException e) {
 			exception(e);
 		}
 
-		logFileWriter.println();
+		writer = new AsyncLogWriter(logFileWriter, System.out, consoleErr, BUFFER_CAPACITY);
+		writer.setOverflowPolicy(overflowPolicy);
 		info("VisEditor " + App.VERSION + " (version code: " + App.VERSION_CODE + ")");
 		info("Started: " + fileName);
 	}
@@ -125,64 +166,87 @@ public class Log {
 	// Standard log
 
 	public static void trace (String msg) {
-		if (LOG_LEVEL >= TRACE) print("[Trace] " + msg);
+		if (LOG_LEVEL >= TRACE) print(TRACE, null, msg);
 	}
 
 	public static void debug (String msg) {
-		if (LOG_LEVEL >= DEBUG) print("[Debug] " + msg);
+		if (LOG_LEVEL >= DEBUG) print(DEBUG, null, msg);
 	}
 
 	public static void info (String msg) {
-		if (LOG_LEVEL >= INFO) print("[Info] " + msg);
+		if (LOG_LEVEL >= INFO) print(INFO, null, msg);
 	}
 
 	public static void warn (String msg) {
-		if (LOG_LEVEL >= WARN) print("[Warning] " + msg);
+		if (LOG_LEVEL >= WARN) print(WARN, null, msg);
 	}
 
 	public static void error (String msg) {
-		if (LOG_LEVEL >= ERROR) printErr("[Error] " + msg);
+		if (LOG_LEVEL >= ERROR) print(ERROR, null, msg);
 	}
 
 	public static void fatal (String msg) {
-		if (LOG_LEVEL >= FATAL) printErr("[Fatal] " + msg);
+		if (LOG_LEVEL >= FATAL) print(FATAL, null, msg);
 	}
 
 	//Log with tag
 
 	public static void trace (String tag, String msg) {
-		if (LOG_LEVEL >= TRACE) print("[Trace][" + tag + "] " + msg);
+		if (isLoggable(tag, TRACE)) print(TRACE, tag, msg);
 	}
 
 	public static void debug (String tag, String msg) {
-		if (LOG_LEVEL >= DEBUG) print("[Debug][" + tag + "] " + msg);
+		if (isLoggable(tag, DEBUG)) print(DEBUG, tag, msg);
 	}
 
 	public static void info (String tag, String msg) {
-		if (LOG_LEVEL >= INFO) print("[Info][" + tag + "] " + msg);
+		if (isLoggable(tag, INFO)) print(INFO, tag, msg);
 	}
 
 	public static void warn (String tag, String msg) {
-		if (LOG_LEVEL >= WARN) print("[Warning][" + tag + "] " + msg);
+		if (isLoggable(tag, WARN)) print(WARN, tag, msg);
 	}
 
 	public static void error (String tag, String msg) {
-		if (LOG_LEVEL >= ERROR) printErr("[Error][" + tag + "] " + msg);
+		if (isLoggable(tag, ERROR)) print(ERROR, tag, msg);
 	}
 
 	public static void fatal (String tag, String msg) {
-		if (LOG_LEVEL >= FATAL) printErr("[Fatal][" + tag + "] " + msg);
+		if (isLoggable(tag, FATAL)) print(FATAL, tag, msg);
 	}
 
-	private static void print (String msg) {
-		msg = getTimestamp() + msg;
-		logFileWriter.println(msg);
-		System.out.println(msg);
+	private static void print (int level, String tag, String msg) {
+		AsyncLogWriter writer = Log.writer;
+		if (writer != null) {
+			writer.log(level, tag, msg);
+			return;
+		}
+
+		//logger not initialized or already disposed
+		String line = getLevelPrefix(level) + (tag == null ? "" : "[" + tag + "]") + " " + msg;
+		if (level <= ERROR)
+			System.err.println(line);
+		else
+			System.out.println(line);
 	}
 
-	private static void printErr (String msg) {
-		msg = getTimestamp() + msg;
-		System.err.println(msg);
+	static String getLevelPrefix (int level) {
+		switch (level) {
+			case TRACE:
+				return "[Trace]";
+			case DEBUG:
+				return "[Debug]";
+			case INFO:
+				return "[Info]";
+			case WARN:
+				return "[Warning]";
+			case ERROR:
+				return "[Error]";
+			case FATAL:
+				return "[Fatal]";
+			default:
+				throw new IllegalArgumentException("Invalid log level: " + level);
+		}
 	}
 
 	public static void exception (Throwable e) {
@@ -193,8 +257,12 @@ public class Log {
 		fatal(stack);
 	}
 
-	private static String getTimestamp () {
-		return msgDateFormat.format(new Date());
+	/** Defines what happens with new log record when log buffer is full */
+	public enum OverflowPolicy {
+		/** Logging thread waits until there is space in buffer */
+		BLOCK,
+		/** Records with level lower than {@link #WARN} are discarded and count of discarded records is logged, other records wait */
+		DISCARD
 	}
 
 	private static class ErrorStreamInterceptor extends PrintStream {
@@ -205,7 +273,8 @@ public class Log {
 		@Override
 		public void print (String s) {
 			super.print(s);
-			if (logFileWriter != null) logFileWriter.println(s);
+			AsyncLogWriter writer = Log.writer;
+			if (writer != null) writer.logRaw(s);
 		}
 	}
 }
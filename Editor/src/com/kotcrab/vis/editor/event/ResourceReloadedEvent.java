@@ -16,8 +16,13 @@
 
 package com.kotcrab.vis.editor.event;
 
+import com.badlogic.gdx.utils.Array;
+import com.kotcrab.vis.runtime.assets.PathAsset;
+import com.kotcrab.vis.runtime.assets.VisAssetDescriptor;
+
 /**
- * Posted when scene should reload various types of resources
+ * Posted when scene should reload various types of resources. If event carries changed assets descriptors then only
+ * entities referencing those assets will be reloaded.
  * @author Kotcrab
  */
 public class ResourceReloadedEvent {
@@ -30,8 +35,22 @@ public class ResourceReloadedEvent {
 	public static final int RESOURCE_SPRITER_DATA = 0x0064;
 
 	public final int resourceType;
+	/** Descriptors of changed assets, matched by path. May be null, in such case all resources of given type are reloaded. */
+	public final Array<VisAssetDescriptor> changedAssets;
 
 	public ResourceReloadedEvent (int resourceType) {
+		this(resourceType, null);
+	}
+
+	public ResourceReloadedEvent (int resourceType, Array<VisAssetDescriptor> changedAssets) {
 		this.resourceType = resourceType;
+		this.changedAssets = changedAssets;
+	}
+
+	/** Creates event for single changed asset file */
+	public static ResourceReloadedEvent forPath (int resourceType, String relativePath) {
+		Array<VisAssetDescriptor> assets = new Array<>(1);
+		assets.add(new PathAsset(relativePath));
+		return new ResourceReloadedEvent(resourceType, assets);
 	}
 }
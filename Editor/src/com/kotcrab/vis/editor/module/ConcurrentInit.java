@@ -0,0 +1,41 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kotcrab.vis.editor.module;
+
+import com.kotcrab.vis.editor.util.ThreadUtils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.Executor;
+
+/**
+ * Modules annotated by this annotation may have their {@link Module#init()} executed on worker thread, concurrently with
+ * other modules, when container is initialized using {@link ModuleContainer#initConcurrently(Executor)}.
+ * <p>
+ * Module is initialized after all of its dependencies. Modules referenced by injected fields that were added to container
+ * before this module are dependencies automatically, modules obtained in other ways (for example using container get method)
+ * must be declared in {@link #dependsOn()}. Parts of init that require OpenGL context or modify UI must be executed using
+ * {@link ThreadUtils#runOnGLThread(Runnable)}.
+ * @author Kotcrab
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrentInit {
+	/** @return additional modules that must be initialized before this module */
+	Class<? extends Module>[] dependsOn () default {};
+}
@@ -18,13 +18,18 @@ package com.kotcrab.vis.editor.module;
 
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.kotcrab.vis.editor.App;
 import com.kotcrab.vis.editor.Editor;
 import com.kotcrab.vis.editor.Log;
 import com.kotcrab.vis.editor.module.editor.EditorModuleContainer;
+import com.kotcrab.vis.editor.util.ThreadUtils;
 import com.kotcrab.vis.editor.util.vis.EditorRuntimeException;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Base container class. Module container holds all loaded {@link Module}s and allows other modules to access them.
@@ -33,14 +38,16 @@ import java.lang.reflect.Field;
  * @see EditorModuleContainer
  */
 public abstract class ModuleContainer<T extends Module> implements ModuleInjector {
+	/** Injectable fields of each class, shared by all containers, computed once per class */
+	private static final ConcurrentHashMap<Class<?>, Field[]> injectionPlans = new ConcurrentHashMap<>();
+
 	protected Array<T> modules = new Array<>();
+	private final ConcurrentHashMap<Class<?>, Module> resolvedModules = new ConcurrentHashMap<>();
 	private boolean initFinished = false;
-	private static final String TAG = "ModuleContainer";
-
-	private boolean logTrace = Log.LOG_LEVEL == Log.TRACE;
 
 	public void add (T module) {
 		modules.add(module);
+		resolvedModules.clear();
 		module.added();
 		if (initFinished) {
 			injectModules(module);
@@ -53,6 +60,7 @@ public abstract class ModuleContainer<T extends Module> implements ModuleInjecto
 		if (initFinished) throw new IllegalStateException("Modules cannot be removed after initialization!");
 		C module = get(moduleClass);
 		boolean result = modules.removeValue((T) module, true);
+		resolvedModules.clear();
 		if (result) module.removed();
 		return result;
 	}
@@ -65,51 +73,128 @@ public abstract class ModuleContainer<T extends Module> implements ModuleInjecto
 	public void init () {
 		if (initFinished) throw new IllegalStateException("ModuleContainer cannot be initialized twice!");
 
-		long start = System.currentTimeMillis();
-		long moduleInit = 0;
+		ModuleInitProfiler profiler = new ModuleInitProfiler(getClass().getSimpleName());
 
 		injectAllModules();
 
-		for (int i = 0; i < modules.size; i++) {
-			Module module = modules.get(i);
-			if (logTrace) {
-				Log.trace(TAG, "Init: " + module.getClass().getSimpleName());
-				moduleInit = System.currentTimeMillis();
-			}
+		for (int i = 0; i < modules.size; i++)
+			initModule(modules.get(i), profiler);
 
-			module.init();
+		for (int i = 0; i < modules.size; i++)
+			postInitModule(modules.get(i), profiler);
+
+		profiler.log();
+		initFinished = true;
+	}
+
+	/**
+	 * Initializes container, modules annotated with {@link ConcurrentInit} are initialized on worker threads as soon as
+	 * their dependencies are initialized. Other modules are initialized using provided OpenGL executor, in the same
+	 * order as they were added to container. Post init is always executed on OpenGL executor after all modules finished
+	 * init. This method must not be called from OpenGL thread, it blocks until initialization is finished.
+	 * @param glExecutor executor running tasks on OpenGL thread
+	 */
+	public void initConcurrently (Executor glExecutor) {
+		if (initFinished) throw new IllegalStateException("ModuleContainer cannot be initialized twice!");
+		if (ThreadUtils.isGLThread()) throw new IllegalStateException("initConcurrently cannot be called from OpenGL thread");
+
+		ModuleInitProfiler profiler = new ModuleInitProfiler(getClass().getSimpleName());
 
-			if (logTrace) {
-				Log.trace(TAG, "Module init took: " + (System.currentTimeMillis() - moduleInit) + " ms");
+		injectAllModules();
+
+		int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+		ExecutorService workers = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+			private AtomicInteger counter = new AtomicInteger();
+
+			@Override
+			public Thread newThread (Runnable runnable) {
+				Thread thread = new Thread(runnable, "ModuleInit-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
 			}
+		});
 
-			if (module.getClass().isAnnotationPresent(EventBusSubscriber.class)) {
-				App.eventBus.register(module);
-				Log.trace(TAG, "Registered " + module.getClass().getSimpleName() + " to EventBus");
+		try {
+			ObjectMap<Module, CompletableFuture<Void>> initTasks = new ObjectMap<>();
+			CompletableFuture<Void> lastGLTask = CompletableFuture.completedFuture(null);
+
+			for (int i = 0; i < modules.size; i++) {
+				Module module = modules.get(i);
+				ConcurrentInit concurrentInit = module.getClass().getAnnotation(ConcurrentInit.class);
+
+				Array<CompletableFuture<Void>> dependencies = new Array<>();
+				for (Module dependency : getInitDependencies(module, concurrentInit, i))
+					dependencies.add(initTasks.get(dependency));
+
+				CompletableFuture<Void> task;
+				if (concurrentInit == null) {
+					//non concurrent modules keeps their relative order
+					dependencies.add(lastGLTask);
+					task = allOf(dependencies).thenRunAsync(() -> initModule(module, profiler), glExecutor);
+					lastGLTask = task;
+				} else
+					task = allOf(dependencies).thenRunAsync(() -> initModule(module, profiler), workers);
+
+				initTasks.put(module, task);
 			}
+
+			allOf(initTasks.values().toArray()).join();
+
+			CompletableFuture.runAsync(() -> {
+				for (int i = 0; i < modules.size; i++)
+					postInitModule(modules.get(i), profiler);
+			}, glExecutor).join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+			throw new IllegalStateException("Module initialization failed", cause);
+		} finally {
+			workers.shutdown();
 		}
 
-		for (int i = 0; i < modules.size; i++) {
-			Module module = modules.get(i);
+		profiler.log();
+		initFinished = true;
+	}
 
-			if (logTrace) {
-				Log.trace(TAG, "Post init: " + module.getClass().getSimpleName());
-				moduleInit = System.currentTimeMillis();
-			}
+	private CompletableFuture<Void> allOf (Array<CompletableFuture<Void>> futures) {
+		return CompletableFuture.allOf(futures.toArray(CompletableFuture.class));
+	}
 
-			module.postInit();
+	/** @return modules from this container that must be initialized before module at given index */
+	private Array<Module> getInitDependencies (Module module, ConcurrentInit concurrentInit, int moduleIndex) {
+		Array<Module> dependencies = new Array<>();
 
-			if (logTrace) {
-				Log.trace(TAG, "Module post init took: " + (System.currentTimeMillis() - moduleInit) + " ms");
-			}
+		for (Field field : getInjectionPlan(module.getClass())) {
+			if (Module.class.isAssignableFrom(field.getType()) == false) continue;
+			addDependency(dependencies, field.getType().asSubclass(Module.class), moduleIndex);
 		}
 
-		long end = System.currentTimeMillis();
-		long delta = end - start;
+		if (concurrentInit != null) {
+			for (Class<? extends Module> dependency : concurrentInit.dependsOn())
+				addDependency(dependencies, dependency, moduleIndex);
+		}
 
-		Log.debug(getClass().getSimpleName(), "Init took: " + delta + " ms");
+		return dependencies;
+	}
 
-		initFinished = true;
+	private void addDependency (Array<Module> dependencies, Class<? extends Module> dependencyClass, int moduleIndex) {
+		Module dependency = getOrNull(dependencyClass);
+		if (dependency == null) return; //module from other container, already initialized
+
+		int index = modules.indexOf((T) dependency, true);
+		if (index < moduleIndex && dependencies.contains(dependency, true) == false) dependencies.add(dependency);
+	}
+
+	private void initModule (Module module, ModuleInitProfiler profiler) {
+		profiler.profile(module, "init", module::init);
+
+		if (module.getClass().isAnnotationPresent(EventBusSubscriber.class)) {
+			App.eventBus.register(module);
+		}
+	}
+
+	private void postInitModule (Module module, ModuleInitProfiler profiler) {
+		profiler.profile(module, "postInit", module::postInit);
 	}
 
 	private void injectAllModules () {
@@ -120,11 +205,8 @@ public abstract class ModuleContainer<T extends Module> implements ModuleInjecto
 	@Override
 	public void injectModules (Object target) {
 		try {
-			for (Field field : getAllFields(target.getClass())) {
-				if (field.isAnnotationPresent(SkipInject.class)) continue;
-
+			for (Field field : getInjectionPlan(target.getClass()))
 				injectField(target, field, field.getType());
-			}
 		} catch (EditorRuntimeException e) {
 			throw new IllegalStateException("ModuleInjector failed for target: " + target.getClass() + ". See nested exception for error details.", e);
 		} catch (ReflectiveOperationException e) {
@@ -132,18 +214,17 @@ public abstract class ModuleContainer<T extends Module> implements ModuleInjecto
 		}
 	}
 
+	/**
+	 * Injects single field of target. Fields passed to this method are already accessible.
+	 * @return true if field was injected, false otherwise
+	 */
 	protected boolean injectField (Object target, Field field, Class<?> type) throws ReflectiveOperationException {
 		if (Module.class.isAssignableFrom(type)) {
-			if (Module.class.isAssignableFrom(type)) {
-				field.setAccessible(true);
-				field.set(target, findInHierarchy(type.asSubclass(Module.class)));
-			}
-
+			field.set(target, resolveModule(type));
 			return true;
 		}
 
 		if (Stage.class.isAssignableFrom(type)) {
-			field.setAccessible(true);
 			field.set(target, Editor.instance.getStage());
 			return true;
 		}
@@ -151,6 +232,39 @@ public abstract class ModuleContainer<T extends Module> implements ModuleInjecto
 		return false;
 	}
 
+	private Module resolveModule (Class<?> type) {
+		Module module = resolvedModules.get(type);
+		if (module == null) {
+			module = findInHierarchy(type.asSubclass(Module.class));
+			resolvedModules.put(type, module);
+		}
+
+		return module;
+	}
+
+	/**
+	 * Returns fields of given class (including fields from super classes) that may be injected by container. Fields
+	 * annotated with {@link SkipInject} and primitive fields are excluded, returned fields are already accessible.
+	 * Plan is computed once per class and then reused.
+	 */
+	protected static Field[] getInjectionPlan (Class<?> type) {
+		Field[] plan = injectionPlans.get(type);
+		if (plan != null) return plan;
+
+		Array<Field> fields = new Array<>(Field.class);
+		for (Field field : getAllFields(type)) {
+			if (field.getType().isPrimitive() || Modifier.isStatic(field.getModifiers())) continue;
+			if (field.isAnnotationPresent(SkipInject.class)) continue;
+
+			field.setAccessible(true);
+			fields.add(field);
+		}
+
+		plan = fields.toArray();
+		Field[] existing = injectionPlans.putIfAbsent(type, plan);
+		return existing != null ? existing : plan;
+	}
+
 	public static Array<Field> getAllFields (Class<?> type) {
 		Array<Field> fields = new Array<>();
 		for (Class<?> c = type; c != null; c = c.getSuperclass()) {
@@ -196,6 +310,7 @@ public abstract class ModuleContainer<T extends Module> implements ModuleInjecto
 		}
 
 		modules.clear();
+		resolvedModules.clear();
 		initFinished = false;
 	}
 
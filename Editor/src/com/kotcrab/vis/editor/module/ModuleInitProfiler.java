@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kotcrab.vis.editor.module;
+
+import com.badlogic.gdx.utils.Array;
+import com.kotcrab.vis.editor.Log;
+
+/**
+ * Collects time spent in init and post init of each module and builds startup profile report listing slowest modules
+ * first. Dependencies between modules are not tracked so report doesn't show which modules delayed others. Thread safe.
+ * @author Kotcrab
+ */
+public class ModuleInitProfiler {
+	private final String containerName;
+	private final long start = System.currentTimeMillis();
+	private final Array<Entry> entries = new Array<>();
+
+	public ModuleInitProfiler (String containerName) {
+		this.containerName = containerName;
+	}
+
+	/** Runs given module phase and records how long it took */
+	public void profile (Module module, String phase, Runnable runnable) {
+		long phaseStart = System.currentTimeMillis();
+		runnable.run();
+		long end = System.currentTimeMillis();
+
+		synchronized (entries) {
+			entries.add(new Entry(module.getClass().getSimpleName(), phase, Thread.currentThread().getName(),
+					phaseStart - start, end - phaseStart));
+		}
+	}
+
+	public String buildReport () {
+		long wallTime = System.currentTimeMillis() - start;
+		long moduleTime = 0;
+
+		Array<Entry> sorted;
+		synchronized (entries) {
+			sorted = new Array<>(entries);
+		}
+
+		sorted.sort((e1, e2) -> Long.compare(e2.duration, e1.duration));
+		for (Entry entry : sorted)
+			moduleTime += entry.duration;
+
+		StringBuilder builder = new StringBuilder();
+		builder.append(containerName).append(" startup profile, took ").append(wallTime).append(" ms (")
+				.append(moduleTime).append(" ms spent in modules), slowest modules:");
+
+		for (Entry entry : sorted) {
+			builder.append("\n\t").append(String.format("%5d ms  at %5d ms  %-10s %s [%s]",
+					entry.duration, entry.startOffset, entry.phase, entry.moduleName, entry.threadName));
+		}
+
+		return builder.toString();
+	}
+
+	public void log () {
+		Log.debug(containerName, buildReport());
+	}
+
+	private static class Entry {
+		final String moduleName;
+		final String phase;
+		final String threadName;
+		final long startOffset;
+		final long duration;
+
+		public Entry (String moduleName, String phase, String threadName, long startOffset, long duration) {
+			this.moduleName = moduleName;
+			this.phase = phase;
+			this.threadName = threadName;
+			this.startOffset = startOffset;
+			this.duration = duration;
+		}
+	}
+}
@@ -59,6 +59,7 @@ public class VisContainers {
 
 		editorMC.add(new GeneralSettingsModule());
 		editorMC.add(new ColorSettingsModule());
+		editorMC.add(new RenderingSettingsModule());
 		editorMC.add(new ExperimentalSettingsModule());
 		editorMC.add(new PluginSettingsModule());
 		editorMC.add(new GridSettingsModule());
@@ -83,6 +84,8 @@ public class VisContainers {
 		projectMC.add(new SceneMetadataModule());
 		projectMC.add(new AssetsAnalyzerModule());
 		projectMC.add(new TextureNameCheckerModule());
+		projectMC.add(new PolygonTracerModule());
+		projectMC.add(new ThumbnailCacheModule());
 
 		projectMC.add(new ExportersManagerModule());
 		projectMC.add(new ExportSettingsModule());
@@ -41,6 +41,7 @@ import org.apache.commons.io.IOUtils;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Constructor;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -156,11 +157,39 @@ public class PluginLoaderModule extends EditorModule {
 			currentlyLoadingPlugin = descriptor.folderName;
 
 			JarFile jarFile = new JarFile(descriptor.file.path());
-			loadJarClasses(classLoader, descriptor, jarFile.entries());
+			JarEntry indexEntry = jarFile.getJarEntry(VisPluginIndexProcessor.INDEX_PATH);
+
+			if (indexEntry != null)
+				loadIndexedClasses(classLoader, descriptor, jarFile.getInputStream(indexEntry));
+			else {
+				Log.debug(TAG, "Plugin index not found, scanning all classes: " + descriptor.folderName);
+				loadJarClasses(classLoader, descriptor, jarFile.entries());
+			}
+
 			IOUtils.closeQuietly(jarFile);
 		}
 	}
 
+	/** Loads only classes listed in plugin index created by {@link VisPluginIndexProcessor} */
+	private void loadIndexedClasses (URLClassLoader classLoader, PluginDescriptor descriptor, InputStream indexStream) throws IOException, ClassNotFoundException {
+		try {
+			for (String className : IOUtils.readLines(indexStream, "UTF-8")) {
+				className = className.trim();
+				if (className.length() == 0) continue;
+
+				Class<?> clazz = classLoader.loadClass(className);
+
+				if (clazz.getAnnotation(VisPlugin.class) != null)
+					descriptor.pluginClasses.add(clazz);
+				else
+					Log.warn(TAG, "Class listed in plugin index is not annotated with @VisPlugin: " + className);
+			}
+		} finally {
+			IOUtils.closeQuietly(indexStream);
+		}
+	}
+
+	/** Legacy plugin loading for jars without plugin index, loads every class from jar and checks it for {@link VisPlugin} annotation */
 	private void loadJarClasses (URLClassLoader classLoader, PluginDescriptor descriptor, Enumeration<JarEntry> entries) throws ClassNotFoundException {
 		while (entries.hasMoreElements()) {
 			JarEntry entry = entries.nextElement();
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.editor.module.editor;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.esotericsoftware.kryo.serializers.TaggedFieldSerializer.Tag;
+import com.kotcrab.vis.editor.module.editor.RenderingSettingsModule.RenderingConfig;
+import com.kotcrab.vis.ui.widget.VisCheckBox;
+
+/**
+ * VisEditor rendering settings module. Controls whether editor is rendered continuously or only when something requests
+ * new frame, also collects frame statistics displayed in status bar.
+ * <p>
+ * When continuous rendering is disabled input events and runnables posted using Gdx.app.postRunnable request rendering
+ * automatically, other code that changes what is displayed must call Gdx.graphics.requestRendering().
+ * @author Kotcrab
+ */
+public class RenderingSettingsModule extends EditorSettingsModule<RenderingConfig> {
+	private static final int TARGET_FPS = 60;
+	private static final long STATS_UPDATE_INTERVAL = 250;
+
+	private StatusBarModule statusBar;
+
+	private VisCheckBox onDemandRenderingCheck;
+	private VisCheckBox showFrameStatsCheck;
+
+	private long frameStartTime;
+	private float lastFrameTimeMs;
+	private long skippedFrames;
+	private long lastStatsUpdate;
+	private StringBuilder statsBuilder = new StringBuilder();
+
+	public RenderingSettingsModule () {
+		super("Rendering", "renderingSettings", RenderingConfig.class);
+	}
+
+	@Override
+	public void init () {
+		super.init();
+		applyConfig();
+	}
+
+	@Override
+	public void buildTable () {
+		prepareTable();
+
+		settingsTable.defaults().left();
+		settingsTable.add(onDemandRenderingCheck = new VisCheckBox("Render only when needed\n(reduces CPU and GPU usage when editor is idle)", config.onDemandRendering)).row();
+		settingsTable.add(showFrameStatsCheck = new VisCheckBox("Show frame statistics in status bar", config.showFrameStats)).row();
+	}
+
+	@Override
+	public void loadConfigToTable () {
+		onDemandRenderingCheck.setChecked(config.onDemandRendering);
+		showFrameStatsCheck.setChecked(config.showFrameStats);
+	}
+
+	@Override
+	public void settingsApply () {
+		config.onDemandRendering = onDemandRenderingCheck.isChecked();
+		config.showFrameStats = showFrameStatsCheck.isChecked();
+		settingsSave();
+		applyConfig();
+	}
+
+	private void applyConfig () {
+		Gdx.graphics.setContinuousRendering(config.onDemandRendering == false);
+		Gdx.graphics.requestRendering();
+		skippedFrames = 0;
+		if (config.showFrameStats == false) statusBar.setFrameStatsText("");
+	}
+
+	/** Must be called by editor at the beginning of every rendered frame */
+	public void frameStarted () {
+		frameStartTime = TimeUtils.nanoTime();
+
+		//delta is measured from previous rendered frame, so anything above single frame was skipped
+		if (config.onDemandRendering)
+			skippedFrames += Math.max(0, Math.round(Gdx.graphics.getRawDeltaTime() * TARGET_FPS) - 1);
+
+		if (config.showFrameStats && TimeUtils.timeSinceMillis(lastStatsUpdate) > STATS_UPDATE_INTERVAL) {
+			lastStatsUpdate = TimeUtils.millis();
+			statsBuilder.setLength(0);
+			statsBuilder.append("Frame: ").append((int) lastFrameTimeMs).append('.')
+					.append((int) (lastFrameTimeMs * 10) % 10).append(" ms");
+			if (config.onDemandRendering) statsBuilder.append(", skipped: ").append(skippedFrames);
+			statusBar.setFrameStatsText(statsBuilder);
+		}
+	}
+
+	/** Must be called by editor at the end of every rendered frame */
+	public void frameEnded () {
+		lastFrameTimeMs = (TimeUtils.nanoTime() - frameStartTime) / 1000000f;
+	}
+
+	public boolean isOnDemandRendering () {
+		return config.onDemandRendering;
+	}
+
+	public static class RenderingConfig {
+		@Tag(0) boolean onDemandRendering = false;
+		@Tag(1) boolean showFrameStats = false;
+	}
+}
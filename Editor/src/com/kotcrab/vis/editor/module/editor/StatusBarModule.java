@@ -32,6 +32,7 @@ public class StatusBarModule extends EditorModule {
 	public VisTable table;
 	public VisLabel statusLabel;
 	public VisLabel infoLabel;
+	public VisLabel frameStatsLabel;
 
 	public Timer timer;
 	private Task resetTask = new Task() {
@@ -47,12 +48,15 @@ public class StatusBarModule extends EditorModule {
 
 		statusLabel = new VisLabel("");
 		infoLabel = new VisLabel("");
+		frameStatsLabel = new VisLabel("");
+		frameStatsLabel.setColor(Color.LIGHT_GRAY);
 
 		table = new VisTable();
 		table.setBackground(VisUI.getSkin().getDrawable("button"));
 		table.add(statusLabel);
 		table.add().expand().fill();
 		table.add(infoLabel);
+		table.add(frameStatsLabel).padLeft(8);
 	}
 
 	public void setText (String text) {
@@ -77,4 +81,8 @@ public class StatusBarModule extends EditorModule {
 	public void setInfoLabelText (String text) {
 		infoLabel.setText(text);
 	}
+
+	public void setFrameStatsText (CharSequence text) {
+		frameStatsLabel.setText(text);
+	}
 }
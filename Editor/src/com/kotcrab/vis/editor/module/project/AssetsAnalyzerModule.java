@@ -26,6 +26,7 @@ import com.kotcrab.vis.editor.assets.transaction.AssetTransaction;
 import com.kotcrab.vis.editor.assets.transaction.AssetTransactionException;
 import com.kotcrab.vis.editor.assets.transaction.AssetTransactionGenerator;
 import com.kotcrab.vis.editor.assets.transaction.generator.*;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 import com.kotcrab.vis.editor.module.editor.QuickAccessModule;
 import com.kotcrab.vis.editor.module.editor.TabsModule;
 import com.kotcrab.vis.editor.module.editor.ToastModule;
@@ -49,6 +50,7 @@ import com.kotcrab.vis.ui.widget.tabbedpane.Tab;
  * {@link AssetTransactionGenerator} to extend supported types.
  * @author Kotcrab
  */
+@ConcurrentInit
 public class AssetsAnalyzerModule extends ProjectModule {
 	private ToastModule toastModule;
 	private FileAccessModule fileAccess;
@@ -136,6 +138,7 @@ public class AssetsAnalyzerModule extends ProjectModule {
 				engine = new EntityEngine(config);
 				SceneModuleContainer.populateEngine(engine, scene);
 			} else {
+				sceneTab.finishLoading();
 				engine = sceneTab.getSceneMC().getEntityEngine();
 			}
 
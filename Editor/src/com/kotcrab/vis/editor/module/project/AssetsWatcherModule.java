@@ -19,7 +19,9 @@ package com.kotcrab.vis.editor.module.project;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.kotcrab.vis.editor.Log;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 import com.kotcrab.vis.editor.util.DirectoryWatcher;
+import com.kotcrab.vis.editor.util.ThreadUtils;
 import com.kotcrab.vis.ui.util.dialog.DialogUtils;
 
 import java.io.IOException;
@@ -28,6 +30,7 @@ import java.io.IOException;
  * Allow to add listener that will notify about changes in files in project asset directory
  * @author Kotcrab
  */
+@ConcurrentInit(dependsOn = FileAccessModule.class)
 public class AssetsWatcherModule extends ProjectModule {
 	private Stage stage;
 
@@ -42,7 +45,7 @@ public class AssetsWatcherModule extends ProjectModule {
 		try {
 			watcher.start();
 		} catch (IOException e) {
-			DialogUtils.showErrorDialog(stage, "Error creating file watch service, automatic files reloading will not work!", e);
+			ThreadUtils.runOnGLThread(() -> DialogUtils.showErrorDialog(stage, "Error creating file watch service, automatic files reloading will not work!", e));
 			Log.exception(e);
 		}
 	}
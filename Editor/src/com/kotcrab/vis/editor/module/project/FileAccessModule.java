@@ -18,6 +18,7 @@ package com.kotcrab.vis.editor.module.project;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 import com.kotcrab.vis.editor.util.FileUtils;
 
 import java.util.Iterator;
@@ -26,6 +27,7 @@ import java.util.Iterator;
  * Provides FileHandle access to various Vis Project directories and files, contains method for path (de)relativize
  * @author Kotcrab
  */
+@ConcurrentInit
 public class FileAccessModule extends ProjectModule {
 	private FileHandle visFolder;
 	private FileHandle assetsFolder;
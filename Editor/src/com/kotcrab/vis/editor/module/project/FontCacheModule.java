@@ -26,6 +26,7 @@ import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.kotcrab.vis.editor.App;
 import com.kotcrab.vis.editor.event.ResourceReloadedEvent;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 import com.kotcrab.vis.editor.util.DirectoryWatcher.WatchListener;
 import com.kotcrab.vis.editor.util.FileUtils;
 import com.kotcrab.vis.runtime.assets.BmpFontAsset;
@@ -37,6 +38,7 @@ import com.kotcrab.vis.runtime.util.UnsupportedAssetDescriptorException;
  * Allows to get loaded fonts from project asset directory. Fonts can be reloaded automatically.
  * @author Kotcrab
  */
+@ConcurrentInit
 public class FontCacheModule extends ProjectModule implements WatchListener {
 	/** Maximum recommenced font size, not enforced byt FontCacheModule */
 	public static final int MAX_FONT_SIZE = 300;
@@ -84,14 +86,14 @@ public class FontCacheModule extends ProjectModule implements WatchListener {
 		TmpFontsMap font = ttfFonts.remove(file);
 		if (font != null) font.dispose();
 
-		App.eventBus.post(new ResourceReloadedEvent(ResourceReloadedEvent.RESOURCE_TTF_FONTS));
+		App.eventBus.post(ResourceReloadedEvent.forPath(ResourceReloadedEvent.RESOURCE_TTF_FONTS, fileAccess.relativizeToAssetsFolder(file)));
 	}
 
 	private void refreshBmpFont (FileHandle file) {
 		BmpFontsMap bmpFont = bmpFonts.remove(file);
 		if (bmpFont != null) bmpFont.dispose();
 
-		App.eventBus.post(new ResourceReloadedEvent(ResourceReloadedEvent.RESOURCE_BMP_FONTS));
+		App.eventBus.post(ResourceReloadedEvent.forPath(ResourceReloadedEvent.RESOURCE_BMP_FONTS, fileAccess.relativizeToAssetsFolder(file)));
 	}
 
 	public BitmapFont getGeneric (VisAssetDescriptor asset, float pixelsPerUnit) {
@@ -20,6 +20,7 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.ParticleEffect;
 import com.kotcrab.vis.editor.App;
 import com.kotcrab.vis.editor.event.ResourceReloadedEvent;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 import com.kotcrab.vis.editor.util.DirectoryWatcher.WatchListener;
 import com.kotcrab.vis.runtime.assets.PathAsset;
 import com.kotcrab.vis.runtime.assets.VisAssetDescriptor;
@@ -29,6 +30,7 @@ import com.kotcrab.vis.runtime.util.UnsupportedAssetDescriptorException;
  * Allows to get loaded particles from project asset directory.
  * @author Kotcrab
  */
+@ConcurrentInit
 public class ParticleCacheModule extends ProjectModule implements WatchListener {
 	private FileAccessModule fileAccess;
 	private AssetsWatcherModule watcherModule;
@@ -62,7 +64,7 @@ public class ParticleCacheModule extends ProjectModule implements WatchListener
 	public void fileChanged (FileHandle file) {
 		String relativePath = fileAccess.relativizeToAssetsFolder(file);
 		if (relativePath.startsWith("particle"))
-			App.eventBus.post(new ResourceReloadedEvent(ResourceReloadedEvent.RESOURCE_PARTICLES));
+			App.eventBus.post(ResourceReloadedEvent.forPath(ResourceReloadedEvent.RESOURCE_PARTICLES, relativePath));
 	}
 
 	@Override
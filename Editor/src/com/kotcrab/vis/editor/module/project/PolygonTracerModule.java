@@ -0,0 +1,274 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.editor.module.project;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.google.common.eventbus.Subscribe;
+import com.kotcrab.vis.editor.event.ResourceReloadedEvent;
+import com.kotcrab.vis.editor.module.EventBusSubscriber;
+import com.kotcrab.vis.editor.util.ThreadUtils;
+import com.kotcrab.vis.editor.util.polygon.Clipper;
+import com.kotcrab.vis.editor.util.polygon.Clipper.Polygonizer;
+import com.kotcrab.vis.editor.util.polygon.PolygonUtils;
+import com.kotcrab.vis.editor.util.polygon.trace.TextureConverter;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Traces polygons from alpha channel of sprites textures. Texture pixels are read, traced, simplified and decomposed on
+ * worker threads. Traced outlines are cached per texture region so sprites using the same region are traced only once,
+ * cache is cleared when textures are reloaded.
+ * @author Kotcrab
+ */
+@EventBusSubscriber
+public class PolygonTracerModule extends ProjectModule {
+	private static final int ALPHA_TOLERANCE = 20;
+	private static final float HULL_TOLERANCE = 1.5f;
+
+	private ExecutorService executor;
+
+	/** traced and simplified outlines in region pixel coordinates (y axis pointing down) */
+	private final ConcurrentHashMap<RegionKey, CompletableFuture<Array<Vector2>>> outlines = new ConcurrentHashMap<>();
+
+	@Override
+	public void init () {
+		int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+		executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+			private AtomicInteger counter = new AtomicInteger();
+
+			@Override
+			public Thread newThread (Runnable runnable) {
+				Thread thread = new Thread(runnable, "PolygonTracer-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	@Override
+	public void dispose () {
+		executor.shutdownNow();
+	}
+
+	@Subscribe
+	public void handleResourceReloaded (ResourceReloadedEvent event) {
+		if ((event.resourceType & ResourceReloadedEvent.RESOURCE_TEXTURES) != 0) outlines.clear();
+	}
+
+	/**
+	 * Traces polygons of provided sprites. Must be called from OpenGL thread, returned futures are completed on worker threads.
+	 * @param tolerance max distance in pixels between traced outline and simplified polygon
+	 * @return futures of traced polygons, in the same order as sprites, polygons vertices are in world coordinates
+	 */
+	public Array<CompletableFuture<TracedPolygon>> trace (Array<Sprite> sprites, float tolerance, Polygonizer polygonizer) {
+		if (ThreadUtils.isGLThread() == false) throw new IllegalStateException("Sprites must be traced from OpenGL thread");
+
+		//texture pages are shared by all regions in this batch and disposed when all polygons are traced
+		TexturePages pages = new TexturePages();
+		Array<CompletableFuture<TracedPolygon>> results = new Array<>(sprites.size);
+
+		for (Sprite sprite : sprites) {
+			SpriteSnapshot snapshot;
+
+			try {
+				snapshot = new SpriteSnapshot(sprite);
+			} catch (IllegalStateException e) {
+				CompletableFuture<TracedPolygon> failed = new CompletableFuture<>();
+				failed.completeExceptionally(e);
+				results.add(failed);
+				continue;
+			}
+
+			RegionKey key = new RegionKey(snapshot, tolerance);
+			CompletableFuture<Array<Vector2>> outline = outlines.computeIfAbsent(key, k -> pages.get(snapshot.file)
+					.thenApplyAsync(page -> traceOutline(page, snapshot, tolerance), executor));
+
+			//don't keep failed outlines so tracing can be retried
+			outline.whenComplete((vertices, error) -> {
+				if (error != null) outlines.remove(key, outline);
+			});
+
+			results.add(outline.thenApplyAsync(vertices -> createPolygon(vertices, snapshot, polygonizer), executor));
+		}
+
+		CompletableFuture.allOf(results.toArray(CompletableFuture.class)).whenComplete((result, error) -> pages.dispose());
+		return results;
+	}
+
+	private Array<Vector2> traceOutline (Pixmap page, SpriteSnapshot snapshot, float tolerance) {
+		int width = snapshot.regionWidth;
+		int height = snapshot.regionHeight;
+		int[] alpha = new int[width * height];
+
+		if (page.getFormat() == Format.RGBA8888) {
+			ByteBuffer pixels = page.getPixels();
+			int pageWidth = page.getWidth();
+
+			for (int y = 0; y < height; y++) {
+				int rowOffset = ((snapshot.regionY + y) * pageWidth + snapshot.regionX) * 4 + 3;
+				for (int x = 0; x < width; x++)
+					alpha[x + y * width] = pixels.get(rowOffset + x * 4) & 0xFF;
+			}
+		} else {
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++)
+					alpha[x + y * width] = page.getPixel(snapshot.regionX + x, snapshot.regionY + y) & 0xFF;
+			}
+		}
+
+		Array<Array<Vector2>> outlines;
+
+		try {
+			outlines = TextureConverter.createPolygon(alpha, width, height, HULL_TOLERANCE, ALPHA_TOLERANCE, false, false);
+		} catch (Exception e) {
+			throw new CompletionException(e);
+		}
+
+		if (outlines.size == 0 || outlines.first().size < 3)
+			throw new IllegalStateException("Texture region doesn't contain any opaque pixels");
+
+		return PolygonUtils.simplify(outlines.first(), tolerance);
+	}
+
+	private TracedPolygon createPolygon (Array<Vector2> outline, SpriteSnapshot snapshot, Polygonizer polygonizer) {
+		Array<Vector2> vertices = new Array<>(outline.size);
+		for (Vector2 pixel : outline)
+			vertices.add(snapshot.toWorld(pixel));
+
+		Vector2[][] faces = Clipper.polygonize(polygonizer, vertices.toArray(Vector2.class));
+		if (faces == null || PolygonUtils.isDegenerate(faces))
+			throw new IllegalStateException("Traced polygon is degenerate, try using lower tolerance");
+
+		return new TracedPolygon(vertices, faces);
+	}
+
+	public static class TracedPolygon {
+		public final Array<Vector2> vertices;
+		public final Vector2[][] faces;
+
+		public TracedPolygon (Array<Vector2> vertices, Vector2[][] faces) {
+			this.vertices = vertices;
+			this.faces = faces;
+		}
+	}
+
+	/** Decodes texture pages on worker threads, each page is decoded once */
+	private class TexturePages {
+		private final ConcurrentHashMap<FileHandle, CompletableFuture<Pixmap>> pages = new ConcurrentHashMap<>();
+
+		CompletableFuture<Pixmap> get (FileHandle file) {
+			return pages.computeIfAbsent(file, f -> CompletableFuture.supplyAsync(() -> new Pixmap(f), executor));
+		}
+
+		void dispose () {
+			for (CompletableFuture<Pixmap> page : pages.values())
+				page.thenAccept(Pixmap::dispose);
+		}
+	}
+
+	/** Copy of sprite region and transform that can be safely accessed from worker threads */
+	private static class SpriteSnapshot {
+		final FileHandle file;
+		final int regionX;
+		final int regionY;
+		final int regionWidth;
+		final int regionHeight;
+		final boolean flipX;
+		final boolean flipY;
+		final float[] vertices;
+
+		SpriteSnapshot (Sprite sprite) {
+			Texture texture = sprite.getTexture();
+			TextureData data = texture.getTextureData();
+			if (data instanceof FileTextureData == false)
+				throw new IllegalStateException("Sprite texture is not loaded from file, it can't be traced");
+
+			file = ((FileTextureData) data).getFileHandle();
+			regionX = Math.round(Math.min(sprite.getU(), sprite.getU2()) * texture.getWidth());
+			regionY = Math.round(Math.min(sprite.getV(), sprite.getV2()) * texture.getHeight());
+			regionWidth = sprite.getRegionWidth();
+			regionHeight = sprite.getRegionHeight();
+			flipX = sprite.isFlipX();
+			flipY = sprite.isFlipY();
+			vertices = sprite.getVertices().clone();
+		}
+
+		/** Maps region pixel position to world position using sprite corners, which includes sprite scale and rotation */
+		Vector2 toWorld (Vector2 pixel) {
+			float s = pixel.x / regionWidth;
+			float t = 1 - pixel.y / regionHeight;
+			if (flipX) s = 1 - s;
+			if (flipY) t = 1 - t;
+
+			float originX = vertices[Batch.X1];
+			float originY = vertices[Batch.Y1];
+			float x = originX + s * (vertices[Batch.X4] - originX) + t * (vertices[Batch.X2] - originX);
+			float y = originY + s * (vertices[Batch.Y4] - originY) + t * (vertices[Batch.Y2] - originY);
+			return new Vector2(x, y);
+		}
+	}
+
+	private static class RegionKey {
+		final FileHandle file;
+		final int x;
+		final int y;
+		final int width;
+		final int height;
+		final float tolerance;
+
+		RegionKey (SpriteSnapshot snapshot, float tolerance) {
+			file = snapshot.file;
+			x = snapshot.regionX;
+			y = snapshot.regionY;
+			width = snapshot.regionWidth;
+			height = snapshot.regionHeight;
+			this.tolerance = tolerance;
+		}
+
+		@Override
+		public boolean equals (Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+
+			RegionKey other = (RegionKey) o;
+			return x == other.x && y == other.y && width == other.width && height == other.height &&
+					Float.compare(other.tolerance, tolerance) == 0 && file.equals(other.file);
+		}
+
+		@Override
+		public int hashCode () {
+			int result = file.hashCode();
+			result = 31 * result + x;
+			result = 31 * result + y;
+			result = 31 * result + width;
+			result = 31 * result + height;
+			result = 31 * result + Float.floatToIntBits(tolerance);
+			return result;
+		}
+	}
+}
@@ -21,6 +21,7 @@ import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import com.kotcrab.vis.editor.Log;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 import com.kotcrab.vis.editor.module.editor.EditorSettingsIOModule;
 import com.kotcrab.vis.editor.module.editor.ToastModule;
 import com.kotcrab.vis.editor.ui.toast.DetailsToast;
@@ -39,6 +40,7 @@ import java.lang.reflect.Constructor;
  * @author Kotcrab
  * @see EditorSettingsIOModule
  */
+@ConcurrentInit
 public class ProjectSettingsIOModule extends ProjectModule {
 	private ToastModule toastModule;
 
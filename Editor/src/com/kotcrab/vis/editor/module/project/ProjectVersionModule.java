@@ -19,8 +19,10 @@ package com.kotcrab.vis.editor.module.project;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Json;
 import com.kotcrab.vis.editor.App;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 
 /** @author Kotcrab */
+@ConcurrentInit
 public class ProjectVersionModule extends ProjectModule {
 	private FileAccessModule fileAccess;
 
@@ -18,22 +18,39 @@ package com.kotcrab.vis.editor.module.project;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 import com.kotcrab.vis.editor.scene.EditorScene;
+import com.kotcrab.vis.editor.ui.scene.SceneTab;
 import com.kotcrab.vis.editor.util.DirectoryWatcher.WatchListener;
 
 /**
  * Caches loaded scenes, so only one instance of each scene is loaded in editor.
  * @author Kotcrab
  */
+@ConcurrentInit
 public class SceneCacheModule extends ProjectModule implements WatchListener {
+	private FileAccessModule fileAccess;
 	private SceneIOModule sceneIO;
+	private SceneTabsModule sceneTabs;
 	private AssetsWatcherModule assetsWatcherModule;
 
 	private ObjectMap<FileHandle, EditorScene> scenes = new ObjectMap<>();
 
+	/** @return fully loaded scene, if scene is still being loaded by its tab this will block until loading is finished */
 	public EditorScene get (FileHandle fullPath) {
 		EditorScene scene = scenes.get(fullPath);
 
+		if (scene == null) {
+			SceneTab loadingTab = sceneTabs.getTabByPath(fileAccess.relativizeToAssetsFolder(fullPath));
+			if (loadingTab != null) {
+				loadingTab.finishLoading(); //tab adds scene to cache when it was loaded successfully
+				scene = scenes.get(fullPath);
+			}
+		} else {
+			SceneTab tab = sceneTabs.getTabByScene(scene);
+			if (tab != null) tab.finishLoading();
+		}
+
 		if (scene == null) {
 			scene = sceneIO.load(fullPath);
 			scenes.put(fullPath, scene);
@@ -42,6 +59,19 @@ public class SceneCacheModule extends ProjectModule implements WatchListener {
 		return scene;
 	}
 
+	/**
+	 * @return cached scene or null if scene wasn't loaded yet. Scenes which entities are still loaded progressively by
+	 * their tab are not cached until loading is finished.
+	 */
+	public EditorScene getIfLoaded (FileHandle fullPath) {
+		return scenes.get(fullPath);
+	}
+
+	/** Adds scene which entities were loaded progressively by {@link SceneTab} to cache */
+	public void put (FileHandle fullPath, EditorScene scene) {
+		scenes.put(fullPath, scene);
+	}
+
 	@Override
 	public void init () {
 		assetsWatcherModule.addListener(this);
@@ -44,6 +44,7 @@ import com.kotcrab.vis.editor.Log;
 import com.kotcrab.vis.editor.entity.*;
 import com.kotcrab.vis.editor.event.ProjectMenuBarEvent;
 import com.kotcrab.vis.editor.event.ProjectMenuBarEventType;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 import com.kotcrab.vis.editor.module.EventBusSubscriber;
 import com.kotcrab.vis.editor.module.project.SupportModule.SupportSerializedTypeDescriptor;
 import com.kotcrab.vis.editor.module.project.SupportModule.SupportSerializerDescriptor;
@@ -56,6 +57,7 @@ import com.kotcrab.vis.editor.ui.scene.NewSceneDialog;
 import com.kotcrab.vis.editor.util.vis.ProtoEntity;
 import com.kotcrab.vis.runtime.assets.*;
 import com.kotcrab.vis.runtime.component.*;
+import com.kotcrab.vis.runtime.component.VariablesComponent.VariableType;
 import com.kotcrab.vis.runtime.data.PhysicsSettings;
 import com.kotcrab.vis.runtime.scene.LayerCordsSystem;
 import com.kotcrab.vis.runtime.scene.SceneViewport;
@@ -63,26 +65,31 @@ import com.kotcrab.vis.runtime.util.EntityEngine;
 import com.kotcrab.vis.runtime.util.annotation.VisTag;
 import org.objenesis.strategy.StdInstantiatorStrategy;
 
+import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.UUID;
 
 /**
- * Allows to load VisEditor scenes. This API should not be used directly. See {@link SceneCacheModule}
+ * Allows to load VisEditor scenes. This API should not be used directly. See {@link SceneCacheModule}. Scenes are saved
+ * using chunked scene format (see {@link SceneFileLayout}), scenes saved in legacy format can be still loaded and will
+ * be converted during next save.
  * @author Kotcrab
  * @see SceneCacheModule
  */
 @SuppressWarnings("rawtypes")
 @EventBusSubscriber
+@ConcurrentInit
 public class SceneIOModule extends ProjectModule {
 	private static final String TAG = "SceneIOModule";
 
 	public static final int KRYO_PLUGINS_RESERVED_ID_BEGIN = 401;
 	public static final int KRYO_PLUGINS_RESERVED_ID_END = 800;
 
+	private static final int LEGACY_BUFFER_SIZE = 64 * 1024;
+
 	protected Kryo kryo;
 
 	protected FileAccessModule fileAccessModule;
@@ -99,9 +106,14 @@ public class SceneIOModule extends ProjectModule {
 
 	private Array<EntityComponentSerializer> entityComponentSerializers = new Array<>();
 
+	private ChunkedSceneWriter sceneWriter;
+	/** layouts of scene files from last read or write, used to write only modified entity blocks, key is absolute file path */
+	private ObjectMap<String, SceneFileLayout> sceneLayouts = new ObjectMap<>();
+
 	@Override
 	public void added () {
 		kryo = new Kryo();
+		sceneWriter = new ChunkedSceneWriter(kryo);
 	}
 
 	@Override
@@ -160,6 +172,7 @@ public class SceneIOModule extends ProjectModule {
 		kryo.register(LayerCordsSystem.class, 37);
 		registerTagged(EditorPhysicsSettings.class, 38);
 		registerTagged(PhysicsSettings.class, 39);
+		kryo.register(VariableType.class, 40);
 
 		registerTagged(PathAsset.class, 61);
 		registerTagged(TextureRegionAsset.class, 62);
@@ -264,7 +277,7 @@ public class SceneIOModule extends ProjectModule {
 		return new ProtoEntity(this, entityEngine, entity, preserveEntityId);
 	}
 
-	public Bag<Component> cloneEntityComponents (Bag<Component> components) {
+	public synchronized Bag<Component> cloneEntityComponents (Bag<Component> components) {
 		Bag<Component> clonedComponents = new Bag<>();
 
 		entityComponentSerializers.forEach(entityComponentSerializer -> entityComponentSerializer.setComponents(components));
@@ -282,28 +295,58 @@ public class SceneIOModule extends ProjectModule {
 		return kryo;
 	}
 
-	public EditorScene load (FileHandle fullPathFile) {
+	public synchronized EditorScene load (FileHandle fullPathFile) {
+		File file = fullPathFile.file();
+
 		try {
-			Input input = new Input(new FileInputStream(fullPathFile.file()));
-			EditorScene scene = kryo.readObject(input, EditorScene.class);
-			scene.path = fileAccessModule.relativizeToAssetsFolder(fullPathFile);
-			input.close();
+			EditorScene scene;
+
+			if (ChunkedSceneReader.isChunkedSceneFile(file)) {
+				try (ChunkedSceneReader reader = new ChunkedSceneReader(kryo, this, file)) {
+					scene = reader.getScene();
+					scene.setSchemes(reader.readAllEntities());
+					sceneLayouts.put(file.getAbsolutePath(), reader.getLayout());
+				}
+			} else {
+				try (Input input = new Input(new FileInputStream(file), LEGACY_BUFFER_SIZE)) {
+					scene = kryo.readObject(input, EditorScene.class);
+				}
+			}
 
+			scene.path = fileAccessModule.relativizeToAssetsFolder(fullPathFile);
 			return scene;
-		} catch (FileNotFoundException e) {
+		} catch (IOException e) {
 			Log.exception(e);
 		}
 
 		throw new IllegalStateException("There was an unknown error during scene loading");
 	}
 
-	public boolean save (EditorScene scene) {
+	/**
+	 * Opens scene for streaming or lazy entities loading. Returned reader must be closed after use. Entities are not
+	 * loaded until requested from reader. Kryo operations performed by reader are synchronized with this module.
+	 * @return opened reader or null if scene is stored in legacy format that does not support streaming, use
+	 * {@link #load(FileHandle)} in such case
+	 */
+	public synchronized ChunkedSceneReader openSceneReader (FileHandle fullPathFile) throws IOException {
+		File file = fullPathFile.file();
+		if (ChunkedSceneReader.isChunkedSceneFile(file) == false) return null;
+
+		ChunkedSceneReader reader = new ChunkedSceneReader(kryo, this, file);
+		reader.getScene().path = fileAccessModule.relativizeToAssetsFolder(fullPathFile);
+		sceneLayouts.put(file.getAbsolutePath(), reader.getLayout());
+		return reader;
+	}
+
+	public synchronized boolean save (EditorScene scene) {
+		File file = getFileHandleForScene(scene).file();
+		String layoutKey = file.getAbsolutePath();
+
 		try {
-			Output output = new Output(new FileOutputStream(getFileHandleForScene(scene).file()));
-			kryo.writeObject(output, scene);
-			output.close();
+			sceneLayouts.put(layoutKey, sceneWriter.write(scene, file, sceneLayouts.get(layoutKey)));
 			return true;
-		} catch (FileNotFoundException e) {
+		} catch (IOException e) {
+			sceneLayouts.remove(layoutKey);
 			Log.exception(e);
 		}
 
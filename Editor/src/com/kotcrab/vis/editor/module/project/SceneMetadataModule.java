@@ -20,12 +20,14 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.ObjectMap.Keys;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 import com.kotcrab.vis.editor.module.scene.SceneMetadata;
 
 /**
  * Providers and manages scene metadata (last camera position and zoom)
  * @author Kotcrab
  */
+@ConcurrentInit(dependsOn = FileAccessModule.class)
 public class SceneMetadataModule extends ProjectModule {
 	private FileAccessModule fileAccess;
 
@@ -25,11 +25,14 @@ import com.kotcrab.vis.editor.event.OpenSceneRequest;
 import com.kotcrab.vis.editor.module.EventBusSubscriber;
 import com.kotcrab.vis.editor.module.editor.TabsModule;
 import com.kotcrab.vis.editor.scene.EditorScene;
+import com.kotcrab.vis.editor.serializer.ChunkedSceneReader;
 import com.kotcrab.vis.editor.ui.scene.SceneTab;
 import com.kotcrab.vis.editor.util.gdx.VisTabbedPaneListener;
 import com.kotcrab.vis.ui.util.dialog.DialogUtils;
 import com.kotcrab.vis.ui.widget.tabbedpane.Tab;
 
+import java.io.IOException;
+
 /**
  * Module for managing {@link SceneTab}. Ensures that only one tab is created for each tab.
  * @author Kotcrab
@@ -39,7 +42,9 @@ public class SceneTabsModule extends ProjectModule implements VisTabbedPaneListe
 	private TabsModule tabsModule;
 	private Stage stage;
 
+	private FileAccessModule fileAccess;
 	private SceneCacheModule sceneCache;
+	private SceneIOModule sceneIO;
 
 	private Array<SceneTab> loadedTabs;
 
@@ -57,9 +62,31 @@ public class SceneTabsModule extends ProjectModule implements VisTabbedPaneListe
 	@Subscribe
 	public void handleOpenSceneRequest (OpenSceneRequest request) {
 		try {
-			EditorScene scene = sceneCache.get(request.sceneFile);
-			open(scene);
-		} catch (KryoException e) {
+			//scene may be still loading by its tab, in such case it's not cached yet
+			SceneTab loadingTab = getTabByPath(fileAccess.relativizeToAssetsFolder(request.sceneFile));
+			if (loadingTab != null) {
+				switchTab(loadingTab);
+				return;
+			}
+
+			EditorScene scene = sceneCache.getIfLoaded(request.sceneFile);
+			if (scene != null) {
+				open(scene);
+				return;
+			}
+
+			//scenes stored in chunked format are displayed immediately and their entities are loaded in background,
+			//tab will add scene to cache after all entities were loaded
+			ChunkedSceneReader reader = sceneIO.openSceneReader(request.sceneFile);
+			if (reader == null) {
+				open(sceneCache.get(request.sceneFile));
+				return;
+			}
+
+			scene = reader.getScene();
+			scene.setSchemes(new Array<>());
+			addTab(new SceneTab(scene, reader, projectContainer));
+		} catch (KryoException | IOException e) {
 			DialogUtils.showErrorDialog(stage, "Failed to load scene due to corrupted file.", e);
 			Log.exception(e);
 		}
@@ -69,14 +96,17 @@ public class SceneTabsModule extends ProjectModule implements VisTabbedPaneListe
 		if (scene == null) throw new IllegalArgumentException("Scene cannot be null");
 		SceneTab oldTab = getTabByScene(scene);
 
-		if (oldTab == null) {
-			SceneTab tab = new SceneTab(scene, projectContainer);
-			loadedTabs.add(tab);
-			tabsModule.addTab(tab);
-		} else
+		if (oldTab == null)
+			addTab(new SceneTab(scene, projectContainer));
+		else
 			tabsModule.switchTab(oldTab);
 	}
 
+	private void addTab (SceneTab tab) {
+		loadedTabs.add(tab);
+		tabsModule.addTab(tab);
+	}
+
 	public SceneTab getTabByScene (EditorScene scene) {
 		if (scene == null) return null;
 
@@ -87,8 +117,13 @@ public class SceneTabsModule extends ProjectModule implements VisTabbedPaneListe
 	}
 
 	public EditorScene getSceneByPath (String path) {
+		SceneTab tab = getTabByPath(path);
+		return tab == null ? null : tab.getScene();
+	}
+
+	public SceneTab getTabByPath (String path) {
 		for (SceneTab tab : loadedTabs)
-			if (tab.getScene().path.equals(path)) return tab.getScene();
+			if (tab.getScene().path.equals(path)) return tab;
 
 		return null;
 	}
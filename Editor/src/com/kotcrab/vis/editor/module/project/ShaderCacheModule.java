@@ -24,14 +24,17 @@ import com.badlogic.gdx.utils.Timer;
 import com.badlogic.gdx.utils.Timer.Task;
 import com.kotcrab.vis.editor.App;
 import com.kotcrab.vis.editor.event.ResourceReloadedEvent;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 import com.kotcrab.vis.editor.module.editor.ToastModule;
 import com.kotcrab.vis.editor.ui.toast.DetailsToast;
+import com.kotcrab.vis.editor.util.ThreadUtils;
 import com.kotcrab.vis.editor.util.DirectoryWatcher.WatchListener;
 import com.kotcrab.vis.runtime.assets.ShaderAsset;
 
 /**
  * @author Kotcrab
  */
+@ConcurrentInit
 public class ShaderCacheModule extends ProjectModule implements WatchListener {
 	private FileAccessModule fileAccess;
 	private AssetsWatcherModule watcherModule;
@@ -45,7 +48,7 @@ public class ShaderCacheModule extends ProjectModule implements WatchListener {
 	public void init () {
 		watcherModule.addListener(this);
 		ShaderProgram.pedantic = false;
-		reloadShaders(false);
+		ThreadUtils.runOnGLThread(() -> reloadShaders(false));
 	}
 
 	@Override
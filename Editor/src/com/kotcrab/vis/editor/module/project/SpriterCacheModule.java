@@ -20,6 +20,7 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 import com.kotcrab.vis.editor.util.DirectoryWatcher.WatchListener;
 import com.kotcrab.vis.runtime.assets.SpriterAsset;
 import com.kotcrab.vis.runtime.component.SpriterComponent;
@@ -29,6 +30,7 @@ import com.kotcrab.vis.runtime.spriter.SCMLReader;
 import com.kotcrab.vis.runtime.util.SpriterLoader;
 
 /** @author Kotcrab */
+@ConcurrentInit
 public class SpriterCacheModule extends ProjectModule implements WatchListener {
 	private FileAccessModule fileAccess;
 	private AssetsWatcherModule assetsWatcher;
@@ -18,9 +18,11 @@ package com.kotcrab.vis.editor.module.project;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Json;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 import com.kotcrab.vis.editor.scheme.SpriterAssetData;
 
 /** @author Kotcrab */
+@ConcurrentInit
 public class SpriterDataIOModule extends ProjectModule {
 	private FileAccessModule fileAccess;
 
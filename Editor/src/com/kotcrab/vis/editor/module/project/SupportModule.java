@@ -22,11 +22,13 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
 import com.esotericsoftware.kryo.Serializer;
 import com.kotcrab.vis.editor.Log;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 import com.kotcrab.vis.editor.module.editor.ExtensionStorageModule;
 import com.kotcrab.vis.editor.module.editor.ToastModule;
 import com.kotcrab.vis.editor.plugin.EditorEntitySupport;
 import com.kotcrab.vis.editor.plugin.PluginKryoSerializer;
 import com.kotcrab.vis.editor.ui.toast.DetailsToast;
+import com.kotcrab.vis.editor.util.ThreadUtils;
 
 import java.util.UUID;
 
@@ -34,6 +36,7 @@ import java.util.UUID;
  * Manages {@link EditorEntitySupport} loaded from plugins.
  * @author Kotcrab
  */
+@ConcurrentInit(dependsOn = FileAccessModule.class)
 public class SupportModule extends ProjectModule {
 	private ToastModule toastModule;
 
@@ -62,14 +65,15 @@ public class SupportModule extends ProjectModule {
 		}
 
 		ExtensionStorageModule pluginContainer = container.get(ExtensionStorageModule.class);
-		pluginContainer.getObjectSupports().forEach(this::register);
+		//plugins may require OpenGL context when binding modules
+		ThreadUtils.runOnGLThread(() -> pluginContainer.getObjectSupports().forEach(this::register));
 	}
 
 	private DescriptorsStorage loadDescriptor () {
 		try {
 			return json.fromJson(DescriptorsStorage.class, descriptorFile);
 		} catch (Exception e) {
-			toastModule.show(new DetailsToast("Support descriptor file couldn't be loaded, plugins may not function properly.\nIt's not recommend to continue.", e));
+			ThreadUtils.runOnGLThread(() -> toastModule.show(new DetailsToast("Support descriptor file couldn't be loaded, plugins may not function properly.\nIt's not recommend to continue.", e)));
 
 			String backupPath = descriptorFile.sibling(descriptorFile.name() + ".bak").path();
 			FileHandle backup = Gdx.files.absolute(backupPath);
@@ -20,6 +20,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.tools.texturepacker.TexturePacker;
 import com.badlogic.gdx.tools.texturepacker.TexturePacker.Settings;
@@ -31,9 +32,11 @@ import com.kotcrab.vis.editor.App;
 import com.kotcrab.vis.editor.Assets;
 import com.kotcrab.vis.editor.Log;
 import com.kotcrab.vis.editor.event.ResourceReloadedEvent;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 import com.kotcrab.vis.editor.module.editor.StatusBarModule;
 import com.kotcrab.vis.editor.util.DirectoryWatcher.WatchListener;
 import com.kotcrab.vis.editor.util.FileUtils;
+import com.kotcrab.vis.editor.util.ThreadUtils;
 import com.kotcrab.vis.editor.util.vis.ProjectPathUtils;
 import com.kotcrab.vis.runtime.assets.AtlasRegionAsset;
 import com.kotcrab.vis.runtime.assets.TextureRegionAsset;
@@ -47,6 +50,7 @@ import org.apache.commons.io.FilenameUtils;
  * textures.
  * @author Kotcrab
  */
+@ConcurrentInit
 public class TextureCacheModule extends ProjectModule implements WatchListener {
 	private StatusBarModule statusBar;
 
@@ -97,7 +101,11 @@ public class TextureCacheModule extends ProjectModule implements WatchListener {
 		watcher.addListener(this);
 
 		try {
-			if (cacheFile.exists()) cache = new TextureAtlas(cacheFile);
+			if (cacheFile.exists()) {
+				//atlas file is parsed on init thread, only textures are loaded on OpenGL thread
+				TextureAtlasData cacheData = new TextureAtlasData(cacheFile, cacheFile.parent(), false);
+				ThreadUtils.runOnGLThread(() -> cache = new TextureAtlas(cacheData));
+			}
 		} catch (Exception e) {
 			Log.error("Error while loading texture cache, texture cache will be regenerated");
 		}
@@ -149,6 +157,7 @@ public class TextureCacheModule extends ProjectModule implements WatchListener {
 
 			disposeCacheLater(oldCache);
 
+			//packer may move every region in new cache so all textures must be reloaded, not only changed ones
 			App.eventBus.post(new ResourceReloadedEvent(ResourceReloadedEvent.RESOURCE_TEXTURES));
 		} else
 			Log.error("Texture cache not ready, probably they aren't any textures in project or packer failed");
@@ -165,18 +174,21 @@ public class TextureCacheModule extends ProjectModule implements WatchListener {
 
 	private void updateAtlas (FileHandle file) {
 		String relativePath = fileAccess.relativizeToAssetsFolder(file);
+		TextureAtlasData data = file.exists() ? new TextureAtlasData(file, file.parent(), false) : null;
 
-		TextureAtlas atlas = atlases.get(relativePath);
-		if (atlas != null) {
-			atlases.remove(relativePath);
-			atlas.dispose();
-		}
+		ThreadUtils.runOnGLThread(() -> {
+			TextureAtlas atlas = atlases.get(relativePath);
+			if (atlas != null) {
+				atlases.remove(relativePath);
+				atlas.dispose();
+			}
 
-		if (file.exists()) {
-			atlases.put(relativePath, new TextureAtlas(file));
-			App.eventBus.post(new ResourceReloadedEvent(ResourceReloadedEvent.RESOURCE_TEXTURES));
-			App.eventBus.post(new ResourceReloadedEvent(ResourceReloadedEvent.RESOURCE_TEXTURE_ATLASES));
-		}
+			if (data != null) {
+				atlases.put(relativePath, new TextureAtlas(data));
+				App.eventBus.post(ResourceReloadedEvent.forPath(ResourceReloadedEvent.RESOURCE_TEXTURES, relativePath));
+				App.eventBus.post(ResourceReloadedEvent.forPath(ResourceReloadedEvent.RESOURCE_TEXTURE_ATLASES, relativePath));
+			}
+		});
 	}
 
 	@Override
@@ -18,12 +18,15 @@ package com.kotcrab.vis.editor.module.project;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.ObjectSet;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
 import com.kotcrab.vis.editor.module.editor.ToastModule;
 import com.kotcrab.vis.editor.ui.toast.DetailsToast;
 import com.kotcrab.vis.editor.util.DirectoryWatcher.WatchListener;
 import com.kotcrab.vis.editor.util.FileUtils;
+import com.kotcrab.vis.editor.util.ThreadUtils;
 
 /** @author Kotcrab */
+@ConcurrentInit
 public class TextureNameCheckerModule extends ProjectModule implements WatchListener {
 	private ToastModule toastModule;
 
@@ -60,12 +63,12 @@ public class TextureNameCheckerModule extends ProjectModule implements WatchList
 
 		if (paths.contains(pathWithoutExt)) {
 			//TODO details dialog supporting auto text wrapping
-			toastModule.show(new DetailsToast("Warning, found invalid textures in gfx directory", "Details",
+			ThreadUtils.runOnGLThread(() -> toastModule.show(new DetailsToast("Warning, found invalid textures in gfx directory", "Details",
 					"Files inside gfx subdirectories cannot have same name but different extension." +
 							"\nVisEditor does not store image extension in TextureAtlas thus you cannot have " +
 							"2 files\nin single directory that have the same name but different extension eg. `image.png` " +
 							"\nand `image.jpg`. It is recommend to remove one of those conflicting files, otherwise " +
-							"\nonly one of them will be available.\n\nFile: " + pathWithoutExt));
+							"\nonly one of them will be available.\n\nFile: " + pathWithoutExt)));
 			warningShown = true;
 		} else
 			paths.add(pathWithoutExt);
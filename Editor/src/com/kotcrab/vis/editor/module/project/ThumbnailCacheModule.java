@@ -0,0 +1,612 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.editor.module.project;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.GlyphAndBitmap;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.google.common.hash.Hashing;
+import com.kotcrab.vis.editor.Log;
+import com.kotcrab.vis.editor.module.ConcurrentInit;
+import com.kotcrab.vis.editor.module.project.assetsmanager.FileType;
+import com.kotcrab.vis.editor.util.FileUtils;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates downscaled previews of textures, atlases, fonts and particle effects for assets manager. Thumbnails are generated
+ * on worker threads and stored in disk LRU cache in project module folder, so each version of file is processed only once.
+ * Thumbnails are uploaded to GPU when they are requested, textures of thumbnails that are no longer used are kept in small
+ * memory cache and disposed when evicted from it. All public methods must be called from OpenGL thread.
+ * <p>
+ * Pixmap blending mode is global state shared with OpenGL thread, so worker threads never use Pixmap drawing methods,
+ * thumbnails are scaled, tinted and composed directly on RGBA8888 pixel buffers.
+ * @author Kotcrab
+ */
+@ConcurrentInit
+public class ThumbnailCacheModule extends ProjectModule {
+	private static final String TAG = "ThumbnailCache";
+
+	public static final int THUMBNAIL_SIZE = 128;
+	private static final long MAX_DISK_CACHE_SIZE = 64 * 1024 * 1024;
+	private static final int MAX_UNUSED_THUMBNAILS = 64;
+
+	private static final String FONT_SAMPLE_TEXT = "Aa";
+	private static final int TTF_SAMPLE_SIZE = 64;
+	private static final int MAX_PARTICLE_EMITTERS = 4;
+
+	private FileAccessModule fileAccess;
+
+	private ExecutorService executor;
+	private FileHandle cacheFolder;
+
+	/** disk cache files names with their sizes in access order, accessed from worker threads, guarded by itself */
+	private final LinkedHashMap<String, Long> diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+	private long diskCacheSize;
+
+	private ObjectMap<String, Thumbnail> thumbnails = new ObjectMap<>();
+	private LinkedHashMap<String, Thumbnail> unusedThumbnails = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** runnables posted by workers may still be executed after module was disposed */
+	private boolean disposed;
+
+	@Override
+	public void init () {
+		cacheFolder = fileAccess.getModuleFolder(".thumbnailCache");
+		cacheFolder.mkdirs();
+
+		FileHandle[] files = cacheFolder.list();
+		Arrays.sort(files, (f1, f2) -> Long.compare(f1.lastModified(), f2.lastModified()));
+
+		for (FileHandle file : files) {
+			if (file.extension().equals("png") == false) {
+				file.delete(); //unfinished temporary file
+				continue;
+			}
+
+			diskEntries.put(file.name(), file.length());
+			diskCacheSize += file.length();
+		}
+
+		trimDiskCache();
+
+		executor = Executors.newFixedThreadPool(2, new ThreadFactory() {
+			private AtomicInteger counter = new AtomicInteger();
+
+			@Override
+			public Thread newThread (Runnable runnable) {
+				Thread thread = new Thread(runnable, "Thumbnails-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			}
+		});
+	}
+
+	@Override
+	public void dispose () {
+		disposed = true;
+		executor.shutdownNow();
+
+		for (Thumbnail thumbnail : thumbnails.values())
+			thumbnail.disposeTexture();
+
+		for (Thumbnail thumbnail : unusedThumbnails.values())
+			thumbnail.disposeTexture();
+	}
+
+	public static boolean isSupported (FileType type) {
+		return type == FileType.TEXTURE || type == FileType.TEXTURE_ATLAS || type == FileType.BMP_FONT_FILE
+				|| type == FileType.TTF_FONT || type == FileType.PARTICLE_EFFECT;
+	}
+
+	/**
+	 * Requests thumbnail of file. If thumbnail is already loaded listener is called immediately, otherwise it will be called
+	 * on OpenGL thread when thumbnail is generated or loaded from disk cache, or when thumbnail couldn't be created. Returned
+	 * thumbnail must be released using {@link #release(Thumbnail, ThumbnailListener)} when it's no longer needed.
+	 */
+	public Thumbnail acquire (FileHandle file, FileType type, ThumbnailListener listener) {
+		if (isSupported(type) == false) throw new IllegalArgumentException("Thumbnails are not supported for type: " + type);
+
+		String key = getCacheKey(file, type);
+
+		Thumbnail thumbnail = thumbnails.get(key);
+		if (thumbnail == null) {
+			thumbnail = unusedThumbnails.remove(key);
+			if (thumbnail == null) {
+				thumbnail = new Thumbnail(key, file, type);
+				submit(thumbnail);
+			}
+			thumbnails.put(key, thumbnail);
+		}
+
+		thumbnail.references++;
+
+		//failed thumbnail is removed from cache when its listeners are notified, until then it can be acquired again
+		if (thumbnail.region != null)
+			listener.loaded(thumbnail.region);
+		else
+			thumbnail.listeners.add(listener);
+
+		return thumbnail;
+	}
+
+	public void release (Thumbnail thumbnail, ThumbnailListener listener) {
+		thumbnail.listeners.removeValue(listener, true);
+		if (--thumbnail.references > 0) return;
+
+		//thumbnail that is still being loaded is removed when it's ready
+		if (thumbnail.loading) return;
+
+		//failed thumbnail was already removed and file could be acquired again since then
+		if (thumbnails.get(thumbnail.key) == thumbnail) thumbnails.remove(thumbnail.key);
+		if (thumbnail.texture == null) return;
+
+		unusedThumbnails.put(thumbnail.key, thumbnail);
+		if (unusedThumbnails.size() > MAX_UNUSED_THUMBNAILS) {
+			Iterator<Thumbnail> iterator = unusedThumbnails.values().iterator();
+			iterator.next().disposeTexture();
+			iterator.remove();
+		}
+	}
+
+	private void submit (Thumbnail thumbnail) {
+		thumbnail.loading = true;
+		executor.execute(() -> {
+			Pixmap pixmap = null;
+
+			//item could be scrolled out of view before its thumbnail was processed
+			if (thumbnail.references > 0) {
+				try {
+					pixmap = loadThumbnail(thumbnail);
+				} catch (Exception e) {
+					Log.debug(TAG, "Failed to create thumbnail for " + thumbnail.file.path() + ": " + e.getMessage());
+					thumbnail.failed = true;
+				}
+			}
+
+			Pixmap result = pixmap;
+			Gdx.app.postRunnable(() -> thumbnailLoaded(thumbnail, result));
+		});
+	}
+
+	private void thumbnailLoaded (Thumbnail thumbnail, Pixmap pixmap) {
+		if (disposed) {
+			if (pixmap != null) pixmap.dispose();
+			return;
+		}
+
+		thumbnail.loading = false;
+
+		if (thumbnail.references == 0 || thumbnail.failed) {
+			if (pixmap != null) pixmap.dispose();
+			if (thumbnails.get(thumbnail.key) == thumbnail) thumbnails.remove(thumbnail.key);
+
+			if (thumbnail.references > 0) {
+				for (ThumbnailListener listener : thumbnail.listeners)
+					listener.failed();
+			}
+
+			thumbnail.listeners.clear();
+			return;
+		}
+
+		if (pixmap == null) { //skipped by worker but acquired again in meantime
+			submit(thumbnail);
+			return;
+		}
+
+		thumbnail.texture = new Texture(pixmap);
+		thumbnail.texture.setFilter(TextureFilter.Linear, TextureFilter.Linear);
+		thumbnail.region = new TextureRegion(thumbnail.texture);
+		pixmap.dispose();
+
+		for (ThumbnailListener listener : thumbnail.listeners)
+			listener.loaded(thumbnail.region);
+		thumbnail.listeners.clear();
+	}
+
+	private String getCacheKey (FileHandle file, FileType type) {
+		StringBuilder builder = new StringBuilder();
+		builder.append(type).append(':').append(THUMBNAIL_SIZE).append(':').append(fileAccess.relativizeToAssetsFolder(file));
+		builder.append(':').append(file.lastModified()).append(':').append(file.length());
+
+		//font texture is not referenced by path that could be checked without parsing font file
+		if (type == FileType.BMP_FONT_FILE) {
+			FileHandle texture = FileUtils.sibling(file, "png");
+			builder.append(':').append(texture.lastModified()).append(':').append(texture.length());
+		}
+
+		return Hashing.sha1().hashString(builder, StandardCharsets.UTF_8).toString();
+	}
+
+	private Pixmap loadThumbnail (Thumbnail thumbnail) {
+		String fileName = thumbnail.key + ".png";
+		FileHandle cacheFile = cacheFolder.child(fileName);
+
+		boolean cached;
+		synchronized (diskEntries) {
+			cached = diskEntries.get(fileName) != null;
+		}
+
+		if (cached && cacheFile.exists()) {
+			cacheFile.file().setLastModified(System.currentTimeMillis());
+			return new Pixmap(cacheFile);
+		}
+
+		Pixmap pixmap = createThumbnail(thumbnail.file, thumbnail.type);
+
+		FileHandle tmpFile = cacheFolder.child(fileName + ".tmp");
+		PixmapIO.writePNG(tmpFile, pixmap);
+		tmpFile.file().renameTo(cacheFile.file());
+
+		synchronized (diskEntries) {
+			Long oldSize = diskEntries.put(fileName, cacheFile.length());
+			if (oldSize != null) diskCacheSize -= oldSize;
+			diskCacheSize += cacheFile.length();
+			trimDiskCache();
+		}
+
+		return pixmap;
+	}
+
+	private void trimDiskCache () {
+		synchronized (diskEntries) {
+			Iterator<Map.Entry<String, Long>> iterator = diskEntries.entrySet().iterator();
+			while (diskCacheSize > MAX_DISK_CACHE_SIZE && iterator.hasNext()) {
+				Map.Entry<String, Long> entry = iterator.next();
+				cacheFolder.child(entry.getKey()).delete();
+				diskCacheSize -= entry.getValue();
+				iterator.remove();
+			}
+		}
+	}
+
+	private Pixmap createThumbnail (FileHandle file, FileType type) {
+		switch (type) {
+			case TEXTURE:
+				return downscale(new Pixmap(file));
+			case TEXTURE_ATLAS:
+				TextureAtlasData data = new TextureAtlasData(file, file.parent(), false);
+				if (data.getPages().size == 0) throw new IllegalStateException("Atlas doesn't have any pages");
+				return downscale(new Pixmap(data.getPages().first().textureFile));
+			case BMP_FONT_FILE:
+				return createBmpFontThumbnail(file);
+			case TTF_FONT:
+				return createTtfFontThumbnail(file);
+			case PARTICLE_EFFECT:
+				return createParticleThumbnail(file);
+			default:
+				throw new IllegalArgumentException("Thumbnails are not supported for type: " + type);
+		}
+	}
+
+	private Pixmap createBmpFontThumbnail (FileHandle file) {
+		BitmapFontData data = new BitmapFontData(file, false);
+		Pixmap[] pages = new Pixmap[data.getImagePaths().length];
+
+		try {
+			for (int i = 0; i < pages.length; i++)
+				pages[i] = new Pixmap(Gdx.files.getFileHandle(data.getImagePath(i), file.type()));
+
+			Array<GlyphImage> glyphs = new Array<>();
+			for (int i = 0; i < FONT_SAMPLE_TEXT.length(); i++) {
+				Glyph glyph = data.getGlyph(FONT_SAMPLE_TEXT.charAt(i));
+				if (glyph != null) glyphs.add(new GlyphImage(glyph, pages[glyph.page], glyph.srcX, glyph.srcY));
+			}
+
+			return downscale(drawGlyphs(glyphs));
+		} finally {
+			for (Pixmap page : pages)
+				if (page != null) page.dispose();
+		}
+	}
+
+	private Pixmap createTtfFontThumbnail (FileHandle file) {
+		FreeTypeFontGenerator generator = new FreeTypeFontGenerator(file);
+		Array<GlyphImage> glyphs = new Array<>();
+
+		try {
+			for (int i = 0; i < FONT_SAMPLE_TEXT.length(); i++) {
+				GlyphAndBitmap glyphAndBitmap = generator.generateGlyphAndBitmap(FONT_SAMPLE_TEXT.charAt(i), TTF_SAMPLE_SIZE, false);
+				if (glyphAndBitmap == null || glyphAndBitmap.bitmap == null) continue;
+
+				//alpha format is bitmap native format, it is converted to white glyph when drawn
+				Pixmap pixmap = glyphAndBitmap.bitmap.getPixmap(Format.Alpha);
+				glyphs.add(new GlyphImage(glyphAndBitmap.glyph, pixmap, 0, 0));
+			}
+
+			return downscale(drawGlyphs(glyphs));
+		} finally {
+			for (GlyphImage glyph : glyphs)
+				glyph.page.dispose();
+			generator.dispose();
+		}
+	}
+
+	/** Draws glyphs next to each other, glyphs y offsets are relative to baseline with y axis pointing up */
+	private Pixmap drawGlyphs (Array<GlyphImage> glyphs) {
+		if (glyphs.size == 0) throw new IllegalStateException("Font doesn't contain any sample glyphs");
+
+		int width = 0;
+		int top = Integer.MIN_VALUE;
+		int bottom = Integer.MAX_VALUE;
+		for (GlyphImage image : glyphs) {
+			width += Math.max(image.glyph.xadvance, image.glyph.xoffset + image.glyph.width);
+			top = Math.max(top, image.glyph.yoffset + image.glyph.height);
+			bottom = Math.min(bottom, image.glyph.yoffset);
+		}
+
+		Pixmap pixmap = new Pixmap(Math.max(1, width), Math.max(1, top - bottom), Format.RGBA8888);
+
+		int x = 0;
+		for (GlyphImage image : glyphs) {
+			Glyph glyph = image.glyph;
+			drawOver(pixmap, image.page, image.srcX, image.srcY, glyph.width, glyph.height,
+					x + glyph.xoffset, top - (glyph.yoffset + glyph.height));
+			x += Math.max(glyph.xadvance, glyph.xoffset + glyph.width);
+		}
+
+		return pixmap;
+	}
+
+	/** Draws images of first few emitters tinted with their first tint color on top of each other */
+	private Pixmap createParticleThumbnail (FileHandle file) {
+		ParticleEffect effect = new ParticleEffect();
+		effect.loadEmitters(file);
+
+		Array<Pixmap> images = new Array<>();
+
+		try {
+			int width = 1;
+			int height = 1;
+
+			for (ParticleEmitter emitter : effect.getEmitters()) {
+				if (images.size == MAX_PARTICLE_EMITTERS) break;
+				if (emitter.getImagePath() == null) continue;
+
+				//same lookup as used by ParticleEffect when loading emitter images
+				String imageName = new File(emitter.getImagePath().replace('\\', '/')).getName();
+				FileHandle imageFile = file.parent().child(imageName);
+				if (imageFile.exists() == false) continue;
+
+				Pixmap image = downscale(new Pixmap(imageFile));
+				images.add(image);
+
+				float[] tint = emitter.getTint().getColors();
+				if (tint.length >= 3) tintPixmap(image, tint[0], tint[1], tint[2]);
+
+				width = Math.max(width, image.getWidth());
+				height = Math.max(height, image.getHeight());
+			}
+
+			if (images.size == 0) throw new IllegalStateException("Particle effect images not found");
+
+			Pixmap pixmap = new Pixmap(width, height, Format.RGBA8888);
+			for (Pixmap image : images)
+				drawOver(pixmap, image, 0, 0, image.getWidth(), image.getHeight(),
+						(width - image.getWidth()) / 2, (height - image.getHeight()) / 2);
+
+			return pixmap;
+		} finally {
+			for (Pixmap image : images)
+				image.dispose();
+		}
+	}
+
+	/** Replaces color of RGBA8888 pixmap pixels with tint multiplied by their original color, alpha is not changed */
+	private void tintPixmap (Pixmap pixmap, float r, float g, float b) {
+		IntBuffer pixels = getRgbaPixels(pixmap);
+
+		for (int i = 0; i < pixels.limit(); i++) {
+			int pixel = pixels.get(i);
+			int pr = (int) (((pixel >>> 24) & 0xff) * r);
+			int pg = (int) (((pixel >>> 16) & 0xff) * g);
+			int pb = (int) (((pixel >>> 8) & 0xff) * b);
+			pixels.put(i, (pr << 24) | (pg << 16) | (pb << 8) | (pixel & 0xff));
+		}
+	}
+
+	/**
+	 * Scales pixmap so it fits in thumbnail size, keeping its aspect ratio. Returned pixmap is always in RGBA8888 format.
+	 * Source pixmap is disposed if new pixmap was created.
+	 */
+	private Pixmap downscale (Pixmap source) {
+		int largest = Math.max(source.getWidth(), source.getHeight());
+		float scale = Math.min(1f, (float) THUMBNAIL_SIZE / largest);
+		int width = Math.max(1, Math.round(source.getWidth() * scale));
+		int height = Math.max(1, Math.round(source.getHeight() * scale));
+
+		if (width == source.getWidth() && height == source.getHeight() && source.getFormat() == Format.RGBA8888)
+			return source;
+
+		return resize(source, width, height);
+	}
+
+	/**
+	 * Resizes pixmap using box filter, each target pixel is average of source pixels it covers weighted by their alpha, so
+	 * color of fully transparent pixels doesn't bleed into edges. Source pixmap is disposed.
+	 */
+	private Pixmap resize (Pixmap source, int width, int height) {
+		int srcWidth = source.getWidth();
+		int srcHeight = source.getHeight();
+		IntBuffer srcPixels = getRgbaPixels(source);
+
+		Pixmap pixmap = new Pixmap(width, height, Format.RGBA8888);
+		IntBuffer pixels = getRgbaPixels(pixmap);
+
+		for (int y = 0; y < height; y++) {
+			int y1 = y * srcHeight / height;
+			int y2 = Math.max(y1 + 1, (y + 1) * srcHeight / height);
+
+			for (int x = 0; x < width; x++) {
+				int x1 = x * srcWidth / width;
+				int x2 = Math.max(x1 + 1, (x + 1) * srcWidth / width);
+
+				long r = 0, g = 0, b = 0, a = 0;
+				for (int sy = y1; sy < y2; sy++) {
+					for (int sx = x1; sx < x2; sx++) {
+						int pixel = getPixel(source, srcPixels, sx, sy);
+						int pa = pixel & 0xff;
+						r += ((pixel >>> 24) & 0xff) * pa;
+						g += ((pixel >>> 16) & 0xff) * pa;
+						b += ((pixel >>> 8) & 0xff) * pa;
+						a += pa;
+					}
+				}
+
+				int count = (x2 - x1) * (y2 - y1);
+				int color = 0;
+				if (a > 0)
+					color = (int) (r / a) << 24 | (int) (g / a) << 16 | (int) (b / a) << 8 | (int) ((a + count / 2) / count);
+				pixels.put(y * width + x, color);
+			}
+		}
+
+		source.dispose();
+		return pixmap;
+	}
+
+	/** Draws source region over RGBA8888 target using source over blending, parts outside of target are skipped */
+	private void drawOver (Pixmap target, Pixmap source, int srcX, int srcY, int width, int height, int dstX, int dstY) {
+		IntBuffer srcPixels = getRgbaPixels(source);
+		IntBuffer pixels = getRgbaPixels(target);
+
+		for (int y = 0; y < height; y++) {
+			int ty = dstY + y;
+			int sy = srcY + y;
+			if (ty < 0 || ty >= target.getHeight() || sy < 0 || sy >= source.getHeight()) continue;
+
+			for (int x = 0; x < width; x++) {
+				int tx = dstX + x;
+				int sx = srcX + x;
+				if (tx < 0 || tx >= target.getWidth() || sx < 0 || sx >= source.getWidth()) continue;
+
+				int src = getPixel(source, srcPixels, sx, sy);
+				int srcA = src & 0xff;
+				if (srcA == 0) continue;
+
+				int index = ty * target.getWidth() + tx;
+				int dst = pixels.get(index);
+				int dstA = (dst & 0xff) * (255 - srcA) / 255;
+				int a = srcA + dstA;
+
+				int color = a;
+				for (int shift = 8; shift <= 24; shift += 8) {
+					int channel = (((src >>> shift) & 0xff) * srcA + ((dst >>> shift) & 0xff) * dstA) / a;
+					color |= channel << shift;
+				}
+				pixels.put(index, color);
+			}
+		}
+	}
+
+	/** @return pixels of RGBA8888 pixmap as RGBA8888 integers or null if pixmap has different format */
+	private static IntBuffer getRgbaPixels (Pixmap pixmap) {
+		if (pixmap.getFormat() != Format.RGBA8888) return null;
+		ByteBuffer buffer = pixmap.getPixels().duplicate();
+		buffer.position(0);
+		return buffer.order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+	}
+
+	/** @return pixel in RGBA8888 format, pixels must be buffer returned from {@link #getRgbaPixels(Pixmap)} */
+	private static int getPixel (Pixmap pixmap, IntBuffer pixels, int x, int y) {
+		if (pixels == null) return pixmap.getPixel(x, y);
+		return pixels.get(y * pixmap.getWidth() + x);
+	}
+
+	public interface ThumbnailListener {
+		/** Called when thumbnail texture was loaded */
+		void loaded (TextureRegion region);
+
+		/** Called when thumbnail couldn't be created, for example when file is corrupted */
+		void failed ();
+	}
+
+	/** Single file thumbnail, region is available after listener passed to {@link #acquire(FileHandle, FileType, ThumbnailListener)} was called */
+	public static class Thumbnail {
+		private final String key;
+		private final FileHandle file;
+		private final FileType type;
+
+		private volatile int references;
+		private volatile boolean failed;
+		private boolean loading;
+
+		private Array<ThumbnailListener> listeners = new Array<>();
+
+		private Texture texture;
+		private TextureRegion region;
+
+		private Thumbnail (String key, FileHandle file, FileType type) {
+			this.key = key;
+			this.file = file;
+			this.type = type;
+		}
+
+		/** @return thumbnail region or null if thumbnail is not loaded yet */
+		public TextureRegion getRegion () {
+			return region;
+		}
+
+		private void disposeTexture () {
+			if (texture != null) texture.dispose();
+			texture = null;
+			region = null;
+		}
+	}
+
+	private static class GlyphImage {
+		final Glyph glyph;
+		final Pixmap page;
+		final int srcX;
+		final int srcY;
+
+		GlyphImage (Glyph glyph, Pixmap page, int srcX, int srcY) {
+			this.glyph = glyph;
+			this.page = page;
+			this.srcX = srcX;
+			this.srcY = srcY;
+		}
+	}
+}
@@ -29,10 +29,10 @@ import com.badlogic.gdx.scenes.scene2d.utils.UIUtils;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.ObjectMap;
-import com.esotericsoftware.kryo.KryoException;
 import com.google.common.eventbus.Subscribe;
+import com.kotcrab.vis.editor.App;
 import com.kotcrab.vis.editor.Icons;
-import com.kotcrab.vis.editor.Log;
+import com.kotcrab.vis.editor.event.OpenSceneRequest;
 import com.kotcrab.vis.editor.event.ResourceReloadedEvent;
 import com.kotcrab.vis.editor.module.EventBusSubscriber;
 import com.kotcrab.vis.editor.module.editor.QuickAccessModule;
@@ -70,8 +70,6 @@ public class AssetsUIModule extends ProjectModule implements WatchListener, VisT
 	private StatusBarModule statusBar;
 
 	private FileAccessModule fileAccess;
-	private SceneTabsModule sceneTabsModule;
-	private SceneCacheModule sceneCache;
 	private AssetsWatcherModule assetsWatcher;
 	private AssetsAnalyzerModule assetsAnalyzer;
 
@@ -374,13 +372,7 @@ public class AssetsUIModule extends ProjectModule implements WatchListener, VisT
 
 	private void openFile (FileHandle file) {
 		if (file.extension().equals("scene")) {
-			try {
-				sceneTabsModule.open(sceneCache.get(file));
-			} catch (KryoException e) {
-				DialogUtils.showErrorDialog(stage, "Failed to load scene due to corrupted file or missing required plugin.", e);
-				Log.exception(e);
-			}
-
+			App.eventBus.post(new OpenSceneRequest(file));
 			return;
 		}
 
@@ -18,16 +18,24 @@ package com.kotcrab.vis.editor.module.project.assetsmanager;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.Touchable;
+import com.badlogic.gdx.scenes.scene2d.ui.Cell;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Scaling;
+import com.kotcrab.vis.editor.Assets;
 import com.kotcrab.vis.editor.module.ModuleInjector;
 import com.kotcrab.vis.editor.module.project.FileAccessModule;
 import com.kotcrab.vis.editor.module.project.SupportModule;
 import com.kotcrab.vis.editor.module.project.TextureCacheModule;
+import com.kotcrab.vis.editor.module.project.ThumbnailCacheModule;
+import com.kotcrab.vis.editor.module.project.ThumbnailCacheModule.Thumbnail;
+import com.kotcrab.vis.editor.module.project.ThumbnailCacheModule.ThumbnailListener;
 import com.kotcrab.vis.editor.plugin.EditorEntitySupport;
 import com.kotcrab.vis.editor.util.FileUtils;
 import com.kotcrab.vis.editor.util.vis.ProjectPathUtils;
@@ -39,19 +47,38 @@ import com.kotcrab.vis.ui.widget.VisLabel;
 //TODO refactor
 
 /**
- * Displays single item inside assets manager.
+ * Displays single item inside assets manager. Previews are provided by {@link ThumbnailCacheModule}, thumbnail is requested
+ * when item is drawn for the first time (items outside of scroll pane view are culled) and released when item is removed
+ * from stage.
  * @author Kotcrab
  */
 public class FileItem extends Table {
 	private FileAccessModule fileAccess;
 	private SupportModule supportModule;
 	private TextureCacheModule textureCache;
+	private ThumbnailCacheModule thumbnailCache;
 
 	private FileHandle file;
 
 	private TextureRegion region;
 	private FileType type;
 
+	private Cell previewCell;
+	private Thumbnail thumbnail;
+	private ThumbnailListener thumbnailListener = new ThumbnailListener() {
+		@Override
+		public void loaded (TextureRegion region) {
+			setPreview(region);
+		}
+
+		@Override
+		public void failed () {
+			if (type == FileType.TEXTURE || type == FileType.TEXTURE_ATLAS)
+				showTypeLabel(type == FileType.TEXTURE ? "Texture" : "Texture Atlas");
+			//fonts and particles keep displaying their type label
+		}
+	};
+
 	private VisLabel name;
 
 	private EditorEntitySupport support;
@@ -85,18 +112,11 @@ public class FileItem extends Table {
 			type = texture ? FileType.TEXTURE : FileType.TEXTURE_ATLAS;
 
 			name = new VisLabel(file.nameWithoutExtension(), "small");
-			TextureRegion region;
-
-			if (atlas)
-				region = textureCache.getRegion(new AtlasRegionAsset(relativePath, null));
-			else
-				region = textureCache.getRegion(new TextureRegionAsset(relativePath));
 
-			Image img = new Image(region);
+			Image img = new Image(Assets.icons.findRegion("refresh-big"));
 			img.setScaling(Scaling.fit);
-			add(img).expand().fill().row();
-
-			this.region = region;
+			previewCell = add(img).expand().fill();
+			row();
 
 			return;
 		}
@@ -173,11 +193,52 @@ public class FileItem extends Table {
 	private void createDefaultView (FileType type, String itemTypeName, boolean hideExtension) {
 		this.type = type;
 
-		VisLabel tagLabel = new VisLabel((hideExtension ? "" : file.extension().toUpperCase() + " ") + itemTypeName, Color.GRAY);
+		previewCell = add(createTypeLabel((hideExtension ? "" : file.extension().toUpperCase() + " ") + itemTypeName)).expandX().fillX();
+		row();
+		name = new VisLabel(file.nameWithoutExtension());
+	}
+
+	private VisLabel createTypeLabel (String text) {
+		VisLabel tagLabel = new VisLabel(text, Color.GRAY);
 		tagLabel.setWrap(true);
 		tagLabel.setAlignment(Align.center);
-		add(tagLabel).expandX().fillX().row();
-		name = new VisLabel(file.nameWithoutExtension());
+		return tagLabel;
+	}
+
+	/** Replaces loading icon of texture or atlas with type label, used when thumbnail couldn't be created */
+	@SuppressWarnings("unchecked")
+	private void showTypeLabel (String itemTypeName) {
+		previewCell.setActor(createTypeLabel(itemTypeName)).expand(true, false).fill(true, false);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void setPreview (TextureRegion preview) {
+		if (previewCell.getActor() instanceof Image) {
+			((Image) previewCell.getActor()).setDrawable(new TextureRegionDrawable(preview));
+		} else {
+			//type label of fonts and particles is replaced with preview
+			Image img = new Image(preview);
+			img.setScaling(Scaling.fit);
+			previewCell.setActor(img).expand().fill();
+		}
+	}
+
+	@Override
+	public void draw (Batch batch, float parentAlpha) {
+		if (thumbnail == null && ThumbnailCacheModule.isSupported(type))
+			thumbnail = thumbnailCache.acquire(file, type, thumbnailListener);
+
+		super.draw(batch, parentAlpha);
+	}
+
+	@Override
+	protected void setStage (Stage stage) {
+		super.setStage(stage);
+
+		if (stage == null && thumbnail != null) {
+			thumbnailCache.release(thumbnail, thumbnailListener);
+			thumbnail = null;
+		}
 	}
 
 	public void setSelected (boolean selected) {
@@ -199,7 +260,17 @@ public class FileItem extends Table {
 		return support;
 	}
 
+	/** @return region from texture cache of texture or atlas file, used when item is dragged to scene */
 	public TextureRegion getRegion () {
+		if (region == null && (type == FileType.TEXTURE || type == FileType.TEXTURE_ATLAS)) {
+			String relativePath = fileAccess.relativizeToAssetsFolder(file);
+
+			if (type == FileType.TEXTURE_ATLAS)
+				region = textureCache.getRegion(new AtlasRegionAsset(relativePath, null));
+			else
+				region = textureCache.getRegion(new TextureRegionAsset(relativePath));
+		}
+
 		return region;
 	}
 }
@@ -87,6 +87,8 @@ public class SpriterContextProvider implements AssetsUIContextProvider {
 	}
 
 	private class UpdateAnimationAsyncTask extends SteppedAsyncTask {
+		private final String animPath = relativePath;
+
 		public UpdateAnimationAsyncTask () {
 			super("SpriterAnimationUpdater");
 		}
@@ -144,7 +146,7 @@ public class SpriterContextProvider implements AssetsUIContextProvider {
 				nextStep();
 			}
 
-			App.eventBus.postToMainThread(new ResourceReloadedEvent(ResourceReloadedEvent.RESOURCE_SPRITER_DATA));
+			App.eventBus.postToMainThread(ResourceReloadedEvent.forPath(ResourceReloadedEvent.RESOURCE_SPRITER_DATA, animPath));
 		}
 	}
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.editor.module.scene;
+
+import com.artemis.*;
+import com.artemis.annotations.Wire;
+import com.artemis.utils.IntBag;
+import com.badlogic.gdx.Gdx;
+import com.kotcrab.vis.runtime.component.InvisibleComponent;
+import com.kotcrab.vis.runtime.component.ParticleComponent;
+import com.kotcrab.vis.runtime.component.SpriterComponent;
+
+/**
+ * Requests next frame when scene contains visible running particle effect or playing Spriter animation, this keeps
+ * such previews animated when editor is not rendered continuously.
+ * @author Kotcrab
+ */
+@Wire
+public class AnimationRenderRequestSystem extends BaseSystem {
+	private ComponentMapper<SpriterComponent> spriterCm;
+
+	private AspectSubscriptionManager subscriptionManager;
+	private EntitySubscription particleSubscription;
+	private EntitySubscription spriterSubscription;
+
+	@Override
+	protected void initialize () {
+		particleSubscription = subscriptionManager.get(Aspect.all(ParticleComponent.class).exclude(InvisibleComponent.class));
+		spriterSubscription = subscriptionManager.get(Aspect.all(SpriterComponent.class).exclude(InvisibleComponent.class));
+	}
+
+	@Override
+	protected void processSystem () {
+		if (Gdx.graphics.isContinuousRendering()) return;
+
+		if (particleSubscription.getEntities().size() > 0 || isAnySpriterPlaying())
+			Gdx.graphics.requestRendering();
+	}
+
+	private boolean isAnySpriterPlaying () {
+		IntBag bag = spriterSubscription.getEntities();
+		int[] data = bag.getData();
+
+		for (int i = 0; i < bag.size(); i++) {
+			if (spriterCm.get(data[i]).animationPlaying) return true;
+		}
+
+		return false;
+	}
+}
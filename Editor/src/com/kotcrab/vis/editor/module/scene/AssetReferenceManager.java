@@ -0,0 +1,141 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.editor.module.scene;
+
+import com.artemis.*;
+import com.artemis.EntitySubscription.SubscriptionListener;
+import com.artemis.annotations.Wire;
+import com.artemis.utils.Bag;
+import com.artemis.utils.IntBag;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.kotcrab.vis.runtime.assets.PathAsset;
+import com.kotcrab.vis.runtime.assets.VisAssetDescriptor;
+import com.kotcrab.vis.runtime.component.AssetComponent;
+
+/**
+ * Keeps index of entities referencing each asset file, allows reloaders to find entities using changed assets without
+ * walking whole engine. Only {@link PathAsset} descriptors are indexed.
+ * <p>
+ * Asset descriptor of entity can be replaced directly in {@link AssetComponent} without notifying engine, such changes
+ * are detected by {@link #refresh()} which only compares references of stored descriptors.
+ * @author Kotcrab
+ */
+@Wire
+public class AssetReferenceManager extends Manager {
+	private static final IntArray EMPTY = new IntArray(0);
+
+	private ComponentMapper<AssetComponent> assetCm;
+	private AspectSubscriptionManager subscriptionManager;
+	private EntitySubscription subscription;
+
+	private Bag<VisAssetDescriptor> indexedAssets = new Bag<>();
+	private ObjectMap<String, IntArray> entitiesByPath = new ObjectMap<>();
+	private IntSet collected = new IntSet();
+
+	@Override
+	protected void initialize () {
+		subscription = subscriptionManager.get(Aspect.all(AssetComponent.class));
+		subscription.addSubscriptionListener(new SubscriptionListener() {
+			@Override
+			public void inserted (IntBag entities) {
+				int[] data = entities.getData();
+				for (int i = 0; i < entities.size(); i++)
+					index(data[i]);
+			}
+
+			@Override
+			public void removed (IntBag entities) {
+				int[] data = entities.getData();
+				for (int i = 0; i < entities.size(); i++)
+					unindex(data[i]);
+			}
+		});
+	}
+
+	/** Updates index for entities which asset descriptor was replaced since last refresh. */
+	public void refresh () {
+		IntBag bag = subscription.getEntities();
+		int[] data = bag.getData();
+
+		for (int i = 0; i < bag.size(); i++) {
+			int id = data[i];
+			if (assetCm.get(id).asset != indexedAssets.safeGet(id)) {
+				unindex(id);
+				index(id);
+			}
+		}
+	}
+
+	/**
+	 * Returns ids of entities referencing asset file with given path. {@link #refresh()} should be called before first
+	 * call of this method for single reload. Returned array is owned by this manager and must not be modified.
+	 */
+	public IntArray getEntities (String relativePath) {
+		IntArray entities = entitiesByPath.get(relativePath);
+		return entities == null ? EMPTY : entities;
+	}
+
+	/**
+	 * Collects ids of entities referencing any of provided assets into target array, duplicates are not added.
+	 * @param assets descriptors of changed assets, matched only by path
+	 */
+	public void collectEntities (Array<VisAssetDescriptor> assets, IntArray target) {
+		refresh();
+
+		collected.clear();
+		for (int i = 0; i < target.size; i++)
+			collected.add(target.get(i));
+
+		for (VisAssetDescriptor asset : assets) {
+			if (asset instanceof PathAsset == false) continue;
+
+			IntArray entities = getEntities(((PathAsset) asset).getPath());
+			for (int i = 0; i < entities.size; i++) {
+				int id = entities.get(i);
+				if (collected.add(id)) target.add(id);
+			}
+		}
+	}
+
+	private void index (int entityId) {
+		VisAssetDescriptor asset = assetCm.get(entityId).asset;
+		indexedAssets.set(entityId, asset);
+		if (asset instanceof PathAsset == false) return;
+
+		String path = ((PathAsset) asset).getPath();
+		IntArray entities = entitiesByPath.get(path);
+		if (entities == null) {
+			entities = new IntArray();
+			entitiesByPath.put(path, entities);
+		}
+
+		entities.add(entityId);
+	}
+
+	private void unindex (int entityId) {
+		VisAssetDescriptor asset = indexedAssets.safeGet(entityId);
+		if (asset == null) return;
+		indexedAssets.set(entityId, null);
+		if (asset instanceof PathAsset == false) return;
+
+		IntArray entities = entitiesByPath.get(((PathAsset) asset).getPath());
+		if (entities != null) entities.removeValue(entityId);
+	}
+}
@@ -22,6 +22,7 @@ import com.artemis.annotations.Wire;
 import com.artemis.utils.IntBag;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
 import com.kotcrab.vis.editor.entity.EntityScheme;
 import com.kotcrab.vis.editor.module.project.SupportModule;
 import com.kotcrab.vis.editor.plugin.EditorEntitySupport;
@@ -37,7 +38,11 @@ public class EntityProxyCache extends Manager {
 	private EntitySubscription subscription;
 
 	private Array<EntityProxyCacheListener> listeners = new Array<>();
+	/** reused when notifying listeners about inserted or removed entities */
+	private Array<Entity> changedEntities = new Array<>();
 	private ObjectMap<Entity, EntityProxy> cache = new ObjectMap<>();
+	/** entities inserted into engine that does not have proxy created yet, proxies are created on first access */
+	private ObjectSet<Entity> pendingEntities = new ObjectSet<>();
 	private float pixelsPerUnit;
 
 	public EntityProxyCache (float pixelsPerUnit) {
@@ -51,26 +56,28 @@ public class EntityProxyCache extends Manager {
 		subscription.addSubscriptionListener(new SubscriptionListener() {
 			@Override
 			public void inserted (IntBag entities) {
-				ObjectMap<Entity, EntityProxy> tmpCache = new ObjectMap<>();
-
 				int[] data = entities.getData();
 				for (int i = 0; i < entities.size(); i++) {
-					int entityId = data[i];
-					Entity entity = world.getEntity(entityId);
-					tmpCache.put(entity, getProxy(entity));
+					Entity entity = world.getEntity(data[i]);
+					pendingEntities.add(entity);
+					changedEntities.add(entity);
 				}
 
-				cache.putAll(tmpCache);
-				listeners.forEach(EntityProxyCacheListener::cacheChanged);
+				listeners.forEach(listener -> listener.inserted(changedEntities));
+				changedEntities.clear();
 			}
 
 			@Override
 			public void removed (IntBag entities) {
 				int[] data = entities.getData();
 				for (int i = 0; i < entities.size(); i++) {
-					cache.remove(world.getEntity(data[i]));
+					Entity entity = world.getEntity(data[i]);
+					if (pendingEntities.remove(entity) == false) cache.remove(entity);
+					changedEntities.add(entity);
 				}
-				listeners.forEach(EntityProxyCacheListener::cacheChanged);
+
+				listeners.forEach(listener -> listener.removed(changedEntities));
+				changedEntities.clear();
 			}
 		});
 	}
@@ -116,18 +123,44 @@ public class EntityProxyCache extends Manager {
 		if (proxy == null) {
 			proxy = getProxy(entity);
 			cache.put(entity, proxy);
+			pendingEntities.remove(entity);
 		}
 
 		return proxy;
 	}
 
+	private void createPendingProxies () {
+		if (pendingEntities.size == 0) return;
+
+		for (Entity entity : pendingEntities)
+			cache.put(entity, getProxy(entity));
+
+		pendingEntities.clear();
+	}
+
 	public Array<EntityScheme> getSchemes () {
+		createPendingProxies();
+
 		Array<EntityScheme> schemes = new Array<>(cache.size);
 		cache.values().forEach(proxy -> schemes.add(proxy.getScheme()));
 		return schemes;
 	}
 
+	/** @return all entities that have proxies, this does not create proxies for entities that does not have proxy created yet */
+	public Array<Entity> getEntities () {
+		IntBag entities = subscription.getEntities();
+		int[] data = entities.getData();
+
+		Array<Entity> result = new Array<>(entities.size());
+		for (int i = 0; i < entities.size(); i++)
+			result.add(world.getEntity(data[i]));
+
+		return result;
+	}
+
+	/** @return map of all entities proxies, creates proxies for all entities that does not have proxy created yet */
 	public ObjectMap<Entity, EntityProxy> getCache () {
+		createPendingProxies();
 		return cache;
 	}
 
@@ -139,7 +172,11 @@ public class EntityProxyCache extends Manager {
 		return listeners.removeValue(listener, true);
 	}
 
+	/** Listener notified about entities added to and removed from cache. Passed arrays are reused and must not be stored. */
 	public interface EntityProxyCacheListener {
-		void cacheChanged ();
+		/** Called when entities were added to cache, proxies for those entities are created on first access */
+		void inserted (Array<Entity> entities);
+
+		void removed (Array<Entity> entities);
 	}
 }
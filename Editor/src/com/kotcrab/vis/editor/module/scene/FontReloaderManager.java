@@ -19,6 +19,8 @@ package com.kotcrab.vis.editor.module.scene;
 import com.artemis.*;
 import com.artemis.annotations.Wire;
 import com.artemis.utils.IntBag;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.kotcrab.vis.editor.module.project.FontCacheModule;
 import com.kotcrab.vis.runtime.assets.BmpFontAsset;
 import com.kotcrab.vis.runtime.assets.TtfFontAsset;
@@ -36,6 +38,9 @@ public class FontReloaderManager extends Manager {
 	private ComponentMapper<AssetComponent> assetCm;
 	private AspectSubscriptionManager subscriptionManager;
 	private EntitySubscription subscription;
+	private AssetReferenceManager assetReferences;
+
+	private IntArray changedEntities = new IntArray();
 
 	public FontReloaderManager (FontCacheModule fontCache, float pixelInUnits) {
 		this.fontCache = fontCache;
@@ -48,21 +53,36 @@ public class FontReloaderManager extends Manager {
 	}
 
 	public void reloadFonts (boolean reloadBmpFonts, boolean reloadTtfFonts) {
-		IntBag bag = subscription.getEntities();
-		int[] data = bag.getData();
-
-		for (int i = 0; i < bag.size(); i++) {
-			int id = data[i];
-			Entity entity = world.getEntity(id);
+		reloadFonts(reloadBmpFonts, reloadTtfFonts, null);
+	}
 
-			TextComponent text = textCm.get(entity);
-			VisAssetDescriptor asset = assetCm.get(entity).asset;
+	/** @param changedAssets descriptors of changed font files, if null all fonts of selected types are reloaded */
+	public void reloadFonts (boolean reloadBmpFonts, boolean reloadTtfFonts, Array<VisAssetDescriptor> changedAssets) {
+		if (changedAssets == null) {
+			IntBag bag = subscription.getEntities();
+			int[] data = bag.getData();
 
-			if (asset instanceof BmpFontAsset && reloadBmpFonts)
-				text.setFont(fontCache.get((BmpFontAsset) asset, pixelInUnits));
+			for (int i = 0; i < bag.size(); i++)
+				reloadFont(data[i], reloadBmpFonts, reloadTtfFonts);
+		} else {
+			changedEntities.clear();
+			assetReferences.collectEntities(changedAssets, changedEntities);
 
-			if (asset instanceof TtfFontAsset && reloadTtfFonts)
-				text.setFont(fontCache.get((TtfFontAsset) asset, pixelInUnits));
+			for (int i = 0; i < changedEntities.size; i++) {
+				int id = changedEntities.get(i);
+				if (textCm.has(id)) reloadFont(id, reloadBmpFonts, reloadTtfFonts);
+			}
 		}
 	}
+
+	private void reloadFont (int entityId, boolean reloadBmpFonts, boolean reloadTtfFonts) {
+		TextComponent text = textCm.get(entityId);
+		VisAssetDescriptor asset = assetCm.get(entityId).asset;
+
+		if (asset instanceof BmpFontAsset && reloadBmpFonts)
+			text.setFont(fontCache.get((BmpFontAsset) asset, pixelInUnits));
+
+		if (asset instanceof TtfFontAsset && reloadTtfFonts)
+			text.setFont(fontCache.get((TtfFontAsset) asset, pixelInUnits));
+	}
 }
@@ -19,6 +19,8 @@ package com.kotcrab.vis.editor.module.scene;
 import com.artemis.*;
 import com.artemis.annotations.Wire;
 import com.artemis.utils.IntBag;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.kotcrab.vis.editor.module.project.ParticleCacheModule;
 import com.kotcrab.vis.runtime.assets.VisAssetDescriptor;
 import com.kotcrab.vis.runtime.component.AssetComponent;
@@ -34,6 +36,9 @@ public class ParticleReloaderManager extends Manager {
 	private ComponentMapper<AssetComponent> assetCm;
 	private AspectSubscriptionManager subscriptionManager;
 	private EntitySubscription subscription;
+	private AssetReferenceManager assetReferences;
+
+	private IntArray changedEntities = new IntArray();
 
 	public ParticleReloaderManager (ParticleCacheModule particleCache, float pixelsPerUnit) {
 		this.particleCache = particleCache;
@@ -46,22 +51,37 @@ public class ParticleReloaderManager extends Manager {
 	}
 
 	public void reloadParticles () {
-		IntBag bag = subscription.getEntities();
-		int[] data = bag.getData();
-
-		for (int i = 0; i < bag.size(); i++) {
-			int id = data[i];
-			Entity entity = world.getEntity(id);
+		reloadParticles(null);
+	}
 
-			ParticleComponent particle = particleCm.get(entity);
-			VisAssetDescriptor asset = assetCm.get(entity).asset;
+	/** @param changedAssets descriptors of changed particle effects, if null all particles are reloaded */
+	public void reloadParticles (Array<VisAssetDescriptor> changedAssets) {
+		if (changedAssets == null) {
+			IntBag bag = subscription.getEntities();
+			int[] data = bag.getData();
 
-			particle.effect.dispose();
+			for (int i = 0; i < bag.size(); i++)
+				reloadParticle(data[i]);
+		} else {
+			changedEntities.clear();
+			assetReferences.collectEntities(changedAssets, changedEntities);
 
-			float x = particle.getX();
-			float y = particle.getY();
-			particle.effect = particleCache.get(asset, 1f / pixelsPerUnit);
-			particle.setPosition(x, y);
+			for (int i = 0; i < changedEntities.size; i++) {
+				int id = changedEntities.get(i);
+				if (particleCm.has(id)) reloadParticle(id);
+			}
 		}
 	}
+
+	private void reloadParticle (int entityId) {
+		ParticleComponent particle = particleCm.get(entityId);
+		VisAssetDescriptor asset = assetCm.get(entityId).asset;
+
+		particle.effect.dispose();
+
+		float x = particle.getX();
+		float y = particle.getY();
+		particle.effect = particleCache.get(asset, 1f / pixelsPerUnit);
+		particle.setPosition(x, y);
+	}
 }
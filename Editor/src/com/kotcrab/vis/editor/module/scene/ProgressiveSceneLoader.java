@@ -0,0 +1,200 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.editor.module.scene;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.kotcrab.vis.editor.Log;
+import com.kotcrab.vis.editor.entity.EntityScheme;
+import com.kotcrab.vis.editor.serializer.ChunkedSceneReader;
+import com.kotcrab.vis.editor.serializer.EntityComponentSerializer;
+import com.kotcrab.vis.editor.serializer.GLThreadRequiredException;
+import com.kotcrab.vis.runtime.util.EntityEngine;
+import org.apache.commons.io.IOUtils;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Populates {@link EntityEngine} with scene entities progressively, entities are added in small slices on every frame
+ * so UI is not blocked while loading huge scenes. When scene is loaded using {@link ChunkedSceneReader}, entities are
+ * read and deserialized on separate thread, entities with components that requires OpenGL thread (see
+ * {@link EntityComponentSerializer#setGLThreadGuardEnabled(boolean)}) are deserialized on OpenGL thread.
+ * @author Kotcrab
+ */
+public class ProgressiveSceneLoader implements Disposable {
+	private static final long FRAME_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+	private static final long WAIT_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private final EntityEngine engine;
+	private final SceneLoaderListener listener;
+	private final int entityCount;
+
+	/** in memory entities source, null if entities are read from file */
+	private Array<EntityScheme> schemes;
+	/** file entities source, null if entities are loaded from memory */
+	private ChunkedSceneReader reader;
+	private Array<EntityScheme> loadedSchemes;
+
+	/** contains read {@link EntityScheme}s and entities blocks (byte[]) that must be deserialized on OpenGL thread */
+	private final ConcurrentLinkedQueue<Object> readQueue = new ConcurrentLinkedQueue<>();
+	private volatile Exception readError;
+	private volatile boolean cancelled;
+
+	private int builtCount;
+	private boolean finished;
+	private boolean failed;
+
+	/** Creates loader that will add already deserialized entities to engine */
+	public ProgressiveSceneLoader (EntityEngine engine, Array<EntityScheme> schemes, SceneLoaderListener listener) {
+		this.engine = engine;
+		this.listener = listener;
+		this.schemes = schemes;
+		entityCount = schemes.size;
+		loadedSchemes = schemes;
+	}
+
+	/** Creates loader that will read entities from provided reader on separate thread, reader will be closed by loader */
+	public ProgressiveSceneLoader (EntityEngine engine, ChunkedSceneReader reader, SceneLoaderListener listener) {
+		this.engine = engine;
+		this.listener = listener;
+		this.reader = reader;
+		entityCount = reader.getEntityCount();
+		loadedSchemes = new Array<>(entityCount);
+
+		Thread readerThread = new Thread(this::readEntities, "SceneLoader");
+		readerThread.setDaemon(true);
+		readerThread.start();
+	}
+
+	private void readEntities () {
+		EntityComponentSerializer.setGLThreadGuardEnabled(true);
+
+		try {
+			for (int i = 0; i < entityCount && cancelled == false; i++) {
+				try {
+					readQueue.add(reader.readEntity(i));
+				} catch (RuntimeException e) {
+					if (GLThreadRequiredException.isCause(e) == false) throw e;
+					readQueue.add(reader.readBlock(i));
+				}
+			}
+		} catch (Exception e) {
+			readError = e;
+		} catch (Throwable e) {
+			readError = new IllegalStateException("Fatal error while reading scene", e);
+		} finally {
+			EntityComponentSerializer.setGLThreadGuardEnabled(false);
+			IOUtils.closeQuietly(reader);
+			if (Gdx.graphics != null) Gdx.graphics.requestRendering();
+		}
+	}
+
+	/** Adds entities to engine until frame time budget is used, must be called on OpenGL thread every frame */
+	public void update () {
+		if (isDone()) return;
+
+		long deadline = System.nanoTime() + FRAME_BUDGET_NANOS;
+
+		while (System.nanoTime() < deadline && builtCount < entityCount) {
+			if (buildNext() == false) break;
+		}
+
+		checkDone();
+		if (isDone() == false) Gdx.graphics.requestRendering();
+	}
+
+	/** Adds all remaining entities to engine, blocks until all entities are loaded */
+	public void finish () {
+		while (isDone() == false) {
+			if (builtCount < entityCount && buildNext() == false) LockSupport.parkNanos(WAIT_PARK_NANOS);
+			checkDone();
+		}
+	}
+
+	/** @return true if entity was added to engine, false if no entity is currently available */
+	private boolean buildNext () {
+		EntityScheme scheme;
+
+		if (schemes != null) {
+			scheme = schemes.get(builtCount);
+		} else {
+			Object element = readQueue.poll();
+			if (element == null) return false;
+
+			if (element instanceof byte[]) {
+				try {
+					scheme = reader.readEntity((byte[]) element);
+				} catch (RuntimeException e) {
+					readError = e;
+					return false;
+				}
+			} else
+				scheme = (EntityScheme) element;
+
+			loadedSchemes.add(scheme);
+		}
+
+		scheme.build(engine);
+		builtCount++;
+		return true;
+	}
+
+	private void checkDone () {
+		if (finished || failed) return;
+
+		if (builtCount == entityCount) {
+			finished = true;
+			listener.loaded(loadedSchemes);
+			return;
+		}
+
+		if (readError != null && readQueue.isEmpty()) {
+			failed = true;
+			Log.exception(readError);
+			listener.failed(readError);
+		}
+	}
+
+	public boolean isDone () {
+		return finished || failed;
+	}
+
+	public boolean isFailed () {
+		return failed;
+	}
+
+	/** @return loading progress from 0 to 1 */
+	public float getProgress () {
+		return entityCount == 0 ? 1 : builtCount / (float) entityCount;
+	}
+
+	@Override
+	public void dispose () {
+		cancelled = true;
+	}
+
+	public interface SceneLoaderListener {
+		/** Called when all entities were added to engine */
+		void loaded (Array<EntityScheme> schemes);
+
+		/** Called when loading failed, engine will contain only entities loaded before error occurred */
+		void failed (Exception cause);
+	}
+}
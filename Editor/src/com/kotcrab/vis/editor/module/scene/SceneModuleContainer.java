@@ -76,6 +76,7 @@ public class SceneModuleContainer extends ModuleContainer<SceneModule> implement
 		config.setManager(new LayerManipulatorManager());
 		config.setManager(new ZIndexManipulatorManager());
 		config.setManager(new EntitySerializerManager());
+		config.setManager(new AssetReferenceManager());
 		config.setManager(new TextureReloaderManager(projectModuleContainer.get(TextureCacheModule.class)));
 		config.setManager(new ParticleReloaderManager(projectModuleContainer.get(ParticleCacheModule.class), scene.pixelsPerUnit));
 		config.setManager(new FontReloaderManager(projectModuleContainer.get(FontCacheModule.class), scene.pixelsPerUnit));
@@ -88,6 +89,7 @@ public class SceneModuleContainer extends ModuleContainer<SceneModule> implement
 		config.setSystem(new GroupProxyProviderSystem(), true);
 		config.setSystem(new GridRendererSystem(batch, this));
 		config.setSystem(new VisComponentManipulator());
+		config.setSystem(new AnimationRenderRequestSystem());
 
 		createEssentialsSystems(config, scene.pixelsPerUnit);
 
@@ -117,19 +119,16 @@ public class SceneModuleContainer extends ModuleContainer<SceneModule> implement
 		if (target instanceof BaseSystem || target instanceof Manager) return false;
 
 		if (BaseSystem.class.isAssignableFrom(type)) {
-			field.setAccessible(true);
 			field.set(target, engine != null ? engine.getSystem(type.asSubclass(BaseSystem.class)) : config.getSystem(type.asSubclass(BaseSystem.class)));
 			return true;
 		}
 
 		if (Manager.class.isAssignableFrom(type)) {
-			field.setAccessible(true);
 			field.set(target, engine != null ? engine.getManager(type.asSubclass(Manager.class)) : config.getManager(type.asSubclass(Manager.class)));
 			return true;
 		}
 
 		if (ComponentMapper.class.isAssignableFrom(type)) {
-			field.setAccessible(true);
 			if (engine == null)
 				delayedCompMapperToInject.add(new BiHolder<>(target, field));
 			else
@@ -166,9 +165,6 @@ public class SceneModuleContainer extends ModuleContainer<SceneModule> implement
 
 		modules.forEach(sceneModule -> sceneModule.setEntityEngine(engine));
 
-		Log.debug("SceneModuleContainer", "Populating EntityEngine");
-		populateEngine(engine, scene);
-
 		engine.getSystems().forEach(this::injectModules);
 		engine.getManagers().forEach(this::injectModules);
 
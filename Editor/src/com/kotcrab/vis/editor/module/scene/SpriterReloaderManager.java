@@ -19,8 +19,11 @@ package com.kotcrab.vis.editor.module.scene;
 import com.artemis.*;
 import com.artemis.annotations.Wire;
 import com.artemis.utils.IntBag;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.kotcrab.vis.editor.module.project.SpriterCacheModule;
 import com.kotcrab.vis.runtime.assets.SpriterAsset;
+import com.kotcrab.vis.runtime.assets.VisAssetDescriptor;
 import com.kotcrab.vis.runtime.component.AssetComponent;
 import com.kotcrab.vis.runtime.component.SpriterComponent;
 
@@ -36,6 +39,9 @@ public class SpriterReloaderManager extends Manager {
 
 	private AspectSubscriptionManager subscriptionManager;
 	private EntitySubscription subscription;
+	private AssetReferenceManager assetReferences;
+
+	private IntArray changedEntities = new IntArray();
 
 	public SpriterReloaderManager (SpriterCacheModule spriterCache) {
 		this.spriterCache = spriterCache;
@@ -47,11 +53,27 @@ public class SpriterReloaderManager extends Manager {
 	}
 
 	public void reloadSpriterData () {
-		IntBag bag = subscription.getEntities();
-		int[] data = bag.getData();
+		reloadSpriterData(null);
+	}
+
+	/** @param changedAssets descriptors of changed animations, if null all animations are reloaded */
+	public void reloadSpriterData (Array<VisAssetDescriptor> changedAssets) {
+		changedEntities.clear();
+
+		if (changedAssets == null) {
+			IntBag bag = subscription.getEntities();
+			int[] data = bag.getData();
+
+			for (int i = 0; i < bag.size(); i++)
+				changedEntities.add(data[i]);
+		} else
+			assetReferences.collectEntities(changedAssets, changedEntities);
+
+		//entities are collected first because replacing component modifies subscription
+		for (int i = 0; i < changedEntities.size; i++) {
+			int id = changedEntities.get(i);
+			if (spriterCm.has(id) == false) continue;
 
-		for (int i = 0; i < bag.size(); i++) {
-			int id = data[i];
 			Entity entity = world.getEntity(id);
 
 			SpriterComponent spriter = spriterCm.get(entity);
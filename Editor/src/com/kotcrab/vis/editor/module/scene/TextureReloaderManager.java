@@ -19,6 +19,8 @@ package com.kotcrab.vis.editor.module.scene;
 import com.artemis.*;
 import com.artemis.annotations.Wire;
 import com.artemis.utils.IntBag;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.kotcrab.vis.editor.module.project.TextureCacheModule;
 import com.kotcrab.vis.editor.util.gdx.SpriteUtils;
 import com.kotcrab.vis.runtime.assets.VisAssetDescriptor;
@@ -34,6 +36,9 @@ public class TextureReloaderManager extends Manager {
 	private ComponentMapper<AssetComponent> assetCm;
 	private AspectSubscriptionManager subscriptionManager;
 	private EntitySubscription subscription;
+	private AssetReferenceManager assetReferences;
+
+	private IntArray changedEntities = new IntArray();
 
 	public TextureReloaderManager (TextureCacheModule textureCache) {
 		this.textureCache = textureCache;
@@ -44,20 +49,33 @@ public class TextureReloaderManager extends Manager {
 		subscription = subscriptionManager.get(Aspect.all(SpriteComponent.class, AssetComponent.class));
 	}
 
-	//TODO: use flyweights for reloading, also update other reloaders
-
 	public void reloadTextures () {
-		IntBag bag = subscription.getEntities();
-		int[] data = bag.getData();
+		reloadTextures(null);
+	}
 
-		for (int i = 0; i < bag.size(); i++) {
-			int id = data[i];
-			Entity entity = world.getEntity(id);
+	/** @param changedAssets descriptors of changed assets, if null all textures are reloaded */
+	public void reloadTextures (Array<VisAssetDescriptor> changedAssets) {
+		if (changedAssets == null) {
+			IntBag bag = subscription.getEntities();
+			int[] data = bag.getData();
 
-			SpriteComponent sprite = spriteCm.get(entity);
-			VisAssetDescriptor asset = assetCm.get(entity).asset;
+			for (int i = 0; i < bag.size(); i++)
+				reloadTexture(data[i]);
+		} else {
+			changedEntities.clear();
+			assetReferences.collectEntities(changedAssets, changedEntities);
 
-			SpriteUtils.setRegion(sprite.sprite, textureCache.getRegion(asset));
+			for (int i = 0; i < changedEntities.size; i++) {
+				int id = changedEntities.get(i);
+				if (spriteCm.has(id)) reloadTexture(id);
+			}
 		}
 	}
+
+	private void reloadTexture (int entityId) {
+		SpriteComponent sprite = spriteCm.get(entityId);
+		VisAssetDescriptor asset = assetCm.get(entityId).asset;
+
+		SpriteUtils.setRegion(sprite.sprite, textureCache.getRegion(asset));
+	}
 }
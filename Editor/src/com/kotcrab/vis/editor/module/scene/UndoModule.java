@@ -16,6 +16,7 @@
 
 package com.kotcrab.vis.editor.module.scene;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input.Keys;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.utils.UIUtils;
@@ -57,6 +58,7 @@ public class UndoModule extends SceneModule {
 			action.undo();
 			redoList.add(action);
 			App.eventBus.post(new UndoEvent(sceneContainer));
+			Gdx.graphics.requestRendering();
 		} else
 			statusBar.setText("Can't undo more!");
 
@@ -69,6 +71,7 @@ public class UndoModule extends SceneModule {
 			action.execute();
 			undoList.add(action);
 			App.eventBus.post(new RedoEvent(sceneContainer));
+			Gdx.graphics.requestRendering();
 		} else
 			statusBar.setText("Can't redo more!");
 	}
@@ -76,6 +79,7 @@ public class UndoModule extends SceneModule {
 	public void execute (UndoableAction action) {
 		action.execute();
 		add(action);
+		Gdx.graphics.requestRendering();
 	}
 
 	public void add (UndoableAction action) {
@@ -352,7 +352,7 @@ public class EntityManipulatorModule extends SceneModule {
 
 			undoModule.add(new EntitiesAddedAction(sceneContainer, entityEngine, entities));
 
-			sceneOutline.rebuildOutline();
+			sceneOutline.groupsChanged();
 			selectedEntitiesChanged();
 		} else
 			statusBar.setText("Nothing to paste!");
@@ -673,7 +673,7 @@ public class EntityManipulatorModule extends SceneModule {
 
 		undoModule.execute(new GroupAction(selectedEntities, gid, currentSelectionGid, true));
 
-		sceneOutline.rebuildOutline();
+		sceneOutline.groupsChanged();
 
 		GroupEntityProxy groupProxy = new GroupEntityProxy(selectedEntities, gid);
 		resetSelection();
@@ -705,7 +705,7 @@ public class EntityManipulatorModule extends SceneModule {
 			groupBreadcrumb.resetHierarchy();
 			currentSelectionGid = -1;
 
-			sceneOutline.rebuildOutline();
+			sceneOutline.groupsChanged();
 
 			resetSelection();
 			selectionProxy.getProxies().forEach(this::selectAppend);
@@ -744,7 +744,7 @@ public class EntityManipulatorModule extends SceneModule {
 
 	@Subscribe
 	public void handleUndoableModuleEvent (UndoableModuleEvent event) {
-		sceneOutline.rebuildOutline();
+		sceneOutline.groupsChanged();
 		renderBatchingSystem.markDirty();
 	}
 
@@ -21,6 +21,7 @@ import com.badlogic.gdx.Input.Buttons;
 import com.badlogic.gdx.Input.Keys;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
@@ -33,22 +34,28 @@ import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
 import com.kotcrab.vis.editor.Assets;
 import com.kotcrab.vis.editor.module.editor.StatusBarModule;
+import com.kotcrab.vis.editor.module.project.PolygonTracerModule;
+import com.kotcrab.vis.editor.module.project.PolygonTracerModule.TracedPolygon;
 import com.kotcrab.vis.editor.module.scene.action.ChangePolygonAction;
 import com.kotcrab.vis.editor.proxy.EntityProxy;
 import com.kotcrab.vis.editor.proxy.GroupEntityProxy;
 import com.kotcrab.vis.editor.util.gdx.EventStopper;
+import com.kotcrab.vis.editor.util.gdx.TableBuilder;
 import com.kotcrab.vis.editor.util.gdx.VisChangeListener;
 import com.kotcrab.vis.editor.util.gdx.VisValue;
+import com.kotcrab.vis.editor.util.polygon.AsyncPolygonizer;
 import com.kotcrab.vis.editor.util.polygon.Clipper;
 import com.kotcrab.vis.editor.util.polygon.Clipper.Polygonizer;
 import com.kotcrab.vis.editor.util.polygon.PolygonUtils;
+import com.kotcrab.vis.editor.util.undo.UndoableActionGroup;
 import com.kotcrab.vis.runtime.component.PolygonComponent;
+import com.kotcrab.vis.runtime.component.SpriteComponent;
 import com.kotcrab.vis.runtime.util.ImmutableArray;
 import com.kotcrab.vis.ui.VisUI;
-import com.kotcrab.vis.ui.widget.VisCheckBox;
-import com.kotcrab.vis.ui.widget.VisLabel;
-import com.kotcrab.vis.ui.widget.VisTable;
-import com.kotcrab.vis.ui.widget.VisTextButton;
+import com.kotcrab.vis.ui.util.FloatDigitsOnlyFilter;
+import com.kotcrab.vis.ui.widget.*;
+
+import java.util.concurrent.CompletableFuture;
 
 /** @author Kotcrab */
 public class PolygonTool extends BaseSelectionTool {
@@ -58,8 +65,10 @@ public class PolygonTool extends BaseSelectionTool {
 	private static final String NOTHING_SELECTED = "Select entity to edit it's polygon";
 	private static final String SELECT_ONLY_ONE = "Select only one entity to edit polygon";
 	private static final float POLYGON_RECT_SIZE = 16f;
+	private static final float DEFAULT_TRACE_TOLERANCE = 2f;
 
 	private StatusBarModule statusBar;
+	private PolygonTracerModule polygonTracer;
 	private Stage stage;
 
 	private Color lineOverColor = new Color(0, 88 / 255f, 131 / 255f, 1);
@@ -79,6 +88,10 @@ public class PolygonTool extends BaseSelectionTool {
 	private Array<Edge> drawnFacesLines = new Array<>();
 
 	private ChangePolygonAction changePolygonAction;
+	/** decomposes polygon while vertex is dragged, last valid faces are displayed until new ones are ready */
+	private AsyncPolygonizer dragPolygonizer = new AsyncPolygonizer(DEFAULT_POLYGONIZER, faces -> {
+		if (component != null && changePolygonAction != null) component.faces = faces;
+	});
 
 	private Vector3 tmpVector = new Vector3();
 	private Vector2 tmpVector2 = new Vector2(); //this is not second temp vector, this is 2d vector
@@ -89,9 +102,14 @@ public class PolygonTool extends BaseSelectionTool {
 	private VisTable buttonTable;
 
 	private VisLabel statusLabel;
+	private VisTable traceTable;
 	private VisTextButton traceButton;
+	private VisTextField traceToleranceField;
 	private VisCheckBox dynamicUpdateCheck;
 
+	private Array<EntityProxy> traceableProxies = new Array<>();
+	private boolean tracing;
+
 	@Override
 	public void init () {
 		super.init();
@@ -250,6 +268,69 @@ public class PolygonTool extends BaseSelectionTool {
 		entityManipulator.selectedEntitiesChanged();
 	}
 
+	private void autoTracePolygons () {
+		if (tracing || traceableProxies.size == 0) return;
+
+		float tolerance;
+		try {
+			tolerance = Float.parseFloat(traceToleranceField.getText());
+		} catch (NumberFormatException e) {
+			statusBar.setText("Invalid trace tolerance", Color.RED, 3);
+			return;
+		}
+
+		Array<EntityProxy> proxies = new Array<>(traceableProxies);
+		Array<Sprite> sprites = new Array<>(proxies.size);
+		for (EntityProxy proxy : proxies)
+			sprites.add(proxy.getEntities().first().getComponent(SpriteComponent.class).sprite);
+
+		Array<CompletableFuture<TracedPolygon>> results = polygonTracer.trace(sprites, tolerance, DEFAULT_POLYGONIZER);
+
+		tracing = true;
+		traceButton.setDisabled(true);
+		statusBar.setText("Tracing " + proxies.size + (proxies.size == 1 ? " polygon..." : " polygons..."));
+
+		CompletableFuture.allOf(results.toArray(CompletableFuture.class))
+				.whenComplete((result, error) -> Gdx.app.postRunnable(() -> applyTracedPolygons(proxies, results)));
+	}
+
+	private void applyTracedPolygons (Array<EntityProxy> proxies, Array<CompletableFuture<TracedPolygon>> results) {
+		tracing = false;
+		traceButton.setDisabled(false);
+
+		UndoableActionGroup group = new UndoableActionGroup("Auto Trace Polygon", "Auto Trace Polygons");
+		int failed = 0;
+
+		for (int i = 0; i < proxies.size; i++) {
+			EntityProxy proxy = proxies.get(i);
+			PolygonComponent component = proxy.getEntities().first().getComponent(PolygonComponent.class);
+			CompletableFuture<TracedPolygon> result = results.get(i);
+
+			if (component == null || result.isCompletedExceptionally()) {
+				failed++;
+				continue;
+			}
+
+			TracedPolygon polygon = result.join();
+			ChangePolygonAction action = new ChangePolygonAction(entityManipulator, proxy);
+			component.vertices = polygon.vertices;
+			component.faces = polygon.faces;
+			action.takeSnapshot();
+			group.add(action);
+		}
+
+		if (group.size() > 0) {
+			group.finalizeGroup();
+			undoModule.add(group);
+			entityManipulator.selectedEntitiesChanged();
+		}
+
+		if (failed == 0)
+			statusBar.setText("Traced " + group.size() + (group.size() == 1 ? " polygon" : " polygons"), 3);
+		else
+			statusBar.setText("Failed to trace " + failed + " of " + proxies.size + " polygons, sprite may be fully transparent or tolerance is too high", Color.RED, 3);
+	}
+
 	@Override
 	public void activated () {
 		super.activated();
@@ -311,7 +392,7 @@ public class PolygonTool extends BaseSelectionTool {
 
 		if (overVertex != null) {
 			overVertex.set(x, y);
-			if (dynamicUpdateCheck.isChecked()) updateComponentFaces();
+			if (dynamicUpdateCheck.isChecked()) dragPolygonizer.request(component.vertices);
 			dragged = true;
 			entityManipulator.selectedEntitiesValuesChanged();
 		}
@@ -326,7 +407,10 @@ public class PolygonTool extends BaseSelectionTool {
 		y = tmpVector.y;
 
 		if (changePolygonAction != null) {
-			if (PolygonUtils.isDegenerate(component.faces)) {
+			dragPolygonizer.cancel();
+			updateComponentFaces();
+
+			if (component.faces == null || PolygonUtils.isDegenerate(component.faces)) {
 				changePolygonAction.takeSnapshot();
 				changePolygonAction.undo();
 				statusBar.setText("Polygon is degenerate", Color.RED, 3);
@@ -335,7 +419,6 @@ public class PolygonTool extends BaseSelectionTool {
 				changePolygonAction.undo();
 				statusBar.setText("Invalid intersecting polygon", Color.RED, 3);
 			} else {
-				updateComponentFaces();
 				changePolygonAction.takeSnapshot();
 				undoModule.add(changePolygonAction);
 				entityManipulator.selectedEntitiesChanged();
@@ -452,7 +535,7 @@ public class PolygonTool extends BaseSelectionTool {
 		uiTable = new VisTable(true) {
 			@Override
 			public float getPrefHeight () {
-				return 120;
+				return 160;
 			}
 		};
 
@@ -489,16 +572,33 @@ public class PolygonTool extends BaseSelectionTool {
 
 		buttonTable.setVisible(false);
 		buttonTable.add(makeDefaultButton = new VisTextButton("Set From Bounds")).row();
-//		buttonTable.add(traceButton = new VisTextButton("Auto trace")).row();
+
+		traceTable = new VisTable(true) {
+			@Override
+			public void setVisible (boolean visible) {
+				super.setVisible(visible);
+				invalidateHierarchy();
+			}
+		};
+
+		traceToleranceField = new VisTextField(String.valueOf(DEFAULT_TRACE_TOLERANCE));
+		traceToleranceField.setTextFieldFilter(new FloatDigitsOnlyFilter(false));
+
+		traceTable.setVisible(false);
+		traceTable.defaults().expandX().fillX();
+		traceTable.add(TableBuilder.build("Tolerance", 70, traceToleranceField)).row();
+		traceTable.add(traceButton = new VisTextButton("Auto Trace")).row();
 
 		dynamicUpdateCheck = new VisCheckBox("Dynamic faces update", true);
 
 		uiTable.add(statusLabel).pad(0, 3, 0, 3).height(new VisValue(context -> statusLabel.isVisible() ? statusLabel.getPrefHeight() : 0)).spaceBottom(0).row();
 		uiTable.add(buttonTable).height(new VisValue(context -> buttonTable.isVisible() ? buttonTable.getPrefHeight() : 0)).spaceBottom(0).row();
+		uiTable.add(traceTable).height(new VisValue(context -> traceTable.isVisible() ? traceTable.getPrefHeight() : 0)).spaceBottom(0).row();
 		uiTable.add().expand().fill().row();
 		uiTable.add(dynamicUpdateCheck).expand(false, false).fill(false, false).center().padBottom(3);
 
 		makeDefaultButton.addListener(new VisChangeListener((event, actor) -> makeDefaultPolygon()));
+		traceButton.addListener(new VisChangeListener((event, actor) -> autoTracePolygons()));
 	}
 
 	@Override
@@ -507,11 +607,20 @@ public class PolygonTool extends BaseSelectionTool {
 
 		ImmutableArray<EntityProxy> selection = entityManipulator.getSelectedEntities();
 
+		dragPolygonizer.cancel();
 		component = null;
 		proxy = null;
 
+		traceableProxies.clear();
+		for (EntityProxy selected : selection) {
+			if (selected instanceof GroupEntityProxy == false && selected.getEntities().size == 1 &&
+					selected.hasComponent(PolygonComponent.class) && selected.hasComponent(SpriteComponent.class))
+				traceableProxies.add(selected);
+		}
+
 		statusLabel.setVisible(true);
 		buttonTable.setVisible(false);
+		traceTable.setVisible(traceableProxies.size > 0);
 
 		if (selection.size() == 0) {
 			statusLabel.setText(NOTHING_SELECTED);
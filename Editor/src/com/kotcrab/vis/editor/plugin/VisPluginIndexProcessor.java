@@ -0,0 +1,86 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.editor.plugin;
+
+import com.kotcrab.vis.runtime.plugin.VisPlugin;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor writing index of all {@link VisPlugin} classes into {@link #INDEX_PATH} resource. When plugin jar
+ * contains this index, editor will only load classes listed in it instead of loading every class from jar. To use it add
+ * this processor to annotation processors of plugin project (VisEditor jar must be on compile class path).
+ * @author Kotcrab
+ */
+@SupportedAnnotationTypes("com.kotcrab.vis.runtime.plugin.VisPlugin")
+public class VisPluginIndexProcessor extends AbstractProcessor {
+	public static final String INDEX_PATH = "META-INF/vis-plugins";
+
+	private Set<String> pluginClasses = new TreeSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion () {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process (Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			writeIndex();
+			return false;
+		}
+
+		for (Element element : roundEnv.getElementsAnnotatedWith(VisPlugin.class)) {
+			if (element.getKind() != ElementKind.CLASS) {
+				processingEnv.getMessager().printMessage(Kind.ERROR, "@VisPlugin can be only used on classes", element);
+				continue;
+			}
+
+			pluginClasses.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+		}
+
+		return false;
+	}
+
+	private void writeIndex () {
+		if (pluginClasses.size() == 0) return;
+
+		try {
+			FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_PATH);
+
+			try (Writer writer = index.openWriter()) {
+				for (String className : pluginClasses)
+					writer.write(className + "\n");
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Failed to write VisPlugin index: " + e.getMessage());
+		}
+	}
+}
@@ -218,7 +218,11 @@ public abstract class EntityProxy {
 				vertex.sub(dx, dy);
 			}
 
-			polygon.faces = Clipper.polygonize(PolygonTool.DEFAULT_POLYGONIZER, polygon.vertices.toArray(Vector2.class));
+			//moving polygon doesn't change its decomposition
+			if (polygon.faces == null)
+				polygon.faces = Clipper.polygonize(PolygonTool.DEFAULT_POLYGONIZER, polygon.vertices.toArray(Vector2.class));
+			else
+				polygon.faces = Clipper.translate(polygon.faces, -dx, -dy);
 		}
 	}
 
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.editor.serializer;
+
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.kotcrab.vis.editor.entity.EntityScheme;
+import com.kotcrab.vis.editor.scene.EditorScene;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+
+/**
+ * Reads scenes stored using chunked scene format described in {@link SceneFileLayout}. Scene header and table of
+ * contents are read when reader is opened, entities can be read all at once using {@link #readAllEntities()} or
+ * individually using {@link #readEntity(int)}. Reader keeps scene file opened until {@link #close()} is called.
+ * <p>
+ * All Kryo operations are synchronized on lock object passed in constructor, so reader can be used from other thread
+ * than the one that uses Kryo instance.
+ * @author Kotcrab
+ */
+public class ChunkedSceneReader implements Closeable {
+	private final Kryo kryo;
+	private final Object lock;
+	private final RandomAccessFile file;
+
+	private final EditorScene scene;
+	private final SceneFileLayout layout;
+
+	private final Input input = new Input();
+	private byte[] buffer = new byte[4096];
+	private final CRC32 crc32 = new CRC32();
+	private final Adler32 adler32 = new Adler32();
+
+	/** @return true if file uses chunked scene format, false if this is legacy scene file */
+	public static boolean isChunkedSceneFile (File file) throws IOException {
+		if (file.length() < SceneFileLayout.HEADER_OFFSET) return false;
+
+		try (DataInputStream stream = new DataInputStream(new FileInputStream(file))) {
+			return stream.readInt() == SceneFileLayout.MAGIC;
+		}
+	}
+
+	public ChunkedSceneReader (Kryo kryo, Object lock, File sceneFile) throws IOException {
+		this.kryo = kryo;
+		this.lock = lock;
+		file = new RandomAccessFile(sceneFile, "r");
+
+		try {
+			Input prefix = read(0, SceneFileLayout.HEADER_OFFSET);
+			if (prefix.readInt() != SceneFileLayout.MAGIC) throw new IOException("Not a chunked scene file: " + sceneFile);
+
+			int version = prefix.readInt();
+			if (version > SceneFileLayout.FORMAT_VERSION)
+				throw new IOException("Scene file was created using newer VisEditor version (format version: " + version + ")");
+
+			int headerLength = prefix.readInt();
+			Input header = read(SceneFileLayout.HEADER_OFFSET, headerLength + 4);
+			long headerHash = SceneFileLayout.hash(crc32, adler32, buffer, 0, headerLength);
+
+			synchronized (lock) {
+				scene = kryo.readObject(header, EditorScene.class);
+			}
+
+			int entityCount = header.readInt();
+			layout = SceneFileLayout.readToc(read(SceneFileLayout.getTocOffset(headerLength), 4 + entityCount * SceneFileLayout.TOC_ENTRY_SIZE), headerLength);
+			layout.headerHash = headerHash;
+			layout.updateFileInfo(sceneFile);
+		} catch (IOException | RuntimeException e) {
+			file.close();
+			throw e;
+		}
+	}
+
+	private Input read (long position, int length) throws IOException {
+		if (buffer.length < length) buffer = new byte[Math.max(length, buffer.length * 2)];
+
+		file.seek(position);
+		file.readFully(buffer, 0, length);
+		input.setBuffer(buffer, 0, length);
+		return input;
+	}
+
+	/** @return scene read from file, scene entities are not loaded */
+	public EditorScene getScene () {
+		return scene;
+	}
+
+	public SceneFileLayout getLayout () {
+		return layout;
+	}
+
+	public int getEntityCount () {
+		return layout.entityCount;
+	}
+
+	/** @return index of entity with given UUID or -1 if there is no such entity */
+	public int indexOf (UUID uuid) {
+		return layout.indexOf(uuid);
+	}
+
+	public EntityScheme readEntity (int index) throws IOException {
+		read(layout.offsets[index], layout.lengths[index]);
+		return readEntityBlock(index, 0);
+	}
+
+	/** Reads entity block without deserializing it, block can be later deserialized using {@link #readEntity(byte[])} */
+	public byte[] readBlock (int index) throws IOException {
+		read(layout.offsets[index], layout.lengths[index]);
+		verifyBlock(index, 0);
+		return Arrays.copyOf(buffer, layout.lengths[index]);
+	}
+
+	/**
+	 * Deserializes entity block returned by {@link #readBlock(int)}. This method can be called from other thread than
+	 * thread using this reader and after reader was closed.
+	 */
+	public EntityScheme readEntity (byte[] block) {
+		synchronized (lock) {
+			return kryo.readObject(new Input(block), EntityScheme.class);
+		}
+	}
+
+	/** Reads all entities from file, all entity blocks are read using single read operation */
+	public Array<EntityScheme> readAllEntities () throws IOException {
+		Array<EntityScheme> schemes = new Array<>(layout.entityCount);
+		if (layout.entityCount == 0) return schemes;
+
+		int blocksOffset = layout.getBlocksOffset();
+		int blocksLength = (int) (file.length() - blocksOffset);
+		read(blocksOffset, blocksLength);
+
+		for (int i = 0; i < layout.entityCount; i++)
+			schemes.add(readEntityBlock(i, layout.offsets[i] - blocksOffset));
+
+		return schemes;
+	}
+
+	private EntityScheme readEntityBlock (int index, int bufferOffset) throws IOException {
+		verifyBlock(index, bufferOffset);
+		input.setBuffer(buffer, bufferOffset, layout.lengths[index]);
+
+		synchronized (lock) {
+			return kryo.readObject(input, EntityScheme.class);
+		}
+	}
+
+	private void verifyBlock (int index, int bufferOffset) throws IOException {
+		int length = layout.lengths[index];
+
+		if (SceneFileLayout.crc(crc32, buffer, bufferOffset, length) != layout.crcs[index])
+			throw new IOException("Scene file is corrupted, invalid checksum of entity block: " + layout.getEntityUUID(index));
+
+		layout.hashes[index] = SceneFileLayout.hash(crc32, adler32, buffer, bufferOffset, length);
+	}
+
+	@Override
+	public void close () throws IOException {
+		file.close();
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.editor.serializer;
+
+import com.artemis.Component;
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Output;
+import com.kotcrab.vis.editor.entity.EntityScheme;
+import com.kotcrab.vis.editor.entity.UUIDComponent;
+import com.kotcrab.vis.editor.scene.EditorScene;
+import com.kotcrab.vis.runtime.component.LayerComponent;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.UUID;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+
+/**
+ * Writes {@link EditorScene} using chunked scene format described in {@link SceneFileLayout}. Scene is first serialized
+ * to memory, if previous layout of file is known and entities and their blocks sizes did not change only modified blocks
+ * are written to existing file. Otherwise whole file is written using single large write. Not thread safe.
+ * @author Kotcrab
+ */
+public class ChunkedSceneWriter {
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final Kryo kryo;
+	private final Output output = new Output(BUFFER_SIZE, -1);
+	private final CRC32 crc32 = new CRC32();
+	private final Adler32 adler32 = new Adler32();
+
+	public ChunkedSceneWriter (Kryo kryo) {
+		this.kryo = kryo;
+	}
+
+	/**
+	 * @param previousLayout layout of file from last read or write, may be null
+	 * @return layout of written file
+	 */
+	public SceneFileLayout write (EditorScene scene, File file, SceneFileLayout previousLayout) throws IOException {
+		Array<EntityScheme> schemes = scene.getSchemes();
+		int entityCount = schemes == null ? 0 : schemes.size;
+		SceneFileLayout layout = new SceneFileLayout(entityCount);
+
+		output.clear();
+		scene.setSchemes(null); //entities are stored in separate blocks
+		try {
+			kryo.writeObject(output, scene);
+		} finally {
+			scene.setSchemes(schemes);
+		}
+
+		byte[] header = output.toBytes();
+		layout.headerLength = header.length;
+		layout.headerHash = SceneFileLayout.hash(crc32, adler32, header, 0, header.length);
+
+		int blocksOffset = layout.getBlocksOffset();
+		output.clear();
+
+		for (int i = 0; i < entityCount; i++) {
+			EntityScheme scheme = schemes.get(i);
+			int start = output.position();
+			kryo.writeObject(output, scheme);
+			int length = output.position() - start;
+
+			layout.setEntity(i, getUUID(scheme), getLayerId(scheme), blocksOffset + start, length);
+			layout.crcs[i] = SceneFileLayout.crc(crc32, output.getBuffer(), start, length);
+			layout.hashes[i] = SceneFileLayout.hash(crc32, adler32, output.getBuffer(), start, length);
+		}
+
+		if (previousLayout != null && file.exists() && previousLayout.matchesFile(file) && layout.hasSameStructure(previousLayout))
+			writeModifiedBlocks(file, header, layout, previousLayout);
+		else
+			writeFile(file, header, layout);
+
+		layout.updateFileInfo(file);
+		return layout;
+	}
+
+	private void writeFile (File file, byte[] header, SceneFileLayout layout) throws IOException {
+		byte[] blocks = output.getBuffer();
+		int blocksLength = output.position();
+
+		Output prefix = new Output(layout.getBlocksOffset());
+		prefix.writeInt(SceneFileLayout.MAGIC);
+		prefix.writeInt(SceneFileLayout.FORMAT_VERSION);
+		prefix.writeInt(header.length);
+		prefix.writeBytes(header);
+		layout.writeToc(prefix);
+
+		try (FileOutputStream stream = new FileOutputStream(file)) {
+			stream.write(prefix.getBuffer(), 0, prefix.position());
+			stream.write(blocks, 0, blocksLength);
+		}
+	}
+
+	private void writeModifiedBlocks (File file, byte[] header, SceneFileLayout layout, SceneFileLayout previousLayout) throws IOException {
+		byte[] blocks = output.getBuffer();
+		int blocksOffset = layout.getBlocksOffset();
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			if (layout.headerHash != previousLayout.headerHash) {
+				raf.seek(SceneFileLayout.HEADER_OFFSET);
+				raf.write(header);
+			}
+
+			for (int i = 0; i < layout.entityCount; i++) {
+				if (layout.isBlockModified(previousLayout, i) == false) continue;
+
+				raf.seek(layout.offsets[i]);
+				raf.write(blocks, layout.offsets[i] - blocksOffset, layout.lengths[i]);
+			}
+
+			if (layout.isTocModified(previousLayout)) {
+				Output toc = new Output(blocksOffset - layout.getTocOffset());
+				layout.writeToc(toc);
+				raf.seek(layout.getTocOffset());
+				raf.write(toc.getBuffer(), 0, toc.position());
+			}
+		}
+	}
+
+	private UUID getUUID (EntityScheme scheme) {
+		for (Component component : scheme.components) {
+			if (component instanceof UUIDComponent) return ((UUIDComponent) component).getUUID();
+		}
+
+		return null;
+	}
+
+	private int getLayerId (EntityScheme scheme) {
+		for (Component component : scheme.components) {
+			if (component instanceof LayerComponent) return ((LayerComponent) component).layerId;
+		}
+
+		return -1;
+	}
+}
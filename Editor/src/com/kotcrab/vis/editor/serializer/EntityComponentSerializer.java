@@ -23,12 +23,15 @@ import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import com.esotericsoftware.kryo.serializers.CompatibleFieldSerializer;
 import com.kotcrab.annotation.CallSuper;
+import com.kotcrab.vis.editor.util.ThreadUtils;
 
 /**
  * Base class used to make component serializers. Provides entity for serialization context. Entity must be set before performing serialization.
  * @author Kotcrab
  */
 public abstract class EntityComponentSerializer<T> extends CompatibleFieldSerializer<T> {
+	private static final ThreadLocal<Boolean> glThreadGuard = new ThreadLocal<>();
+
 	protected ImmutableBag<Component> components;
 
 	public EntityComponentSerializer (Kryo kryo, Class type) {
@@ -39,6 +42,26 @@ public abstract class EntityComponentSerializer<T> extends CompatibleFieldSerial
 		this.components = components;
 	}
 
+	/**
+	 * Enables OpenGL thread guard for current thread. When enabled, serializers that are not thread safe will throw
+	 * {@link GLThreadRequiredException} when reading on thread other than OpenGL thread, instead of creating OpenGL
+	 * resources on wrong thread.
+	 */
+	public static void setGLThreadGuardEnabled (boolean enabled) {
+		if (enabled)
+			glThreadGuard.set(Boolean.TRUE);
+		else
+			glThreadGuard.remove();
+	}
+
+	/**
+	 * @return true if component can be safely deserialized on thread other than OpenGL thread. By default false, should
+	 * be overridden only if deserialized component does not create any OpenGL resources
+	 */
+	protected boolean isThreadSafe () {
+		return false;
+	}
+
 	protected <C extends Component> C getComponent (Class<C> clazz) {
 		for (int i = 0; i < components.size(); i++) {
 			Component c = components.get(i);
@@ -53,6 +76,8 @@ public abstract class EntityComponentSerializer<T> extends CompatibleFieldSerial
 	@CallSuper
 	public T read (Kryo kryo, Input input, Class<T> type) {
 		if (components != null) throw new IllegalStateException("Entity deserializing cannot depend on entity context");
+		if (glThreadGuard.get() != null && isThreadSafe() == false && ThreadUtils.isGLThread() == false)
+			throw new GLThreadRequiredException(getClass().getSimpleName() + " can be only used on OpenGL thread");
 		return null;
 	}
 
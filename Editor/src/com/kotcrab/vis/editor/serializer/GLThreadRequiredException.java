@@ -0,0 +1,38 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.editor.serializer;
+
+/**
+ * Thrown by {@link EntityComponentSerializer} when component that can be only deserialized on OpenGL thread is read on
+ * other thread while OpenGL thread guard is enabled.
+ * @author Kotcrab
+ * @see EntityComponentSerializer#setGLThreadGuardEnabled(boolean)
+ */
+public class GLThreadRequiredException extends RuntimeException {
+	public GLThreadRequiredException (String message) {
+		super(message);
+	}
+
+	/** @return true if this exception is cause of given exception */
+	public static boolean isCause (Throwable throwable) {
+		for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+			if (cause instanceof GLThreadRequiredException) return true;
+		}
+
+		return false;
+	}
+}
@@ -44,6 +44,11 @@ public class MusicComponentSerializer extends EntityComponentSerializer<MusicCom
 		output.writeFloat(musicObj.getVolume());
 	}
 
+	@Override
+	protected boolean isThreadSafe () {
+		return true; //music is not loaded in editor
+	}
+
 	@Override
 	public MusicComponent read (Kryo kryo, Input input, Class<MusicComponent> type) {
 		super.read(kryo, input, type);
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.editor.serializer;
+
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+
+import java.io.File;
+import java.util.UUID;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+
+/**
+ * Describes layout of chunked scene file. File starts with header containing serialized EditorScene (without entities)
+ * followed by table of contents with one entry per entity and entity blocks. Each entity is stored in separate block
+ * identified by its UUID, which allows to read single entities and to rewrite only modified blocks.
+ * <pre>
+ * int magic, int format version, int header length, header bytes
+ * int entity count, entries: long uuid msb, long uuid lsb, int layer id, int block offset, int block length, int block crc
+ * entity blocks
+ * </pre>
+ * @author Kotcrab
+ * @see ChunkedSceneReader
+ * @see ChunkedSceneWriter
+ */
+public class SceneFileLayout {
+	public static final int MAGIC = 0x5653434E; //VSCN
+	public static final int FORMAT_VERSION = 1;
+
+	static final int HEADER_OFFSET = 12;
+	static final int TOC_ENTRY_SIZE = 32;
+
+	int headerLength;
+	long headerHash;
+
+	final int entityCount;
+	final long[] uuidMsb;
+	final long[] uuidLsb;
+	final int[] layerIds;
+	final int[] offsets;
+	final int[] lengths;
+	final int[] crcs;
+	/** hashes of entity blocks, 0 if block was never read */
+	final long[] hashes;
+
+	long fileLength = -1;
+	long lastModified = -1;
+
+	SceneFileLayout (int entityCount) {
+		this.entityCount = entityCount;
+		uuidMsb = new long[entityCount];
+		uuidLsb = new long[entityCount];
+		layerIds = new int[entityCount];
+		offsets = new int[entityCount];
+		lengths = new int[entityCount];
+		crcs = new int[entityCount];
+		hashes = new long[entityCount];
+	}
+
+	static SceneFileLayout readToc (Input input, int headerLength) {
+		SceneFileLayout layout = new SceneFileLayout(input.readInt());
+		layout.headerLength = headerLength;
+
+		for (int i = 0; i < layout.entityCount; i++) {
+			layout.uuidMsb[i] = input.readLong();
+			layout.uuidLsb[i] = input.readLong();
+			layout.layerIds[i] = input.readInt();
+			layout.offsets[i] = input.readInt();
+			layout.lengths[i] = input.readInt();
+			layout.crcs[i] = input.readInt();
+		}
+
+		return layout;
+	}
+
+	void writeToc (Output output) {
+		output.writeInt(entityCount);
+
+		for (int i = 0; i < entityCount; i++) {
+			output.writeLong(uuidMsb[i]);
+			output.writeLong(uuidLsb[i]);
+			output.writeInt(layerIds[i]);
+			output.writeInt(offsets[i]);
+			output.writeInt(lengths[i]);
+			output.writeInt(crcs[i]);
+		}
+	}
+
+	void setEntity (int index, UUID uuid, int layerId, int offset, int length) {
+		uuidMsb[index] = uuid == null ? 0 : uuid.getMostSignificantBits();
+		uuidLsb[index] = uuid == null ? 0 : uuid.getLeastSignificantBits();
+		layerIds[index] = layerId;
+		offsets[index] = offset;
+		lengths[index] = length;
+	}
+
+	static int getTocOffset (int headerLength) {
+		return HEADER_OFFSET + headerLength;
+	}
+
+	static int getBlocksOffset (int headerLength, int entityCount) {
+		return getTocOffset(headerLength) + 4 + entityCount * TOC_ENTRY_SIZE;
+	}
+
+	int getTocOffset () {
+		return getTocOffset(headerLength);
+	}
+
+	int getBlocksOffset () {
+		return getBlocksOffset(headerLength, entityCount);
+	}
+
+	/** @return true if file was not modified since this layout was read or written */
+	boolean matchesFile (File file) {
+		return file.length() == fileLength && file.lastModified() == lastModified;
+	}
+
+	void updateFileInfo (File file) {
+		fileLength = file.length();
+		lastModified = file.lastModified();
+	}
+
+	/** @return true if both layouts have the same entities in the same order with the same block sizes */
+	boolean hasSameStructure (SceneFileLayout other) {
+		if (headerLength != other.headerLength || entityCount != other.entityCount) return false;
+
+		for (int i = 0; i < entityCount; i++) {
+			if (uuidMsb[i] != other.uuidMsb[i] || uuidLsb[i] != other.uuidLsb[i] || lengths[i] != other.lengths[i])
+				return false;
+		}
+
+		return true;
+	}
+
+	boolean isBlockModified (SceneFileLayout previous, int index) {
+		return previous.hashes[index] == 0 || previous.hashes[index] != hashes[index];
+	}
+
+	boolean isTocModified (SceneFileLayout previous) {
+		for (int i = 0; i < entityCount; i++) {
+			if (layerIds[i] != previous.layerIds[i] || crcs[i] != previous.crcs[i]) return true;
+		}
+
+		return false;
+	}
+
+	public int getEntityCount () {
+		return entityCount;
+	}
+
+	public UUID getEntityUUID (int index) {
+		return new UUID(uuidMsb[index], uuidLsb[index]);
+	}
+
+	public int getEntityLayerId (int index) {
+		return layerIds[index];
+	}
+
+	/** @return index of entity with given UUID or -1 if there is no such entity */
+	public int indexOf (UUID uuid) {
+		long msb = uuid.getMostSignificantBits();
+		long lsb = uuid.getLeastSignificantBits();
+
+		for (int i = 0; i < entityCount; i++) {
+			if (uuidMsb[i] == msb && uuidLsb[i] == lsb) return i;
+		}
+
+		return -1;
+	}
+
+	static int crc (CRC32 crc32, byte[] bytes, int offset, int length) {
+		crc32.reset();
+		crc32.update(bytes, offset, length);
+		return (int) crc32.getValue();
+	}
+
+	/** @return 64 bit hash of data, never 0 */
+	static long hash (CRC32 crc32, Adler32 adler32, byte[] bytes, int offset, int length) {
+		adler32.reset();
+		adler32.update(bytes, offset, length);
+		long hash = ((long) crc(crc32, bytes, offset, length) << 32) ^ adler32.getValue();
+		return hash == 0 ? 1 : hash;
+	}
+}
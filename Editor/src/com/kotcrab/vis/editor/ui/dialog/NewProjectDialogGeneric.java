@@ -158,6 +158,8 @@ public class NewProjectDialogGeneric extends VisTable {
 		validator.directory(projectRoot, "Project folder is not a directory!");
 		validator.directory(outputDirectory, "Output folder is not a directory!");
 		validator.directoryEmpty(outputDirectory, "Output directory must be empty!");
+
+		validator.addDependency(outputDirectory, projectRoot);
 	}
 
 	private void createProject () {
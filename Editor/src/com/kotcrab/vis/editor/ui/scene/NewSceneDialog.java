@@ -21,13 +21,12 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
+import com.kotcrab.vis.editor.App;
+import com.kotcrab.vis.editor.event.OpenSceneRequest;
 import com.kotcrab.vis.editor.module.ModuleInjector;
 import com.kotcrab.vis.editor.module.editor.StatusBarModule;
 import com.kotcrab.vis.editor.module.project.FileAccessModule;
-import com.kotcrab.vis.editor.module.project.SceneCacheModule;
 import com.kotcrab.vis.editor.module.project.SceneIOModule;
-import com.kotcrab.vis.editor.module.project.SceneTabsModule;
-import com.kotcrab.vis.editor.scene.EditorScene;
 import com.kotcrab.vis.editor.ui.EnumSelectBox;
 import com.kotcrab.vis.runtime.scene.SceneViewport;
 import com.kotcrab.vis.ui.util.FloatDigitsOnlyFilter;
@@ -49,8 +48,6 @@ public class NewSceneDialog extends VisWindow {
 
 	private FileAccessModule fileAccess;
 	private SceneIOModule sceneIO;
-	private SceneCacheModule sceneCache;
-	private SceneTabsModule sceneTabsModule;
 
 	private VisValidatableTextField nameTextField;
 	private VisValidatableTextField pathTextField;
@@ -174,8 +171,7 @@ public class NewSceneDialog extends VisWindow {
 				DialogUtils.showOptionDialog(getStage(), "Message", "Open this new scene in editor?", OptionDialogType.YES_NO, new OptionDialogAdapter() {
 					@Override
 					public void yes () {
-						EditorScene scene = sceneCache.get(assetsFolder.child(targetFile.path()));
-						sceneTabsModule.open(scene);
+						App.eventBus.post(new OpenSceneRequest(assetsFolder.child(targetFile.path())));
 					}
 				});
 
@@ -213,5 +209,7 @@ public class NewSceneDialog extends VisWindow {
 				return !sceneFile.exists();
 			}
 		});
+
+		validator.addDependency(nameTextField, pathTextField);
 	}
 }
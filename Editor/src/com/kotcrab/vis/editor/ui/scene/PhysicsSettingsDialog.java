@@ -24,6 +24,7 @@ import com.kotcrab.vis.editor.util.gdx.TableBuilder;
 import com.kotcrab.vis.editor.util.gdx.VisChangeListener;
 import com.kotcrab.vis.runtime.data.PhysicsSettings;
 import com.kotcrab.vis.ui.util.FloatDigitsOnlyFilter;
+import com.kotcrab.vis.ui.util.IntDigitsOnlyFilter;
 import com.kotcrab.vis.ui.util.TableUtils;
 import com.kotcrab.vis.ui.widget.*;
 
@@ -46,6 +47,10 @@ public class PhysicsSettingsDialog extends VisWindow {
 	private VisTextField gravityXField;
 	private VisTextField gravityYField;
 
+	private VisTextField timeStepField;
+	private VisTextField velocityIterationsField;
+	private VisTextField positionIterationsField;
+
 	private PhysicsSettings newPhysicsSettings;
 
 	public PhysicsSettingsDialog (SceneModuleContainer sceneMC) {
@@ -79,20 +84,32 @@ public class PhysicsSettingsDialog extends VisWindow {
 		sleepCheckbox = new VisCheckBox("Allow Sleep");
 		gravityXField = new VisTextField();
 		gravityYField = new VisTextField();
+		timeStepField = new VisTextField();
+		velocityIterationsField = new VisTextField();
+		positionIterationsField = new VisTextField();
 
 		gravityXField.setTextFieldFilter(new FloatDigitsOnlyFilter(true));
 		gravityYField.setTextFieldFilter(new FloatDigitsOnlyFilter(true));
+		timeStepField.setTextFieldFilter(new FloatDigitsOnlyFilter(false));
+		velocityIterationsField.setTextFieldFilter(new IntDigitsOnlyFilter(false));
+		positionIterationsField.setTextFieldFilter(new IntDigitsOnlyFilter(false));
 
 		add(enabledCheckbox).row();
 		add(sleepCheckbox).row();
 
 		add(TableBuilder.build("Gravity X", 70, gravityXField)).row();
 		add(TableBuilder.build("Gravity Y", 70, gravityYField)).row();
+		add(TableBuilder.build("Time Step", 130, timeStepField)).row();
+		add(TableBuilder.build("Velocity Iterations", 130, velocityIterationsField)).row();
+		add(TableBuilder.build("Position Iterations", 130, positionIterationsField)).row();
 
 		enabledCheckbox.setChecked(newPhysicsSettings.physicsEnabled);
 		sleepCheckbox.setChecked(newPhysicsSettings.allowSleep);
 		gravityXField.setText(String.valueOf(newPhysicsSettings.gravityX));
 		gravityYField.setText(String.valueOf(newPhysicsSettings.gravityY));
+		timeStepField.setText(String.valueOf(newPhysicsSettings.timeStep));
+		velocityIterationsField.setText(String.valueOf(newPhysicsSettings.velocityIterations));
+		positionIterationsField.setText(String.valueOf(newPhysicsSettings.positionIterations));
 	}
 
 	private void createBottomTable () {
@@ -118,6 +135,11 @@ public class PhysicsSettingsDialog extends VisWindow {
 			newPhysicsSettings.gravityX = Float.valueOf(gravityXField.getText());
 			newPhysicsSettings.gravityY = Float.valueOf(gravityYField.getText());
 
+			float timeStep = Float.valueOf(timeStepField.getText());
+			if (timeStep > 0) newPhysicsSettings.timeStep = timeStep;
+			newPhysicsSettings.velocityIterations = Integer.valueOf(velocityIterationsField.getText());
+			newPhysicsSettings.positionIterations = Integer.valueOf(positionIterationsField.getText());
+
 			undoModule.execute(new ChangePhysicsSettingsAction(scene, newPhysicsSettings));
 			sceneTab.dirty();
 			fadeOut();
@@ -17,14 +17,11 @@
 package com.kotcrab.vis.editor.ui.scene;
 
 import com.artemis.Entity;
+import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Touchable;
-import com.badlogic.gdx.scenes.scene2d.ui.Tree.Node;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
-import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.IntArray;
-import com.badlogic.gdx.utils.ObjectMap.Values;
+import com.badlogic.gdx.utils.*;
 import com.kotcrab.vis.editor.module.scene.EntityProxyCache;
 import com.kotcrab.vis.editor.module.scene.EntityProxyCache.EntityProxyCacheListener;
 import com.kotcrab.vis.editor.module.scene.GroupProxyProviderSystem;
@@ -33,14 +30,15 @@ import com.kotcrab.vis.editor.module.scene.entitymanipulator.EntityManipulatorMo
 import com.kotcrab.vis.editor.proxy.EntityProxy;
 import com.kotcrab.vis.editor.proxy.GroupEntityProxy;
 import com.kotcrab.vis.editor.util.gdx.EventStopper;
+import com.kotcrab.vis.runtime.component.GroupComponent;
 import com.kotcrab.vis.ui.VisUI;
-import com.kotcrab.vis.ui.widget.VisLabel;
-import com.kotcrab.vis.ui.widget.VisScrollPane;
-import com.kotcrab.vis.ui.widget.VisTable;
-import com.kotcrab.vis.ui.widget.VisTree;
+import com.kotcrab.vis.ui.widget.*;
+import com.kotcrab.vis.ui.widget.VirtualTree.Node;
+import com.kotcrab.vis.ui.widget.VirtualTree.TreeAdapter;
 
 /**
- * Scene outline with all scene entities.
+ * Scene outline with all scene entities. Outline is updated incrementally when entities are added or removed from
+ * {@link EntityProxyCache}, tree rows are created only for visible nodes.
  * @author Kotcrab
  */
 public class SceneOutline extends VisTable implements EntityProxyCacheListener {
@@ -50,8 +48,12 @@ public class SceneOutline extends VisTable implements EntityProxyCacheListener {
 	private EntityProxyCache proxyCache;
 	private GroupProxyProviderSystem groupProxyProvider;
 
-	private IntArray expandedNodes = new IntArray();
-	private VisTree tree;
+	private ObjectMap<Entity, Node<OutlineItem>> entityNodes = new ObjectMap<>();
+	private IntMap<Node<OutlineItem>> groupNodes = new IntMap<>();
+	/** ids of groups that were expanded when their nodes were removed, used to restore state when group node is recreated */
+	private IntSet expandedGroups = new IntSet();
+
+	private VirtualTree<OutlineItem> tree;
 
 	public SceneOutline (SceneModuleContainer sceneMC, Array<EntityProxy> selectedEntities) {
 		super(true);
@@ -61,23 +63,33 @@ public class SceneOutline extends VisTable implements EntityProxyCacheListener {
 
 		proxyCache.addListener(this);
 
-		tree = new VisTree();
+		tree = new VirtualTree<>(new TreeAdapter<OutlineItem>() {
+			@Override
+			public Actor createRow () {
+				return new VisLabel("", "small");
+			}
+
+			@Override
+			public void updateRow (Actor row, OutlineItem item) {
+				((VisLabel) row).setText(item.entity == null ? "Group" : proxyCache.get(item.entity).getEntityName());
+			}
+		});
 		tree.getSelection().setMultiple(true);
 		tree.getSelection().setRequired(false);
 		tree.getSelection().setProgrammaticChangeEvents(false);
 
 		tree.addListener(new ClickListener() {
-			OutlineNode selection;
+			Node<OutlineItem> selection;
 
 			@Override
 			public void clicked (InputEvent event, float x, float y) {
 				//tree will deselect item after double click so we on first click store selection
 				if (getTapCount() == 1 && tree.getSelection().size() == 1) {
-					selection = (OutlineNode) tree.getSelection().getLastSelected();
+					selection = tree.getSelection().getLastSelected();
 				}
 
 				if (getTapCount() == 2 && selection != null) {
-					sceneMC.getSceneTab().centerAround(selection.proxy);
+					if (selection.getTree() != null) sceneMC.getSceneTab().centerAround(getProxy(selection.getItem()));
 					selection = null;
 				}
 			}
@@ -95,123 +107,151 @@ public class SceneOutline extends VisTable implements EntityProxyCacheListener {
 		add(scrollPane).expand().fill();
 		pack();
 
-		cacheChanged(); //do first update
+		inserted(proxyCache.getEntities()); //do first update
+	}
+
+	private EntityProxy getProxy (OutlineItem item) {
+		if (item.entity == null)
+			return groupProxyProvider.getGroupEntityProxy(item.groupId);
+		else
+			return proxyCache.get(item.entity);
 	}
 
 	public void selectedEntitiesChanged () {
 		tree.getSelection().clear();
 		for (EntityProxy proxy : selectedEntities) {
-			highlightProxy(tree.getNodes(), proxy);
-		}
-	}
+			Node<OutlineItem> node;
 
-	private boolean highlightProxy (Array<Node> nodes, EntityProxy proxy) {
-		for (Node n : nodes) {
-			OutlineNode node = (OutlineNode) n;
-			if (node.proxy.compareProxyByID(proxy)) {
-				tree.getSelection().add(n);
-				return true;
-			}
+			if (proxy instanceof GroupEntityProxy)
+				node = groupNodes.get(((GroupEntityProxy) proxy).getGroupId());
+			else
+				node = entityNodes.get(proxy.getEntities().first());
 
-			if (n.getChildren().size > 0) {
-				boolean wasExpanded = n.isExpanded();
-				n.setExpanded(true);
-				if (highlightProxy(n.getChildren(), proxy)) return true;
-				if (wasExpanded == false) n.setExpanded(false);
+			if (node != null) {
+				node.expandTo();
+				tree.getSelection().add(node);
 			}
 		}
-
-		return false;
 	}
 
-	private void buildGroupNodeState (Array<Node> nodes) {
-		for (Node n : nodes) {
-			OutlineNode node = (OutlineNode) n;
-
-			if (node.getChildren().size > 0) {
-				GroupEntityProxy groupProxy = (GroupEntityProxy) node.proxy;
-
-				if (node.isExpanded()) {
-					expandedNodes.add(groupProxy.getGroupId());
-				}
+	@Override
+	public void inserted (Array<Entity> entities) {
+		for (Entity entity : entities) {
+			if (entityNodes.containsKey(entity)) continue;
 
-				buildGroupNodeState(node.getChildren());
-			}
+			Node<OutlineItem> node = new Node<>(new OutlineItem(entity, -1));
+			entityNodes.put(entity, node);
+			addNode(getParentNode(getGroupIds(entity)), node);
 		}
 	}
 
-	public void rebuildOutline () {
-		buildGroupNodeState(tree.getNodes());
+	@Override
+	public void removed (Array<Entity> entities) {
+		for (Entity entity : entities) {
+			Node<OutlineItem> node = entityNodes.remove(entity);
+			if (node == null) continue;
+
+			Node<OutlineItem> parent = node.getParent();
+			node.remove();
+			removeIfEmpty(parent);
+		}
+	}
 
-		tree.clearChildren();
+	/**
+	 * Must be called when entities group membership might have changed, moves entities nodes whose groups are different
+	 * from groups displayed in outline. Outline is also refreshed to display current entities names.
+	 */
+	public void groupsChanged () {
+		for (ObjectMap.Entry<Entity, Node<OutlineItem>> entry : entityNodes) {
+			Node<OutlineItem> node = entry.value;
+			IntArray groupIds = getGroupIds(entry.key);
+			if (isInGroups(node, groupIds)) continue;
+
+			Node<OutlineItem> oldParent = node.getParent();
+			addNode(getParentNode(groupIds), node);
+			removeIfEmpty(oldParent);
+		}
 
-		Values<EntityProxy> proxies = proxyCache.getCache().values();
+		tree.itemsChanged();
+	}
 
-		Array<Entity> ignoreEntities = new Array<>();
+	private IntArray getGroupIds (Entity entity) {
+		GroupComponent groupComponent = entity.getComponent(GroupComponent.class);
+		return groupComponent == null ? null : groupComponent.groupIds;
+	}
 
-		for (EntityProxy proxy : proxies) {
-			if (ignoreEntities.contains(proxy.getEntities().get(0), true)) {
-				continue;
-			}
+	/** @return true if node parents are nodes of provided groups, groups ids are ordered from innermost group */
+	private boolean isInGroups (Node<OutlineItem> node, IntArray groupIds) {
+		Node<OutlineItem> parent = node.getParent();
 
-			int gid = proxy.getLastGroupId();
-			if (gid != -1) {
-				GroupEntityProxy groupProxy = groupProxyProvider.getGroupEntityProxy(gid);
-				ignoreEntities.addAll(groupProxy.getEntities());
-				buildTreeRecursively(groupProxy, null);
-				continue;
+		if (groupIds != null) {
+			for (int i = 0; i < groupIds.size; i++) {
+				if (parent == null || parent.getItem().groupId != groupIds.get(i)) return false;
+				parent = parent.getParent();
 			}
-
-			tree.add(new OutlineNode(proxy));
 		}
 
-		expandedNodes.clear();
+		return parent == null;
 	}
 
-	@Override
-	public void cacheChanged () {
-		rebuildOutline();
-	}
-
-	private void buildTreeRecursively (GroupEntityProxy groupProxy, Node parent) {
-		OutlineNode groupRoot = new OutlineNode(groupProxy);
-		if (parent == null) {
-			tree.add(groupRoot);
-		} else {
-			parent.add(groupRoot);
-		}
+	/** @return node of innermost group, creates groups nodes that does not exist, null if entity does not belong to any group */
+	private Node<OutlineItem> getParentNode (IntArray groupIds) {
+		if (groupIds == null) return null;
+
+		Node<OutlineItem> parent = null;
+
+		for (int i = groupIds.size - 1; i >= 0; i--) {
+			int gid = groupIds.get(i);
+			Node<OutlineItem> groupNode = groupNodes.get(gid);
+
+			if (groupNode == null) {
+				groupNode = new Node<>(new OutlineItem(null, gid));
+				groupNode.setExpanded(expandedGroups.remove(gid));
+				groupNodes.put(gid, groupNode);
+				addNode(parent, groupNode);
+			} else if (groupNode.getParent() != parent) {
+				//group was moved into other group
+				Node<OutlineItem> oldParent = groupNode.getParent();
+				addNode(parent, groupNode);
+				removeIfEmpty(oldParent);
+			}
 
-		if (expandedNodes.contains(groupProxy.getGroupId())) {
-			groupRoot.setExpanded(true);
+			parent = groupNode;
 		}
 
-		Array<Entity> ignoreEntities = new Array<>();
+		return parent;
+	}
 
-		for (Entity entity : groupProxy.getEntities()) {
-			EntityProxy proxy = proxyCache.get(entity);
+	private void addNode (Node<OutlineItem> parent, Node<OutlineItem> node) {
+		if (parent == null)
+			tree.add(node);
+		else
+			parent.add(node);
+	}
 
-			if (ignoreEntities.contains(proxy.getEntities().get(0), true)) {
-				continue;
-			}
+	/** Removes group node and its parents groups nodes if they don't have any children */
+	private void removeIfEmpty (Node<OutlineItem> groupNode) {
+		while (groupNode != null && groupNode.getChildren().size == 0) {
+			Node<OutlineItem> parent = groupNode.getParent();
+			int gid = groupNode.getItem().groupId;
 
-			int gidBefore = proxy.getGroupIdBefore(groupProxy.getGroupId());
-			if (gidBefore != -1) {
-				GroupEntityProxy nestedGroupProxy = groupProxyProvider.getGroupEntityProxy(gidBefore);
-				ignoreEntities.addAll(nestedGroupProxy.getEntities());
-				buildTreeRecursively(nestedGroupProxy, groupRoot);
-				continue;
-			}
+			if (groupNodes.get(gid) == groupNode) groupNodes.remove(gid);
+			if (groupNode.isExpanded()) expandedGroups.add(gid);
+			groupNode.remove();
 
-			groupRoot.add(new OutlineNode(proxy));
+			groupNode = parent;
 		}
 	}
 
-	private static class OutlineNode extends Node {
-		private EntityProxy proxy;
+	private static class OutlineItem {
+		/** null for group nodes */
+		final Entity entity;
+		/** -1 for entity nodes */
+		final int groupId;
 
-		public OutlineNode (EntityProxy proxy) {
-			super(new VisLabel(proxy.getEntityName(), "small"));
-			this.proxy = proxy;
+		public OutlineItem (Entity entity, int groupId) {
+			this.entity = entity;
+			this.groupId = groupId;
 		}
 	}
 }
@@ -21,14 +21,17 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop.Payload;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop.Source;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop.Target;
+import com.badlogic.gdx.utils.Array;
 import com.google.common.eventbus.Subscribe;
 import com.kotcrab.vis.editor.App;
 import com.kotcrab.vis.editor.Editor;
 import com.kotcrab.vis.editor.Log;
+import com.kotcrab.vis.editor.entity.EntityScheme;
 import com.kotcrab.vis.editor.event.*;
 import com.kotcrab.vis.editor.module.ContentTable;
 import com.kotcrab.vis.editor.module.ModuleContainer;
@@ -38,11 +41,13 @@ import com.kotcrab.vis.editor.module.editor.MenuBarModule;
 import com.kotcrab.vis.editor.module.editor.StatusBarModule;
 import com.kotcrab.vis.editor.module.project.*;
 import com.kotcrab.vis.editor.module.scene.*;
+import com.kotcrab.vis.editor.module.scene.ProgressiveSceneLoader.SceneLoaderListener;
 import com.kotcrab.vis.editor.module.scene.entitymanipulator.AlignmentToolsDialog;
 import com.kotcrab.vis.editor.module.scene.entitymanipulator.EntityManipulatorModule;
 import com.kotcrab.vis.editor.plugin.EditorEntitySupport;
 import com.kotcrab.vis.editor.proxy.EntityProxy;
 import com.kotcrab.vis.editor.scene.EditorScene;
+import com.kotcrab.vis.editor.serializer.ChunkedSceneReader;
 import com.kotcrab.vis.editor.ui.scene.entityproperties.EntityProperties;
 import com.kotcrab.vis.editor.ui.tab.CloseTabWhenMovingResources;
 import com.kotcrab.vis.editor.ui.tabbedpane.DragAndDropTarget;
@@ -53,6 +58,8 @@ import com.kotcrab.vis.editor.util.gdx.VisValue;
 import com.kotcrab.vis.editor.util.vis.CreatePointPayload;
 import com.kotcrab.vis.runtime.util.EntityEngine;
 import com.kotcrab.vis.ui.util.dialog.DialogUtils;
+import com.kotcrab.vis.ui.widget.VisLabel;
+import com.kotcrab.vis.ui.widget.VisProgressBar;
 import com.kotcrab.vis.ui.widget.VisTable;
 
 /**
@@ -69,6 +76,7 @@ public class SceneTab extends MainContentTab implements DragAndDropTarget, Close
 	private SceneTabsModule sceneTabs;
 	private FileAccessModule fileAccess;
 	private SceneIOModule sceneIOModule;
+	private SceneCacheModule sceneCache;
 
 	private SceneModuleContainer sceneMC;
 
@@ -84,6 +92,10 @@ public class SceneTab extends MainContentTab implements DragAndDropTarget, Close
 
 	private ContentTable content;
 
+	private ProgressiveSceneLoader loader;
+	private VisTable loadingTable;
+	private VisProgressBar loadingProgressBar;
+
 	private boolean savedAtLeastOnce;
 	private boolean lastSaveFailed;
 
@@ -91,6 +103,14 @@ public class SceneTab extends MainContentTab implements DragAndDropTarget, Close
 	private final AlignmentToolsDialog alignmentTools;
 
 	public SceneTab (EditorScene scene, ProjectModuleContainer projectMC) {
+		this(scene, null, projectMC);
+	}
+
+	/**
+	 * @param reader if not null scene entities will be read from this reader while tab is already displayed, reader
+	 * will be closed after loading. If null, entities of scene are used.
+	 */
+	public SceneTab (EditorScene scene, ChunkedSceneReader reader, ProjectModuleContainer projectMC) {
 		super(true);
 		this.scene = scene;
 		stage = Editor.instance.getStage();
@@ -124,7 +144,7 @@ public class SceneTab extends MainContentTab implements DragAndDropTarget, Close
 
 		content.add(breadcrumb).height(new VisValue(context -> breadcrumb.getPrefHeight())).expandX().fillX().colspan(3).row();
 		content.add(leftColumn).width(190).fillY().expandY();
-		content.add().fill().expand();
+		content.add(createLoadingTable()).fill().expand();
 		content.add(rightColumn).width(280).fillY().expandY();
 
 		//we need some better window management, really
@@ -156,14 +176,51 @@ public class SceneTab extends MainContentTab implements DragAndDropTarget, Close
 
 		App.eventBus.register(this);
 
-		//reload all assets on next frame (after EntityEngine registers all entities)
-		Gdx.app.postRunnable(() -> handleResourceReloaded(new ResourceReloadedEvent(Integer.MAX_VALUE)));
+		SceneLoaderListener loaderListener = new SceneLoaderListener() {
+			@Override
+			public void loaded (Array<EntityScheme> schemes) {
+				if (reader != null) {
+					scene.setSchemes(schemes);
+					sceneCache.put(sceneIOModule.getFileHandleForScene(scene), scene);
+				}
+				loadingTable.remove();
+
+				//reload all assets on next frame (after EntityEngine registers all entities)
+				Gdx.app.postRunnable(() -> handleResourceReloaded(new ResourceReloadedEvent(Integer.MAX_VALUE)));
+			}
+
+			@Override
+			public void failed (Exception cause) {
+				loadingTable.remove();
+				DialogUtils.showErrorDialog(stage, "Failed to load scene, scene can't be saved to prevent data loss.", cause);
+			}
+		};
+
+		if (reader == null)
+			loader = new ProgressiveSceneLoader(engine, scene.getSchemes(), loaderListener);
+		else
+			loader = new ProgressiveSceneLoader(engine, reader, loaderListener);
+	}
+
+	private VisTable createLoadingTable () {
+		loadingProgressBar = new VisProgressBar(0, 1, 0.01f, false);
+
+		loadingTable = new VisTable(true);
+		loadingTable.setTouchable(Touchable.disabled);
+		loadingTable.add(new VisLabel("Loading scene...")).row();
+		loadingTable.add(loadingProgressBar).width(200);
+		return loadingTable;
 	}
 
 	@Override
 	public void render (Batch batch) {
 		statusBarModule.setInfoLabelText(getInfoLabelText());
 
+		if (loader.isDone() == false) {
+			loader.update();
+			loadingProgressBar.setValue(loader.getProgress());
+		}
+
 		Color oldColor = batch.getColor().cpy();
 		batch.setColor(1, 1, 1, 1);
 		batch.begin();
@@ -234,11 +291,11 @@ public class SceneTab extends MainContentTab implements DragAndDropTarget, Close
 	@Subscribe
 	public void handleResourceReloaded (ResourceReloadedEvent event) {
 		if ((event.resourceType & ResourceReloadedEvent.RESOURCE_TEXTURES) != 0) {
-			sceneMC.getEntityEngine().getManager(TextureReloaderManager.class).reloadTextures();
+			sceneMC.getEntityEngine().getManager(TextureReloaderManager.class).reloadTextures(event.changedAssets);
 		}
 
 		if ((event.resourceType & ResourceReloadedEvent.RESOURCE_PARTICLES) != 0) {
-			sceneMC.getEntityEngine().getManager(ParticleReloaderManager.class).reloadParticles();
+			sceneMC.getEntityEngine().getManager(ParticleReloaderManager.class).reloadParticles(event.changedAssets);
 		}
 
 		if ((event.resourceType & ResourceReloadedEvent.RESOURCE_SHADERS) != 0) {
@@ -246,16 +303,18 @@ public class SceneTab extends MainContentTab implements DragAndDropTarget, Close
 		}
 
 		if ((event.resourceType & ResourceReloadedEvent.RESOURCE_BMP_FONTS) != 0) {
-			sceneMC.getEntityEngine().getManager(FontReloaderManager.class).reloadFonts(true, false);
+			sceneMC.getEntityEngine().getManager(FontReloaderManager.class).reloadFonts(true, false, event.changedAssets);
 		}
 
 		if ((event.resourceType & ResourceReloadedEvent.RESOURCE_TTF_FONTS) != 0) {
-			sceneMC.getEntityEngine().getManager(FontReloaderManager.class).reloadFonts(false, true);
+			sceneMC.getEntityEngine().getManager(FontReloaderManager.class).reloadFonts(false, true, event.changedAssets);
 		}
 
 		if ((event.resourceType & ResourceReloadedEvent.RESOURCE_SPRITER_DATA) != 0) {
-			sceneMC.getEntityEngine().getManager(SpriterReloaderManager.class).reloadSpriterData();
+			sceneMC.getEntityEngine().getManager(SpriterReloaderManager.class).reloadSpriterData(event.changedAssets);
 		}
+
+		Gdx.graphics.requestRendering();
 	}
 
 	@Subscribe
@@ -313,6 +372,13 @@ public class SceneTab extends MainContentTab implements DragAndDropTarget, Close
 
 	@Override
 	public boolean save () {
+		finishLoading();
+
+		if (loader.isFailed()) {
+			DialogUtils.showErrorDialog(stage, "Scene wasn't loaded correctly, it can't be saved to prevent data loss.");
+			return false;
+		}
+
 		super.save();
 		scene.setSchemes(sceneMC.getEntityEngine().getManager(EntityProxyCache.class).getSchemes());
 		try {
@@ -349,10 +415,16 @@ public class SceneTab extends MainContentTab implements DragAndDropTarget, Close
 
 	@Override
 	public void dispose () {
+		loader.dispose();
 		sceneMC.dispose();
 		App.eventBus.unregister(this);
 	}
 
+	/** Adds all scene entities that are still loading to scene engine, blocks until scene is fully loaded */
+	public void finishLoading () {
+		loader.finish();
+	}
+
 	public String getNextUndoActionName () {
 		return undoModule.getNextUndoActionName();
 	}
@@ -35,6 +35,7 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Array.ArrayIterable;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.google.common.eventbus.Subscribe;
 import com.kotcrab.vis.editor.App;
 import com.kotcrab.vis.editor.Log;
@@ -153,6 +154,11 @@ public class EntityProperties extends VisTable implements Disposable {
 
 	private Array<ComponentTable> componentTables = new Array<>();
 	private Array<ComponentTable> activeComponentTables = new Array<>();
+	private ObjectMap<ComponentTable, ComponentPanel> componentPanels = new ObjectMap<>();
+
+	/** Tables displayed in properties table, used to check whether properties table must be rebuilt */
+	private Array<Actor> propertiesLayout = new Array<>();
+	private Array<Actor> newPropertiesLayout = new Array<>();
 
 	private VisValidatableTextField idField;
 	private NumberInputField xField;
@@ -387,30 +393,16 @@ public class EntityProperties extends VisTable implements Disposable {
 	}
 
 	private void rebuildPropertiesTable () {
-		propertiesTable.reset();
-		TableUtils.setSpacingDefaults(propertiesTable);
-
-		VisTable rotationTintTable = new VisTable(true);
-		if (EntityUtils.isRotationSupportedForEntities(entities)) rotationTintTable.add(rotationTable);
-		rotationTintTable.add().expand().fill();
-		if (EntityUtils.isTintSupportedForEntities(entities)) rotationTintTable.add(tintTable);
+		boolean scaleSupported = EntityUtils.isScaleSupportedForEntities(entities);
+		boolean originSupported = EntityUtils.isOriginSupportedForEntities(entities);
+		boolean rotationSupported = EntityUtils.isRotationSupportedForEntities(entities);
+		boolean tintSupported = EntityUtils.isTintSupportedForEntities(entities);
+		boolean flipSupported = EntityUtils.isFlipSupportedForEntities(entities);
 
-		propertiesTable.defaults().padRight(0).fillX();
-		propertiesTable.add(idTable).row();
-		propertiesTable.add(positionTable).row();
-		if (EntityUtils.isScaleSupportedForEntities(entities)) propertiesTable.add(scaleTable).row();
-		if (EntityUtils.isOriginSupportedForEntities(entities)) propertiesTable.add(originTable).row();
-		if (EntityUtils.isRotationSupportedForEntities(entities) || EntityUtils.isTintSupportedForEntities(entities))
-			propertiesTable.add(rotationTintTable).maxWidth(new VisValue(context -> positionTable.getPrefWidth())).row();
-		if (EntityUtils.isFlipSupportedForEntities(entities))
-			propertiesTable.add(flipTable).right().fill(false).spaceBottom(2).row();
-
-		activeSpecificTable = null;
+		SpecificUITable newSpecificTable = null;
 		for (SpecificUITable table : specificTables) {
 			if (checkEntityList(table)) {
-				activeSpecificTable = table;
-				propertiesTable.add(new Separator()).fillX().row();
-				propertiesTable.add(table).row();
+				newSpecificTable = table;
 				break;
 			}
 		}
@@ -421,7 +413,14 @@ public class EntityProperties extends VisTable implements Disposable {
 			}
 		}
 
-		activeComponentTables.clear();
+		newPropertiesLayout.clear();
+		if (scaleSupported) newPropertiesLayout.add(scaleTable);
+		if (originSupported) newPropertiesLayout.add(originTable);
+		if (rotationSupported) newPropertiesLayout.add(rotationTable);
+		if (tintSupported) newPropertiesLayout.add(tintTable);
+		if (flipSupported) newPropertiesLayout.add(flipTable);
+		if (newSpecificTable != null) newPropertiesLayout.add(newSpecificTable);
+
 		if (entities.size > 0) {
 			Bag<Component> components = entities.get(0).getEntities().get(0).getComponents(new Bag<>());
 
@@ -430,16 +429,53 @@ public class EntityProperties extends VisTable implements Disposable {
 
 				if (EntityUtils.isComponentCommon(component, entities)) {
 					ComponentTable componentTable = getComponentTable(component);
-
-					if (componentTable != null) {
-						activeComponentTables.add(componentTable);
-						propertiesTable.add(new ComponentPanel(sceneMC, componentManipulator, component.getClass().getSimpleName(), componentTable));
-						propertiesTable.row();
-					}
+					if (componentTable != null) newPropertiesLayout.add(componentTable);
 				}
 			}
 		}
 
+		if (groupSelected == false) newPropertiesLayout.add(addComponentButton);
+
+		//selecting entities with same set of properties doesn't require rebuilding and laying out whole table again
+		if (entityComponentChanged == false && newPropertiesLayout.equals(propertiesLayout)) return;
+
+		Array<Actor> oldLayout = propertiesLayout;
+		propertiesLayout = newPropertiesLayout;
+		newPropertiesLayout = oldLayout;
+
+		propertiesTable.reset();
+		TableUtils.setSpacingDefaults(propertiesTable);
+
+		VisTable rotationTintTable = new VisTable(true);
+		if (rotationSupported) rotationTintTable.add(rotationTable);
+		rotationTintTable.add().expand().fill();
+		if (tintSupported) rotationTintTable.add(tintTable);
+
+		propertiesTable.defaults().padRight(0).fillX();
+		propertiesTable.add(idTable).row();
+		propertiesTable.add(positionTable).row();
+		if (scaleSupported) propertiesTable.add(scaleTable).row();
+		if (originSupported) propertiesTable.add(originTable).row();
+		if (rotationSupported || tintSupported)
+			propertiesTable.add(rotationTintTable).maxWidth(new VisValue(context -> positionTable.getPrefWidth())).row();
+		if (flipSupported)
+			propertiesTable.add(flipTable).right().fill(false).spaceBottom(2).row();
+
+		activeSpecificTable = newSpecificTable;
+		if (activeSpecificTable != null) {
+			propertiesTable.add(new Separator()).fillX().row();
+			propertiesTable.add(activeSpecificTable).row();
+		}
+
+		activeComponentTables.clear();
+		for (Actor actor : propertiesLayout) {
+			if (actor instanceof ComponentTable == false) continue;
+			ComponentTable componentTable = (ComponentTable) actor;
+			activeComponentTables.add(componentTable);
+			propertiesTable.add(getComponentPanel(componentTable));
+			propertiesTable.row();
+		}
+
 		if (groupSelected == false) {
 			propertiesTable.addSeparator().padTop(0).padBottom(0).spaceTop(3).spaceBottom(3);
 			propertiesTable.add(addComponentButton).spaceBottom(3).fill(false);
@@ -448,6 +484,15 @@ public class EntityProperties extends VisTable implements Disposable {
 		invalidateHierarchy();
 	}
 
+	private ComponentPanel getComponentPanel (ComponentTable table) {
+		ComponentPanel panel = componentPanels.get(table);
+		if (panel == null) {
+			panel = new ComponentPanel(sceneMC, componentManipulator, table.getComponentClass().getSimpleName(), table);
+			componentPanels.put(table, panel);
+		}
+		return panel;
+	}
+
 	private <T extends Component> ComponentTable getComponentTable (T component) {
 		if (componentTables.size == 0) return null;
 
@@ -470,6 +515,7 @@ public class EntityProperties extends VisTable implements Disposable {
 
 	@Override
 	public void setVisible (boolean visible) {
+		if (isVisible() == visible) return;
 		super.setVisible(visible);
 		invalidateHierarchy();
 	}
@@ -492,12 +538,22 @@ public class EntityProperties extends VisTable implements Disposable {
 	}
 
 	public void selectedEntitiesChanged () {
-		rebuildPropertiesTable();
-		updateValues();
+		LayoutBatch.begin();
+		try {
+			rebuildPropertiesTable();
+			updateValues();
+		} finally {
+			LayoutBatch.end();
+		}
 	}
 
 	public void selectedEntitiesValuesChanged () {
-		updateValues();
+		LayoutBatch.begin();
+		try {
+			updateValues();
+		} finally {
+			LayoutBatch.end();
+		}
 	}
 
 	public void selectedEntitiesBasicValuesChanged () {
@@ -634,9 +690,8 @@ public class EntityProperties extends VisTable implements Disposable {
 
 			if (activeSpecificTable != null) activeSpecificTable.updateUIValues();
 
-			for (ComponentTable table : activeComponentTables) {
+			for (ComponentTable table : activeComponentTables)
 				table.updateUIValues();
-			}
 		}
 	}
 
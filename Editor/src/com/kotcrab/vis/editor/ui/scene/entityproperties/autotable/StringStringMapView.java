@@ -24,6 +24,7 @@ import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.ObjectMap.Entry;
 import com.kotcrab.vis.editor.ui.scene.entityproperties.EntityProperties;
 import com.kotcrab.vis.editor.util.gdx.VisChangeListener;
+import com.kotcrab.vis.runtime.component.VariablesComponent.VariableType;
 import com.kotcrab.vis.ui.InputValidator;
 import com.kotcrab.vis.ui.VisUI;
 import com.kotcrab.vis.ui.util.dialog.DialogUtils;
@@ -38,11 +39,13 @@ public class StringStringMapView extends VisTable {
 	private boolean multipleSelected;
 
 	private ObjectMap<String, String> map;
+	private ObjectMap<String, VariableType> types;
 
 	private KeyExistsValidator keyExistsValidator = new KeyExistsValidator();
 
 	private Array<VisValidatableTextField> keyFields = new Array<>();
-	private Array<VisTextField> valueFields = new Array<>();
+	private Array<VisValidatableTextField> valueFields = new Array<>();
+	private Array<VisSelectBox<VariableType>> typeSelectBoxes = new Array<>();
 	private VisValidatableTextField newVariableField;
 
 	public StringStringMapView (String emptyMsg, EntityProperties properties) {
@@ -79,7 +82,13 @@ public class StringStringMapView extends VisTable {
 	}
 
 	public void setMap (ObjectMap<String, String> newMap) {
+		setMap(newMap, null);
+	}
+
+	/** @param newTypes map of declared variable types, may be null in that case type selection is not available */
+	public void setMap (ObjectMap<String, String> newMap, ObjectMap<String, VariableType> newTypes) {
 		map = newMap;
+		types = newTypes;
 		multipleSelected = false;
 		updateUIFromMap();
 	}
@@ -87,6 +96,7 @@ public class StringStringMapView extends VisTable {
 	public void multipleSelected () {
 		multipleSelected = true;
 		map = null;
+		types = null;
 		updateUIFromMap();
 	}
 
@@ -95,39 +105,56 @@ public class StringStringMapView extends VisTable {
 
 		keyFields.clear();
 		valueFields.clear();
+		typeSelectBoxes.clear();
 
 		if (multipleSelected == false) {
 			if (map == null || map.size == 0) {
 				add(emptyMsg).row();
 			} else {
 				add(new VisLabel("Key")).spaceBottom(3);
-				add(new VisLabel("Value")).spaceBottom(3).row();
+				add(new VisLabel("Value")).spaceBottom(3);
+				if (types != null) add(new VisLabel("Type")).spaceBottom(3);
+				row();
 
 				for (Entry<String, String> e : map.entries()) {
 					//TODO: [misc] we can reuse fields to reduce overhead
 					VisValidatableTextField keyField = new VisValidatableTextField(keyExistsValidator);
-					VisTextField valueField = new VisTextField();
+					VisSelectBox<VariableType> typeSelectBox = new VisSelectBox<>();
+					VisValidatableTextField valueField = new VisValidatableTextField(
+							input -> isValueValid(typeSelectBox.getSelected(), input));
 					VisImageButton deleteButton = new VisImageButton(VisUI.getSkin().getDrawable("icon-close"));
 
 					keyFields.add(keyField);
 					valueFields.add(valueField);
+					typeSelectBoxes.add(typeSelectBox);
 
 					keyField.setText(e.key);
 					valueField.setText(e.value);
 
 					keyField.setRestoreLastValid(true);
+					valueField.setRestoreLastValid(true);
+
+					typeSelectBox.setItems(VariableType.values());
+					typeSelectBox.setSelected(getType(e.key));
+					typeSelectBox.getSelection().setProgrammaticChangeEvents(false);
+					typeSelectBox.addListener(new VisChangeListener((event, actor) -> {
+						valueField.validateInput();
+						properties.getSharedSelectBoxChangeListener().changed(event, actor);
+					}));
 
 					properties.setupStdPropertiesTextField(keyField);
 					properties.setupStdPropertiesTextField(valueField);
 
 					add(keyField).width(FIELD_WIDTH).padRight(4);
 					add(valueField).width(FIELD_WIDTH).padRight(4);
+					if (types != null) add(typeSelectBox).padRight(4);
 					add(deleteButton).height(valueField.getHeight());
 					row();
 
 					deleteButton.addListener(new VisChangeListener((event, actor) -> {
 						properties.beginSnapshot();
 						map.remove(keyField.getText());
+						if (types != null) types.remove(keyField.getText());
 						updateUIFromMap();
 						properties.endSnapshot();
 					}
@@ -145,14 +172,52 @@ public class StringStringMapView extends VisTable {
 		if (map == null) return;
 
 		map.clear();
+		if (types != null) types.clear();
 
 		for (int i = 0; i < keyFields.size; i++) {
 			VisValidatableTextField keyField = keyFields.get(i);
-			VisTextField valueField = valueFields.get(i);
+			VisValidatableTextField valueField = valueFields.get(i);
+			VariableType type = typeSelectBoxes.get(i).getSelected();
 
 			if (keyField.isInputValid() == false) keyField.restoreLastValidText();
 
+			//value may be still invalid after restoring if type was changed, in such case fall back to string
+			if (valueField.isInputValid() == false) valueField.restoreLastValidText();
+			if (isValueValid(type, valueField.getText()) == false) type = VariableType.STRING;
+
 			map.put(keyField.getText(), valueField.getText());
+			if (types != null && type != VariableType.STRING) types.put(keyField.getText(), type);
+		}
+	}
+
+	private VariableType getType (String key) {
+		if (types == null) return VariableType.STRING;
+		VariableType type = types.get(key);
+		return type == null ? VariableType.STRING : type;
+	}
+
+	private boolean isValueValid (VariableType type, String value) {
+		if (type == null) return true;
+
+		switch (type) {
+			case INT:
+				try {
+					Integer.parseInt(value);
+					return true;
+				} catch (NumberFormatException e) {
+					return false;
+				}
+			case FLOAT:
+				try {
+					Float.parseFloat(value);
+					return true;
+				} catch (NumberFormatException e) {
+					return false;
+				}
+			case BOOLEAN:
+				return value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false");
+			default:
+				return true;
 		}
 	}
 
@@ -23,6 +23,7 @@ import com.kotcrab.vis.editor.proxy.EntityProxy;
 import com.kotcrab.vis.editor.ui.scene.entityproperties.autotable.StringStringMapView;
 import com.kotcrab.vis.editor.util.vis.EntityUtils;
 import com.kotcrab.vis.runtime.component.VariablesComponent;
+import com.kotcrab.vis.runtime.component.VariablesComponent.VariableType;
 import com.kotcrab.vis.runtime.util.autotable.ATStringStringMap;
 
 import java.lang.reflect.Field;
@@ -30,31 +31,44 @@ import java.lang.reflect.Field;
 /** @author Kotcrab */
 public class StringStringMapFragmentProvider extends AutoTableFragmentProvider<ATStringStringMap> {
 	private ObjectMap<Field, StringStringMapView> views = new ObjectMap<>();
+	private ObjectMap<Field, Field> typesFields = new ObjectMap<>();
 
 	@Override
 	public void createUI (ATStringStringMap annotation, Class type, Field field) throws ReflectiveOperationException {
 		StringStringMapView view = new StringStringMapView("No variables", properties);
 		views.put(field, view);
 
+		if (annotation.typesField().equals("") == false) {
+			Field typesField = componentClass.getDeclaredField(annotation.typesField());
+			typesField.setAccessible(true);
+			typesFields.put(field, typesField);
+		}
+
 		if (annotation.fieldName().equals("") == false) uiTable.add(annotation.fieldName()).spaceBottom(3);
 		uiTable.row();
 		uiTable.add(view).expandX().fillX().row();
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public void updateUIFromEntities (Array<EntityProxy> proxies, Class type, Field field) throws ReflectiveOperationException {
 		StringStringMapView view = views.get(field);
 
 		if (EntityUtils.isMultipleEntitiesSelected(proxies))
 			view.multipleSelected();
-		else
-			view.setMap(EntityUtils.getFirstEntityComponent(proxies, VariablesComponent.class).variables);
+		else {
+			Component component = EntityUtils.getFirstEntityComponent(proxies, componentClass);
+			Field typesField = typesFields.get(field);
+			view.setMap((ObjectMap<String, String>) field.get(component),
+					typesField == null ? null : (ObjectMap<String, VariableType>) typesField.get(component));
+		}
 	}
 
 	@Override
 	public void setToEntities (Class type, Field field, Component component) throws ReflectiveOperationException {
 		StringStringMapView view = views.get(field);
 		view.updateMapFromUI();
+		if (component instanceof VariablesComponent) ((VariablesComponent) component).invalidate();
 	}
 
 	@Override
@@ -18,12 +18,12 @@ package com.kotcrab.vis.editor.util;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.Array;
 
 import java.io.IOException;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.nio.file.StandardWatchEventKinds.*;
@@ -47,7 +47,7 @@ import static java.nio.file.StandardWatchEventKinds.*;
 public class DirectoryWatcher {
 	private Path root;
 	private int settleDelay;
-	private Array<WatchListener> listeners;
+	private List<WatchListener> listeners;
 	private AtomicBoolean running;
 	private WatchService watchService;
 	private Thread watchThread;
@@ -62,7 +62,7 @@ public class DirectoryWatcher {
 		this.root = root;
 
 		settleDelay = 1;
-		listeners = new Array<>();
+		listeners = new CopyOnWriteArrayList<>();
 		running = new AtomicBoolean(false);
 		watchService = null;
 		watchThread = null;
@@ -222,7 +222,7 @@ public class DirectoryWatcher {
 	}
 
 	public boolean removeListener (WatchListener listener) {
-		return listeners.removeValue(listener, true);
+		return listeners.remove(listener);
 	}
 
 	public interface WatchListener {
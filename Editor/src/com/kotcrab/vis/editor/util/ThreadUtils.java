@@ -16,13 +16,19 @@
 
 package com.kotcrab.vis.editor.util;
 
+import com.badlogic.gdx.Gdx;
 import com.kotcrab.vis.editor.Log;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Threads related utils.
  * @author Kotcrab
  */
 public class ThreadUtils {
+	private static volatile Thread glThread;
+
 	/**
 	 * Thread that executed this method will sleep for the specific number of milliseconds. If happen InterruptedException will be
 	 * logged using {@link Log} class.
@@ -35,4 +41,47 @@ public class ThreadUtils {
 			Log.exception(e);
 		}
 	}
+
+	/** Marks current thread as OpenGL thread, must be called once from ApplicationListener create method. */
+	public static void markGLThread () {
+		glThread = Thread.currentThread();
+	}
+
+	public static boolean isGLThread () {
+		return Thread.currentThread() == glThread;
+	}
+
+	/**
+	 * Executes runnable on OpenGL thread and waits until it finished. If current thread is OpenGL thread runnable is
+	 * executed immediately. Exceptions thrown by runnable are rethrown on calling thread.
+	 */
+	public static void runOnGLThread (Runnable runnable) {
+		if (isGLThread()) {
+			runnable.run();
+			return;
+		}
+
+		CountDownLatch latch = new CountDownLatch(1);
+		AtomicReference<RuntimeException> exceptionAt = new AtomicReference<>();
+
+		Gdx.app.postRunnable(() -> {
+			try {
+				runnable.run();
+			} catch (RuntimeException e) {
+				exceptionAt.set(e);
+			} finally {
+				latch.countDown();
+			}
+		});
+
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for OpenGL thread", e);
+		}
+
+		RuntimeException e = exceptionAt.get();
+		if (e != null) throw new IllegalStateException("Exception occurred on OpenGL thread", e);
+	}
 }
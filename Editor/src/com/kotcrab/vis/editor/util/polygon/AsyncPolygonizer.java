@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.editor.util.polygon;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.kotcrab.vis.editor.util.polygon.Clipper.Polygonizer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Decomposes polygons using {@link Clipper} on background thread. Only latest requested polygon is decomposed, requests
+ * that weren't started before newer request was made are dropped. Results are delivered on OpenGL thread, results of
+ * polygons that couldn't be decomposed are not delivered so last valid faces can be kept. All methods must be called
+ * from OpenGL thread.
+ * @author Kotcrab
+ */
+public class AsyncPolygonizer {
+	private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "PolygonDecomposer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final Polygonizer polygonizer;
+	private final Consumer<Vector2[][]> listener;
+
+	private final AtomicReference<Request> pending = new AtomicReference<>();
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+
+	private int requestedGeneration;
+	private int deliveredGeneration;
+
+	public AsyncPolygonizer (Polygonizer polygonizer, Consumer<Vector2[][]> listener) {
+		this.polygonizer = polygonizer;
+		this.listener = listener;
+	}
+
+	/** Requests decomposition of polygon, vertices are copied so they can be modified after this call */
+	public void request (Array<Vector2> vertices) {
+		Vector2[] points = new Vector2[vertices.size];
+		for (int i = 0; i < vertices.size; i++)
+			points[i] = new Vector2(vertices.get(i));
+
+		pending.set(new Request(points, ++requestedGeneration));
+		if (scheduled.compareAndSet(false, true)) executor.execute(this::process);
+	}
+
+	/** Cancels all pending requests, results of requests that are already being processed won't be delivered */
+	public void cancel () {
+		pending.set(null);
+		deliveredGeneration = requestedGeneration;
+	}
+
+	private void process () {
+		Request request;
+		while ((request = pending.getAndSet(null)) != null) {
+			Vector2[][] faces = Clipper.polygonize(polygonizer, request.points);
+			if (faces == null) continue;
+
+			int generation = request.generation;
+			Gdx.app.postRunnable(() -> deliver(faces, generation));
+		}
+
+		scheduled.set(false);
+
+		//request could be added after loop ended but before scheduled flag was cleared
+		if (pending.get() != null && scheduled.compareAndSet(false, true)) executor.execute(this::process);
+	}
+
+	private void deliver (Vector2[][] faces, int generation) {
+		if (generation <= deliveredGeneration) return;
+
+		deliveredGeneration = generation;
+		listener.accept(faces);
+	}
+
+	private static class Request {
+		final Vector2[] points;
+		final int generation;
+
+		Request (Vector2[] points, int generation) {
+			this.points = points;
+			this.generation = generation;
+		}
+	}
+}
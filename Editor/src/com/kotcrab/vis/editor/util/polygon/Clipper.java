@@ -23,6 +23,10 @@ import com.kotcrab.vis.editor.util.polygon.earclipping.ewjordan.EwjordanDecompos
 import com.kotcrab.vis.runtime.util.PrettyEnum;
 import org.apache.commons.lang3.ArrayUtils;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * @author Aurelien Ribon | http://www.aurelienribon.com/
  */
@@ -41,7 +45,53 @@ public class Clipper {
 		}
 	}
 
+	private static final int CACHE_SIZE = 64;
+
+	/** recently decomposed polygons, dragging vertex back and forth or undo and redo will reuse already computed faces */
+	private static final LinkedHashMap<DecompositionKey, Vector2[][]> cache = new LinkedHashMap<DecompositionKey, Vector2[][]>(CACHE_SIZE, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry (Map.Entry<DecompositionKey, Vector2[][]> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * Decomposes polygon into convex faces. Results are cached, returned faces may be shared between calls and must not be
+	 * modified. This method is thread safe.
+	 * @return polygon faces or null if polygon could not be decomposed
+	 */
 	public static Vector2[][] polygonize (Polygonizer polygonizer, Vector2[] points) {
+		DecompositionKey key = new DecompositionKey(polygonizer, points);
+
+		synchronized (cache) {
+			if (cache.containsKey(key)) return cache.get(key);
+		}
+
+		Vector2[][] polygons = decompose(polygonizer, points.clone());
+
+		synchronized (cache) {
+			cache.put(key, polygons);
+		}
+
+		return polygons;
+	}
+
+	/** @return copy of faces translated by given offset, null if faces are null */
+	public static Vector2[][] translate (Vector2[][] faces, float dx, float dy) {
+		if (faces == null) return null;
+
+		Vector2[][] translated = new Vector2[faces.length][];
+		for (int i = 0; i < faces.length; i++) {
+			Vector2[] face = faces[i];
+			translated[i] = new Vector2[face.length];
+			for (int j = 0; j < face.length; j++)
+				translated[i][j] = new Vector2(face[j].x + dx, face[j].y + dy);
+		}
+
+		return translated;
+	}
+
+	private static Vector2[][] decompose (Polygonizer polygonizer, Vector2[] points) {
 		Vector2[][] polygons = null;
 
 		if (PolygonUtils.isPolygonCCW(points))
@@ -106,4 +156,35 @@ public class Clipper {
 		}
 		return polygons;
 	}
+
+	private static class DecompositionKey {
+		final Polygonizer polygonizer;
+		final float[] vertices;
+		final int hash;
+
+		DecompositionKey (Polygonizer polygonizer, Vector2[] points) {
+			this.polygonizer = polygonizer;
+			vertices = new float[points.length * 2];
+			for (int i = 0; i < points.length; i++) {
+				vertices[i * 2] = points[i].x;
+				vertices[i * 2 + 1] = points[i].y;
+			}
+
+			hash = 31 * polygonizer.hashCode() + Arrays.hashCode(vertices);
+		}
+
+		@Override
+		public boolean equals (Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+
+			DecompositionKey other = (DecompositionKey) o;
+			return hash == other.hash && polygonizer == other.polygonizer && Arrays.equals(vertices, other.vertices);
+		}
+
+		@Override
+		public int hashCode () {
+			return hash;
+		}
+	}
 }
@@ -16,7 +16,9 @@
 
 package com.kotcrab.vis.editor.util.polygon;
 
+import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 
 /**
  * @author Aurelien Ribon, Kotcrab
@@ -146,6 +148,62 @@ public class PolygonUtils {
 		return false;
 	}
 
+	/**
+	 * Simplifies closed polygon using Douglas-Peucker algorithm, this method is thread safe.
+	 * @param tolerance max allowed distance between removed vertices and simplified polygon edges
+	 * @return new array with vertices of simplified polygon, vertices are not copied
+	 */
+	public static Array<Vector2> simplify (Array<Vector2> vertices, float tolerance) {
+		if (vertices.size <= 3) return new Array<>(vertices);
+
+		//split closed polygon at vertex farthest from first vertex
+		int splitIndex = 0;
+		float maxDistance = -1;
+		for (int i = 1; i < vertices.size; i++) {
+			float distance = vertices.get(i).dst2(vertices.first());
+			if (distance > maxDistance) {
+				maxDistance = distance;
+				splitIndex = i;
+			}
+		}
+
+		boolean[] keep = new boolean[vertices.size + 1];
+		keep[0] = keep[splitIndex] = true;
+		simplifySection(vertices, keep, 0, splitIndex, tolerance);
+		simplifySection(vertices, keep, splitIndex, vertices.size, tolerance);
+
+		Array<Vector2> result = new Array<>();
+		for (int i = 0; i < vertices.size; i++) {
+			if (keep[i]) result.add(vertices.get(i));
+		}
+
+		return result;
+	}
+
+	/** @param end index of last vertex of section, may be equal to vertices size which means first vertex */
+	private static void simplifySection (Array<Vector2> vertices, boolean[] keep, int start, int end, float tolerance) {
+		if (start + 1 >= end) return;
+
+		Vector2 a = vertices.get(start);
+		Vector2 b = vertices.get(end % vertices.size);
+		float maxDistance = -1;
+		int maxIndex = start;
+
+		for (int i = start + 1; i < end; i++) {
+			float distance = Intersector.distanceSegmentPoint(a, b, vertices.get(i));
+			if (distance > maxDistance) {
+				maxDistance = distance;
+				maxIndex = i;
+			}
+		}
+
+		if (maxDistance > tolerance) {
+			keep[maxIndex] = true;
+			simplifySection(vertices, keep, start, maxIndex, tolerance);
+			simplifySection(vertices, keep, maxIndex, end, tolerance);
+		}
+	}
+
 	private static float distanceSquared (Vector2 a, Vector2 b) {
 		Vector2 c = a.cpy().sub(b);
 		return c.dot(c);
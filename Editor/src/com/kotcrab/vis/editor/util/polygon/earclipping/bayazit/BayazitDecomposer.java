@@ -223,7 +223,7 @@ public class BayazitDecomposer {
 		return list;
 	}
 
-	private static Boolean CanSee (int i, int j, Array<Vector2> vertices) {
+	private static boolean CanSee (int i, int j, Array<Vector2> vertices) {
 		if (Reflex(i, vertices)) {
 			if (LeftOn(At(i, vertices), At(i - 1, vertices), At(j, vertices))
 					&& RightOn(At(i, vertices), At(i + 1, vertices),
@@ -251,10 +251,8 @@ public class BayazitDecomposer {
 					|| (k + 1) % vertices.size == j || k == j) {
 				continue; // ignore incident edges
 			}
-			Vector2 intersectionPoint = new Vector2();
-			if (LineIntersect(At(i, vertices), At(j, vertices),
-					At(k, vertices), At(k + 1, vertices), true, true,
-					intersectionPoint)) {
+			if (SegmentsIntersect(At(i, vertices), At(j, vertices),
+					At(k, vertices), At(k + 1, vertices))) {
 				return false;
 			}
 		}
@@ -357,28 +355,52 @@ public class BayazitDecomposer {
 		return false;
 	}
 
+	/**
+	 * Allocation free version of {@link #LineIntersect(Vector2, Vector2, Vector2, Vector2, Boolean, Boolean, Vector2)}
+	 * for two segments, used in inner loop of {@link #CanSee(int, int, Array)}
+	 */
+	private static boolean SegmentsIntersect (Vector2 point1, Vector2 point2, Vector2 point3, Vector2 point4) {
+		float a = point4.y - point3.y;
+		float b = point2.x - point1.x;
+		float c = point4.x - point3.x;
+		float d = point2.y - point1.y;
+		float denom = (a * b) - (c * d);
+		if (denom >= -Epsilon && denom <= Epsilon) return false;
+
+		float e = point1.y - point3.y;
+		float f = point1.x - point3.x;
+		float oneOverDenom = 1.0f / denom;
+		float ua = ((c * e) - (a * f)) * oneOverDenom;
+		if (ua < 0.0f || ua > 1.0f) return false;
+
+		float ub = ((b * e) - (d * f)) * oneOverDenom;
+		if (ub < 0.0f || ub > 1.0f) return false;
+
+		return ua != 0f || ub != 0f;
+	}
+
 	// precondition: ccw
-	private static Boolean Reflex (int i, Array<Vector2> vertices) {
+	private static boolean Reflex (int i, Array<Vector2> vertices) {
 		return Right(i, vertices);
 	}
 
-	private static Boolean Right (int i, Array<Vector2> vertices) {
+	private static boolean Right (int i, Array<Vector2> vertices) {
 		return Right(At(i - 1, vertices), At(i, vertices), At(i + 1, vertices));
 	}
 
-	private static Boolean Left (Vector2 a, Vector2 b, Vector2 c) {
+	private static boolean Left (Vector2 a, Vector2 b, Vector2 c) {
 		return Area(a, b, c) > 0;
 	}
 
-	private static Boolean LeftOn (Vector2 a, Vector2 b, Vector2 c) {
+	private static boolean LeftOn (Vector2 a, Vector2 b, Vector2 c) {
 		return Area(a, b, c) >= 0;
 	}
 
-	private static Boolean Right (Vector2 a, Vector2 b, Vector2 c) {
+	private static boolean Right (Vector2 a, Vector2 b, Vector2 c) {
 		return Area(a, b, c) < 0;
 	}
 
-	private static Boolean RightOn (Vector2 a, Vector2 b, Vector2 c) {
+	private static boolean RightOn (Vector2 a, Vector2 b, Vector2 c) {
 		return Area(a, b, c) <= 0;
 	}
 
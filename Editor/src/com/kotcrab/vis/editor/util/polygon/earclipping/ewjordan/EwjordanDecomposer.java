@@ -18,6 +18,8 @@ package com.kotcrab.vis.editor.util.polygon.earclipping.ewjordan;
 
 import com.badlogic.gdx.math.Vector2;
 
+import java.util.Arrays;
+
 /**
  * Original code from EwJordan (http://www.ewjordan.com/earClip/)
  */
@@ -32,6 +34,14 @@ public class EwjordanDecomposer {
 			yv[i] = points[i].y;
 		}
 
+		return decompose(xv, yv, vNum);
+	}
+
+	/**
+	 * Decomposes polygon stored in primitive arrays, arrays are not modified.
+	 * @param vNum count of polygon vertices
+	 */
+	public static Vector2[][] decompose (float[] xv, float[] yv, int vNum) {
 		Triangle[] tempTriangles = triangulatePolygon(xv, yv, vNum);
 		Polygon[] tempPolygons = polygonizeTriangles(tempTriangles);
 
@@ -56,17 +66,14 @@ public class EwjordanDecomposer {
 
 		Triangle[] buffer = new Triangle[vNum];
 		int bufferSize = 0;
-		float[] xrem = new float[vNum];
-		float[] yrem = new float[vNum];
-		for (int i = 0; i < vNum; ++i) {
-			xrem[i] = xv[i];
-			yrem[i] = yv[i];
-		}
+		//ears are removed in place, remaining vertices are shifted instead of copying arrays after each removal
+		float[] xrem = Arrays.copyOf(xv, vNum);
+		float[] yrem = Arrays.copyOf(yv, vNum);
 
 		while (vNum > 3) {
 			int earIndex = -1;
 			for (int i = 0; i < vNum; ++i) {
-				if (isEar(i, xrem, yrem)) {
+				if (isEar(i, xrem, yrem, vNum)) {
 					earIndex = i;
 					break;
 				}
@@ -75,28 +82,16 @@ public class EwjordanDecomposer {
 			if (earIndex == -1)
 				return null;
 
-			--vNum;
-			float[] newx = new float[vNum];
-			float[] newy = new float[vNum];
-			int currDest = 0;
-			for (int i = 0; i < vNum; ++i) {
-				if (currDest == earIndex) {
-					++currDest;
-				}
-				newx[i] = xrem[currDest];
-				newy[i] = yrem[currDest];
-				++currDest;
-			}
-
-			int under = (earIndex == 0) ? (xrem.length - 1) : (earIndex - 1);
-			int over = (earIndex == xrem.length - 1) ? 0 : (earIndex + 1);
+			int under = (earIndex == 0) ? (vNum - 1) : (earIndex - 1);
+			int over = (earIndex == vNum - 1) ? 0 : (earIndex + 1);
 
 			Triangle toAdd = new Triangle(xrem[earIndex], yrem[earIndex], xrem[over], yrem[over], xrem[under], yrem[under]);
 			buffer[bufferSize] = toAdd;
 			++bufferSize;
 
-			xrem = newx;
-			yrem = newy;
+			System.arraycopy(xrem, earIndex + 1, xrem, earIndex, vNum - earIndex - 1);
+			System.arraycopy(yrem, earIndex + 1, yrem, earIndex, vNum - earIndex - 1);
+			--vNum;
 		}
 		Triangle toAdd = new Triangle(xrem[1], yrem[1], xrem[2], yrem[2], xrem[0], yrem[0]);
 		buffer[bufferSize] = toAdd;
@@ -158,23 +153,23 @@ public class EwjordanDecomposer {
 		return ret;
 	}
 
-	private static boolean isEar (int i, float[] xv, float[] yv) {
+	/** @param vNum count of valid vertices in arrays */
+	private static boolean isEar (int i, float[] xv, float[] yv, int vNum) {
 		float dx0, dy0, dx1, dy1;
-		dx0 = dy0 = dx1 = dy1 = 0;
 
-		if (i >= xv.length || i < 0 || xv.length < 3)
+		if (i >= vNum || i < 0 || vNum < 3)
 			return false;
 
 		int upper = i + 1;
 		int lower = i - 1;
 
 		if (i == 0) {
-			dx0 = xv[0] - xv[xv.length - 1];
-			dy0 = yv[0] - yv[yv.length - 1];
+			dx0 = xv[0] - xv[vNum - 1];
+			dy0 = yv[0] - yv[vNum - 1];
 			dx1 = xv[1] - xv[0];
 			dy1 = yv[1] - yv[0];
-			lower = xv.length - 1;
-		} else if (i == xv.length - 1) {
+			lower = vNum - 1;
+		} else if (i == vNum - 1) {
 			dx0 = xv[i] - xv[i - 1];
 			dy0 = yv[i] - yv[i - 1];
 			dx1 = xv[0] - xv[i];
@@ -191,11 +186,21 @@ public class EwjordanDecomposer {
 		if (cross > 0)
 			return false;
 
-		Triangle myTri = new Triangle(xv[i], yv[i], xv[upper], yv[upper], xv[lower], yv[lower]);
-		for (int j = 0; j < xv.length; ++j) {
+		//same vertex order as Triangle would use for this ear, without allocating it
+		float x0 = xv[i], y0 = yv[i];
+		float x1 = xv[upper], y1 = yv[upper];
+		float x2 = xv[lower], y2 = yv[lower];
+		if ((x1 - x0) * (y2 - y0) - (x2 - x0) * (y1 - y0) <= 0) {
+			x1 = xv[lower];
+			y1 = yv[lower];
+			x2 = xv[upper];
+			y2 = yv[upper];
+		}
+
+		for (int j = 0; j < vNum; ++j) {
 			if (j == i || j == lower || j == upper)
 				continue;
-			if (myTri.isInside(xv[j], yv[j]))
+			if (Triangle.isInside(x0, y0, x1, y1, x2, y2, xv[j], yv[j]))
 				return false;
 		}
 
@@ -50,12 +50,17 @@ public class Triangle {
 	}
 
 	public boolean isInside (float _x, float _y) {
-		float vx2 = _x - x[0];
-		float vy2 = _y - y[0];
-		float vx1 = x[1] - x[0];
-		float vy1 = y[1] - y[0];
-		float vx0 = x[2] - x[0];
-		float vy0 = y[2] - y[0];
+		return isInside(x[0], y[0], x[1], y[1], x[2], y[2], _x, _y);
+	}
+
+	/** Allocation free version of {@link #isInside(float, float)}, triangle vertices must be in the same order as in Triangle */
+	public static boolean isInside (float x0, float y0, float x1, float y1, float x2, float y2, float _x, float _y) {
+		float vx2 = _x - x0;
+		float vy2 = _y - y0;
+		float vx1 = x1 - x0;
+		float vy1 = y1 - y0;
+		float vx0 = x2 - x0;
+		float vy0 = y2 - y0;
 
 		float dot00 = vx0 * vx0 + vy0 * vy0;
 		float dot01 = vx0 * vx1 + vy0 * vy1;
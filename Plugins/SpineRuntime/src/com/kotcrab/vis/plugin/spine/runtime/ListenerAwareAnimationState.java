@@ -0,0 +1,77 @@
+/*
+ * Spine Runtimes Software License
+ * Version 2.3
+ *
+ * Copyright (c) 2013-2015, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable and
+ * non-transferable license to use, install, execute and perform the Spine
+ * Runtimes Software (the "Software") and derivative works solely for personal
+ * or internal use. Without the written permission of Esoteric Software (see
+ * Section 2 of the Spine Software License Agreement), you may not (a) modify,
+ * translate, adapt or otherwise create derivative works, improvements of the
+ * Software or develop new applications using the Software or (b) remove,
+ * delete, alter or obscure any trademarks or any copyright, trademark, patent
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.kotcrab.vis.plugin.spine.runtime;
+
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.AnimationState;
+import com.esotericsoftware.spine.AnimationStateData;
+
+/**
+ * {@link AnimationState} that keeps track of registered listeners. Used by {@link SkeletonPoser} to decide whether state
+ * can be updated on worker thread, states that may notify listeners are always updated on the thread calling poser.
+ * @author Kotcrab
+ */
+public class ListenerAwareAnimationState extends AnimationState {
+	private final Array<AnimationStateListener> listeners = new Array<AnimationStateListener>();
+
+	public ListenerAwareAnimationState (AnimationStateData data) {
+		super(data);
+	}
+
+	@Override
+	public void addListener (AnimationStateListener listener) {
+		super.addListener(listener);
+		listeners.add(listener);
+	}
+
+	@Override
+	public void removeListener (AnimationStateListener listener) {
+		super.removeListener(listener);
+		listeners.removeValue(listener, true);
+	}
+
+	/** @return true if this state has any global listener or any of queued track entries has listener */
+	public boolean hasListeners () {
+		if (listeners.size > 0) return true;
+
+		Array<TrackEntry> tracks = getTracks();
+		for (int i = 0; i < tracks.size; i++) {
+			TrackEntry entry = tracks.get(i);
+			while (entry != null) {
+				if (entry.getListener() != null) return true;
+				entry = entry.getNext();
+			}
+		}
+
+		return false;
+	}
+}
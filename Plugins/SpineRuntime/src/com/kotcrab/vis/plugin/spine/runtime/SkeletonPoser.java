@@ -0,0 +1,181 @@
+/*
+ * Spine Runtimes Software License
+ * Version 2.3
+ *
+ * Copyright (c) 2013-2015, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable and
+ * non-transferable license to use, install, execute and perform the Spine
+ * Runtimes Software (the "Software") and derivative works solely for personal
+ * or internal use. Without the written permission of Esoteric Software (see
+ * Section 2 of the Spine Software License Agreement), you may not (a) modify,
+ * translate, adapt or otherwise create derivative works, improvements of the
+ * Software or develop new applications using the Software or (b) remove,
+ * delete, alter or obscure any trademarks or any copyright, trademark, patent
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.kotcrab.vis.plugin.spine.runtime;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.esotericsoftware.spine.AnimationState;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Poses Spine skeletons: updates and applies their {@link AnimationState} and then computes bones world transforms. Work
+ * is split between calling thread and pool of worker threads. Skeletons which state may notify listeners (or which state
+ * is not {@link ListenerAwareAnimationState}) are always posed on calling thread, so listeners are never called from
+ * worker threads. Poser created with thread count of 1 does not create any threads.
+ * @author Kotcrab
+ */
+public class SkeletonPoser implements Disposable {
+	private final int threadCount;
+	private ExecutorService executor;
+
+	private final Array<SpineComponent> callingThreadComponents = new Array<SpineComponent>();
+	private final Array<SpineComponent> parallelComponents = new Array<SpineComponent>();
+
+	private final Array<PoseTask> tasks = new Array<PoseTask>();
+	private final Array<Future<?>> futures = new Array<Future<?>>();
+
+	public SkeletonPoser (int threadCount) {
+		if (threadCount < 1) throw new IllegalArgumentException("threadCount must be at least 1");
+		this.threadCount = threadCount;
+
+		if (threadCount > 1) {
+			executor = Executors.newFixedThreadPool(threadCount - 1, new ThreadFactory() {
+				private int threadIndex;
+
+				@Override
+				public Thread newThread (Runnable runnable) {
+					Thread thread = new Thread(runnable, "SkeletonPoser-" + threadIndex++);
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+
+			for (int i = 0; i < threadCount - 1; i++)
+				tasks.add(new PoseTask());
+		}
+	}
+
+	public static void pose (SpineComponent spine, float delta) {
+		spine.state.update(delta);
+		spine.state.apply(spine.skeleton); // Poses skeleton using current animations. This sets the bones' local SRT.
+		spine.skeleton.updateWorldTransform(); // Uses the bones' local SRT to compute their world SRT.
+	}
+
+	/**
+	 * Poses all components, returns after all of them were posed.
+	 * @param components components to pose, must not be modified until this method returns
+	 * @param delta time since last pose
+	 */
+	public void pose (Array<SpineComponent> components, float delta) {
+		if (executor == null) {
+			for (int i = 0; i < components.size; i++)
+				pose(components.get(i), delta);
+			return;
+		}
+
+		callingThreadComponents.clear();
+		parallelComponents.clear();
+
+		for (int i = 0; i < components.size; i++) {
+			SpineComponent spine = components.get(i);
+			if (requiresCallingThread(spine.state))
+				callingThreadComponents.add(spine);
+			else
+				parallelComponents.add(spine);
+		}
+
+		int count = parallelComponents.size;
+		int chunkSize = (count + threadCount - 1) / threadCount;
+
+		for (int i = 1; i < threadCount; i++) {
+			int start = i * chunkSize;
+			if (start >= count) break;
+
+			PoseTask task = tasks.get(i - 1);
+			task.set(start, Math.min(start + chunkSize, count), delta);
+			futures.add(executor.submit(task));
+		}
+
+		for (int i = 0; i < callingThreadComponents.size; i++)
+			pose(callingThreadComponents.get(i), delta);
+
+		poseRange(0, Math.min(chunkSize, count), delta);
+
+		try {
+			for (int i = 0; i < futures.size; i++)
+				futures.get(i).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GdxRuntimeException("Interrupted while waiting for skeletons to be posed", e);
+		} catch (ExecutionException e) {
+			throw new GdxRuntimeException("Error while posing skeletons", e.getCause());
+		} finally {
+			futures.clear();
+			callingThreadComponents.clear();
+			parallelComponents.clear();
+		}
+	}
+
+	private boolean requiresCallingThread (AnimationState state) {
+		if (state instanceof ListenerAwareAnimationState)
+			return ((ListenerAwareAnimationState) state).hasListeners();
+
+		return true;
+	}
+
+	private void poseRange (int start, int end, float delta) {
+		for (int i = start; i < end; i++)
+			pose(parallelComponents.get(i), delta);
+	}
+
+	public int getThreadCount () {
+		return threadCount;
+	}
+
+	@Override
+	public void dispose () {
+		if (executor != null) executor.shutdown();
+	}
+
+	private class PoseTask implements Runnable {
+		private int start;
+		private int end;
+		private float delta;
+
+		void set (int start, int end, float delta) {
+			this.start = start;
+			this.end = end;
+			this.delta = delta;
+		}
+
+		@Override
+		public void run () {
+			poseRange(start, end, delta);
+		}
+	}
+}
@@ -70,7 +70,7 @@ public class SpineComponent extends Component implements FlipPropertiesAccessor,
 		skeleton = new Skeleton(skeletonData);
 
 		stateData = new AnimationStateData(skeletonData);
-		state = new AnimationState(stateData);
+		state = new ListenerAwareAnimationState(stateData);
 
 		defaultAnimation = skeleton.getData().getAnimations().get(0).getName();
 	}
@@ -35,7 +35,6 @@ import com.artemis.Aspect;
 import com.artemis.ComponentMapper;
 import com.artemis.Entity;
 import com.artemis.annotations.Wire;
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.esotericsoftware.spine.SkeletonRenderer;
 import com.kotcrab.vis.runtime.component.InvisibleComponent;
@@ -43,7 +42,10 @@ import com.kotcrab.vis.runtime.system.RenderBatchingSystem;
 import com.kotcrab.vis.runtime.system.delegate.DeferredEntityProcessingSystem;
 import com.kotcrab.vis.runtime.system.delegate.EntityProcessPrincipal;
 
-/** @author Kotcrab */
+/**
+ * Draws Spine skeletons, skeletons are posed earlier by {@link SpineUpdateSystem}.
+ * @author Kotcrab
+ */
 @Wire
 public class SpineRenderSystem extends DeferredEntityProcessingSystem {
 	private ComponentMapper<SpineComponent> spineCm;
@@ -66,9 +68,6 @@ public class SpineRenderSystem extends DeferredEntityProcessingSystem {
 	@Override
 	protected void process (Entity e) {
 		SpineComponent spine = spineCm.get(e);
-		spine.state.update(Gdx.graphics.getDeltaTime());
-		spine.state.apply(spine.skeleton); // Poses skeleton using current animations. This sets the bones' local SRT.
-		spine.skeleton.updateWorldTransform(); // Uses the bones' local SRT to compute their world SRT.
 		skeletonRenderer.draw(batch, spine.skeleton); // Draw the skeleton images.
 	}
 }
@@ -50,8 +50,18 @@ import com.kotcrab.vis.runtime.util.EntityEngineConfiguration;
 @VisPlugin
 public class SpineSupport implements EntitySupport {
 	private SkeletonRenderer skeletonRenderer;
+	private int poseThreadCount;
 
 	public SpineSupport () {
+		this(1);
+	}
+
+	/**
+	 * @param poseThreadCount count of threads used to pose skeletons, including render thread. If 1 then all skeletons are
+	 * posed on render thread. Skeletons which animation state has listeners are always posed on render thread.
+	 */
+	public SpineSupport (int poseThreadCount) {
+		this.poseThreadCount = poseThreadCount;
 		skeletonRenderer = new SkeletonRenderer();
 	}
 
@@ -76,6 +86,7 @@ public class SpineSupport implements EntitySupport {
 	@Override
 	public void registerSystems (RuntimeConfiguration configuration, EntityEngineConfiguration engineConfig, AssetManager manager) {
 		RenderBatchingSystem renderBatchingSystem = engineConfig.getSystem(RenderBatchingSystem.class);
+		engineConfig.setSystemBefore(new SpineUpdateSystem(poseThreadCount), RenderBatchingSystem.class);
 		engineConfig.setSystem(new SpineRenderSystem(renderBatchingSystem), true);
 		engineConfig.setSystem(new SpineInflaterSystem(configuration, manager));
 	}
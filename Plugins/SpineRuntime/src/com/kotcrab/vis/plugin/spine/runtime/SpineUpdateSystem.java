@@ -0,0 +1,81 @@
+/*
+ * Spine Runtimes Software License
+ * Version 2.3
+ *
+ * Copyright (c) 2013-2015, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable and
+ * non-transferable license to use, install, execute and perform the Spine
+ * Runtimes Software (the "Software") and derivative works solely for personal
+ * or internal use. Without the written permission of Esoteric Software (see
+ * Section 2 of the Spine Software License Agreement), you may not (a) modify,
+ * translate, adapt or otherwise create derivative works, improvements of the
+ * Software or develop new applications using the Software or (b) remove,
+ * delete, alter or obscure any trademarks or any copyright, trademark, patent
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.kotcrab.vis.plugin.spine.runtime;
+
+import com.artemis.*;
+import com.artemis.annotations.Wire;
+import com.artemis.utils.IntBag;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.kotcrab.vis.runtime.component.InvisibleComponent;
+import com.kotcrab.vis.runtime.system.RenderBatchingSystem;
+
+/**
+ * Poses all visible Spine skeletons using {@link SkeletonPoser}, must be processed before {@link RenderBatchingSystem} so
+ * {@link SpineRenderSystem} only has to draw them.
+ * @author Kotcrab
+ */
+@Wire
+public class SpineUpdateSystem extends BaseSystem {
+	private ComponentMapper<SpineComponent> spineCm;
+	private AspectSubscriptionManager subscriptionManager;
+	private EntitySubscription subscription;
+
+	private SkeletonPoser poser;
+	private Array<SpineComponent> components = new Array<SpineComponent>();
+
+	public SpineUpdateSystem (int threadCount) {
+		poser = new SkeletonPoser(threadCount);
+	}
+
+	@Override
+	protected void initialize () {
+		subscription = subscriptionManager.get(Aspect.all(SpineComponent.class).exclude(InvisibleComponent.class));
+	}
+
+	@Override
+	protected void processSystem () {
+		IntBag bag = subscription.getEntities();
+		int[] data = bag.getData();
+
+		for (int i = 0; i < bag.size(); i++)
+			components.add(spineCm.get(data[i]));
+
+		poser.pose(components, Gdx.graphics.getDeltaTime());
+		components.clear();
+	}
+
+	@Override
+	protected void dispose () {
+		poser.dispose();
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Spine Runtimes Software License
+ * Version 2.3
+ *
+ * Copyright (c) 2013-2015, Esoteric Software
+ * All rights reserved.
+ *
+ * You are granted a perpetual, non-exclusive, non-sublicensable and
+ * non-transferable license to use, install, execute and perform the Spine
+ * Runtimes Software (the "Software") and derivative works solely for personal
+ * or internal use. Without the written permission of Esoteric Software (see
+ * Section 2 of the Spine Software License Agreement), you may not (a) modify,
+ * translate, adapt or otherwise create derivative works, improvements of the
+ * Software or develop new applications using the Software or (b) remove,
+ * delete, alter or obscure any trademarks or any copyright, trademark, patent
+ * or other intellectual property or proprietary rights notices on or in the
+ * Software, including any copy thereof. Redistributions in binary or source
+ * form must include this license and terms.
+ *
+ * THIS SOFTWARE IS PROVIDED BY ESOTERIC SOFTWARE "AS IS" AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO
+ * EVENT SHALL ESOTERIC SOFTWARE BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.kotcrab.vis.plugin.spine.runtime;
+
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.Animation;
+import com.esotericsoftware.spine.Animation.RotateTimeline;
+import com.esotericsoftware.spine.Animation.Timeline;
+import com.esotericsoftware.spine.BoneData;
+import com.esotericsoftware.spine.SkeletonData;
+
+/**
+ * Measures {@link SkeletonPoser} throughput for increasing thread counts, up to number of available processors. Uses
+ * synthetic skeleton with chain of rotating bones, so no assets or OpenGL context are needed.
+ * @author Kotcrab
+ */
+public class SkeletonPoserBenchmark {
+	private static final int SKELETONS = 2000;
+	private static final int BONES = 60;
+	private static final int WARMUP_FRAMES = 200;
+	private static final int MEASURED_FRAMES = 500;
+	private static final float DELTA = 1 / 60f;
+
+	public static void main (String[] args) {
+		SkeletonData skeletonData = createSkeletonData();
+
+		Array<SpineComponent> components = new Array<SpineComponent>(SKELETONS);
+		for (int i = 0; i < SKELETONS; i++) {
+			SpineComponent component = new SpineComponent(skeletonData);
+			component.state.setAnimation(0, component.getDefaultAnimation(), true);
+			components.add(component);
+		}
+
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+		double singleThreadTime = 0;
+
+		System.out.println("Posing " + SKELETONS + " skeletons with " + BONES + " bones each");
+
+		for (int threads = 1; threads <= maxThreads; threads++) {
+			SkeletonPoser poser = new SkeletonPoser(threads);
+
+			for (int i = 0; i < WARMUP_FRAMES; i++)
+				poser.pose(components, DELTA);
+
+			long start = System.nanoTime();
+			for (int i = 0; i < MEASURED_FRAMES; i++)
+				poser.pose(components, DELTA);
+			double frameTime = (System.nanoTime() - start) / 1000000.0 / MEASURED_FRAMES;
+
+			poser.dispose();
+
+			if (threads == 1) singleThreadTime = frameTime;
+			System.out.println(String.format("%2d thread(s): %8.3f ms/frame, speedup %.2fx", threads, frameTime, singleThreadTime / frameTime));
+		}
+	}
+
+	private static SkeletonData createSkeletonData () {
+		SkeletonData data = new SkeletonData();
+
+		BoneData parent = null;
+		for (int i = 0; i < BONES; i++) {
+			BoneData bone = new BoneData("bone" + i, parent);
+			bone.setLength(10);
+			bone.setX(parent == null ? 0 : 10);
+			data.getBones().add(bone);
+			parent = bone;
+		}
+
+		Array<Timeline> timelines = new Array<Timeline>();
+		for (int i = 0; i < BONES; i++) {
+			RotateTimeline timeline = new RotateTimeline(3);
+			timeline.setBoneIndex(i);
+			timeline.setFrame(0, 0, 0);
+			timeline.setFrame(1, 0.5f, 15 + i % 7);
+			timeline.setFrame(2, 1, 0);
+			timelines.add(timeline);
+		}
+
+		data.getAnimations().add(new Animation("wave", timelines, 1));
+		return data;
+	}
+}
@@ -20,6 +20,7 @@ import com.artemis.Entity;
 import com.kotcrab.vis.runtime.component.AssetComponent;
 import com.kotcrab.vis.runtime.component.GroupComponent;
 import com.kotcrab.vis.runtime.component.PhysicsComponent;
+import com.kotcrab.vis.runtime.component.PhysicsSpriteComponent;
 import com.kotcrab.vis.runtime.system.VisGroupManager;
 import com.kotcrab.vis.runtime.system.physics.PhysicsSpriteUpdateSystem;
 import com.kotcrab.vis.runtime.util.EntityEngine;
@@ -56,6 +57,35 @@ public class RuntimeConfiguration {
 	 */
 	public boolean useBox2dSpriteUpdateSystem = true;
 
+	/**
+	 * If true {@link PhysicsSpriteUpdateSystem} will only update sprites of awake dynamic and kinematic bodies, sleeping
+	 * and static bodies are skipped. Note that in this mode sprite won't follow static body moved manually. Default is
+	 * false. This settings has no effect if physics is disabled.
+	 */
+	public boolean updateOnlyAwakeBox2dBodies = false;
+
+	/**
+	 * If true sprites position and rotation will be interpolated between two last physics steps using leftover step time.
+	 * This removes jitter when rendering frame rate differs from physics step rate, at the cost of rendering bodies up to
+	 * one physics step behind simulation. Default is false. This settings has no effect if physics is disabled.
+	 */
+	public boolean useBox2dInterpolation = false;
+
+	/**
+	 * If true active static bodies will be merged into few compound bodies, one per layer or per layer chunk (see
+	 * {@link #staticBox2dBodiesChunkSize}). This greatly reduces bodies count on levels with many static colliders.
+	 * Merged entities share same body stored in {@link PhysicsComponent}, use fixture user data to get entity that owns
+	 * fixture. Merged entities don't have {@link PhysicsSpriteComponent}. Default is false. This settings has no effect
+	 * if physics is disabled.
+	 */
+	public boolean mergeStaticBox2dBodies = false;
+
+	/**
+	 * Size of chunk in world units used when merging static bodies. If 0 static bodies are merged per layer. Default is
+	 * 0. This settings has no effect if {@link #mergeStaticBox2dBodies} is disabled.
+	 */
+	public float staticBox2dBodiesChunkSize = 0;
+
 	/**
 	 * If true body stored in {@link PhysicsComponent} will be automatically disposed when entity was removed from entity
 	 * engine (for example after calling {@link EntityEngine#deleteEntity(Entity)} or {@link Entity#deleteFromWorld()}).
@@ -23,7 +23,16 @@ import com.badlogic.gdx.physics.box2d.Body;
 public class PhysicsComponent extends Component {
 	public Body body;
 
+	/** Body state before last physics step, used for interpolation, updated only if interpolation is enabled */
+	public float prevX, prevY, prevAngle;
+
 	public PhysicsComponent (Body body) {
 		this.body = body;
+
+		if (body != null) {
+			prevX = body.getPosition().x;
+			prevY = body.getPosition().y;
+			prevAngle = body.getAngle();
+		}
 	}
 }
@@ -17,31 +17,259 @@
 package com.kotcrab.vis.runtime.component;
 
 import com.artemis.Component;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectMap.Entry;
 import com.kotcrab.vis.runtime.util.annotation.VisTag;
 import com.kotcrab.vis.runtime.util.autotable.ATStringStringMap;
 
 /**
- * Stores user defined variables in key-value store
+ * Stores user defined variables in key-value store. Values are kept as strings (which is also how they are serialized)
+ * but they are parsed only once into typed storage, after that primitive getters don't allocate or parse anything. Typed
+ * storage is built when component is added to entity or lazily on first access after variables were changed directly.
+ * <p>
+ * For fastest access variable handle can be obtained using {@link #getHandle(String)}, handle stays valid until
+ * variables are added or removed.
  * @author Kotcrab
  */
 public class VariablesComponent extends Component {
-	@VisTag(0) @ATStringStringMap
+	@VisTag(0) @ATStringStringMap(typesField = "types")
 	public ObjectMap<String, String> variables = new ObjectMap<String, String>();
 
+	/** Optional declared types of variables, variables without declared type are treated as {@link VariableType#STRING} */
+	@VisTag(1)
+	public ObjectMap<String, VariableType> types = new ObjectMap<String, VariableType>();
+
+	private transient boolean dirty = true;
+	private transient ObjectIntMap<String> handles = new ObjectIntMap<String>();
+	private transient Array<String> names = new Array<String>();
+	private transient String[] strings = new String[0];
+	private transient float[] floats = new float[0];
+	private transient int[] ints = new int[0];
+	private transient boolean[] booleans = new boolean[0];
+	/** Bit 1 set if float value is valid, bit 2 set if int value is valid */
+	private transient byte[] parsed = new byte[0];
+
+	private static final byte PARSED_FLOAT = 1;
+	private static final byte PARSED_INT = 2;
+
+	/**
+	 * Rebuilds typed storage from {@link #variables}. Called automatically, you only need to call it after modifying
+	 * {@link #variables} or {@link #types} maps directly. All previously obtained handles become invalid.
+	 * @throws IllegalStateException when variable value can't be parsed to its declared type
+	 */
+	public void parse () {
+		int size = variables.size;
+
+		handles.clear();
+		names.clear();
+		if (strings.length < size) {
+			strings = new String[size];
+			floats = new float[size];
+			ints = new int[size];
+			booleans = new boolean[size];
+			parsed = new byte[size];
+		}
+
+		int handle = 0;
+		for (Entry<String, String> entry : variables.entries()) {
+			handles.put(entry.key, handle);
+			names.add(entry.key);
+			store(handle, entry.key, entry.value);
+			handle++;
+		}
+
+		dirty = false;
+	}
+
+	/** Marks typed storage as outdated, it will be rebuilt on next access. All previously obtained handles become invalid. */
+	public void invalidate () {
+		dirty = true;
+	}
+
+	private void store (int handle, String name, String value) {
+		VariableType type = getType(name);
+
+		strings[handle] = value;
+		parsed[handle] = 0;
+		floats[handle] = 0;
+		ints[handle] = 0;
+		booleans[handle] = Boolean.parseBoolean(value);
+
+		if (value == null) return;
+
+		//most untyped variables are plain strings, check value shape first so they don't throw NumberFormatException
+		if (type == VariableType.FLOAT || mayBeFloat(value)) {
+			try {
+				floats[handle] = Float.parseFloat(value);
+				parsed[handle] |= PARSED_FLOAT;
+			} catch (NumberFormatException e) {
+				if (type == VariableType.FLOAT)
+					throw new IllegalStateException("Variable '" + name + "' is declared as float but its value is not: " + value, e);
+			}
+		}
+
+		if (type == VariableType.INT || mayBeInt(value)) {
+			try {
+				ints[handle] = Integer.parseInt(value);
+				parsed[handle] |= PARSED_INT;
+			} catch (NumberFormatException e) {
+				if (type == VariableType.INT)
+					throw new IllegalStateException("Variable '" + name + "' is declared as int but its value is not: " + value, e);
+			}
+		}
+
+		if (type == VariableType.BOOLEAN && value.equalsIgnoreCase("true") == false && value.equalsIgnoreCase("false") == false)
+			throw new IllegalStateException("Variable '" + name + "' is declared as boolean but its value is not: " + value);
+	}
+
+	/** @return false if value certainly can't be parsed by {@link Float#parseFloat(String)} */
+	private static boolean mayBeFloat (String value) {
+		String trimmed = value.trim();
+		if (trimmed.length() == 0) return false;
+		char c = trimmed.charAt(0);
+		return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || trimmed.startsWith("NaN") || trimmed.startsWith("Infinity");
+	}
+
+	/** @return false if value certainly can't be parsed by {@link Integer#parseInt(String)} */
+	private static boolean mayBeInt (String value) {
+		int length = value.length();
+		if (length == 0) return false;
+
+		int start = (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+		if (start == length) return false;
+
+		for (int i = start; i < length; i++) {
+			char c = value.charAt(i);
+			if (c < '0' || c > '9') return false;
+		}
+
+		return true;
+	}
+
+	private void ensureParsed () {
+		if (dirty) parse();
+	}
+
+	/** @return declared type of variable, if variable does not have declared type {@link VariableType#STRING} is returned */
+	public VariableType getType (String variableName) {
+		VariableType type = types.get(variableName);
+		return type == null ? VariableType.STRING : type;
+	}
+
+	/** @return handle of variable that can be used with handle based getters and setters or -1 if variable does not exist */
+	public int getHandle (String variableName) {
+		ensureParsed();
+		return handles.get(variableName, -1);
+	}
+
+	/** @return name of variable with given handle */
+	public String getName (int handle) {
+		ensureParsed();
+		return names.get(handle);
+	}
+
 	public String get (String variableName) {
 		return variables.get(variableName);
 	}
 
 	public float getFloat (String variableName) {
-		return Float.valueOf(get(variableName));
+		return getFloat(getHandleOrThrow(variableName));
 	}
 
 	public int getInt (String variableName) {
-		return Integer.valueOf(get(variableName));
+		return getInt(getHandleOrThrow(variableName));
 	}
 
 	public boolean getBoolean (String variableName) {
-		return Boolean.valueOf(get(variableName));
+		int handle = getHandle(variableName);
+		return handle != -1 && booleans[handle];
+	}
+
+	public String get (int handle) {
+		ensureParsed();
+		return strings[handle];
+	}
+
+	public float getFloat (int handle) {
+		ensureParsed();
+		if ((parsed[handle] & PARSED_FLOAT) == 0) throw notParsable(handle, "float");
+		return floats[handle];
+	}
+
+	public int getInt (int handle) {
+		ensureParsed();
+		if ((parsed[handle] & PARSED_INT) == 0) throw notParsable(handle, "int");
+		return ints[handle];
+	}
+
+	public boolean getBoolean (int handle) {
+		ensureParsed();
+		return booleans[handle];
+	}
+
+	/** Sets variable value, if variable didn't exist before all handles become invalid. */
+	public void set (String variableName, String value) {
+		int handle = getHandle(variableName);
+		variables.put(variableName, value);
+		if (handle == -1)
+			dirty = true;
+		else
+			store(handle, variableName, value);
+	}
+
+	public void setFloat (String variableName, float value) {
+		set(variableName, String.valueOf(value));
+	}
+
+	public void setInt (String variableName, int value) {
+		set(variableName, String.valueOf(value));
+	}
+
+	public void setBoolean (String variableName, boolean value) {
+		set(variableName, String.valueOf(value));
+	}
+
+	/** Sets value of variable with given handle, handles stay valid. */
+	public void set (int handle, String value) {
+		ensureParsed();
+		String name = names.get(handle);
+		variables.put(name, value);
+		store(handle, name, value);
+	}
+
+	public void setFloat (int handle, float value) {
+		set(handle, String.valueOf(value));
+	}
+
+	public void setInt (int handle, int value) {
+		set(handle, String.valueOf(value));
+	}
+
+	public void setBoolean (int handle, boolean value) {
+		set(handle, String.valueOf(value));
+	}
+
+	/** Removes variable and its declared type. All handles become invalid. */
+	public void remove (String variableName) {
+		variables.remove(variableName);
+		types.remove(variableName);
+		dirty = true;
+	}
+
+	private int getHandleOrThrow (String variableName) {
+		int handle = getHandle(variableName);
+		if (handle == -1) throw new NumberFormatException("Variable does not exist: " + variableName);
+		return handle;
+	}
+
+	private NumberFormatException notParsable (int handle, String typeName) {
+		return new NumberFormatException("Variable '" + names.get(handle) + "' is not " + typeName + ": " + strings[handle]);
+	}
+
+	/** Declared type of variable, used by VisEditor to validate values and by runtime to verify values during parsing */
+	public enum VariableType {
+		STRING, INT, FLOAT, BOOLEAN
 	}
 }
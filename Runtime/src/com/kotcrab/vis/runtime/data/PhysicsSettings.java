@@ -24,6 +24,9 @@ public class PhysicsSettings {
 	@VisTag(1) public float gravityX;
 	@VisTag(2) public float gravityY;
 	@VisTag(3) public boolean allowSleep;
+	@VisTag(4) public float timeStep = 1f / 60f;
+	@VisTag(5) public int velocityIterations = 6;
+	@VisTag(6) public int positionIterations = 2;
 
 	public PhysicsSettings () {
 	}
@@ -40,5 +43,8 @@ public class PhysicsSettings {
 		this.gravityX = other.gravityX;
 		this.gravityY = other.gravityY;
 		this.allowSleep = other.allowSleep;
+		this.timeStep = other.timeStep;
+		this.velocityIterations = other.velocityIterations;
+		this.positionIterations = other.positionIterations;
 	}
 }
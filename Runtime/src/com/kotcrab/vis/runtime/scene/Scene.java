@@ -44,6 +44,7 @@ import com.kotcrab.vis.runtime.util.*;
  */
 public class Scene {
 	private CameraManager cameraManager;
+	private PhysicsBodyManager physicsBodyManager;
 	private EntityEngine engine;
 
 	private Array<LayerData> layerData;
@@ -76,6 +77,7 @@ public class Scene {
 		engineConfig.setManager(new TextInflater(runtimeConfig, assetsManager, data.pixelsPerUnit));
 		engineConfig.setManager(new ShaderInflater(assetsManager));
 		engineConfig.setManager(new SpriterInflater(assetsManager));
+		engineConfig.setManager(new VariablesInflater());
 
 		if (parameter != null) {
 			for (BaseSystem system : parameter.systems)
@@ -89,9 +91,9 @@ public class Scene {
 		}
 
 		if (data.physicsSettings.physicsEnabled) {
-			engineConfig.setSystem(new PhysicsSystem(data.physicsSettings));
-			engineConfig.setManager(new PhysicsBodyManager(context.configuration));
-			if (runtimeConfig.useBox2dSpriteUpdateSystem) engineConfig.setSystem(new PhysicsSpriteUpdateSystem());
+			engineConfig.setSystem(new PhysicsSystem(data.physicsSettings, runtimeConfig));
+			engineConfig.setManager(physicsBodyManager = new PhysicsBodyManager(context.configuration));
+			if (runtimeConfig.useBox2dSpriteUpdateSystem) engineConfig.setSystem(new PhysicsSpriteUpdateSystem(runtimeConfig));
 		}
 
 		ArtemisUtils.createCommonSystems(engineConfig, context.batch, distanceFieldShader, false);
@@ -113,6 +115,8 @@ public class Scene {
 		engine.process();
 		engine.setInvocationStrategy(new InvocationStrategy());
 
+		if (physicsBodyManager != null) physicsBodyManager.buildPendingBodies();
+
 		for (BaseSystem system : engine.getSystems()) {
 			if (system instanceof AfterSceneInit) {
 				((AfterSceneInit) system).afterSceneInit();
@@ -22,11 +22,17 @@ import com.artemis.annotations.Wire;
 import com.artemis.utils.IntBag;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
 import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.IntMap.Entry;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import com.kotcrab.vis.runtime.component.GroupComponent;
+import com.kotcrab.vis.runtime.util.EntityIdSet;
 
 /**
- * Allows to get entities by their string id that was set in VisEditor
+ * Allows to get groups entities by their int or string id that was set in VisEditor. For frequent lookups get handle for
+ * group once using {@link #getHandle(String)} or {@link #getHandle(int)} and then use methods accepting handle, those
+ * don't require any hashing or allocations.
  * @author Kotcrab
  */
 @Wire
@@ -35,10 +41,18 @@ public class VisGroupManager extends Manager {
 	private AspectSubscriptionManager subscriptionManager;
 
 	private IntMap<String> groupsIds;
-	private IntMap<Array<Entity>> groups = new IntMap<Array<Entity>>();
+	private ObjectIntMap<String> stringIdToGid = new ObjectIntMap<String>();
+
+	private IntIntMap handles = new IntIntMap();
+	private Array<GroupEntry> entries = new Array<GroupEntry>();
 
 	public VisGroupManager (IntMap<String> groupsIds) {
 		this.groupsIds = groupsIds;
+
+		if (groupsIds != null) {
+			for (Entry<String> entry : groupsIds.entries())
+				stringIdToGid.put(entry.value, entry.key);
+		}
 	}
 
 	@Override
@@ -55,16 +69,10 @@ public class VisGroupManager extends Manager {
 					IntArray groupIds = groupCm.get(entityId).groupIds;
 
 					for (int j = 0; j < groupIds.size; j++) {
-						int gid = groupIds.get(j);
-
-						Array<Entity> groupList = groups.get(gid);
+						GroupEntry entry = entries.get(getHandle(groupIds.get(j)));
 
-						if (groupList == null) {
-							groupList = new Array<Entity>();
-							groups.put(gid, groupList);
-						}
-
-						groupList.add(world.getEntity(entityId));
+						if (entry.ids.add(entityId) != -1)
+							entry.entities.add(world.getEntity(entityId));
 					}
 
 				}
@@ -79,29 +87,79 @@ public class VisGroupManager extends Manager {
 					IntArray groupIds = groupCm.get(entityId).groupIds;
 
 					for (int j = 0; j < groupIds.size; j++) {
-						int gid = groupIds.get(j);
-
-						Array<Entity> groupList = groups.get(gid);
-						groupList.removeValue(world.getEntity(entityId), true);
+						int handle = handles.get(groupIds.get(j), -1);
+						if (handle == -1) continue;
 
-						if (groupList.size == 0) {
-							groups.remove(gid);
-						}
+						GroupEntry entry = entries.get(handle);
+						int index = entry.ids.remove(entityId);
+						if (index != -1) entry.entities.removeIndex(index);
 					}
 				}
 			}
 		});
 	}
 
+	/**
+	 * Returns handle for group with given int id. Handle is valid for entire lifetime of this manager and can be obtained
+	 * before any entity of this group was added.
+	 */
+	public int getHandle (int intId) {
+		int handle = handles.get(intId, -1);
+
+		if (handle == -1) {
+			handle = entries.size;
+			entries.add(new GroupEntry());
+			handles.put(intId, handle);
+		}
+
+		return handle;
+	}
+
+	/** @return handle for group with given string id or -1 if such group does not exist. */
+	public int getHandle (String stringId) {
+		int gid = stringIdToGid.get(stringId, Integer.MIN_VALUE);
+		if (gid == Integer.MIN_VALUE) return -1;
+		return getHandle(gid);
+	}
+
+	/** @return entities of group with given int id or null if group is empty */
 	public Array<Entity> get (int intId) {
-		return groups.get(intId);
+		int handle = handles.get(intId, -1);
+		if (handle == -1 || entries.get(handle).ids.isEmpty()) return null;
+		return entries.get(handle).entities;
 	}
 
+	/** @return entities of group with given string id or null if group is empty */
 	public Array<Entity> get (String stringId) {
-		int gid = groupsIds.findKey(stringId, false, Integer.MIN_VALUE);
+		int gid = stringIdToGid.get(stringId, Integer.MIN_VALUE);
 		if (gid == Integer.MIN_VALUE)
 			throw new IllegalStateException("Group with ID: " + stringId + " does not exists!");
 
-		return groups.get(gid);
+		return get(gid);
+	}
+
+	/** @return all entities for given handle, returned array must not be modified */
+	public Array<Entity> getEntities (int handle) {
+		return entries.get(handle).entities;
+	}
+
+	/** @return ids of all entities for given handle, may be iterated without allocations, must not be modified */
+	public IntBag getEntityIds (int handle) {
+		return entries.get(handle).ids.getIds();
+	}
+
+	/** @return true if entity belongs to group represented by given handle */
+	public boolean contains (int handle, int entityId) {
+		return entries.get(handle).ids.contains(entityId);
+	}
+
+	/** @return string id of group with given int id or null if group does not have string id */
+	public String getStringId (int intId) {
+		return groupsIds == null ? null : groupsIds.get(intId);
+	}
+
+	private static class GroupEntry {
+		final EntityIdSet ids = new EntityIdSet();
+		final Array<Entity> entities = new Array<Entity>(false, 16);
 	}
 }
@@ -21,11 +21,13 @@ import com.artemis.EntitySubscription.SubscriptionListener;
 import com.artemis.annotations.Wire;
 import com.artemis.utils.IntBag;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import com.kotcrab.vis.runtime.component.IDComponent;
+import com.kotcrab.vis.runtime.util.EntityIdSet;
 
 /**
- * Allows to get entities by their string id that was set in VisEditor
+ * Allows to get entities by their string id that was set in VisEditor. For frequent lookups get handle for id once using
+ * {@link #getHandle(String)} and then use methods accepting handle, those don't require any hashing or allocations.
  * @author Kotcrab
  */
 @Wire
@@ -33,7 +35,8 @@ public class VisIDManager extends Manager {
 	private ComponentMapper<IDComponent> idCm;
 	private AspectSubscriptionManager subscriptionManager;
 
-	private ObjectMap<String, Array<Entity>> idStore = new ObjectMap<String, Array<Entity>>();
+	private ObjectIntMap<String> handles = new ObjectIntMap<String>();
+	private Array<IdEntry> entries = new Array<IdEntry>();
 
 	@Override
 	protected void initialize () {
@@ -45,16 +48,10 @@ public class VisIDManager extends Manager {
 				int[] data = entities.getData();
 				for (int i = 0; i < entities.size(); i++) {
 					int entityId = data[i];
-					String id = idCm.get(entityId).id;
+					IdEntry entry = entries.get(getHandle(idCm.get(entityId).id));
 
-					Array<Entity> idList = idStore.get(id);
-
-					if (idList == null) {
-						idList = new Array<Entity>();
-						idStore.put(id, idList);
-					}
-
-					idList.add(world.getEntity(entityId));
+					if (entry.ids.add(entityId) != -1)
+						entry.entities.add(world.getEntity(entityId));
 				}
 			}
 
@@ -63,22 +60,37 @@ public class VisIDManager extends Manager {
 				int[] data = entities.getData();
 				for (int i = 0; i < entities.size(); i++) {
 					int entityId = data[i];
-					String id = idCm.get(entityId).id;
+					int handle = handles.get(idCm.get(entityId).id, -1);
+					if (handle == -1) continue;
 
-					Array<Entity> idList = idStore.get(id);
-					idList.removeValue(world.getEntity(entityId), true);
-
-					if (idList.size == 0) {
-						idStore.remove(id);
-					}
+					IdEntry entry = entries.get(handle);
+					int index = entry.ids.remove(entityId);
+					if (index != -1) entry.entities.removeIndex(index);
 				}
 			}
 		});
 	}
 
+	/**
+	 * Returns handle for given id. Handle is valid for entire lifetime of this manager and can be obtained before any
+	 * entity with this id was added.
+	 */
+	public int getHandle (String id) {
+		int handle = handles.get(id, -1);
+
+		if (handle == -1) {
+			handle = entries.size;
+			entries.add(new IdEntry());
+			handles.put(id, handle);
+		}
+
+		return handle;
+	}
+
 	/**
 	 * Returns entity for given ID. If multiple entities has the same id only the first one will be returned.
 	 * @see #getMultiple(String)
+	 * @see #getOrNull(String)
 	 */
 	public Entity get (String id) {
 		return getMultiple(id).get(0);
@@ -89,8 +101,48 @@ public class VisIDManager extends Manager {
 	 * @see #get(String)
 	 */
 	public Array<Entity> getMultiple (String id) {
-		Array<Entity> entities = idStore.get(id);
-		if (entities == null) throw new IllegalStateException("Could not find any entity with ID: " + id);
-		return entities;
+		int handle = handles.get(id, -1);
+		if (handle == -1 || entries.get(handle).ids.isEmpty())
+			throw new IllegalStateException("Could not find any entity with ID: " + id);
+		return entries.get(handle).entities;
+	}
+
+	/**
+	 * @return entity for given ID or null if there is no such entity. If multiple entities has the same id any of them is
+	 * returned.
+	 */
+	public Entity getOrNull (String id) {
+		int handle = handles.get(id, -1);
+		if (handle == -1) return null;
+		return getOrNull(handle);
+	}
+
+	/**
+	 * @return entity for given handle or null if there is no such entity. If multiple entities has the same id any of them
+	 * is returned.
+	 */
+	public Entity getOrNull (int handle) {
+		Array<Entity> entities = entries.get(handle).entities;
+		return entities.size == 0 ? null : entities.first();
+	}
+
+	/** @return all entities for given handle, returned array must not be modified */
+	public Array<Entity> getMultiple (int handle) {
+		return entries.get(handle).entities;
+	}
+
+	/** @return ids of all entities for given handle, may be iterated without allocations, must not be modified */
+	public IntBag getEntityIds (int handle) {
+		return entries.get(handle).ids.getIds();
+	}
+
+	/** @return true if entity has id represented by given handle */
+	public boolean contains (int handle, int entityId) {
+		return entries.get(handle).ids.contains(entityId);
+	}
+
+	private static class IdEntry {
+		final EntityIdSet ids = new EntityIdSet();
+		final Array<Entity> entities = new Array<Entity>(false, 4);
 	}
 }
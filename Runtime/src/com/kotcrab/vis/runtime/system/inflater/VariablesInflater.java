@@ -0,0 +1,38 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.runtime.system.inflater;
+
+import com.artemis.ComponentMapper;
+import com.artemis.Manager;
+import com.artemis.annotations.Wire;
+import com.kotcrab.vis.runtime.component.VariablesComponent;
+
+/**
+ * Parses {@link VariablesComponent} values into typed storage when entity is added, so primitive getters used during
+ * game loop never have to parse anything.
+ * @author Kotcrab
+ */
+@Wire
+public class VariablesInflater extends Manager {
+	private ComponentMapper<VariablesComponent> variablesCm;
+
+	@Override
+	public void added (int entityId) {
+		if (variablesCm.has(entityId) == false) return;
+		variablesCm.get(entityId).parse();
+	}
+}
@@ -20,12 +20,26 @@ import com.artemis.ComponentMapper;
 import com.artemis.Entity;
 import com.artemis.Manager;
 import com.artemis.annotations.Wire;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.NumberUtils;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
 import com.kotcrab.vis.runtime.RuntimeConfiguration;
 import com.kotcrab.vis.runtime.component.*;
+import com.kotcrab.vis.runtime.scene.Scene;
 
-/** @author Kotcrab */
+/**
+ * Creates box2d bodies for entities with {@link PhysicsPropertiesComponent}. Bodies of entities added during scene init
+ * are created in single batch when {@link #buildPendingBodies()} is called (done by {@link Scene#init()}), entities added
+ * later get their bodies immediately. If enabled in {@link RuntimeConfiguration} static bodies are merged into compound
+ * bodies. User data of every created fixture is set to its entity.
+ * @author Kotcrab
+ */
 @Wire
 public class PhysicsBodyManager extends Manager {
 	private PhysicsSystem physicsSystem;
@@ -34,11 +48,26 @@ public class PhysicsBodyManager extends Manager {
 	private ComponentMapper<PhysicsComponent> physicsCm;
 	private ComponentMapper<PolygonComponent> polygonCm;
 	private ComponentMapper<SpriteComponent> spriteCm;
-	private ComponentMapper<PhysicsSpriteComponent> physicsSpriteCm;
+	private ComponentMapper<LayerComponent> layerCm;
 
 	private World world;
 	private RuntimeConfiguration runtimeConfig;
 
+	private boolean buildPending = true;
+	private IntArray pendingEntities = new IntArray();
+
+	private BodyDef bodyDef = new BodyDef();
+	private FixtureDef fixtureDef = new FixtureDef();
+	private float[] tmpVertices = new float[16];
+	private PolygonShape tmpShape;
+
+	private ObjectMap<ShapeKey, PolygonShape> shapeCache = new ObjectMap<ShapeKey, PolygonShape>();
+	private ShapeKey lookupShapeKey = new ShapeKey();
+
+	private ObjectMap<ChunkKey, Body> mergedBodies = new ObjectMap<ChunkKey, Body>();
+	private ObjectSet<Body> mergedBodiesSet = new ObjectSet<Body>();
+	private ChunkKey lookupChunkKey = new ChunkKey();
+
 	public PhysicsBodyManager (RuntimeConfiguration runtimeConfig) {
 		this.runtimeConfig = runtimeConfig;
 	}
@@ -46,24 +75,66 @@ public class PhysicsBodyManager extends Manager {
 	@Override
 	protected void initialize () {
 		world = physicsSystem.getPhysicsWorld();
+		tmpShape = new PolygonShape();
 	}
 
 	@Override
 	public void added (int entityId) {
-		Entity entity = super.world.getEntity(entityId);
 		if (physicsPropCm.has(entityId) == false || polygonCm.has(entityId) == false || spriteCm.has(entityId) == false)
 			return;
 
+		if (buildPending)
+			pendingEntities.add(entityId);
+		else
+			createBody(entityId);
+	}
+
+	/**
+	 * Creates bodies for all entities added during scene init. After this is called bodies for new entities are
+	 * created immediately. Called by {@link Scene#init()}.
+	 */
+	public void buildPendingBodies () {
+		buildPending = false;
+
+		for (int i = 0; i < pendingEntities.size; i++)
+			createBody(pendingEntities.get(i));
+
+		pendingEntities.clear();
+	}
+
+	private void createBody (int entityId) {
+		Entity entity = super.world.getEntity(entityId);
+
 		PhysicsPropertiesComponent physicsProperties = physicsPropCm.get(entityId);
 		PolygonComponent polygon = polygonCm.get(entityId);
 		SpriteComponent sprite = spriteCm.get(entityId);
 
 		if (physicsProperties.adjustOrigin) sprite.setOrigin(0, 0);
 
-		Vector2 worldPos = new Vector2(sprite.getX(), sprite.getY());
+		fixtureDef.density = physicsProperties.density;
+		fixtureDef.friction = physicsProperties.friction;
+		fixtureDef.restitution = physicsProperties.restitution;
+		fixtureDef.isSensor = physicsProperties.sensor;
+		fixtureDef.filter.maskBits = physicsProperties.maskBits;
+		fixtureDef.filter.categoryBits = physicsProperties.categoryBits;
 
-		BodyDef bodyDef = new BodyDef();
-		bodyDef.position.set(worldPos);
+		if (runtimeConfig.mergeStaticBox2dBodies && physicsProperties.bodyType == BodyType.StaticBody && physicsProperties.active) {
+			int layerId = layerCm.has(entityId) ? layerCm.get(entityId).layerId : 0;
+			Body body = getMergedBody(layerId, sprite.getX(), sprite.getY());
+			Vector2 bodyPos = body.getPosition();
+
+			for (Vector2[] face : polygon.faces) {
+				tmpShape.set(toLocalVertices(face, bodyPos.x, bodyPos.y), 0, face.length * 2);
+				fixtureDef.shape = tmpShape;
+				body.createFixture(fixtureDef).setUserData(entity);
+			}
+
+			//merged body never moves so sprite does not need to be updated
+			entity.edit().add(new PhysicsComponent(body));
+			return;
+		}
+
+		bodyDef.position.set(sprite.getX(), sprite.getY());
 
 		Body body = world.createBody(bodyDef);
 		body.setType(physicsProperties.bodyType);
@@ -78,25 +149,10 @@ public class PhysicsBodyManager extends Manager {
 		body.setSleepingAllowed(physicsProperties.sleepingAllowed);
 		body.setActive(physicsProperties.active);
 
-		for (Vector2[] vs : polygon.faces) {
-			for (Vector2 v : vs) { //polygon component stores data in world cords, we need to convert it to local cords
-				v.sub(worldPos);
-			}
-
-			PolygonShape shape = new PolygonShape();
-			shape.set(vs);
-
-			FixtureDef fd = new FixtureDef();
-			fd.density = physicsProperties.density;
-			fd.friction = physicsProperties.friction;
-			fd.restitution = physicsProperties.restitution;
-			fd.isSensor = physicsProperties.sensor;
-			fd.shape = shape;
-			fd.filter.maskBits = physicsProperties.maskBits;
-			fd.filter.categoryBits = physicsProperties.categoryBits;
-
-			body.createFixture(fd);
-			shape.dispose();
+		for (Vector2[] face : polygon.faces) {
+			//polygon component stores data in world cords, shapes are created in body local cords
+			fixtureDef.shape = getShape(toLocalVertices(face, sprite.getX(), sprite.getY()), face.length * 2);
+			body.createFixture(fixtureDef).setUserData(entity);
 		}
 
 		entity.edit()
@@ -104,12 +160,171 @@ public class PhysicsBodyManager extends Manager {
 				.add(new PhysicsSpriteComponent(sprite.getRotation()));
 	}
 
+	private float[] toLocalVertices (Vector2[] face, float originX, float originY) {
+		if (tmpVertices.length < face.length * 2) tmpVertices = new float[face.length * 2];
+
+		for (int i = 0; i < face.length; i++) {
+			tmpVertices[i * 2] = face[i].x - originX;
+			tmpVertices[i * 2 + 1] = face[i].y - originY;
+		}
+
+		return tmpVertices;
+	}
+
+	/** @return cached shape for given local vertices, box2d copies shape when creating fixture so shape can be shared */
+	private PolygonShape getShape (float[] vertices, int length) {
+		lookupShapeKey.set(vertices, length);
+		PolygonShape shape = shapeCache.get(lookupShapeKey);
+
+		if (shape == null) {
+			shape = new PolygonShape();
+			shape.set(vertices, 0, length);
+			shapeCache.put(new ShapeKey(lookupShapeKey), shape);
+		}
+
+		return shape;
+	}
+
+	private Body getMergedBody (int layerId, float x, float y) {
+		float chunkSize = runtimeConfig.staticBox2dBodiesChunkSize;
+		int chunkX = chunkSize > 0 ? MathUtils.floor(x / chunkSize) : 0;
+		int chunkY = chunkSize > 0 ? MathUtils.floor(y / chunkSize) : 0;
+
+		lookupChunkKey.set(layerId, chunkX, chunkY);
+		Body body = mergedBodies.get(lookupChunkKey);
+
+		if (body == null) {
+			bodyDef.position.set(chunkX * chunkSize, chunkY * chunkSize);
+			body = world.createBody(bodyDef);
+			body.setType(BodyType.StaticBody);
+
+			mergedBodies.put(new ChunkKey(layerId, chunkX, chunkY), body);
+			mergedBodiesSet.add(body);
+		}
+
+		return body;
+	}
+
 	@Override
 	public void deleted (int entityId) {
+		if (buildPending) {
+			pendingEntities.removeValue(entityId);
+			return;
+		}
+
 		if (runtimeConfig.autoDisposeBox2dBodyOnEntityRemove == false || physicsCm.has(entityId) == false) return;
 		PhysicsComponent physics = physicsCm.get(entityId);
 		if (physics.body == null) return;
-		world.destroyBody(physics.body);
+
+		if (mergedBodiesSet.contains(physics.body))
+			destroyMergedFixtures(physics.body, entityId);
+		else
+			world.destroyBody(physics.body);
+
 		physics.body = null;
 	}
+
+	private void destroyMergedFixtures (Body body, int entityId) {
+		Array<Fixture> fixtures = body.getFixtureList();
+		for (int i = fixtures.size - 1; i >= 0; i--) {
+			Fixture fixture = fixtures.get(i);
+			if (((Entity) fixture.getUserData()).getId() == entityId) body.destroyFixture(fixture);
+		}
+
+		if (fixtures.size == 0) {
+			mergedBodies.remove(mergedBodies.findKey(body, true));
+			mergedBodiesSet.remove(body);
+			world.destroyBody(body);
+		}
+	}
+
+	@Override
+	protected void dispose () {
+		for (PolygonShape shape : shapeCache.values())
+			shape.dispose();
+
+		shapeCache.clear();
+		tmpShape.dispose();
+	}
+
+	private static class ShapeKey {
+		private float[] vertices;
+		private int length;
+		private int hash;
+
+		public ShapeKey () {
+		}
+
+		public ShapeKey (ShapeKey other) {
+			vertices = new float[other.length];
+			System.arraycopy(other.vertices, 0, vertices, 0, other.length);
+			length = other.length;
+			hash = other.hash;
+		}
+
+		public void set (float[] vertices, int length) {
+			this.vertices = vertices;
+			this.length = length;
+
+			int hash = length;
+			for (int i = 0; i < length; i++)
+				hash = 31 * hash + NumberUtils.floatToIntBits(vertices[i]);
+			this.hash = hash;
+		}
+
+		@Override
+		public boolean equals (Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+
+			ShapeKey other = (ShapeKey) o;
+			if (hash != other.hash || length != other.length) return false;
+
+			for (int i = 0; i < length; i++)
+				if (NumberUtils.floatToIntBits(vertices[i]) != NumberUtils.floatToIntBits(other.vertices[i])) return false;
+
+			return true;
+		}
+
+		@Override
+		public int hashCode () {
+			return hash;
+		}
+	}
+
+	private static class ChunkKey {
+		private int layerId;
+		private int chunkX;
+		private int chunkY;
+
+		public ChunkKey () {
+		}
+
+		public ChunkKey (int layerId, int chunkX, int chunkY) {
+			set(layerId, chunkX, chunkY);
+		}
+
+		public void set (int layerId, int chunkX, int chunkY) {
+			this.layerId = layerId;
+			this.chunkX = chunkX;
+			this.chunkY = chunkY;
+		}
+
+		@Override
+		public boolean equals (Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+
+			ChunkKey other = (ChunkKey) o;
+			return layerId == other.layerId && chunkX == other.chunkX && chunkY == other.chunkY;
+		}
+
+		@Override
+		public int hashCode () {
+			int result = layerId;
+			result = 31 * result + chunkX;
+			result = 31 * result + chunkY;
+			return result;
+		}
+	}
 }
@@ -23,30 +23,61 @@ import com.artemis.annotations.Wire;
 import com.artemis.systems.EntityProcessingSystem;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.kotcrab.vis.runtime.RuntimeConfiguration;
 import com.kotcrab.vis.runtime.component.PhysicsComponent;
 import com.kotcrab.vis.runtime.component.PhysicsSpriteComponent;
 import com.kotcrab.vis.runtime.component.SpriteComponent;
 
-/** @author Kotcrab */
+/**
+ * Updates sprite position and rotation from box2d body state. Depending on {@link RuntimeConfiguration} sprites of
+ * sleeping and static bodies can be skipped and state can be interpolated between two last physics steps.
+ * @author Kotcrab
+ */
 @Wire
 public class PhysicsSpriteUpdateSystem extends EntityProcessingSystem {
 	private ComponentMapper<PhysicsComponent> physicsCm;
 	private ComponentMapper<SpriteComponent> spriteCm;
 	private ComponentMapper<PhysicsSpriteComponent> physicsSpriteCm;
 
+	private PhysicsSystem physicsSystem;
+
+	private final boolean awakeOnly;
+	private final boolean interpolate;
+
 	public PhysicsSpriteUpdateSystem () {
+		this(new RuntimeConfiguration());
+	}
+
+	public PhysicsSpriteUpdateSystem (RuntimeConfiguration runtimeConfig) {
 		super(Aspect.all(PhysicsComponent.class, PhysicsSpriteComponent.class, SpriteComponent.class));
+		awakeOnly = runtimeConfig.updateOnlyAwakeBox2dBodies;
+		interpolate = runtimeConfig.useBox2dInterpolation;
 	}
 
 	@Override
 	protected void process (Entity e) {
 		PhysicsComponent physics = physicsCm.get(e);
-		if (physics.body == null) return;
+		Body body = physics.body;
+		if (body == null) return;
+		if (awakeOnly && PhysicsSystem.isAwakeAndMovable(body) == false) return;
+
 		SpriteComponent sprite = spriteCm.get(e);
 		PhysicsSpriteComponent physicsSprite = physicsSpriteCm.get(e);
 
-		Vector2 pos = physics.body.getPosition();
-		sprite.setPosition(pos.x, pos.y);
-		sprite.setRotation(physicsSprite.originalRotation + physics.body.getAngle() * MathUtils.radiansToDegrees);
+		Vector2 pos = body.getPosition();
+		float x = pos.x;
+		float y = pos.y;
+		float angle = body.getAngle();
+
+		if (interpolate) {
+			float alpha = physicsSystem.getAlpha();
+			x = physics.prevX + (x - physics.prevX) * alpha;
+			y = physics.prevY + (y - physics.prevY) * alpha;
+			angle = physics.prevAngle + (angle - physics.prevAngle) * alpha;
+		}
+
+		sprite.setPosition(x, y);
+		sprite.setRotation(physicsSprite.originalRotation + angle * MathUtils.radiansToDegrees);
 	}
 }
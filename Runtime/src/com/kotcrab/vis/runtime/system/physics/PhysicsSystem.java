@@ -16,34 +16,94 @@
 
 package com.kotcrab.vis.runtime.system.physics;
 
-import com.artemis.BaseSystem;
+import com.artemis.*;
 import com.artemis.annotations.Wire;
+import com.artemis.utils.IntBag;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
 import com.badlogic.gdx.physics.box2d.World;
+import com.kotcrab.vis.runtime.RuntimeConfiguration;
+import com.kotcrab.vis.runtime.component.PhysicsComponent;
 import com.kotcrab.vis.runtime.data.PhysicsSettings;
 
-/** @author Kotcrab */
+/**
+ * Steps box2d world using fixed time step from {@link PhysicsSettings}. Leftover time is kept for next frame and exposed
+ * as {@link #getAlpha()} so rendering can interpolate between physics states.
+ * @author Kotcrab
+ */
 @Wire
 public class PhysicsSystem extends BaseSystem {
-	private static final float TIME_STEP = 1f / 60f;
-	private static final int VELOCITY_ITERATIONS = 6;
-	private static final int POSITION_ITERATIONS = 2;
+	private ComponentMapper<PhysicsComponent> physicsCm;
+	private AspectSubscriptionManager subscriptionManager;
+	private EntitySubscription subscription;
+
+	private final float timeStep;
+	private final int velocityIterations;
+	private final int positionIterations;
+
+	private final boolean interpolate;
+	private final boolean awakeOnly;
 
 	private World box2dWorld;
 	private float timeAccumulator;
+	private float alpha;
 
 	public PhysicsSystem (PhysicsSettings physicsSettings) {
+		this(physicsSettings, new RuntimeConfiguration());
+	}
+
+	public PhysicsSystem (PhysicsSettings physicsSettings, RuntimeConfiguration runtimeConfig) {
+		if (physicsSettings.timeStep <= 0) throw new IllegalArgumentException("Physics time step must be greater than 0");
+		timeStep = physicsSettings.timeStep;
+		velocityIterations = physicsSettings.velocityIterations;
+		positionIterations = physicsSettings.positionIterations;
+
+		interpolate = runtimeConfig.useBox2dInterpolation;
+		awakeOnly = runtimeConfig.updateOnlyAwakeBox2dBodies;
+
 		box2dWorld = new World(new Vector2(physicsSettings.gravityX, physicsSettings.gravityY), physicsSettings.allowSleep);
 	}
 
+	@Override
+	protected void initialize () {
+		subscription = subscriptionManager.get(Aspect.all(PhysicsComponent.class));
+	}
+
 	@Override
 	protected void processSystem () {
 		float frameTime = Math.min(world.delta, 0.25f);
 		timeAccumulator += frameTime;
-		while (timeAccumulator >= TIME_STEP) {
-			box2dWorld.step(TIME_STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
-			timeAccumulator -= TIME_STEP;
+		while (timeAccumulator >= timeStep) {
+			//only state before last step of this frame is needed for interpolation
+			if (interpolate && timeAccumulator - timeStep < timeStep) storePreviousState();
+
+			box2dWorld.step(timeStep, velocityIterations, positionIterations);
+			timeAccumulator -= timeStep;
 		}
+
+		alpha = timeAccumulator / timeStep;
+	}
+
+	private void storePreviousState () {
+		IntBag bag = subscription.getEntities();
+		int[] data = bag.getData();
+
+		for (int i = 0; i < bag.size(); i++) {
+			PhysicsComponent physics = physicsCm.get(data[i]);
+			Body body = physics.body;
+			if (body == null || (awakeOnly && isAwakeAndMovable(body) == false)) continue;
+
+			Vector2 pos = body.getPosition();
+			physics.prevX = pos.x;
+			physics.prevY = pos.y;
+			physics.prevAngle = body.getAngle();
+		}
+	}
+
+	/** @return true if body is awake and it's not static body */
+	public static boolean isAwakeAndMovable (Body body) {
+		return body.getType() != BodyType.StaticBody && body.isAwake();
 	}
 
 	@Override
@@ -51,6 +111,14 @@ public class PhysicsSystem extends BaseSystem {
 		box2dWorld.dispose();
 	}
 
+	/**
+	 * @return leftover time from last update that wasn't yet simulated, expressed as fraction of time step. In range
+	 * from 0 to 1.
+	 */
+	public float getAlpha () {
+		return alpha;
+	}
+
 	public World getPhysicsWorld () {
 		return box2dWorld;
 	}
@@ -20,6 +20,7 @@ import com.artemis.BaseSystem;
 import com.artemis.Manager;
 import com.artemis.WorldConfiguration;
 import com.badlogic.gdx.utils.Array;
+import com.kotcrab.vis.runtime.system.RenderBatchingSystem;
 
 /**
  * Similar to {@link WorldConfiguration} however it allows to get added systems and managers.
@@ -44,6 +45,19 @@ public class EntityEngineConfiguration {
 			systems.add(system);
 	}
 
+	/**
+	 * Adds system that will be processed right before other, already added, non passive system. Allows plugins to
+	 * process their systems before systems created by runtime, for example before {@link RenderBatchingSystem}.
+	 */
+	public void setSystemBefore (BaseSystem system, Class<? extends BaseSystem> beforeClass) {
+		checkBeforeAdd();
+		BaseSystem before = getSystem(beforeClass);
+		int index = systems.indexOf(before, true);
+		if (index == -1)
+			throw new IllegalStateException("Failed to add system before: '" + beforeClass + "', system is passive!");
+		systems.insert(index, system);
+	}
+
 	public void setManager (Manager manager) {
 		checkBeforeAdd();
 		managers.add(manager);
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.runtime.util;
+
+import com.artemis.utils.IntBag;
+import com.badlogic.gdx.utils.IntIntMap;
+
+/**
+ * Unordered set of entity ids with O(1) add, remove and contains. Ids are stored densely in {@link IntBag} so they can be
+ * iterated without allocations. Removing id moves last id into the place of removed one.
+ * @author Kotcrab
+ */
+public class EntityIdSet {
+	private final IntBag ids = new IntBag();
+	private final IntIntMap indices = new IntIntMap();
+
+	/**
+	 * @return index at which id was added or -1 if set already contained this id
+	 */
+	public int add (int entityId) {
+		if (indices.containsKey(entityId)) return -1;
+
+		int index = ids.size();
+		ids.add(entityId);
+		indices.put(entityId, index);
+		return index;
+	}
+
+	/**
+	 * @return index from which id was removed or -1 if set didn't contain this id. Last id of this set was moved into
+	 * that index.
+	 */
+	public int remove (int entityId) {
+		int index = indices.remove(entityId, -1);
+		if (index == -1) return -1;
+
+		ids.remove(index);
+		if (index < ids.size()) indices.put(ids.get(index), index);
+
+		return index;
+	}
+
+	public boolean contains (int entityId) {
+		return indices.containsKey(entityId);
+	}
+
+	public int size () {
+		return ids.size();
+	}
+
+	public boolean isEmpty () {
+		return ids.size() == 0;
+	}
+
+	/** @return ids stored in this set, returned bag must not be modified */
+	public IntBag getIds () {
+		return ids;
+	}
+}
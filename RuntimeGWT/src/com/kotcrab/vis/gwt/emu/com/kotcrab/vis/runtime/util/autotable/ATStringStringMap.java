@@ -27,4 +27,10 @@ import java.lang.annotation.Target;
 public @interface ATStringStringMap {
 	/** @return human friendly field name that will be used in VisEditor UI. */
 	String fieldName () default "";
+
+	/**
+	 * @return name of field in the same component that stores declared variable types as
+	 * ObjectMap&lt;String, VariablesComponent.VariableType&gt;. When set VisEditor UI allows to select type of each variable.
+	 */
+	String typesField () default "";
 }
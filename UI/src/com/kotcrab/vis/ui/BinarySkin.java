@@ -0,0 +1,198 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.kotcrab.vis.ui;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonValue.ValueType;
+import com.badlogic.gdx.utils.SerializationException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Skin that can be loaded from binary skin file created by USL (using -binary option). Binary skin contains values that
+ * are already parsed and names that are stored only once so json text doesn't have to be parsed when skin is loaded.
+ * Styles are created by the same serializers as for json skin. Json skin files can be also loaded by this skin.
+ * @author Kotcrab
+ * @see VisUI#load(FileHandle)
+ * @since 0.9.3
+ */
+public class BinarySkin extends Skin {
+	private static final int MAGIC = 0x5655534C;
+	private static final int VERSION = 1;
+
+	private static final byte TYPE_NULL = 0;
+	private static final byte TYPE_STRING = 1;
+	private static final byte TYPE_LONG = 2;
+	private static final byte TYPE_DOUBLE = 3;
+	private static final byte TYPE_TRUE = 4;
+	private static final byte TYPE_FALSE = 5;
+	private static final byte TYPE_OBJECT = 6;
+
+	/** Creates skin and loads atlas with the same name as skin file (with .atlas extension) */
+	public BinarySkin (FileHandle skinFile) {
+		super(skinFile);
+	}
+
+	public BinarySkin (FileHandle skinFile, TextureAtlas atlas) {
+		super(skinFile, atlas);
+	}
+
+	public BinarySkin (TextureAtlas atlas) {
+		super(atlas);
+	}
+
+	@Override
+	public void load (FileHandle skinFile) {
+		if (isBinarySkin(skinFile) == false) {
+			super.load(skinFile);
+			return;
+		}
+
+		try {
+			getJsonLoader(skinFile).readValue(Skin.class, read(skinFile));
+		} catch (SerializationException ex) {
+			throw new SerializationException("Error reading file: " + skinFile, ex);
+		}
+	}
+
+	/** @return true if file is binary skin, false if it is json skin or other file */
+	public static boolean isBinarySkin (FileHandle file) {
+		if (file.exists() == false) return false;
+
+		DataInputStream in = new DataInputStream(file.read());
+		try {
+			return in.readInt() == MAGIC;
+		} catch (IOException e) {
+			return false;
+		} finally {
+			StreamUtils.closeQuietly(in);
+		}
+	}
+
+	/** Reads binary skin into json tree that is the same as tree created by parsing json skin */
+	public static JsonValue read (FileHandle skinFile) {
+		InputStream input = skinFile.read(8192);
+		try {
+			return read(new DataInputStream(input));
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Error reading binary skin file: " + skinFile, e);
+		} finally {
+			StreamUtils.closeQuietly(input);
+		}
+	}
+
+	private static JsonValue read (DataInputStream in) throws IOException {
+		if (in.readInt() != MAGIC) throw new SerializationException("File is not a binary skin");
+		int version = in.readByte();
+		if (version != VERSION)
+			throw new SerializationException("Unsupported binary skin version: " + version + ", expected: " + VERSION);
+
+		String[] strings = new String[readVarInt(in)];
+		for (int i = 0; i < strings.length; i++)
+			strings[i] = in.readUTF();
+
+		JsonValue root = new JsonValue(ValueType.object);
+		int classesCount = readVarInt(in);
+		JsonValue last = null;
+
+		for (int i = 0; i < classesCount; i++) {
+			String className = strings[readVarInt(in)];
+			JsonValue classValue = new JsonValue(ValueType.object);
+
+			int stylesCount = readVarInt(in);
+			JsonValue lastStyle = null;
+			for (int j = 0; j < stylesCount; j++) {
+				String name = strings[readVarInt(in)];
+				lastStyle = addChild(classValue, lastStyle, readObject(in, strings), name);
+			}
+
+			last = addChild(root, last, classValue, className);
+		}
+
+		return root;
+	}
+
+	private static JsonValue readObject (DataInputStream in, String[] strings) throws IOException {
+		JsonValue object = new JsonValue(ValueType.object);
+		int fieldsCount = readVarInt(in);
+		JsonValue last = null;
+
+		for (int i = 0; i < fieldsCount; i++) {
+			String name = strings[readVarInt(in)];
+			last = addChild(object, last, readValue(in, strings), name);
+		}
+
+		return object;
+	}
+
+	private static JsonValue readValue (DataInputStream in, String[] strings) throws IOException {
+		byte type = in.readByte();
+		switch (type) {
+			case TYPE_NULL:
+				return new JsonValue(ValueType.nullValue);
+			case TYPE_STRING:
+				return new JsonValue(strings[readVarInt(in)]);
+			case TYPE_LONG:
+				return new JsonValue(in.readLong());
+			case TYPE_DOUBLE:
+				return new JsonValue(in.readDouble());
+			case TYPE_TRUE:
+				return new JsonValue(true);
+			case TYPE_FALSE:
+				return new JsonValue(false);
+			case TYPE_OBJECT:
+				return readObject(in, strings);
+			default:
+				throw new SerializationException("Invalid value type in binary skin: " + type);
+		}
+	}
+
+	/** Adds child after last child of parent, this avoids iterating over parent children for every added child */
+	private static JsonValue addChild (JsonValue parent, JsonValue last, JsonValue child, String name) {
+		child.name = name;
+
+		if (last == null)
+			parent.child = child;
+		else {
+			last.next = child;
+			child.prev = last;
+		}
+
+		parent.size++;
+		return child;
+	}
+
+	private static int readVarInt (DataInputStream in) throws IOException {
+		int result = 0;
+
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = in.readUnsignedByte();
+			result |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) return result;
+		}
+
+		throw new SerializationException("Malformed variable length int in binary skin");
+	}
+}
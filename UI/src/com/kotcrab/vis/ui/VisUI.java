@@ -87,10 +87,16 @@ public class VisUI {
 		load(scale.getSkinFile());
 	}
 
-	/** Loads skin from provided file, skin must be compatible with default VisUI skin */
+	/**
+	 * Loads skin from provided file, skin must be compatible with default VisUI skin. File can be json skin or binary skin
+	 * created by USL, see {@link BinarySkin}.
+	 */
 	public static void load (FileHandle visSkinFile) {
 		checkBeforeLoad();
-		VisUI.skin = new Skin(visSkinFile);
+		if (BinarySkin.isBinarySkin(visSkinFile))
+			VisUI.skin = new BinarySkin(visSkinFile);
+		else
+			VisUI.skin = new Skin(visSkinFile);
 	}
 
 	/** Sets provided skin as default for every VisUI widget, skin must be compatible with default VisUI skin */
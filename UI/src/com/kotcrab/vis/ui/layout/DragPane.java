@@ -16,6 +16,7 @@
 
 package com.kotcrab.vis.ui.layout;
 
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Group;
@@ -46,6 +47,7 @@ import com.kotcrab.vis.ui.widget.Draggable.DragListener;
 public class DragPane extends Container<WidgetGroup> {
 	private Draggable draggable;
 	private DragPaneListener listener;
+	private final Rectangle groupCullingArea = new Rectangle();
 
 	/** Creates a new horizontal drag pane. */
 	public DragPane () {
@@ -97,6 +99,23 @@ public class DragPane extends Container<WidgetGroup> {
 		return getActor() instanceof GridGroup;
 	}
 
+	/**
+	 * Culling area is also passed to internally managed group (translated to its coordinates), so when pane is placed in
+	 * {@link com.badlogic.gdx.scenes.scene2d.ui.ScrollPane} only visible children are drawn.
+	 */
+	@Override
+	public void setCullingArea (final Rectangle cullingArea) {
+		super.setCullingArea(cullingArea);
+		final WidgetGroup group = getActor();
+		if (group == null) return;
+		if (cullingArea == null) {
+			group.setCullingArea(null);
+		} else {
+			groupCullingArea.set(cullingArea.x - group.getX(), cullingArea.y - group.getY(), cullingArea.width, cullingArea.height);
+			group.setCullingArea(groupCullingArea);
+		}
+	}
+
 	@Override
 	public SnapshotArray<Actor> getChildren () {
 		return getActor().getChildren();
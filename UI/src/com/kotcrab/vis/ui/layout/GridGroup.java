@@ -25,6 +25,7 @@ import com.badlogic.gdx.utils.SnapshotArray;
  * Allows to easily arrange actors in grid layout. Item size and spacing can be specified in constructors.
  * @author Kotcrab
  * @since 0.7.2
+ * @see VirtualGridGroup
  */
 public class GridGroup extends WidgetGroup {
 	private float prefWidth;
@@ -73,24 +74,13 @@ public class GridGroup extends WidgetGroup {
 
 		float width = getWidth();
 
-		float maxHeight = 0;
-		float tempX = spacing;
+		//items that fit in single row, when there is not enough space for single item each item is placed in new row
+		int columns = (int) ((width - spacing) / (itemWidth + spacing));
 
-		for (int i = 0; i < children.size; i++) {
-			if (tempX + itemWidth + spacing > width) {
-				tempX = spacing;
-				maxHeight += itemHeight + spacing;
-			}
-
-			tempX += itemWidth + spacing;
-		}
-
-		if (itemWidth + spacing * 2 > prefWidth)
-			maxHeight += spacing;
+		if (itemWidth + spacing * 2 > width || columns < 1)
+			prefHeight = children.size * (itemHeight + spacing) + spacing;
 		else
-			maxHeight += itemHeight + spacing * 2;
-
-		prefHeight = maxHeight;
+			prefHeight = ((children.size + columns - 1) / columns) * (itemHeight + spacing) + spacing;
 	}
 
 	@Override
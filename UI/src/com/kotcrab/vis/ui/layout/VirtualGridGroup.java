@@ -0,0 +1,191 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.ui.layout;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
+import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
+import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
+import com.badlogic.gdx.scenes.scene2d.utils.Layout;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.kotcrab.vis.ui.util.adapter.ItemAdapter;
+import com.kotcrab.vis.ui.util.adapter.ItemAdapter.AdapterListener;
+import com.kotcrab.vis.ui.util.adapter.ViewRecycler;
+
+/**
+ * Virtualized version of {@link GridGroup}, arranges adapter items in grid layout and creates views only for items in
+ * visible rows. Views are created and updated by {@link ItemAdapter} and reused when group is scrolled. Visible area is
+ * determined from culling area set by {@link ScrollPane}, if group is not placed inside scroll pane views will be created
+ * for all items. Items are used as keys for views so adapter can't contain the same item twice.
+ * @author Kotcrab
+ * @see GridGroup
+ * @since 0.9.3
+ */
+public class VirtualGridGroup<ItemT, ViewT extends Actor> extends WidgetGroup {
+	private ItemAdapter<ItemT, ViewT> adapter;
+	private final ViewRecycler<ItemT, ViewT> recycler = new ViewRecycler<ItemT, ViewT>(this);
+
+	private int itemWidth = 256;
+	private int itemHeight = 256;
+	private float spacing = 8;
+
+	private int firstBoundIndex;
+	private int lastBoundIndex = -1;
+
+	public VirtualGridGroup (ItemAdapter<ItemT, ViewT> adapter) {
+		setTouchable(Touchable.childrenOnly);
+		setAdapter(adapter);
+	}
+
+	public VirtualGridGroup (ItemAdapter<ItemT, ViewT> adapter, int itemSize, float spacing) {
+		this.itemWidth = itemSize;
+		this.itemHeight = itemSize;
+		this.spacing = spacing;
+		setTouchable(Touchable.childrenOnly);
+		setAdapter(adapter);
+	}
+
+	public void setAdapter (ItemAdapter<ItemT, ViewT> adapter) {
+		if (this.adapter != null) this.adapter.setListener(null);
+		this.adapter = adapter;
+		adapter.setListener(new AdapterListener() {
+			@Override
+			public void dataChanged () {
+				invalidateHierarchy();
+			}
+		});
+
+		recycler.clear();
+		invalidateHierarchy();
+	}
+
+	public ItemAdapter<ItemT, ViewT> getAdapter () {
+		return adapter;
+	}
+
+	/** Must be called when data displayed by visible items has changed (but items itself weren't added or removed) */
+	public void itemsChanged () {
+		for (ObjectMap.Entry<ItemT, ViewT> entry : recycler.getBound())
+			adapter.updateView(entry.value, entry.key);
+	}
+
+	/** @return number of items in single row, 0 if there is not enough space for single item */
+	private int getColumns () {
+		return Math.max(0, (int) ((getWidth() - spacing) / (itemWidth + spacing)));
+	}
+
+	private int getRows () {
+		int columns = Math.max(1, getColumns());
+		return (adapter.size() + columns - 1) / columns;
+	}
+
+	private int getFirstVisibleIndex () {
+		Rectangle area = getCullingArea();
+		if (area == null) return 0;
+		int row = (int) ((getHeight() - spacing - (area.y + area.height)) / (itemHeight + spacing));
+		return Math.max(0, row) * Math.max(1, getColumns());
+	}
+
+	private int getLastVisibleIndex () {
+		Rectangle area = getCullingArea();
+		if (area == null) return adapter.size() - 1;
+		int row = (int) ((getHeight() - spacing - area.y) / (itemHeight + spacing));
+		return Math.min(adapter.size() - 1, (row + 1) * Math.max(1, getColumns()) - 1);
+	}
+
+	@Override
+	public void setCullingArea (Rectangle cullingArea) {
+		super.setCullingArea(cullingArea);
+
+		//scrolling does not invalidate widget, check if different items became visible
+		if (getFirstVisibleIndex() != firstBoundIndex || getLastVisibleIndex() != lastBoundIndex) invalidate();
+	}
+
+	@Override
+	public void layout () {
+		recycler.begin();
+
+		firstBoundIndex = getFirstVisibleIndex();
+		lastBoundIndex = getLastVisibleIndex();
+
+		for (int i = firstBoundIndex; i <= lastBoundIndex; i++)
+			recycler.keep(adapter.get(i));
+
+		recycler.releaseUnused();
+
+		int columns = Math.max(1, getColumns());
+		float top = getHeight() - itemHeight - spacing;
+
+		for (int i = firstBoundIndex; i <= lastBoundIndex; i++) {
+			ItemT item = adapter.get(i);
+			ViewT view = recycler.get(item);
+
+			if (view == null) {
+				view = recycler.obtain(item);
+				if (view == null) {
+					view = adapter.createView();
+					recycler.bind(item, view);
+				}
+				adapter.updateView(view, item);
+			}
+
+			float x = spacing + (i % columns) * (itemWidth + spacing);
+			float y = top - (i / columns) * (itemHeight + spacing);
+			view.setBounds(x, y, itemWidth, itemHeight);
+			if (view instanceof Layout) ((Layout) view).validate();
+		}
+	}
+
+	@Override
+	public float getPrefWidth () {
+		return adapter.size() == 0 ? 0 : getWidth();
+	}
+
+	@Override
+	public float getPrefHeight () {
+		if (adapter.size() == 0) return 0;
+		return getRows() * (itemHeight + spacing) + spacing;
+	}
+
+	public float getSpacing () {
+		return spacing;
+	}
+
+	public void setSpacing (float spacing) {
+		this.spacing = spacing;
+		invalidateHierarchy();
+	}
+
+	public void setItemSize (int itemSize) {
+		setItemSize(itemSize, itemSize);
+	}
+
+	public void setItemSize (int itemWidth, int itemHeight) {
+		this.itemWidth = itemWidth;
+		this.itemHeight = itemHeight;
+		invalidateHierarchy();
+	}
+
+	public int getItemWidth () {
+		return itemWidth;
+	}
+
+	public int getItemHeight () {
+		return itemHeight;
+	}
+}
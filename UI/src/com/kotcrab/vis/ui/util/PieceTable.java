@@ -0,0 +1,235 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.ui.util;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Text storage for editing large texts. Original text is never modified and inserted text is appended to separate
+ * buffer, document is described by list of pieces referencing ranges of those two buffers. Insertions and deletions
+ * modify only pieces list and don't copy document text. Consecutive insertions (typing) extend last inserted piece
+ * instead of creating new one. Lookups are done from last accessed piece so sequential access is constant time.
+ * @author Kotcrab
+ * @since 0.9.3
+ */
+public class PieceTable implements CharSequence {
+	private static final int ORIGINAL = 0;
+	private static final int ADDED = 1;
+
+	private String original;
+	private final StringBuilder added = new StringBuilder();
+
+	private final IntArray sources = new IntArray();
+	private final IntArray starts = new IntArray();
+	private final IntArray lengths = new IntArray();
+	private int length;
+
+	/** piece found by last lookup and its offset in document */
+	private int cachedPiece;
+	private int cachedPieceOffset;
+
+	private String cachedText;
+
+	public PieceTable () {
+		this("");
+	}
+
+	public PieceTable (String text) {
+		setText(text);
+	}
+
+	/** Replaces whole document, clears pieces list and insertion buffer */
+	public void setText (String text) {
+		original = text;
+		added.setLength(0);
+		sources.clear();
+		starts.clear();
+		lengths.clear();
+		length = text.length();
+		if (length > 0) insertPiece(0, ORIGINAL, 0, length);
+		resetCache();
+		cachedText = text;
+	}
+
+	@Override
+	public int length () {
+		return length;
+	}
+
+	@Override
+	public char charAt (int index) {
+		if (index < 0 || index >= length) throw new IndexOutOfBoundsException("index: " + index + ", length: " + length);
+		int piece = findPiece(index);
+		int offset = starts.get(piece) + index - cachedPieceOffset;
+		return sources.get(piece) == ORIGINAL ? original.charAt(offset) : added.charAt(offset);
+	}
+
+	/** @return index of piece containing character at index, offset of that piece is stored in cachedPieceOffset */
+	private int findPiece (int index) {
+		int piece = cachedPiece;
+		int offset = cachedPieceOffset;
+
+		while (index < offset) {
+			piece--;
+			offset -= lengths.get(piece);
+		}
+
+		while (index >= offset + lengths.get(piece)) {
+			offset += lengths.get(piece);
+			piece++;
+		}
+
+		cachedPiece = piece;
+		cachedPieceOffset = offset;
+		return piece;
+	}
+
+	private void resetCache () {
+		cachedPiece = 0;
+		cachedPieceOffset = 0;
+		cachedText = null;
+	}
+
+	public void insert (int index, CharSequence text) {
+		if (index < 0 || index > length) throw new IndexOutOfBoundsException("index: " + index + ", length: " + length);
+		int textLength = text.length();
+		if (textLength == 0) return;
+
+		int addedStart = added.length();
+		added.append(text);
+
+		if (index > 0) {
+			int piece = findPiece(index - 1);
+
+			//extend piece if text is inserted directly after previously inserted text
+			if (sources.get(piece) == ADDED && cachedPieceOffset + lengths.get(piece) == index
+					&& starts.get(piece) + lengths.get(piece) == addedStart) {
+				lengths.incr(piece, textLength);
+				length += textLength;
+				cachedText = null;
+				return;
+			}
+		}
+
+		if (index == length)
+			insertPiece(lengths.size, ADDED, addedStart, textLength);
+		else {
+			int piece = findPiece(index);
+			int pieceOffset = index - cachedPieceOffset;
+
+			if (pieceOffset != 0) {
+				splitPiece(piece, pieceOffset);
+				piece++;
+			}
+
+			insertPiece(piece, ADDED, addedStart, textLength);
+		}
+
+		length += textLength;
+		resetCache();
+	}
+
+	/** Deletes characters from start (inclusive) to end (exclusive) */
+	public void delete (int start, int end) {
+		if (start < 0 || end > length || start > end)
+			throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + length);
+		if (start == end) return;
+
+		int piece = findPiece(start);
+		int offset = cachedPieceOffset;
+
+		if (start > offset) {
+			splitPiece(piece, start - offset);
+			piece++;
+			offset = start;
+		}
+
+		while (piece < lengths.size && offset + lengths.get(piece) <= end) {
+			offset += lengths.get(piece);
+			removePiece(piece);
+		}
+
+		if (offset < end) {
+			int cut = end - offset;
+			starts.incr(piece, cut);
+			lengths.incr(piece, -cut);
+		}
+
+		length -= end - start;
+		resetCache();
+	}
+
+	private void insertPiece (int index, int source, int start, int length) {
+		sources.insert(index, source);
+		starts.insert(index, start);
+		lengths.insert(index, length);
+	}
+
+	private void removePiece (int index) {
+		sources.removeIndex(index);
+		starts.removeIndex(index);
+		lengths.removeIndex(index);
+	}
+
+	private void splitPiece (int index, int at) {
+		insertPiece(index + 1, sources.get(index), starts.get(index) + at, lengths.get(index) - at);
+		lengths.set(index, at);
+	}
+
+	/** Appends text from start (inclusive) to end (exclusive) to builder */
+	public void getText (int start, int end, StringBuilder builder) {
+		if (start < 0 || end > length || start > end)
+			throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + length);
+		if (start == end) return;
+
+		int piece = findPiece(start);
+		int offset = cachedPieceOffset;
+
+		while (offset < end) {
+			int pieceStart = starts.get(piece);
+			int pieceLength = lengths.get(piece);
+			int from = pieceStart + Math.max(0, start - offset);
+			int to = pieceStart + Math.min(pieceLength, end - offset);
+
+			if (sources.get(piece) == ORIGINAL)
+				builder.append(original, from, to);
+			else
+				builder.append(added, from, to);
+
+			offset += pieceLength;
+			piece++;
+		}
+	}
+
+	@Override
+	public String subSequence (int start, int end) {
+		StringBuilder builder = new StringBuilder(end - start);
+		getText(start, end, builder);
+		return builder.toString();
+	}
+
+	/** @return number of pieces describing document */
+	public int getPieceCount () {
+		return lengths.size;
+	}
+
+	@Override
+	public String toString () {
+		if (cachedText == null) cachedText = subSequence(0, length);
+		return cachedText;
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.ui.util.adapter;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * {@link ItemAdapter} backed by {@link Array}. Items must be modified using adapter methods, if array is modified
+ * directly {@link #dataChanged()} must be called.
+ * @author Kotcrab
+ * @since 0.9.3
+ */
+public abstract class ArrayAdapter<ItemT, ViewT extends Actor> implements ItemAdapter<ItemT, ViewT> {
+	private final Array<ItemT> items;
+	private AdapterListener listener;
+
+	public ArrayAdapter () {
+		this(new Array<ItemT>());
+	}
+
+	public ArrayAdapter (Array<ItemT> items) {
+		this.items = items;
+	}
+
+	@Override
+	public int size () {
+		return items.size;
+	}
+
+	@Override
+	public ItemT get (int index) {
+		return items.get(index);
+	}
+
+	public void add (ItemT item) {
+		items.add(item);
+		dataChanged();
+	}
+
+	public void addAll (Array<? extends ItemT> newItems) {
+		items.addAll(newItems);
+		dataChanged();
+	}
+
+	public void insert (int index, ItemT item) {
+		items.insert(index, item);
+		dataChanged();
+	}
+
+	public void set (int index, ItemT item) {
+		items.set(index, item);
+		dataChanged();
+	}
+
+	public boolean removeValue (ItemT item, boolean identity) {
+		boolean removed = items.removeValue(item, identity);
+		if (removed) dataChanged();
+		return removed;
+	}
+
+	public ItemT removeIndex (int index) {
+		ItemT item = items.removeIndex(index);
+		dataChanged();
+		return item;
+	}
+
+	public void clear () {
+		items.clear();
+		dataChanged();
+	}
+
+	public int indexOf (ItemT item, boolean identity) {
+		return items.indexOf(item, identity);
+	}
+
+	/** @return underlying array, if array is modified {@link #dataChanged()} must be called */
+	public Array<ItemT> getItems () {
+		return items;
+	}
+
+	@Override
+	public void setListener (AdapterListener listener) {
+		this.listener = listener;
+	}
+
+	/** Notifies widget using this adapter that items have changed */
+	public void dataChanged () {
+		if (listener != null) listener.dataChanged();
+	}
+}
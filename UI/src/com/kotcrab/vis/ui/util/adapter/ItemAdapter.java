@@ -0,0 +1,45 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.ui.util.adapter;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+
+/**
+ * Provides items and their views for virtualized widgets. Widgets using adapter creates views only for items that are
+ * currently visible, views are reused for different items when widget is scrolled.
+ * @author Kotcrab
+ * @see ArrayAdapter
+ * @since 0.9.3
+ */
+public interface ItemAdapter<ItemT, ViewT extends Actor> {
+	int size ();
+
+	ItemT get (int index);
+
+	ViewT createView ();
+
+	/** Updates view so it displays provided item, view could have been previously used to display other item */
+	void updateView (ViewT view, ItemT item);
+
+	/** Sets listener that must be notified when adapter items have changed, called by widget using this adapter */
+	void setListener (AdapterListener listener);
+
+	interface AdapterListener {
+		/** Called when adapter items were added, removed or reordered */
+		void dataChanged ();
+	}
+}
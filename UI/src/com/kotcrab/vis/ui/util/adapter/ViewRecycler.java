@@ -0,0 +1,103 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.ui.util.adapter;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Keeps track of views bound to visible items of virtualized widget and pools views of items that are no longer visible.
+ * Binding is done in passes, on every layout widget calls {@link #begin()}, {@link #keep(Object)} for all visible items,
+ * {@link #releaseUnused()} and then {@link #obtain(Object)} for visible items that don't have views.
+ * @author Kotcrab
+ * @since 0.9.3
+ */
+public class ViewRecycler<KeyT, ViewT extends Actor> {
+	private final Group group;
+
+	private ObjectMap<KeyT, ViewT> bound = new ObjectMap<KeyT, ViewT>();
+	private ObjectMap<KeyT, ViewT> previous = new ObjectMap<KeyT, ViewT>();
+	private final Array<ViewT> freeViews = new Array<ViewT>();
+
+	/** @param group group that views will be added to */
+	public ViewRecycler (Group group) {
+		this.group = group;
+	}
+
+	/** Starts new binding pass, views bound in previous pass can be retrieved using {@link #keep(Object)} */
+	public void begin () {
+		ObjectMap<KeyT, ViewT> temp = previous;
+		previous = bound;
+		bound = temp;
+		bound.clear();
+	}
+
+	/** @return view that was bound to this key in previous pass or null, view stays bound to key */
+	public ViewT keep (KeyT key) {
+		ViewT view = previous.remove(key);
+		if (view != null) bound.put(key, view);
+		return view;
+	}
+
+	/** Removes views that were not kept from group, those views will be reused by {@link #obtain(Object)} */
+	public void releaseUnused () {
+		for (ViewT view : previous.values()) {
+			group.removeActor(view);
+			freeViews.add(view);
+		}
+
+		previous.clear();
+	}
+
+	/** @return free view bound to provided key, null if there isn't any free view and new view must be created */
+	public ViewT obtain (KeyT key) {
+		if (freeViews.size == 0) return null;
+		ViewT view = freeViews.pop();
+		bind(key, view);
+		return view;
+	}
+
+	/** Binds view to key and adds it to group */
+	public void bind (KeyT key, ViewT view) {
+		if (view.getParent() != group) group.addActor(view);
+		bound.put(key, view);
+	}
+
+	/** Adds view to pool, view will be reused by {@link #obtain(Object)} */
+	public void free (ViewT view) {
+		if (view.getParent() == group) group.removeActor(view);
+		freeViews.add(view);
+	}
+
+	/** @return view bound to key in current pass or null */
+	public ViewT get (KeyT key) {
+		return bound.get(key);
+	}
+
+	/** @return all views bound in current pass */
+	public ObjectMap<KeyT, ViewT> getBound () {
+		return bound;
+	}
+
+	/** Unbinds all views, views are kept in pool */
+	public void clear () {
+		begin();
+		releaseUnused();
+	}
+}
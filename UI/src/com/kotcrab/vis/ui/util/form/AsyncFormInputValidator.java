@@ -0,0 +1,182 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.ui.util.form;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Timer;
+import com.badlogic.gdx.utils.Timer.Task;
+import com.kotcrab.vis.ui.widget.file.internal.ServiceThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Form input validator that performs expensive validation (for example accessing files) on separate thread. Validation
+ * is started when input wasn't changed for debounce time, result is published on UI thread and form that this validator
+ * belongs to is updated. Until validation finishes last result is used and form is treated as invalid. Results of
+ * validations started for input that was changed in the meantime are dropped.
+ * <p>
+ * Validation is performed asynchronously only when validator was added to form using {@link FormValidator} (or
+ * {@link SimpleFormValidator}), if validator is used directly by field it is validated synchronously.
+ * <p>
+ * AsyncFormInputValidator is not GWT compatible.
+ * @author Kotcrab
+ * @since 0.9.3
+ */
+public abstract class AsyncFormInputValidator extends FormInputValidator {
+	private static ExecutorService executor;
+
+	private boolean async = true;
+	private float debounceTime = 0.3f;
+
+	private boolean result;
+	private boolean pending;
+	/** increased every time new validation is requested, used to drop outdated results */
+	private int generation;
+	private String pendingInput;
+	/** input of last scheduled validation */
+	private String lastInput;
+
+	private final Task validationTask = new Task() {
+		@Override
+		public void run () {
+			startValidation();
+		}
+	};
+
+	public AsyncFormInputValidator (String errorMsg) {
+		super(errorMsg);
+	}
+
+	@Override
+	public boolean validateInput (String input) {
+		if (async == false || form == null) {
+			validationTask.cancel();
+			generation++;
+			pending = false;
+
+			String preparedInput = prepareInput(input);
+			result = preparedInput == null || validate(preparedInput);
+			return result;
+		}
+
+		//field is re-validated by form when any of its validators finished, result for the same input is already known or pending
+		if (form.isPublishingResult() && input.equals(lastInput)) return result;
+
+		generation++;
+		pending = true;
+		pendingInput = input;
+		lastInput = input;
+
+		validationTask.cancel();
+		Timer.schedule(validationTask, debounceTime);
+
+		return result;
+	}
+
+	private void startValidation () {
+		final int validationGeneration = generation;
+		final String preparedInput = prepareInput(pendingInput);
+
+		if (preparedInput == null) {
+			publishResult(validationGeneration, true);
+			return;
+		}
+
+		getExecutor().execute(new Runnable() {
+			@Override
+			public void run () {
+				boolean valid;
+
+				try {
+					valid = validate(preparedInput);
+				} catch (Exception e) {
+					Gdx.app.error("VisUI", "Exception thrown by asynchronous form validator, input will be treated as invalid", e);
+					valid = false;
+				}
+
+				final boolean validationResult = valid;
+				Gdx.app.postRunnable(new Runnable() {
+					@Override
+					public void run () {
+						publishResult(validationGeneration, validationResult);
+					}
+				});
+			}
+		});
+	}
+
+	private void publishResult (int validationGeneration, boolean validationResult) {
+		if (validationGeneration != generation) return;
+
+		result = validationResult;
+		pending = false;
+
+		if (form != null) form.validatorFinished(this);
+	}
+
+	private static synchronized ExecutorService getExecutor () {
+		if (executor == null) executor = Executors.newSingleThreadExecutor(new ServiceThreadFactory("FormValidator"));
+		return executor;
+	}
+
+	/**
+	 * Called on UI thread before validation is started. Should be overridden when validator depends on state of other
+	 * widgets which can't be accessed from {@link #validate(String)}.
+	 * @param input that will be validated
+	 * @return input that will be passed to {@link #validate(String)} or null if validation should be skipped and input is valid
+	 */
+	protected String prepareInput (String input) {
+		return input;
+	}
+
+	/**
+	 * Called on separate thread when input should be validated, must not access any widgets.
+	 * @param input returned by {@link #prepareInput(String)}
+	 * @return if input is valid, false otherwise
+	 */
+	@Override
+	protected abstract boolean validate (String input);
+
+	@Override
+	protected boolean getLastResult () {
+		return result;
+	}
+
+	@Override
+	public boolean isValidationPending () {
+		return pending;
+	}
+
+	public boolean isAsync () {
+		return async;
+	}
+
+	/** @param async if false validation will be performed synchronously, default is true */
+	public void setAsync (boolean async) {
+		this.async = async;
+	}
+
+	public float getDebounceTime () {
+		return debounceTime;
+	}
+
+	/** @param debounceTime time in seconds that input must be unchanged before validation is started, default is 0.3 */
+	public void setDebounceTime (float debounceTime) {
+		this.debounceTime = debounceTime;
+	}
+}
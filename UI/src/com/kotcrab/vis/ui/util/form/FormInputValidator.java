@@ -24,6 +24,9 @@ public abstract class FormInputValidator implements InputValidator {
 	private boolean result;
 	private boolean hideErrorOnEmptyInput = false;
 
+	/** form that this validator was added to, may be null */
+	SimpleFormValidator form;
+
 	public FormInputValidator (String errorMsg) {
 		this.errorMsg = errorMsg;
 	}
@@ -47,6 +50,11 @@ public abstract class FormInputValidator implements InputValidator {
 		return result;
 	}
 
+	/** @return true if validation result is not yet known because validation is still running, see {@link AsyncFormInputValidator} */
+	public boolean isValidationPending () {
+		return false;
+	}
+
 	public FormInputValidator hideErrorOnEmptyInput () {
 		hideErrorOnEmptyInput = true;
 		return this;
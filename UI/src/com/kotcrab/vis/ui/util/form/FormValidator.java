@@ -28,6 +28,9 @@ import java.io.File;
 
 /**
  * Makes validating forms easier <br>
+ * File and directory validators added by this form are {@link AsyncFormInputValidator}s, files are checked on separate
+ * thread when field text wasn't changed for short time. Validators using other text field as relative path are
+ * automatically re-validated when that field is changed. <br>
  * FromValidator is not gwt compatible, if you need that see {@link SimpleFormValidator}
  * @author Kotcrab
  */
@@ -60,6 +63,7 @@ public class FormValidator extends SimpleFormValidator {
 		FileExistsValidator validator = new FileExistsValidator(relativeTo, errorMsg);
 		field.addValidator(validator);
 		add(field);
+		addDependency(field, relativeTo);
 		return validator;
 	}
 
@@ -73,6 +77,7 @@ public class FormValidator extends SimpleFormValidator {
 		FileExistsValidator validator = new FileExistsValidator(relativeTo, errorMsg, false, errorIfRelativeEmpty);
 		field.addValidator(validator);
 		add(field);
+		addDependency(field, relativeTo);
 		return validator;
 	}
 
@@ -116,6 +121,7 @@ public class FormValidator extends SimpleFormValidator {
 		FileExistsValidator validator = new FileExistsValidator(relativeTo, errorMsg, true);
 		field.addValidator(validator);
 		add(field);
+		addDependency(field, relativeTo);
 		return validator;
 
 	}
@@ -168,7 +174,7 @@ public class FormValidator extends SimpleFormValidator {
 	}
 
 	/** Validates if entered absolute path points to existing directory */
-	public static class DirectoryValidator extends FormInputValidator {
+	public static class DirectoryValidator extends AsyncFormInputValidator {
 		public DirectoryValidator (String errorMsg) {
 			super(errorMsg);
 		}
@@ -185,7 +191,7 @@ public class FormValidator extends SimpleFormValidator {
 	 * it has files in it
 	 * @see DirectoryValidator
 	 */
-	public static class DirectoryContentValidator extends FormInputValidator {
+	public static class DirectoryContentValidator extends AsyncFormInputValidator {
 		private boolean mustBeEmpty;
 
 		/** @param mustBeEmpty if true validated directory must be empty, if false that directory must not be empty */
@@ -222,7 +228,7 @@ public class FormValidator extends SimpleFormValidator {
 	 * if file exist in that directory. Eg. if relativePath points to "C:\directory\" and field that
 	 * has this validator contains "test.txt" then this validator will check if file ""C:\directory\text.txt" exists (or not).
 	 */
-	public static class FileExistsValidator extends FormInputValidator {
+	public static class FileExistsValidator extends AsyncFormInputValidator {
 		VisTextField relativeTo;
 		File relativeToFile;
 
@@ -266,21 +272,26 @@ public class FormValidator extends SimpleFormValidator {
 			this.errorIfRelativeEmpty = errorIfRelativeEmpty;
 		}
 
+		/** Resolves path of validated file, relative text field can be only accessed on UI thread */
 		@Override
-		public boolean validate (String input) {
-			File file;
-
+		protected String prepareInput (String input) {
 			if (relativeTo != null) {
 				if (relativeTo.getText().length() == 0 && errorIfRelativeEmpty == false) {
-					return true;
+					return null;
 				}
 
-				file = new File(relativeTo.getText(), input);
+				return new File(relativeTo.getText(), input).getPath();
 			} else if (relativeToFile != null) {
-				file = new File(relativeToFile, input);
+				return new File(relativeToFile, input).getPath();
 			} else {
-				file = new File(input);
+				return input;
 			}
+		}
+
+		/** @param input path of file resolved by {@link #prepareInput(String)} */
+		@Override
+		public boolean validate (String input) {
+			File file = new File(input);
 
 			if (mustNotExist)
 				return !file.exists();
@@ -24,6 +24,8 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.Disableable;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
 import com.kotcrab.vis.ui.InputValidator;
 import com.kotcrab.vis.ui.VisUI;
 import com.kotcrab.vis.ui.util.Validators;
@@ -35,6 +37,10 @@ import com.kotcrab.vis.ui.widget.VisValidatableTextField;
 /**
  * Makes validating forms easier
  * <p>
+ * Field is validated when its text is changed, other fields are not re-validated unless they were registered as dependent on
+ * changed field using {@link #addDependency(VisValidatableTextField, Actor)}. This must be done when validator of field
+ * uses text of other field.
+ * <p>
  * SimpleFormValidator is GWT compatible and does not provide fileExists methods, if you are not using GWT use
  * {@link FormValidator}
  * @author Kotcrab
@@ -45,10 +51,14 @@ public class SimpleFormValidator {
 	private ChangeSharedListener changeListener = new ChangeSharedListener();
 	private Array<VisValidatableTextField> fields = new Array<VisValidatableTextField>();
 	private Array<CheckedButtonWrapper> buttons = new Array<CheckedButtonWrapper>();
+	/** fields that must be validated when key actor was changed */
+	private ObjectMap<Actor, Array<VisValidatableTextField>> dependents = new ObjectMap<Actor, Array<VisValidatableTextField>>();
+	private ObjectSet<Actor> validatedActors = new ObjectSet<Actor>();
 
 	private String successMsg;
 
 	private boolean formInvalid = false;
+	private boolean publishingResult;
 	private String errorMsgText = "";
 
 	private Array<Disableable> disableTargets = new Array<Disableable>();
@@ -141,14 +151,14 @@ public class SimpleFormValidator {
 	public void checked (Button button, String errorMsg) {
 		buttons.add(new CheckedButtonWrapper(button, true, errorMsg));
 		button.addListener(changeListener);
-		checkAll();
+		updateFormState();
 	}
 
 	/** Validates if given button (usually checkbox) is unchecked. Use VisCheckBox to additionally support error border around it. */
 	public void unchecked (Button button, String errorMsg) {
 		buttons.add(new CheckedButtonWrapper(button, false, errorMsg));
 		button.addListener(changeListener);
-		checkAll();
+		updateFormState();
 	}
 
 	/**
@@ -157,8 +167,38 @@ public class SimpleFormValidator {
 	 */
 	public void add (VisValidatableTextField field) {
 		if (fields.contains(field, true) == false) fields.add(field);
+		for (InputValidator validator : field.getValidators()) {
+			if (validator instanceof FormInputValidator) ((FormInputValidator) validator).form = this;
+		}
+
 		field.addListener(changeListener); //addListener won't allow to add same listener twice
-		checkAll();
+		updateFormState(); //field is validated when validator is added to it
+	}
+
+	/**
+	 * Registers dependency of field on other actor, when dependency is changed field will be re-validated. Must be used
+	 * when validator of field uses state of other widget (for example text of other field).
+	 * @param field field that must be re-validated, must be added to this form
+	 * @param dependency actor that changes must cause re-validation of field, usually other text field
+	 */
+	public void addDependency (VisValidatableTextField field, Actor dependency) {
+		Array<VisValidatableTextField> fields = dependents.get(dependency);
+		if (fields == null) {
+			fields = new Array<VisValidatableTextField>();
+			dependents.put(dependency, fields);
+		}
+
+		if (fields.contains(field, true) == false) fields.add(field);
+		dependency.addListener(changeListener);
+	}
+
+	/** Validates all fields of this form, usually this is not needed because fields are validated when they are changed */
+	public void validate () {
+		for (VisValidatableTextField field : fields) {
+			field.validateInput();
+		}
+
+		updateFormState();
 	}
 
 	public void addDisableTarget (Disableable disableable) {
@@ -182,7 +222,42 @@ public class SimpleFormValidator {
 		this.successMsg = successMsg;
 	}
 
-	private void checkAll () {
+	/** Validates fields that depends on actor, dependencies are resolved recursively */
+	private void validateDependents (Actor actor) {
+		Array<VisValidatableTextField> fields = dependents.get(actor);
+		if (fields == null) return;
+
+		for (int i = 0; i < fields.size; i++) {
+			VisValidatableTextField field = fields.get(i);
+			if (validatedActors.add(field) == false) continue; //already validated, dependencies have cycle
+
+			field.validateInput();
+			validateDependents(field);
+		}
+	}
+
+	/** Called by {@link FormInputValidator} when its result was changed outside of field validation */
+	void validatorFinished (FormInputValidator validator) {
+		//other validators of field can't be skipped, validators after one that failed were not run for current input
+		publishingResult = true;
+		try {
+			for (VisValidatableTextField field : fields) {
+				if (field.getValidators().contains(validator, true)) field.validateInput();
+			}
+		} finally {
+			publishingResult = false;
+		}
+
+		updateFormState();
+	}
+
+	/** @return true if fields are re-validated because validator finished, validators shouldn't restart validation of the same input */
+	boolean isPublishingResult () {
+		return publishingResult;
+	}
+
+	/** Updates form state using last validation results of fields */
+	private void updateFormState () {
 		formInvalid = false;
 		errorMsgText = null;
 
@@ -202,10 +277,6 @@ public class SimpleFormValidator {
 			}
 		}
 
-		for (VisValidatableTextField field : fields) {
-			field.validateInput();
-		}
-
 		for (VisValidatableTextField field : fields) {
 			if (field.isInputValid() == false) {
 
@@ -231,15 +302,35 @@ public class SimpleFormValidator {
 			}
 		}
 
-		updateWidgets();
+		//form can't be valid until all validators finished, message is updated when validation is finished
+		if (formInvalid == false && isValidationPending()) {
+			formInvalid = true;
+			updateWidgets(false);
+		} else
+			updateWidgets(true);
+	}
+
+	private boolean isValidationPending () {
+		for (VisValidatableTextField field : fields) {
+			for (InputValidator validator : field.getValidators()) {
+				if (validator instanceof FormInputValidator && ((FormInputValidator) validator).isValidationPending())
+					return true;
+			}
+		}
+
+		return false;
 	}
 
 	private void updateWidgets () {
+		updateWidgets(true);
+	}
+
+	private void updateWidgets (boolean updateMessage) {
 		for (Disableable disableable : disableTargets) {
 			disableable.setDisabled(formInvalid);
 		}
 
-		if (messageLabel != null) {
+		if (messageLabel != null && updateMessage) {
 
 			if (errorMsgText != null) {
 				messageLabel.setText(errorMsgText);
@@ -259,7 +350,13 @@ public class SimpleFormValidator {
 	private class ChangeSharedListener extends ChangeListener {
 		@Override
 		public void changed (ChangeEvent event, Actor actor) {
-			checkAll();
+			//changed field is validated by itself before change event is fired, only fields depending on it must be validated
+			Actor changedActor = event.getListenerActor();
+			validatedActors.add(changedActor);
+			validateDependents(changedActor);
+			validatedActors.clear();
+
+			updateFormState();
 		}
 	}
 
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.ui.widget;
+
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/**
+ * Allows to batch layout invalidation of {@link VisTable}s. Between {@link #begin()} and {@link #end()} calls, when
+ * {@link VisTable#invalidateHierarchy()} is called only that table is invalidated. Its parents are invalidated once when
+ * batch ends, and invalidation stops at tables already invalidated by the same batch. Useful when values of many widgets
+ * are changed at once, for example when updating properties panel.
+ * <p>
+ * Layout of tables invalidated during batch shouldn't be queried until batch has ended. Batches can be nested, parents are
+ * invalidated when outermost batch ends. Must be used only from OpenGL thread.
+ * @author Kotcrab
+ * @since 0.9.3
+ */
+public class LayoutBatch {
+	private static int depth;
+	private static boolean flushing;
+
+	private static final Array<Table> pending = new Array<Table>();
+	private static final ObjectSet<Table> pendingSet = new ObjectSet<Table>();
+	private static final ObjectSet<Table> flushed = new ObjectSet<Table>();
+
+	public static void begin () {
+		depth++;
+	}
+
+	/** @throws IllegalStateException if {@link #begin()} wasn't called before */
+	public static void end () {
+		if (depth == 0) throw new IllegalStateException("LayoutBatch.begin() must be called before end()");
+		if (--depth > 0) return;
+
+		flushing = true;
+		try {
+			for (int i = 0; i < pending.size; i++) {
+				pending.get(i).invalidateHierarchy();
+			}
+		} finally {
+			flushing = false;
+			pending.clear();
+			pendingSet.clear();
+			flushed.clear();
+		}
+	}
+
+	/** @return true if batch is currently active */
+	public static boolean isActive () {
+		return depth > 0;
+	}
+
+	/**
+	 * Called by table when its hierarchy is invalidated.
+	 * @return true if table should not invalidate its parents, false if table should invalidate hierarchy normally
+	 */
+	static boolean deferInvalidation (Table table) {
+		if (flushing) return flushed.add(table) == false;
+		if (depth == 0) return false;
+
+		table.invalidate();
+		if (pendingSet.add(table)) pending.add(table);
+		return true;
+	}
+}
@@ -30,6 +30,8 @@ import com.kotcrab.vis.ui.widget.VisTextButton.VisTextButtonStyle;
  * @author Kotcrab
  */
 public class Menu extends PopupMenu {
+	private static final Vector2 tmpVector = new Vector2();
+
 	private MenuBar menuBar;
 
 	public VisTextButton openButton;
@@ -82,7 +84,7 @@ public class Menu extends PopupMenu {
 	}
 
 	private void showMenu () {
-		Vector2 pos = openButton.localToStageCoordinates(new Vector2(0, 0));
+		Vector2 pos = openButton.localToStageCoordinates(tmpVector.set(0, 0));
 		setPosition(pos.x, pos.y - getHeight());
 		openButton.getStage().addActor(this);
 		menuBar.setCurrentMenu(this);
@@ -44,6 +44,25 @@ import com.kotcrab.vis.ui.util.OsUtils;
  * @author Kotcrab
  */
 public class MenuItem extends Button {
+	private static final Vector2 tmpVector = new Vector2();
+
+	/** listeners shared by all menu items, item is obtained from event listener actor */
+	private static final ChangeListener subMenuChangeListener = new ChangeListener() {
+		@Override
+		public void changed (ChangeEvent event, Actor actor) {
+			//makes submenu item not clickable
+			if (((MenuItem) event.getListenerActor()).subMenu != null)
+				event.stop();
+		}
+	};
+
+	private static final InputListener subMenuInputListener = new InputListener() {
+		@Override
+		public void enter (InputEvent event, float x, float y, int pointer, Actor fromActor) {
+			((MenuItem) event.getListenerActor()).showSubMenu();
+		}
+	};
+
 	private Image image;
 	private Label label;
 	private MenuItemStyle style;
@@ -117,38 +136,29 @@ public class MenuItem extends Button {
 		subMenuIconCell = add(subMenuImage = new Image(style.subMenu)).padLeft(3).padRight(3).size(style.subMenu.getMinWidth(), style.subMenu.getMinHeight());
 		subMenuIconCell.setActor(null);
 
-		addListener(new ChangeListener() {
-			@Override
-			public void changed (ChangeEvent event, Actor actor) {
-				//makes submenu item not clickable
-				if (subMenu != null)
-					event.stop();
-			}
-		});
-
-		addListener(new InputListener() {
-			@Override
-			public void enter (InputEvent event, float x, float y, int pointer, Actor fromActor) {
-				if (subMenu == null || isDisabled()) {
-					//hides last visible submenu (if any)
-					PopupMenu parent = (PopupMenu) getParent();
-					parent.setSubMenu(null);
-				} else {
-					Stage stage = getStage();
-					Vector2 pos = localToStageCoordinates(new Vector2(0, 0));
-
-					subMenu.setPosition(pos.x + getWidth() - 1, pos.y - subMenu.getHeight() + getHeight());
-					if (subMenu.getY() < 0) {
-						subMenu.setY(subMenu.getY() + subMenu.getHeight() - getHeight());
-					}
-
-					stage.addActor(subMenu);
-
-					PopupMenu parent = (PopupMenu) getParent();
-					parent.setSubMenu(subMenu);
-				}
+		addListener(subMenuChangeListener);
+		addListener(subMenuInputListener);
+	}
+
+	private void showSubMenu () {
+		if (subMenu == null || isDisabled()) {
+			//hides last visible submenu (if any)
+			PopupMenu parent = (PopupMenu) getParent();
+			parent.setSubMenu(null);
+		} else {
+			Stage stage = getStage();
+			Vector2 pos = localToStageCoordinates(tmpVector.set(0, 0));
+
+			subMenu.setPosition(pos.x + getWidth() - 1, pos.y - subMenu.getHeight() + getHeight());
+			if (subMenu.getY() < 0) {
+				subMenu.setY(subMenu.getY() + subMenu.getHeight() - getHeight());
 			}
-		});
+
+			stage.addActor(subMenu);
+
+			PopupMenu parent = (PopupMenu) getParent();
+			parent.setSubMenu(subMenu);
+		}
 	}
 
 	public void setSubMenu (final PopupMenu subMenu) {
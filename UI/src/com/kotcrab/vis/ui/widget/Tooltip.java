@@ -17,7 +17,6 @@
 package com.kotcrab.vis.ui.widget;
 
 import com.badlogic.gdx.math.Interpolation;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.EventListener;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
@@ -27,13 +26,12 @@ import com.badlogic.gdx.scenes.scene2d.ui.Cell;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Timer;
-import com.badlogic.gdx.utils.Timer.Task;
 import com.kotcrab.vis.ui.VisUI;
-import com.kotcrab.vis.ui.util.ActorUtils;
 
 /**
- * Tooltips are widgets that appear bellow other widget after user hovers mouse pointer on that other widget.
+ * Tooltips are widgets that appear bellow other widget after user hovers mouse pointer on that other widget. Shared
+ * manager only keeps tooltip that is waiting for its appear delay, entering other target replaces it. Displayed tooltip
+ * is not tracked by manager, it is hidden when mouse exits or touches its target.
  * @author Kotcrab
  * @since 0.5.0
  */
@@ -41,14 +39,36 @@ public class Tooltip extends VisTable {
 	public static final float DEFAULT_FADE_TIME = 0.3f;
 	public static final float DEFAULT_APPEAR_DELAY_TIME = 0.6f;
 
+	/** listener shared by all tooltips, keeps tooltip displayed when mouse is over it */
+	private static final InputListener tooltipListener = new InputListener() {
+		@Override
+		public boolean touchDown (InputEvent event, float x, float y, int pointer, int button) {
+			event.getListenerActor().toFront();
+			return true;
+		}
+
+		@Override
+		public void enter (InputEvent event, float x, float y, int pointer, Actor fromActor) {
+			if (pointer == -1) {
+				Tooltip tooltip = (Tooltip) event.getListenerActor();
+				tooltip.clearActions();
+				tooltip.addAction(Actions.fadeIn(tooltip.fadeTime, Interpolation.fade));
+			}
+		}
+
+		@Override
+		public void exit (InputEvent event, float x, float y, int pointer, Actor toActor) {
+			if (pointer == -1)
+				((Tooltip) event.getListenerActor()).fadeOut();
+		}
+	};
+
 	private Actor target;
 	private Actor content;
 	private Cell<Actor> contentCell;
 
 	private TooltipInputListener listener;
 
-	private DisplayTask displayTask;
-
 	private float fadeTime = DEFAULT_FADE_TIME;
 	private float appearDelayTime = DEFAULT_APPEAR_DELAY_TIME;
 
@@ -113,7 +133,6 @@ public class Tooltip extends VisTable {
 		this.target = target;
 		this.content = content;
 		this.listener = new TooltipInputListener();
-		this.displayTask = new DisplayTask();
 
 		setBackground(style.background);
 
@@ -122,27 +141,7 @@ public class Tooltip extends VisTable {
 
 		if (target != null) attach();
 
-		addListener(new InputListener() {
-			@Override
-			public boolean touchDown (InputEvent event, float x, float y, int pointer, int button) {
-				toFront();
-				return true;
-			}
-
-			@Override
-			public void enter (InputEvent event, float x, float y, int pointer, Actor fromActor) {
-				if (pointer == -1) {
-					clearActions();
-					addAction(Actions.sequence(Actions.fadeIn(fadeTime, Interpolation.fade)));
-				}
-			}
-
-			@Override
-			public void exit (InputEvent event, float x, float y, int pointer, Actor toActor) {
-				if (pointer == -1)
-					fadeOut();
-			}
-		});
+		addListener(tooltipListener);
 	}
 
 	/**
@@ -168,6 +167,7 @@ public class Tooltip extends VisTable {
 	public void detach () {
 		if (target == null) return;
 		target.removeListener(listener);
+		TooltipManager.exit(this);
 	}
 
 	/** Sets new target for this tooltip, tooltip will be automatically detached from old target. */
@@ -177,15 +177,19 @@ public class Tooltip extends VisTable {
 		attach();
 	}
 
-	private void fadeOut () {
+	public Actor getTarget () {
+		return target;
+	}
+
+	void fadeOut () {
 		clearActions();
 		addAction(Actions.sequence(Actions.fadeOut(fadeTime, Interpolation.fade), Actions.removeActor()));
 	}
 
-	private VisTable fadeIn () {
+	VisTable fadeIn () {
 		clearActions();
 		setColor(1, 1, 1, 0);
-		addAction(Actions.sequence(Actions.fadeIn(fadeTime, Interpolation.fade)));
+		addAction(Actions.fadeIn(fadeTime, Interpolation.fade));
 		return this;
 	}
 
@@ -220,57 +224,27 @@ public class Tooltip extends VisTable {
 		this.fadeTime = fadeTime;
 	}
 
-	private class DisplayTask extends Task {
-		@Override
-		public void run () {
-			target.getStage().addActor(fadeIn());
-			ActorUtils.keepWithinStage(getStage(), Tooltip.this);
-		}
-	}
-
+	/** Forwards target events to {@link TooltipManager} */
 	private class TooltipInputListener extends InputListener {
 		@Override
 		public boolean touchDown (InputEvent event, float x, float y, int pointer, int button) {
-			displayTask.cancel();
-			Tooltip.this.toFront();
-			fadeOut();
+			TooltipManager.touchDown(Tooltip.this);
 			return true;
 		}
 
 		@Override
 		public void enter (InputEvent event, float x, float y, int pointer, Actor fromActor) {
-			if (pointer == -1) {
-				Vector2 targetPos = target.localToStageCoordinates(new Vector2());
-
-				setX(targetPos.x + (target.getWidth() - getWidth()) / 2);
-
-				float tooltipY = targetPos.y - getHeight() - 6;
-				float stageHeight = target.getStage().getHeight();
-
-				//is there enough space to display bellow widget
-				if (stageHeight - tooltipY > stageHeight)
-					setY(targetPos.y + target.getHeight() + 6); //display above widget
-				else
-					setY(tooltipY); //display bellow
-
-				displayTask.cancel();
-				Timer.schedule(displayTask, appearDelayTime);
-			}
+			if (pointer == -1) TooltipManager.enter(Tooltip.this);
 		}
 
 		@Override
 		public void exit (InputEvent event, float x, float y, int pointer, Actor toActor) {
-			if (pointer == -1) {
-				displayTask.cancel();
-				fadeOut();
-			}
+			if (pointer == -1) TooltipManager.exit(Tooltip.this);
 		}
 
 		@Override
 		public boolean mouseMoved (InputEvent event, float x, float y) {
-			if (isVisible() && getActions().size == 0)
-				fadeOut();
-
+			TooltipManager.mouseMoved(Tooltip.this);
 			return false;
 		}
 	}
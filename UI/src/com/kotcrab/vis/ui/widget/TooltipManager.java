@@ -0,0 +1,131 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.kotcrab.vis.ui.widget;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.Action;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.kotcrab.vis.ui.util.ActorUtils;
+
+/**
+ * Shows and hides {@link Tooltip}s. Only one tooltip can be pending at once so instead of timer task for every
+ * tooltip single reusable action is added to stage root while tooltip is waiting for its appear delay. That action
+ * checks once per frame if mouse is still over tooltip target, when delay passes tooltip is displayed and action is removed.
+ * Tooltips fade actions are obtained from libGDX pools, no objects are allocated when mouse enters or exits targets.
+ * @author Kotcrab
+ */
+class TooltipManager {
+	private static final Vector2 tmpVector = new Vector2();
+
+	/** tooltip waiting for its appear delay, cleared once tooltip is displayed so its stage isn't referenced statically */
+	private static Tooltip current;
+	private static float hoverTime;
+
+	private static final Action updateAction = new Action() {
+		@Override
+		public boolean act (float delta) {
+			return update(delta);
+		}
+	};
+
+	private TooltipManager () {
+	}
+
+	static void enter (Tooltip tooltip) {
+		Stage stage = tooltip.getTarget().getStage();
+		if (stage == null) return;
+
+		if (current != null && current != tooltip) hide(current);
+		current = tooltip;
+		hoverTime = 0;
+
+		Group root = stage.getRoot();
+		Actor updatedActor = updateAction.getActor();
+		if (updatedActor != root) {
+			if (updatedActor != null) updatedActor.removeAction(updateAction);
+			root.addAction(updateAction);
+		}
+	}
+
+	static void exit (Tooltip tooltip) {
+		hide(tooltip);
+	}
+
+	static void touchDown (Tooltip tooltip) {
+		tooltip.toFront();
+		hide(tooltip);
+	}
+
+	static void mouseMoved (Tooltip tooltip) {
+		//tooltip that already finished appearing is hidden when mouse is moved over target
+		if (tooltip.getStage() != null && tooltip.isVisible() && tooltip.getActions().size == 0) hide(tooltip);
+	}
+
+	private static void hide (Tooltip tooltip) {
+		if (current == tooltip) current = null;
+		if (tooltip.getStage() != null) tooltip.fadeOut();
+	}
+
+	private static boolean update (float delta) {
+		if (current == null) return true;
+
+		Actor target = current.getTarget();
+		Stage stage = target.getStage();
+
+		if (stage == null || isMouseOver(stage, target) == false) {
+			current = null;
+			return true;
+		}
+
+		hoverTime += delta;
+		if (hoverTime < current.getAppearDelayTime()) return false;
+
+		Tooltip tooltip = current;
+		current = null;
+		show(tooltip, target, stage);
+		return true;
+	}
+
+	/** Hit-tests current mouse position, exit event is not fired when target is moved or hidden under mouse pointer */
+	private static boolean isMouseOver (Stage stage, Actor target) {
+		stage.screenToStageCoordinates(tmpVector.set(Gdx.input.getX(), Gdx.input.getY()));
+		Actor hit = stage.hit(tmpVector.x, tmpVector.y, true);
+		return hit != null && hit.isDescendantOf(target);
+	}
+
+	private static void show (Tooltip tooltip, Actor target, Stage stage) {
+		Vector2 targetPos = target.localToStageCoordinates(tmpVector.set(0, 0));
+
+		tooltip.setX(targetPos.x + (target.getWidth() - tooltip.getWidth()) / 2);
+
+		float tooltipY = targetPos.y - tooltip.getHeight() - 6;
+		float stageHeight = stage.getHeight();
+
+		//is there enough space to display bellow widget
+		if (stageHeight - tooltipY > stageHeight)
+			tooltip.setY(targetPos.y + target.getHeight() + 6); //display above widget
+		else
+			tooltip.setY(tooltipY); //display bellow
+
+		stage.addActor(tooltip.fadeIn());
+		ActorUtils.keepWithinStage(stage, tooltip);
+	}
+}
@@ -0,0 +1,453 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.ui.widget;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.scenes.scene2d.InputListener;
+import com.badlogic.gdx.scenes.scene2d.ui.List.ListStyle;
+import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
+import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
+import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Layout;
+import com.badlogic.gdx.scenes.scene2d.utils.Selection;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ObjectFloatMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.kotcrab.vis.ui.FocusManager;
+import com.kotcrab.vis.ui.VisUI;
+import com.kotcrab.vis.ui.util.adapter.ItemAdapter;
+import com.kotcrab.vis.ui.util.adapter.ItemAdapter.AdapterListener;
+import com.kotcrab.vis.ui.util.adapter.ViewRecycler;
+
+/**
+ * List that creates views only for items that are currently visible. Views are created and updated by {@link ItemAdapter}
+ * and reused when list is scrolled, so list can display huge amount of items. Visible area is determined from culling
+ * area set by {@link ScrollPane}, if list is not placed inside scroll pane views will be created for all items.
+ * <p>
+ * By default all items have the same height, which is preferred height of first view created by adapter or height set
+ * by {@link #setItemHeight(float)}. In variable height mode height of each item is measured from its view when item is
+ * displayed for the first time, until then item height is estimated.
+ * <p>
+ * Items are used as keys for views and selection so adapter can't contain the same item twice.
+ * @author Kotcrab
+ * @see VisList
+ * @since 0.9.3
+ */
+public class VirtualList<ItemT, ViewT extends Actor> extends WidgetGroup {
+	private static final int MAX_MEASURE_PASSES = 3;
+
+	private ListStyle style;
+	private ItemAdapter<ItemT, ViewT> adapter;
+
+	private final ViewRecycler<ItemT, ViewT> recycler = new ViewRecycler<ItemT, ViewT>(this);
+	private final Selection<ItemT> selection = new Selection<ItemT>();
+
+	private float itemHeight = -1;
+	private boolean variableHeight;
+	/** measured items heights in variable height mode */
+	private ObjectFloatMap<ItemT> heights = new ObjectFloatMap<ItemT>();
+	private ObjectFloatMap<ItemT> previousHeights = new ObjectFloatMap<ItemT>();
+	/** offsets of items tops from list top in variable height mode, contains one more element than adapter */
+	private final FloatArray offsets = new FloatArray();
+	private boolean offsetsInvalid = true;
+
+	private int firstBoundIndex;
+	private int lastBoundIndex = -1;
+	private boolean dataInvalid;
+
+	private float prefWidth;
+	private float prefHeight;
+	private float maxViewWidth;
+	private boolean sizeInvalid = true;
+
+	private ClickListener clickListener;
+
+	public VirtualList (ItemAdapter<ItemT, ViewT> adapter) {
+		this(adapter, "default");
+	}
+
+	public VirtualList (ItemAdapter<ItemT, ViewT> adapter, String styleName) {
+		this(adapter, VisUI.getSkin().get(styleName, ListStyle.class));
+	}
+
+	public VirtualList (ItemAdapter<ItemT, ViewT> adapter, ListStyle style) {
+		this.style = style;
+		selection.setActor(this);
+		selection.setRequired(true);
+		setAdapter(adapter);
+
+		addListener(clickListener = new ClickListener() {
+			@Override
+			public void clicked (InputEvent event, float x, float y) {
+				int index = getIndexAt(y);
+				if (index == -1 || index != getIndexAt(getTouchDownY())) return;
+				selection.choose(VirtualList.this.adapter.get(index));
+			}
+		});
+
+		addListener(new InputListener() {
+			@Override
+			public boolean touchDown (InputEvent event, float x, float y, int pointer, int button) {
+				FocusManager.resetFocus(getStage());
+				return false;
+			}
+		});
+	}
+
+	public void setAdapter (ItemAdapter<ItemT, ViewT> adapter) {
+		if (this.adapter != null) this.adapter.setListener(null);
+		this.adapter = adapter;
+		adapter.setListener(new AdapterListener() {
+			@Override
+			public void dataChanged () {
+				VirtualList.this.dataChanged();
+			}
+		});
+
+		recycler.clear();
+		selection.clear();
+		dataChanged();
+	}
+
+	public ItemAdapter<ItemT, ViewT> getAdapter () {
+		return adapter;
+	}
+
+	private void dataChanged () {
+		dataInvalid = true;
+		offsetsInvalid = true;
+		maxViewWidth = 0;
+		invalidateHierarchy();
+	}
+
+	/** Must be called when data displayed by visible items has changed (but items itself weren't added or removed) */
+	public void itemsChanged () {
+		for (ObjectMap.Entry<ItemT, ViewT> entry : recycler.getBound())
+			adapter.updateView(entry.value, entry.key);
+		if (variableHeight) heights.clear();
+		offsetsInvalid = true;
+		invalidateHierarchy();
+	}
+
+	/** Removes items that are no longer in adapter from selection */
+	private void validateSelection () {
+		if (dataInvalid == false) return;
+		dataInvalid = false;
+		if (selection.size() == 0) return;
+
+		int selected = 0;
+		for (int i = 0, n = adapter.size(); i < n; i++)
+			if (selection.contains(adapter.get(i))) selected++;
+
+		if (selected == selection.size()) return;
+
+		Array<ItemT> retained = new Array<ItemT>(selected);
+		for (int i = 0, n = adapter.size(); i < n; i++) {
+			ItemT item = adapter.get(i);
+			if (selection.contains(item)) retained.add(item);
+		}
+
+		if (retained.size == 0)
+			selection.clear();
+		else
+			selection.setAll(retained);
+	}
+
+	private float getItemHeight () {
+		if (itemHeight == -1) {
+			ViewT view = adapter.createView();
+			recycler.free(view);
+			itemHeight = view instanceof Layout ? ((Layout) view).getPrefHeight() : view.getHeight();
+		}
+
+		return itemHeight;
+	}
+
+	/**
+	 * Sets height of items. In fixed height mode all items will have this height, in variable height mode this is
+	 * estimated height of items that weren't measured yet. By default it's preferred height of first view created by adapter.
+	 */
+	public void setItemHeight (float itemHeight) {
+		this.itemHeight = itemHeight;
+		offsetsInvalid = true;
+		invalidateHierarchy();
+	}
+
+	/** @param variableHeight if true height of items will be measured from their views */
+	public void setVariableHeight (boolean variableHeight) {
+		this.variableHeight = variableHeight;
+		heights.clear();
+		offsetsInvalid = true;
+		invalidateHierarchy();
+	}
+
+	public boolean isVariableHeight () {
+		return variableHeight;
+	}
+
+	private void validateOffsets () {
+		if (offsetsInvalid == false) return;
+		offsetsInvalid = false;
+		sizeInvalid = true;
+		if (variableHeight == false) return;
+
+		//rebuild heights map so it contains only items that are still in adapter
+		ObjectFloatMap<ItemT> measured = previousHeights;
+		previousHeights = heights;
+		heights = measured;
+		heights.clear();
+
+		int size = adapter.size();
+		float estimated = getItemHeight();
+		float offset = 0;
+
+		offsets.clear();
+		offsets.ensureCapacity(size + 1);
+
+		for (int i = 0; i < size; i++) {
+			offsets.add(offset);
+			ItemT item = adapter.get(i);
+			float height = previousHeights.get(item, -1);
+
+			if (height == -1)
+				height = estimated;
+			else
+				heights.put(item, height);
+
+			offset += height;
+		}
+
+		offsets.add(offset);
+		previousHeights.clear();
+	}
+
+	/** @return offset of item top from list top */
+	private float getItemOffset (int index) {
+		return variableHeight ? offsets.get(index) : index * getItemHeight();
+	}
+
+	private float getItemHeight (int index) {
+		return variableHeight ? offsets.get(index + 1) - offsets.get(index) : getItemHeight();
+	}
+
+	private float getTotalHeight () {
+		validateOffsets();
+		return variableHeight ? offsets.peek() : adapter.size() * getItemHeight();
+	}
+
+	/** @return index of item at given offset from list top, not clamped to valid range */
+	private int getIndexAtOffset (float offset) {
+		if (variableHeight == false) return (int) Math.floor(offset / getItemHeight());
+
+		int low = 0;
+		int high = adapter.size() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (offsets.get(mid + 1) <= offset)
+				low = mid + 1;
+			else if (offsets.get(mid) > offset)
+				high = mid - 1;
+			else
+				return mid;
+		}
+
+		return offset < 0 ? -1 : adapter.size();
+	}
+
+	/** @return index of item at given y position in list coordinates or -1 */
+	public int getIndexAt (float y) {
+		validateOffsets();
+		int index = getIndexAtOffset(getHeight() - y);
+		return index < 0 || index >= adapter.size() ? -1 : index;
+	}
+
+	private int getFirstVisibleIndex () {
+		Rectangle area = getCullingArea();
+		if (area == null) return 0;
+		return Math.max(0, getIndexAtOffset(getHeight() - (area.y + area.height)));
+	}
+
+	private int getLastVisibleIndex () {
+		Rectangle area = getCullingArea();
+		if (area == null) return adapter.size() - 1;
+		return Math.min(adapter.size() - 1, getIndexAtOffset(getHeight() - area.y));
+	}
+
+	@Override
+	public void setCullingArea (Rectangle cullingArea) {
+		super.setCullingArea(cullingArea);
+
+		//scrolling does not invalidate widget, check if different items became visible
+		if (offsetsInvalid == false && (getFirstVisibleIndex() != firstBoundIndex || getLastVisibleIndex() != lastBoundIndex))
+			super.invalidate();
+	}
+
+	@Override
+	public void layout () {
+		validateSelection();
+		float oldHeight = getTotalHeight();
+
+		for (int pass = 0; pass < MAX_MEASURE_PASSES; pass++) {
+			validateOffsets();
+			if (bindVisibleItems() == false) break;
+		}
+
+		float width = getWidth();
+		float widestView = maxViewWidth;
+
+		for (int i = firstBoundIndex; i <= lastBoundIndex; i++) {
+			ViewT view = recycler.get(adapter.get(i));
+			float viewPrefWidth = view instanceof Layout ? ((Layout) view).getPrefWidth() : view.getWidth();
+			widestView = Math.max(widestView, viewPrefWidth);
+
+			float height = getItemHeight(i);
+			view.setBounds(0, getHeight() - getItemOffset(i) - height, Math.max(width, viewPrefWidth), height);
+			if (view instanceof Layout) ((Layout) view).validate();
+		}
+
+		if (widestView > maxViewWidth || getTotalHeight() != oldHeight) {
+			maxViewWidth = widestView;
+			invalidateHierarchy();
+		}
+	}
+
+	/** @return true if new items heights were measured and offsets must be recalculated */
+	private boolean bindVisibleItems () {
+		recycler.begin();
+
+		firstBoundIndex = getFirstVisibleIndex();
+		lastBoundIndex = getLastVisibleIndex();
+
+		for (int i = firstBoundIndex; i <= lastBoundIndex; i++)
+			recycler.keep(adapter.get(i));
+
+		recycler.releaseUnused();
+
+		boolean measured = false;
+
+		for (int i = firstBoundIndex; i <= lastBoundIndex; i++) {
+			ItemT item = adapter.get(i);
+			ViewT view = recycler.get(item);
+
+			if (view == null) {
+				view = recycler.obtain(item);
+				if (view == null) {
+					view = adapter.createView();
+					recycler.bind(item, view);
+				}
+				adapter.updateView(view, item);
+			}
+
+			if (variableHeight && heights.containsKey(item) == false) {
+				float height = view instanceof Layout ? ((Layout) view).getPrefHeight() : view.getHeight();
+				heights.put(item, height);
+				if (height != getItemHeight(i)) measured = true;
+			}
+		}
+
+		if (measured) offsetsInvalid = true;
+		return measured;
+	}
+
+	@Override
+	public void invalidate () {
+		super.invalidate();
+		sizeInvalid = true;
+	}
+
+	private void computeSize () {
+		sizeInvalid = false;
+		prefWidth = maxViewWidth;
+		prefHeight = getTotalHeight();
+	}
+
+	@Override
+	public float getPrefWidth () {
+		validateOffsets();
+		if (sizeInvalid) computeSize();
+		return prefWidth;
+	}
+
+	@Override
+	public float getPrefHeight () {
+		validateOffsets();
+		if (sizeInvalid) computeSize();
+		return prefHeight;
+	}
+
+	@Override
+	public void draw (Batch batch, float parentAlpha) {
+		validate();
+		Color color = getColor();
+		batch.setColor(color.r, color.g, color.b, color.a * parentAlpha);
+		if (style.background != null) style.background.draw(batch, getX(), getY(), getWidth(), getHeight());
+
+		if (style.selection != null && selection.size() > 0) {
+			for (int i = firstBoundIndex; i <= lastBoundIndex && i < adapter.size(); i++) {
+				if (selection.contains(adapter.get(i)) == false) continue;
+				float height = getItemHeight(i);
+				float y = getY() + getHeight() - getItemOffset(i) - height;
+				style.selection.draw(batch, getX(), y, getWidth(), height);
+			}
+		}
+
+		super.draw(batch, parentAlpha);
+	}
+
+	public Selection<ItemT> getSelection () {
+		return selection;
+	}
+
+	/** @return selected item or null */
+	public ItemT getSelected () {
+		return selection.first();
+	}
+
+	/** @return view currently displaying provided item, null if item is not visible */
+	public ViewT getView (ItemT item) {
+		return recycler.get(item);
+	}
+
+	/** Scrolls enclosing {@link ScrollPane} (if any) so item with given index is visible */
+	public void scrollTo (int index) {
+		if (getParent() instanceof ScrollPane) {
+			ScrollPane scrollPane = (ScrollPane) getParent();
+			scrollPane.validate();
+			validateOffsets();
+			float height = getItemHeight(index);
+			scrollPane.scrollTo(0, getHeight() - getItemOffset(index) - height, getWidth(), height);
+		}
+	}
+
+	public ListStyle getStyle () {
+		return style;
+	}
+
+	public void setStyle (ListStyle style) {
+		this.style = style;
+		invalidateHierarchy();
+	}
+
+	public ClickListener getClickListener () {
+		return clickListener;
+	}
+}
@@ -0,0 +1,974 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.ui.widget;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Keys;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout.GlyphRun;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.scenes.scene2d.InputListener;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
+import com.badlogic.gdx.scenes.scene2d.ui.Widget;
+import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener.ChangeEvent;
+import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Cullable;
+import com.badlogic.gdx.scenes.scene2d.utils.Disableable;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.scenes.scene2d.utils.UIUtils;
+import com.badlogic.gdx.utils.*;
+import com.badlogic.gdx.utils.Timer.Task;
+import com.kotcrab.vis.ui.FocusManager;
+import com.kotcrab.vis.ui.Focusable;
+import com.kotcrab.vis.ui.VisUI;
+import com.kotcrab.vis.ui.util.BorderOwner;
+import com.kotcrab.vis.ui.util.PieceTable;
+import com.kotcrab.vis.ui.widget.VisTextField.VisTextFieldStyle;
+
+import java.lang.StringBuilder;
+
+/**
+ * Multi-line text area designed for editing large texts. Text is stored in {@link PieceTable} so edits don't copy whole
+ * text. Glyph layout is computed separately for each line, when text is modified only layouts of modified lines are
+ * recomputed. Only lines that are visible are laid out and rendered, visible area is determined from culling area set by
+ * {@link ScrollPane}, text area should be always placed inside scroll pane. Lines are never wrapped.
+ * <p>
+ * {@link ChangeEvent} is fired after text was modified by user, cancelling it has no effect.
+ * @author Kotcrab
+ * @see VisTextArea
+ * @since 0.9.3
+ */
+public class VirtualTextArea extends Widget implements Disableable, Focusable, BorderOwner, Cullable {
+	private static final char BACKSPACE = 8;
+	private static final char ENTER_DESKTOP = '\r';
+	private static final char ENTER_ANDROID = '\n';
+	private static final char TAB = '\t';
+	private static final char DELETE = 127;
+
+	/** minimal amount of cached line layouts, layouts of lines that aren't visible are freed when this amount is exceeded */
+	private static final int MIN_CACHED_LAYOUTS = 256;
+
+	private static final Color tmpColor = new Color();
+
+	private VisTextFieldStyle style;
+
+	private final PieceTable text = new PieceTable();
+	/** offsets of lines first characters, there is always at least one line */
+	private final IntArray lineStarts = new IntArray();
+	/** layouts of lines, null if line wasn't laid out yet or was modified */
+	private final Array<LineLayout> lineLayouts = new Array<LineLayout>();
+	private final Pool<LineLayout> layoutPool = new Pool<LineLayout>() {
+		@Override
+		protected LineLayout newObject () {
+			return new LineLayout();
+		}
+	};
+	private int layoutCount;
+	private float maxLineWidth;
+	private final StringBuilder lineBuilder = new StringBuilder();
+
+	private int cursor, selectionStart;
+	private boolean hasSelection;
+	/** x position cursor is moved to when moving between lines, negative if cursor wasn't moved vertically */
+	private float goalX = -1;
+
+	private Rectangle cullingArea;
+
+	private Clipboard clipboard;
+	private InputListener inputListener;
+	private ClickListener clickListener;
+	private boolean disabled;
+	private int tabSize = 4;
+
+	private float blinkTime = 0.32f;
+	private boolean cursorOn = true;
+	private long lastBlink;
+
+	private KeyRepeatTask keyRepeatTask = new KeyRepeatTask();
+	private KeyTypedRepeatTask keyTypedRepeatTask = new KeyTypedRepeatTask();
+
+	private boolean drawBorder;
+	private boolean focusBorderEnabled = true;
+	private boolean inputValid = true;
+
+	public VirtualTextArea () {
+		this("", VisUI.getSkin().get(VisTextFieldStyle.class));
+	}
+
+	public VirtualTextArea (String text) {
+		this(text, VisUI.getSkin().get(VisTextFieldStyle.class));
+	}
+
+	public VirtualTextArea (String text, String styleName) {
+		this(text, VisUI.getSkin().get(styleName, VisTextFieldStyle.class));
+	}
+
+	public VirtualTextArea (String text, VisTextFieldStyle style) {
+		setStyle(style);
+		clipboard = Gdx.app.getClipboard();
+		addListener(inputListener = new TextAreaListener());
+		addListener(clickListener = new ClickListener());
+		setText(text);
+		setSize(getPrefWidth(), getPrefHeight());
+	}
+
+	public VisTextFieldStyle getStyle () {
+		return style;
+	}
+
+	public void setStyle (VisTextFieldStyle style) {
+		if (style == null) throw new IllegalArgumentException("style cannot be null.");
+		this.style = style;
+		invalidateLayouts();
+		invalidateHierarchy();
+	}
+
+	/** Replaces whole text, text is laid out lazily when lines becomes visible */
+	public void setText (String text) {
+		if (text == null) text = "";
+		text = normalizeLineEnds(text);
+
+		this.text.setText(text);
+		lineStarts.clear();
+		lineStarts.add(0);
+		for (int i = 0, n = text.length(); i < n; i++) {
+			if (text.charAt(i) == '\n') lineStarts.add(i + 1);
+		}
+
+		invalidateLayouts();
+		lineLayouts.clear();
+		lineLayouts.ensureCapacity(lineStarts.size);
+		for (int i = 0; i < lineStarts.size; i++)
+			lineLayouts.add(null);
+
+		cursor = 0;
+		clearSelection();
+		invalidateHierarchy();
+	}
+
+	/** @return text of this text area, returned string is cached until text is modified */
+	public String getText () {
+		return text.toString();
+	}
+
+	/** @return text of line without line end character */
+	public String getLine (int line) {
+		return text.subSequence(lineStarts.get(line), getLineEnd(line));
+	}
+
+	public int getLineCount () {
+		return lineStarts.size;
+	}
+
+	public int getLength () {
+		return text.length();
+	}
+
+	private String normalizeLineEnds (String text) {
+		if (text.indexOf('\r') == -1) return text;
+		return text.replace("\r\n", "\n").replace('\r', '\n');
+	}
+
+	private void insertText (int index, String insertion) {
+		int line = getLineOf(index);
+		int length = insertion.length();
+		text.insert(index, insertion);
+
+		int[] starts = lineStarts.items;
+		for (int i = line + 1, n = lineStarts.size; i < n; i++)
+			starts[i] += length;
+
+		int newLines = 0;
+		for (int i = 0; i < length; i++)
+			if (insertion.charAt(i) == '\n') newLines++;
+
+		invalidateLine(line);
+		if (newLines == 0) return;
+
+		//make space for new lines in one step, insertion can contain a lot of lines
+		lineStarts.ensureCapacity(newLines);
+		lineLayouts.ensureCapacity(newLines);
+		int moved = lineStarts.size - line - 1;
+		System.arraycopy(lineStarts.items, line + 1, lineStarts.items, line + 1 + newLines, moved);
+		System.arraycopy(lineLayouts.items, line + 1, lineLayouts.items, line + 1 + newLines, moved);
+		lineStarts.size += newLines;
+		lineLayouts.size += newLines;
+
+		starts = lineStarts.items;
+		Object[] layouts = lineLayouts.items;
+		int newLine = line + 1;
+		for (int i = 0; i < length; i++) {
+			if (insertion.charAt(i) == '\n') {
+				starts[newLine] = index + i + 1;
+				layouts[newLine] = null;
+				newLine++;
+			}
+		}
+
+		invalidateHierarchy();
+	}
+
+	private void deleteText (int start, int end) {
+		if (start == end) return;
+		int startLine = getLineOf(start);
+		int endLine = getLineOf(end);
+		text.delete(start, end);
+
+		if (endLine > startLine) {
+			for (int i = startLine + 1; i <= endLine; i++)
+				freeLayout(i);
+			lineStarts.removeRange(startLine + 1, endLine);
+			lineLayouts.removeRange(startLine + 1, endLine);
+			invalidateHierarchy();
+		}
+
+		int length = end - start;
+		int[] starts = lineStarts.items;
+		for (int i = startLine + 1, n = lineStarts.size; i < n; i++)
+			starts[i] -= length;
+
+		invalidateLine(startLine);
+	}
+
+	/** @return index of line containing character with given index */
+	public int getLineOf (int index) {
+		int[] starts = lineStarts.items;
+		int low = 0;
+		int high = lineStarts.size - 1;
+		while (low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if (starts[mid] <= index)
+				low = mid;
+			else
+				high = mid - 1;
+		}
+		return low;
+	}
+
+	/** @return index of line end, that is index of line break character or text length for last line */
+	private int getLineEnd (int line) {
+		return line + 1 < lineStarts.size ? lineStarts.get(line + 1) - 1 : text.length();
+	}
+
+	private LineLayout getLineLayout (int line) {
+		LineLayout lineLayout = lineLayouts.get(line);
+		if (lineLayout == null) {
+			lineBuilder.setLength(0);
+			text.getText(lineStarts.get(line), getLineEnd(line), lineBuilder);
+
+			lineLayout = layoutPool.obtain();
+			lineLayout.layout(style.font, lineBuilder);
+			lineLayouts.set(line, lineLayout);
+			layoutCount++;
+
+			if (lineLayout.layout.width > maxLineWidth) {
+				maxLineWidth = lineLayout.layout.width;
+				invalidateHierarchy();
+			}
+		}
+		return lineLayout;
+	}
+
+	private void invalidateLine (int line) {
+		freeLayout(line);
+	}
+
+	private void freeLayout (int line) {
+		LineLayout lineLayout = lineLayouts.get(line);
+		if (lineLayout != null) {
+			layoutPool.free(lineLayout);
+			lineLayouts.set(line, null);
+			layoutCount--;
+		}
+	}
+
+	private void invalidateLayouts () {
+		for (int i = 0; i < lineLayouts.size; i++)
+			freeLayout(i);
+		maxLineWidth = 0;
+	}
+
+	/** Frees layouts of lines that are not visible, amount of cached layouts is limited so scrolling through huge text won't keep all of them */
+	private void freeHiddenLayouts (int firstLine, int lastLine) {
+		if (layoutCount <= Math.max(MIN_CACHED_LAYOUTS, (lastLine - firstLine + 1) * 4)) return;
+
+		for (int i = 0; i < firstLine; i++)
+			freeLayout(i);
+		for (int i = lastLine + 1; i < lineLayouts.size; i++)
+			freeLayout(i);
+	}
+
+	@Override
+	public void setCullingArea (Rectangle cullingArea) {
+		this.cullingArea = cullingArea;
+	}
+
+	private int getFirstVisibleLine () {
+		if (cullingArea == null) return 0;
+		float top = getHeight() - getPadTop() - (cullingArea.y + cullingArea.height);
+		return MathUtils.clamp((int) (top / getLineHeight()), 0, lineStarts.size - 1);
+	}
+
+	private int getLastVisibleLine () {
+		if (cullingArea == null) return lineStarts.size - 1;
+		float bottom = getHeight() - getPadTop() - cullingArea.y;
+		return MathUtils.clamp((int) (bottom / getLineHeight()), 0, lineStarts.size - 1);
+	}
+
+	private float getLineHeight () {
+		return style.font.getLineHeight();
+	}
+
+	private float getPadTop () {
+		return style.background != null ? style.background.getTopHeight() : 0;
+	}
+
+	private float getPadLeft () {
+		return style.background != null ? style.background.getLeftWidth() : 0;
+	}
+
+	@Override
+	public void draw (Batch batch, float parentAlpha) {
+		Stage stage = getStage();
+		boolean focused = stage != null && stage.getKeyboardFocus() == this;
+		if (!focused) {
+			keyTypedRepeatTask.cancel();
+			keyRepeatTask.cancel();
+		}
+
+		BitmapFont font = style.font;
+		Color fontColor = (disabled && style.disabledFontColor != null) ? style.disabledFontColor
+				: ((focused && style.focusedFontColor != null) ? style.focusedFontColor : style.fontColor);
+		Drawable background = (disabled && style.disabledBackground != null) ? style.disabledBackground
+				: ((focused && style.focusedBackground != null) ? style.focusedBackground : style.background);
+		if (!disabled && clickListener.isOver() && style.backgroundOver != null) background = style.backgroundOver;
+
+		Color color = getColor();
+		float x = getX();
+		float y = getY();
+		float width = getWidth();
+		float height = getHeight();
+
+		batch.setColor(color.r, color.g, color.b, color.a * parentAlpha);
+		if (background != null) background.draw(batch, x, y, width, height);
+
+		float textX = x + getPadLeft();
+		float textY = y + height - getPadTop();
+		if (font.usesIntegerPositions()) textY = (int) textY;
+
+		int firstLine = getFirstVisibleLine();
+		int lastLine = getLastVisibleLine();
+
+		if (focused && hasSelection && style.selection != null)
+			drawSelection(batch, style.selection, textX, textY, firstLine, lastLine);
+
+		float lineHeight = getLineHeight();
+		BitmapFontCache cache = font.getCache();
+		cache.clear();
+		for (int line = firstLine; line <= lastLine; line++)
+			cache.addText(getLineLayout(line).layout, textX, textY - line * lineHeight);
+		cache.setColors(tmpColor.set(fontColor).mul(1, 1, 1, color.a * parentAlpha));
+		cache.draw(batch);
+
+		if (drawBorder && focused && !disabled) {
+			blink();
+			int cursorLine = getLineOf(cursor);
+			if (cursorOn && style.cursor != null && cursorLine >= firstLine && cursorLine <= lastLine)
+				drawCursor(batch, style.cursor, textX, textY, cursorLine);
+		}
+
+		if (inputValid == false)
+			style.errorBorder.draw(batch, x, y, width, height);
+		else if (focusBorderEnabled && drawBorder && style.focusBorder != null)
+			style.focusBorder.draw(batch, x, y, width, height);
+
+		freeHiddenLayouts(firstLine, lastLine);
+	}
+
+	private float getLineBottom (float textY, int line) {
+		return textY - style.font.getDescent() / 2 - (line + 1) * getLineHeight();
+	}
+
+	private void drawSelection (Batch batch, Drawable selection, float textX, float textY, int firstLine, int lastLine) {
+		int selectionMin = Math.min(cursor, selectionStart);
+		int selectionMax = Math.max(cursor, selectionStart);
+		int startLine = Math.max(firstLine, getLineOf(selectionMin));
+		int endLine = Math.min(lastLine, getLineOf(selectionMax));
+
+		for (int line = startLine; line <= endLine; line++) {
+			int lineStart = lineStarts.get(line);
+			int lineEnd = getLineEnd(line);
+			LineLayout lineLayout = getLineLayout(line);
+
+			float startX = lineLayout.positions.get(Math.max(selectionMin, lineStart) - lineStart);
+			float endX = lineLayout.positions.get(Math.min(selectionMax, lineEnd) - lineStart);
+			//show that line break is selected
+			if (selectionMax > lineEnd) endX += style.font.getData().spaceWidth;
+
+			selection.draw(batch, textX + lineLayout.fontOffset + startX, getLineBottom(textY, line), endX - startX, getLineHeight());
+		}
+	}
+
+	private void drawCursor (Batch batch, Drawable cursorPatch, float textX, float textY, int cursorLine) {
+		LineLayout lineLayout = getLineLayout(cursorLine);
+		float cursorX = lineLayout.positions.get(cursor - lineStarts.get(cursorLine));
+		cursorPatch.draw(batch, textX + lineLayout.fontOffset + cursorX + style.font.getData().cursorX,
+				getLineBottom(textY, cursorLine), cursorPatch.getMinWidth(), getLineHeight());
+	}
+
+	private void blink () {
+		if (!Gdx.graphics.isContinuousRendering()) {
+			cursorOn = true;
+			return;
+		}
+		long time = TimeUtils.nanoTime();
+		if ((time - lastBlink) / 1000000000.0f > blinkTime) {
+			cursorOn = !cursorOn;
+			lastBlink = time;
+		}
+	}
+
+	@Override
+	public float getPrefWidth () {
+		float width = maxLineWidth + (style.cursor != null ? style.cursor.getMinWidth() : 0);
+		if (style.background != null) width += style.background.getLeftWidth() + style.background.getRightWidth();
+		return width;
+	}
+
+	@Override
+	public float getPrefHeight () {
+		float height = lineStarts.size * getLineHeight();
+		if (style.background != null) height += style.background.getTopHeight() + style.background.getBottomHeight();
+		return height;
+	}
+
+	/** @return index of character closest to given position in local coordinates */
+	private int getIndexAt (float x, float y) {
+		int line = MathUtils.clamp((int) ((getHeight() - getPadTop() - y) / getLineHeight()), 0, lineStarts.size - 1);
+		LineLayout lineLayout = getLineLayout(line);
+		return lineStarts.get(line) + getColumnAt(lineLayout, x - getPadLeft() - lineLayout.fontOffset);
+	}
+
+	private int getColumnAt (LineLayout lineLayout, float x) {
+		float[] positions = lineLayout.positions.items;
+		int count = lineLayout.positions.size;
+		for (int i = 1; i < count; i++) {
+			if (positions[i] > x) return x - positions[i - 1] < positions[i] - x ? i - 1 : i;
+		}
+		return count - 1;
+	}
+
+	private float getCursorX () {
+		int line = getLineOf(cursor);
+		return getLineLayout(line).positions.get(cursor - lineStarts.get(line));
+	}
+
+	private void moveCursor (boolean forward, boolean jump) {
+		int length = text.length();
+		if (forward) {
+			if (jump) {
+				while (cursor < length && !isWordCharacter(text.charAt(cursor))) cursor++;
+				while (cursor < length && isWordCharacter(text.charAt(cursor))) cursor++;
+			} else if (cursor < length)
+				cursor++;
+		} else {
+			if (jump) {
+				while (cursor > 0 && !isWordCharacter(text.charAt(cursor - 1))) cursor--;
+				while (cursor > 0 && isWordCharacter(text.charAt(cursor - 1))) cursor--;
+			} else if (cursor > 0)
+				cursor--;
+		}
+	}
+
+	private void moveCursorLine (int lines) {
+		int line = getLineOf(cursor);
+		if (goalX < 0) goalX = getCursorX();
+
+		int targetLine = line + lines;
+		if (targetLine < 0)
+			cursor = 0;
+		else if (targetLine >= lineStarts.size)
+			cursor = text.length();
+		else
+			cursor = lineStarts.get(targetLine) + getColumnAt(getLineLayout(targetLine), goalX);
+	}
+
+	private int getPageLines () {
+		if (cullingArea == null) return 1;
+		return Math.max(1, (int) (cullingArea.height / getLineHeight()));
+	}
+
+	protected boolean isWordCharacter (char c) {
+		return Character.isLetterOrDigit(c) || c == '_';
+	}
+
+	private void selectWordAt (int index) {
+		int length = text.length();
+		int start = index;
+		int end = index;
+		while (start > 0 && isWordCharacter(text.charAt(start - 1))) start--;
+		while (end < length && isWordCharacter(text.charAt(end))) end++;
+		setSelection(start, end);
+	}
+
+	/** Scrolls enclosing {@link ScrollPane} (if any) so cursor is visible */
+	public void scrollToCursor () {
+		if (getParent() instanceof ScrollPane) {
+			ScrollPane scrollPane = (ScrollPane) getParent();
+			scrollPane.validate();
+			int line = getLineOf(cursor);
+			float cursorWidth = style.cursor != null ? style.cursor.getMinWidth() : 0;
+			float y = getHeight() - getPadTop() - (line + 1) * getLineHeight();
+			scrollPane.scrollTo(getPadLeft() + getCursorX(), y, cursorWidth, getLineHeight());
+		}
+	}
+
+	public int getCursorPosition () {
+		return cursor;
+	}
+
+	public void setCursorPosition (int cursorPosition) {
+		if (cursorPosition < 0) throw new IllegalArgumentException("cursorPosition must be >= 0");
+		clearSelection();
+		cursor = Math.min(cursorPosition, text.length());
+		goalX = -1;
+	}
+
+	/** @return line containing cursor */
+	public int getCursorLine () {
+		return getLineOf(cursor);
+	}
+
+	/** Sets the selected text */
+	public void setSelection (int selectionStart, int selectionEnd) {
+		if (selectionStart < 0) throw new IllegalArgumentException("selectionStart must be >= 0");
+		if (selectionEnd < 0) throw new IllegalArgumentException("selectionEnd must be >= 0");
+		selectionStart = Math.min(text.length(), selectionStart);
+		selectionEnd = Math.min(text.length(), selectionEnd);
+		if (selectionEnd == selectionStart) {
+			clearSelection();
+			return;
+		}
+		this.selectionStart = selectionStart;
+		cursor = selectionEnd;
+		hasSelection = true;
+		goalX = -1;
+	}
+
+	public void selectAll () {
+		setSelection(0, text.length());
+	}
+
+	public void clearSelection () {
+		hasSelection = false;
+	}
+
+	/** @return selected text or empty string if nothing is selected */
+	public String getSelection () {
+		return hasSelection ? text.subSequence(Math.min(selectionStart, cursor), Math.max(selectionStart, cursor)) : "";
+	}
+
+	private void deleteSelection () {
+		int start = Math.min(cursor, selectionStart);
+		deleteText(start, Math.max(cursor, selectionStart));
+		cursor = start;
+		clearSelection();
+	}
+
+	/** Copies the contents of this text area to the {@link Clipboard} implementation set on this text area */
+	public void copy () {
+		if (hasSelection) clipboard.setContents(getSelection());
+	}
+
+	/** Copies selected contents of this text area to the {@link Clipboard}, then removes it */
+	public void cut () {
+		if (hasSelection && !disabled) {
+			copy();
+			deleteSelection();
+			textChanged();
+		}
+	}
+
+	/** Inserts text at cursor position, selected text is replaced */
+	public void paste (String content) {
+		if (content == null || disabled) return;
+		content = normalizeLineEnds(content);
+		if (hasSelection) deleteSelection();
+		insertText(cursor, content);
+		cursor += content.length();
+		textChanged();
+	}
+
+	private void textChanged () {
+		goalX = -1;
+		lastBlink = 0;
+		cursorOn = false;
+		scrollToCursor();
+
+		ChangeEvent changeEvent = Pools.obtain(ChangeEvent.class);
+		fire(changeEvent);
+		Pools.free(changeEvent);
+	}
+
+	public void setClipboard (Clipboard clipboard) {
+		this.clipboard = clipboard;
+	}
+
+	/** @param tabSize amount of spaces inserted when tab key is pressed */
+	public void setTabSize (int tabSize) {
+		this.tabSize = tabSize;
+	}
+
+	public int getTabSize () {
+		return tabSize;
+	}
+
+	public void setBlinkTime (float blinkTime) {
+		this.blinkTime = blinkTime;
+	}
+
+	@Override
+	public void setDisabled (boolean disabled) {
+		this.disabled = disabled;
+	}
+
+	@Override
+	public boolean isDisabled () {
+		return disabled;
+	}
+
+	/** Focuses this text area, text area must be added to stage before this method can be called */
+	public void focusField () {
+		if (disabled) return;
+		Stage stage = getStage();
+		FocusManager.switchFocus(stage, this);
+		if (stage != null) stage.setKeyboardFocus(this);
+		Gdx.input.setOnscreenKeyboardVisible(true);
+	}
+
+	@Override
+	public void focusLost () {
+		drawBorder = false;
+	}
+
+	@Override
+	public void focusGained () {
+		drawBorder = true;
+	}
+
+	public boolean isInputValid () {
+		return inputValid;
+	}
+
+	public void setInputValid (boolean inputValid) {
+		this.inputValid = inputValid;
+	}
+
+	@Override
+	public boolean isFocusBorderEnabled () {
+		return focusBorderEnabled;
+	}
+
+	@Override
+	public void setFocusBorderEnabled (boolean focusBorderEnabled) {
+		this.focusBorderEnabled = focusBorderEnabled;
+	}
+
+	/** Glyph layout and glyph positions of single line */
+	private static class LineLayout {
+		final GlyphLayout layout = new GlyphLayout();
+		final FloatArray positions = new FloatArray();
+		float fontOffset;
+
+		void layout (BitmapFont font, StringBuilder line) {
+			BitmapFontData data = font.getData();
+			for (int i = 0, n = line.length(); i < n; i++) {
+				if (data.hasGlyph(line.charAt(i)) == false) line.setCharAt(i, ' ');
+			}
+
+			layout.setText(font, line);
+			positions.clear();
+			float x = 0;
+			if (layout.runs.size > 0) {
+				GlyphRun run = layout.runs.first();
+				FloatArray xAdvances = run.xAdvances;
+				fontOffset = xAdvances.first();
+				for (int i = 1, n = xAdvances.size; i < n; i++) {
+					positions.add(x);
+					x += xAdvances.get(i);
+				}
+			} else
+				fontOffset = 0;
+			positions.add(x);
+		}
+	}
+
+	private class KeyRepeatTask extends Task {
+		int keycode;
+
+		@Override
+		public void run () {
+			inputListener.keyDown(null, keycode);
+		}
+	}
+
+	private class KeyTypedRepeatTask extends Task {
+		char character;
+		int keycode;
+
+		@Override
+		public void run () {
+			inputListener.keyTyped(null, character);
+		}
+	}
+
+	private class TextAreaListener extends ClickListener {
+		@Override
+		public void clicked (InputEvent event, float x, float y) {
+			int count = getTapCount() % 4;
+			if (count == 0) clearSelection();
+			if (count == 2) selectWordAt(getIndexAt(x, y));
+			if (count == 3) selectAll();
+		}
+
+		@Override
+		public boolean touchDown (InputEvent event, float x, float y, int pointer, int button) {
+			if (!super.touchDown(event, x, y, pointer, button)) return false;
+			if (pointer == 0 && button != 0) return false;
+			if (disabled) return true;
+			Stage stage = getStage();
+			FocusManager.switchFocus(stage, VirtualTextArea.this);
+			setCursorPosition(x, y);
+			selectionStart = cursor;
+			if (stage != null) stage.setKeyboardFocus(VirtualTextArea.this);
+			Gdx.input.setOnscreenKeyboardVisible(true);
+			hasSelection = true;
+			return true;
+		}
+
+		@Override
+		public void touchDragged (InputEvent event, float x, float y, int pointer) {
+			super.touchDragged(event, x, y, pointer);
+			setCursorPosition(x, y);
+			scrollToCursor();
+		}
+
+		@Override
+		public void touchUp (InputEvent event, float x, float y, int pointer, int button) {
+			if (selectionStart == cursor) hasSelection = false;
+			super.touchUp(event, x, y, pointer, button);
+		}
+
+		private void setCursorPosition (float x, float y) {
+			lastBlink = 0;
+			cursorOn = false;
+			goalX = -1;
+			cursor = getIndexAt(x, y);
+		}
+
+		@Override
+		public boolean keyDown (InputEvent event, int keycode) {
+			if (disabled) return false;
+
+			lastBlink = 0;
+			cursorOn = false;
+
+			Stage stage = getStage();
+			if (stage == null || stage.getKeyboardFocus() != VirtualTextArea.this) return false;
+			if (drawBorder == false) return false;
+
+			boolean ctrl = UIUtils.ctrl();
+			boolean shift = UIUtils.shift();
+
+			if (ctrl) {
+				if (keycode == Keys.V) {
+					paste(clipboard.getContents());
+					scheduleKeyRepeatTask(keycode);
+					return true;
+				}
+				if (keycode == Keys.C || keycode == Keys.INSERT) {
+					copy();
+					return true;
+				}
+				if (keycode == Keys.X) {
+					cut();
+					return true;
+				}
+				if (keycode == Keys.A) {
+					selectAll();
+					return true;
+				}
+			}
+
+			if (shift) {
+				if (keycode == Keys.INSERT) paste(clipboard.getContents());
+				if (keycode == Keys.FORWARD_DEL) cut();
+			}
+
+			int oldCursor = cursor;
+			boolean repeat = true;
+			boolean vertical = false;
+
+			switch (keycode) {
+				case Keys.LEFT:
+					moveCursor(false, ctrl);
+					break;
+				case Keys.RIGHT:
+					moveCursor(true, ctrl);
+					break;
+				case Keys.UP:
+					moveCursorLine(-1);
+					vertical = true;
+					break;
+				case Keys.DOWN:
+					moveCursorLine(1);
+					vertical = true;
+					break;
+				case Keys.PAGE_UP:
+					moveCursorLine(-getPageLines());
+					vertical = true;
+					break;
+				case Keys.PAGE_DOWN:
+					moveCursorLine(getPageLines());
+					vertical = true;
+					break;
+				case Keys.HOME:
+					cursor = ctrl ? 0 : lineStarts.get(getLineOf(cursor));
+					repeat = false;
+					break;
+				case Keys.END:
+					cursor = ctrl ? text.length() : getLineEnd(getLineOf(cursor));
+					repeat = false;
+					break;
+				default:
+					return true;
+			}
+
+			if (vertical == false) goalX = -1;
+
+			if (shift) {
+				if (!hasSelection) {
+					selectionStart = oldCursor;
+					hasSelection = true;
+				}
+			} else
+				clearSelection();
+
+			scrollToCursor();
+			if (repeat) scheduleKeyRepeatTask(keycode);
+			return true;
+		}
+
+		private void scheduleKeyRepeatTask (int keycode) {
+			if (!keyRepeatTask.isScheduled() || keyRepeatTask.keycode != keycode) {
+				keyRepeatTask.keycode = keycode;
+				keyRepeatTask.cancel();
+				Timer.schedule(keyRepeatTask, VisTextField.keyRepeatInitialTime, VisTextField.keyRepeatTime);
+			}
+		}
+
+		private void scheduleKeyTypedRepeatTask (int keycode, char character) {
+			if (!keyTypedRepeatTask.isScheduled() || keyTypedRepeatTask.character != character) {
+				keyTypedRepeatTask.character = character;
+				keyTypedRepeatTask.keycode = keycode;
+				keyTypedRepeatTask.cancel();
+				Timer.schedule(keyTypedRepeatTask, VisTextField.keyRepeatInitialTime, VisTextField.keyRepeatTime);
+			}
+		}
+
+		@Override
+		public boolean keyUp (InputEvent event, int keycode) {
+			if (disabled) return false;
+			keyRepeatTask.cancel();
+			if (keyTypedRepeatTask.keycode == keycode) keyTypedRepeatTask.cancel();
+			return true;
+		}
+
+		@Override
+		public boolean keyTyped (InputEvent event, char character) {
+			if (disabled) return false;
+
+			//infinite key repeat on Android, see VisTextField
+			if (keyTypedRepeatTask.isScheduled() && Gdx.input.isKeyPressed(keyTypedRepeatTask.keycode) == false) {
+				keyTypedRepeatTask.cancel();
+				return false;
+			}
+
+			switch (character) {
+				case BACKSPACE:
+				case TAB:
+				case ENTER_ANDROID:
+				case ENTER_DESKTOP:
+				case DELETE:
+					break;
+				default:
+					if (character < 32) return false;
+			}
+
+			Stage stage = getStage();
+			if (stage == null || stage.getKeyboardFocus() != VirtualTextArea.this) return false;
+
+			if (UIUtils.isMac && Gdx.input.isKeyPressed(Keys.SYM)) return true;
+
+			int keycode = event != null ? event.getKeyCode() : keyTypedRepeatTask.keycode;
+
+			if (character == BACKSPACE) {
+				if (hasSelection)
+					deleteSelection();
+				else if (cursor > 0) {
+					deleteText(cursor - 1, cursor);
+					cursor--;
+				}
+				scheduleKeyTypedRepeatTask(keycode, character);
+			} else if (character == DELETE) {
+				if (hasSelection)
+					deleteSelection();
+				else if (cursor < text.length())
+					deleteText(cursor, cursor + 1);
+			} else {
+				String insertion;
+				if (character == ENTER_DESKTOP || character == ENTER_ANDROID)
+					insertion = "\n";
+				else if (character == TAB) {
+					StringBuilder spaces = new StringBuilder(tabSize);
+					for (int i = 0; i < tabSize; i++)
+						spaces.append(' ');
+					insertion = spaces.toString();
+				} else if (style.font.getData().hasGlyph(character))
+					insertion = String.valueOf(character);
+				else
+					return true;
+
+				if (hasSelection) deleteSelection();
+				insertText(cursor, insertion);
+				cursor += insertion.length();
+				scheduleKeyTypedRepeatTask(keycode, character);
+			}
+
+			textChanged();
+			return true;
+		}
+	}
+}
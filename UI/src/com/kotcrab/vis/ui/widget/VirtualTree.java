@@ -0,0 +1,555 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.ui.widget;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
+import com.badlogic.gdx.scenes.scene2d.ui.Tree.TreeStyle;
+import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
+import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.scenes.scene2d.utils.Layout;
+import com.badlogic.gdx.scenes.scene2d.utils.Selection;
+import com.badlogic.gdx.scenes.scene2d.utils.UIUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.kotcrab.vis.ui.VisUI;
+import com.kotcrab.vis.ui.util.adapter.ViewRecycler;
+
+/**
+ * Tree that creates actors only for rows that are currently visible. Nodes of this tree holds items instead of actors,
+ * rows actors are created and updated by {@link TreeAdapter} and reused when tree is scrolled or expanded so tree can
+ * display huge amount of nodes. All rows have the same height. Visible area is determined from culling area set by
+ * {@link ScrollPane}, if tree is not placed inside scroll pane rows will be created for all expanded nodes.
+ * @author Kotcrab
+ * @see VisTree
+ * @since 0.9.3
+ */
+public class VirtualTree<T> extends WidgetGroup {
+	private TreeStyle style;
+	private TreeAdapter<T> adapter;
+
+	private final Array<Node<T>> rootNodes = new Array<Node<T>>();
+	private final Selection<Node<T>> selection;
+
+	/** expanded nodes in display order */
+	private final Array<Node<T>> rows = new Array<Node<T>>();
+	private boolean rowsInvalid;
+	private boolean sizeInvalid = true;
+
+	private final ViewRecycler<Node<T>, Actor> recycler = new ViewRecycler<Node<T>, Actor>(this);
+	private int firstBoundRow;
+	private int lastBoundRow = -1;
+
+	private float ySpacing = 4;
+	private float iconSpacingLeft = 2;
+	private float iconSpacingRight = 2;
+	private float padding = 0;
+	private float indentSpacing;
+	private float rowHeight = -1;
+
+	private float prefWidth;
+	private float prefHeight;
+	private float maxRowWidth;
+
+	private Node<T> overNode;
+	private ClickListener clickListener;
+
+	public VirtualTree (TreeAdapter<T> adapter) {
+		this(adapter, "default");
+	}
+
+	public VirtualTree (TreeAdapter<T> adapter, String styleName) {
+		this(adapter, VisUI.getSkin().get(styleName, TreeStyle.class));
+	}
+
+	public VirtualTree (TreeAdapter<T> adapter, TreeStyle style) {
+		this.adapter = adapter;
+		selection = new Selection<Node<T>>();
+		selection.setActor(this);
+		selection.setMultiple(true);
+		setStyle(style);
+		initialize();
+	}
+
+	private void initialize () {
+		addListener(clickListener = new ClickListener() {
+			@Override
+			public void clicked (InputEvent event, float x, float y) {
+				int index = getRowIndexAt(y);
+				if (index == -1) return;
+				Node<T> node = rows.get(index);
+				if (node != getRowAt(getTouchDownY())) return;
+
+				//toggle expanded when clicking on expand icon
+				if (node.children.size > 0 && x < getRowX(node)) {
+					node.setExpanded(!node.expanded);
+					return;
+				}
+
+				if (node.selectable == false) return;
+
+				if (selection.getMultiple() && selection.hasItems() && UIUtils.shift()) {
+					Node<T> last = selection.getLastSelected();
+					int lastIndex = last == null ? -1 : rows.indexOf(last, true);
+					if (lastIndex != -1) {
+						if (UIUtils.ctrl() == false) selection.clear();
+						int from = Math.min(lastIndex, index);
+						int to = Math.max(lastIndex, index);
+						for (int i = from; i <= to; i++) {
+							Node<T> rangeNode = rows.get(i);
+							if (rangeNode.selectable) selection.add(rangeNode);
+						}
+						selection.fireChangeEvent();
+						return;
+					}
+				}
+
+				selection.choose(node);
+			}
+
+			@Override
+			public boolean mouseMoved (InputEvent event, float x, float y) {
+				setOverNode(getRowAt(y));
+				return false;
+			}
+
+			@Override
+			public void exit (InputEvent event, float x, float y, int pointer, Actor toActor) {
+				super.exit(event, x, y, pointer, toActor);
+				if (toActor == null || toActor.isDescendantOf(VirtualTree.this) == false) setOverNode(null);
+			}
+		});
+	}
+
+	public void setStyle (TreeStyle style) {
+		this.style = style;
+		indentSpacing = Math.max(style.plus.getMinWidth(), style.minus.getMinWidth()) + iconSpacingLeft;
+		invalidateRows();
+	}
+
+	public TreeStyle getStyle () {
+		return style;
+	}
+
+	public void add (Node<T> node) {
+		insert(rootNodes.size, node);
+	}
+
+	public void insert (int index, Node<T> node) {
+		if (node.parent != null || node.tree != null) node.remove();
+		rootNodes.insert(index, node);
+		node.setTree(this);
+		invalidateRows();
+	}
+
+	public void remove (Node<T> node) {
+		if (node.parent != null) {
+			node.parent.remove(node);
+			return;
+		}
+
+		if (rootNodes.removeValue(node, true) == false) return;
+		node.setTree(null);
+		invalidateRows();
+	}
+
+	/** Removes all tree nodes */
+	public void clearNodes () {
+		for (Node<T> node : rootNodes)
+			node.setTree(null);
+		rootNodes.clear();
+		selection.clear();
+		setOverNode(null);
+		invalidateRows();
+	}
+
+	public Array<Node<T>> getNodes () {
+		return rootNodes;
+	}
+
+	public Selection<Node<T>> getSelection () {
+		return selection;
+	}
+
+	/** Must be called when data displayed by visible rows has changed, all visible rows will be updated by adapter */
+	public void itemsChanged () {
+		for (ObjectMap.Entry<Node<T>, Actor> entry : recycler.getBound())
+			adapter.updateRow(entry.value, entry.key.item);
+		invalidate();
+	}
+
+	/** Called by nodes when tree structure or expanded state has changed */
+	void invalidateRows () {
+		rowsInvalid = true;
+		invalidateHierarchy();
+	}
+
+	private void validateRows () {
+		if (rowsInvalid == false) return;
+		rowsInvalid = false;
+		rows.clear();
+		collectRows(rootNodes, 0);
+		maxRowWidth = 0;
+		sizeInvalid = true;
+	}
+
+	private void collectRows (Array<Node<T>> nodes, int level) {
+		for (int i = 0, n = nodes.size; i < n; i++) {
+			Node<T> node = nodes.get(i);
+			node.level = level;
+			rows.add(node);
+			if (node.expanded && node.children.size > 0) collectRows(node.children, level + 1);
+		}
+	}
+
+	private float getRowHeight () {
+		if (rowHeight == -1) {
+			Actor row = adapter.createRow();
+			recycler.free(row);
+			float height = row instanceof Layout ? ((Layout) row).getPrefHeight() : row.getHeight();
+			rowHeight = Math.max(height, Math.max(style.plus.getMinHeight(), style.minus.getMinHeight()));
+		}
+
+		return rowHeight;
+	}
+
+	/** Sets height of all rows, by default it's calculated from preferred height of first row created by adapter */
+	public void setRowHeight (float rowHeight) {
+		this.rowHeight = rowHeight;
+		invalidateHierarchy();
+	}
+
+	private float getRowX (Node<T> node) {
+		return padding + node.level * indentSpacing + indentSpacing + iconSpacingRight;
+	}
+
+	/** @return y position of bottom of row in tree coordinates */
+	private float getRowY (int index) {
+		return getHeight() - padding - (index + 1) * (getRowHeight() + ySpacing) + ySpacing / 2;
+	}
+
+	private int getRowIndexAt (float y) {
+		validateRows();
+		float index = (getHeight() - padding - y) / (getRowHeight() + ySpacing);
+		if (index < 0 || index >= rows.size) return -1;
+		return (int) index;
+	}
+
+	/** @return node displayed at given y position in tree coordinates or null */
+	public Node<T> getRowAt (float y) {
+		int index = getRowIndexAt(y);
+		return index == -1 ? null : rows.get(index);
+	}
+
+	@Override
+	public void setCullingArea (Rectangle cullingArea) {
+		super.setCullingArea(cullingArea);
+
+		//scrolling does not invalidate widget, check if different rows became visible
+		if (rowsInvalid == false && (getFirstVisibleRow() != firstBoundRow || getLastVisibleRow() != lastBoundRow))
+			super.invalidate();
+	}
+
+	private int getFirstVisibleRow () {
+		Rectangle area = getCullingArea();
+		if (area == null) return 0;
+		float top = area.y + area.height;
+		return Math.max(0, (int) ((getHeight() - padding - top) / (getRowHeight() + ySpacing)));
+	}
+
+	private int getLastVisibleRow () {
+		Rectangle area = getCullingArea();
+		if (area == null) return rows.size - 1;
+		return Math.min(rows.size - 1, (int) ((getHeight() - padding - area.y) / (getRowHeight() + ySpacing)));
+	}
+
+	@Override
+	public void layout () {
+		validateRows();
+
+		recycler.begin();
+
+		firstBoundRow = getFirstVisibleRow();
+		lastBoundRow = getLastVisibleRow();
+		float rowHeight = getRowHeight();
+		float widestRow = maxRowWidth;
+
+		//keep rows of nodes that are still visible, remaining rows can be reused for other nodes
+		for (int i = firstBoundRow; i <= lastBoundRow; i++)
+			recycler.keep(rows.get(i));
+
+		recycler.releaseUnused();
+
+		for (int i = firstBoundRow; i <= lastBoundRow; i++) {
+			Node<T> node = rows.get(i);
+			Actor row = recycler.get(node);
+
+			if (row == null) {
+				row = recycler.obtain(node);
+				if (row == null) {
+					row = adapter.createRow();
+					recycler.bind(node, row);
+				}
+				adapter.updateRow(row, node.item);
+			}
+
+			float x = getRowX(node);
+			float rowPrefWidth = row instanceof Layout ? ((Layout) row).getPrefWidth() : row.getWidth();
+			widestRow = Math.max(widestRow, x + rowPrefWidth + padding);
+			row.setBounds(x, getRowY(i), Math.max(rowPrefWidth, getWidth() - x - padding), rowHeight);
+			if (row instanceof Layout) ((Layout) row).validate();
+		}
+
+		if (widestRow > maxRowWidth) {
+			maxRowWidth = widestRow;
+			if (widestRow > prefWidth) invalidateHierarchy();
+		}
+	}
+
+	@Override
+	public void invalidate () {
+		super.invalidate();
+		sizeInvalid = true;
+	}
+
+	private void computeSize () {
+		sizeInvalid = false;
+		prefWidth = Math.max(maxRowWidth, padding * 2);
+		prefHeight = rows.size * (getRowHeight() + ySpacing) + padding * 2;
+	}
+
+	@Override
+	public float getPrefWidth () {
+		validateRows();
+		if (sizeInvalid) computeSize();
+		return prefWidth;
+	}
+
+	@Override
+	public float getPrefHeight () {
+		validateRows();
+		if (sizeInvalid) computeSize();
+		return prefHeight;
+	}
+
+	@Override
+	public void draw (Batch batch, float parentAlpha) {
+		validate();
+		Color color = getColor();
+		batch.setColor(color.r, color.g, color.b, color.a * parentAlpha);
+		if (style.background != null) style.background.draw(batch, getX(), getY(), getWidth(), getHeight());
+
+		float rowHeight = getRowHeight();
+		for (int i = firstBoundRow; i <= lastBoundRow && i < rows.size; i++) {
+			Node<T> node = rows.get(i);
+			float y = getY() + getRowY(i);
+
+			if (selection.contains(node) && style.selection != null)
+				style.selection.draw(batch, getX(), y - ySpacing / 2, getWidth(), rowHeight + ySpacing);
+			else if (node == overNode && style.over != null)
+				style.over.draw(batch, getX(), y - ySpacing / 2, getWidth(), rowHeight + ySpacing);
+
+			if (node.children.size > 0) {
+				Drawable icon = node.expanded ? style.minus : style.plus;
+				float iconX = getX() + getRowX(node) - iconSpacingRight - icon.getMinWidth();
+				float iconY = y + Math.round((rowHeight - icon.getMinHeight()) / 2);
+				icon.draw(batch, iconX, iconY, icon.getMinWidth(), icon.getMinHeight());
+			}
+		}
+
+		super.draw(batch, parentAlpha);
+	}
+
+	public Node<T> getOverNode () {
+		return overNode;
+	}
+
+	public void setOverNode (Node<T> overNode) {
+		this.overNode = overNode;
+	}
+
+	public void setPadding (float padding) {
+		this.padding = padding;
+		invalidateHierarchy();
+	}
+
+	public void setYSpacing (float ySpacing) {
+		this.ySpacing = ySpacing;
+		invalidateHierarchy();
+	}
+
+	public void setIconSpacing (float left, float right) {
+		this.iconSpacingLeft = left;
+		this.iconSpacingRight = right;
+		setStyle(style);
+	}
+
+	public float getIndentSpacing () {
+		return indentSpacing;
+	}
+
+	public ClickListener getClickListener () {
+		return clickListener;
+	}
+
+	/** Expands all parents of this node and scrolls enclosing {@link ScrollPane} (if any) so node is visible */
+	public void scrollTo (Node<T> node) {
+		node.expandTo();
+		validateRows();
+		int index = rows.indexOf(node, true);
+		if (index == -1) return;
+
+		if (getParent() instanceof ScrollPane) {
+			ScrollPane scrollPane = (ScrollPane) getParent();
+			scrollPane.validate();
+			scrollPane.scrollTo(0, getRowY(index), getWidth(), getRowHeight());
+		}
+	}
+
+	/**
+	 * Creates and updates rows actors of {@link VirtualTree}. Rows are reused, single row can be used to display
+	 * different items as tree is scrolled.
+	 */
+	public interface TreeAdapter<T> {
+		Actor createRow ();
+
+		/** Updates row actor so it displays provided item */
+		void updateRow (Actor row, T item);
+	}
+
+	/**
+	 * Node of {@link VirtualTree}. Nodes are lightweight, they don't have actors and can be freely created for every
+	 * displayed item.
+	 */
+	public static class Node<T> {
+		private final T item;
+		private VirtualTree<T> tree;
+		private Node<T> parent;
+		private final Array<Node<T>> children = new Array<Node<T>>(0);
+		private boolean expanded;
+		private boolean selectable = true;
+		private int level;
+
+		public Node (T item) {
+			this.item = item;
+		}
+
+		public T getItem () {
+			return item;
+		}
+
+		public void add (Node<T> node) {
+			insert(children.size, node);
+		}
+
+		public void insert (int index, Node<T> node) {
+			if (node.parent != null || node.tree != null) node.remove();
+			node.parent = this;
+			children.insert(index, node);
+			node.setTree(tree);
+			if (tree != null && (expanded || children.size == 1)) tree.invalidateRows();
+		}
+
+		public void remove (Node<T> node) {
+			//nodes are usually removed in reverse order of adding
+			int index = children.lastIndexOf(node, true);
+			if (index == -1) return;
+			children.removeIndex(index);
+			node.parent = null;
+			node.setTree(null);
+			if (tree != null) tree.invalidateRows();
+		}
+
+		/** Removes this node from its parent node or tree */
+		public void remove () {
+			if (parent != null)
+				parent.remove(this);
+			else if (tree != null)
+				tree.remove(this);
+		}
+
+		public void removeAll () {
+			for (Node<T> child : children) {
+				child.parent = null;
+				child.setTree(null);
+			}
+			children.clear();
+			if (tree != null) tree.invalidateRows();
+		}
+
+		private void setTree (VirtualTree<T> tree) {
+			if (this.tree != null && tree == null) {
+				this.tree.selection.remove(this);
+				if (this.tree.overNode == this) this.tree.overNode = null;
+			}
+
+			this.tree = tree;
+
+			for (int i = 0, n = children.size; i < n; i++)
+				children.get(i).setTree(tree);
+		}
+
+		public VirtualTree<T> getTree () {
+			return tree;
+		}
+
+		public Node<T> getParent () {
+			return parent;
+		}
+
+		public Array<Node<T>> getChildren () {
+			return children;
+		}
+
+		public boolean isExpanded () {
+			return expanded;
+		}
+
+		public void setExpanded (boolean expanded) {
+			if (this.expanded == expanded) return;
+			this.expanded = expanded;
+			if (tree != null && children.size > 0) tree.invalidateRows();
+		}
+
+		/** Expands all parents of this node */
+		public void expandTo () {
+			Node<T> node = parent;
+			while (node != null) {
+				node.setExpanded(true);
+				node = node.parent;
+			}
+		}
+
+		public boolean isSelectable () {
+			return selectable;
+		}
+
+		public void setSelectable (boolean selectable) {
+			this.selectable = selectable;
+		}
+
+		/** @return depth of this node in tree, valid only when node is displayed */
+		public int getLevel () {
+			return level;
+		}
+	}
+}
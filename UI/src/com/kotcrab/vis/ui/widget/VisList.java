@@ -25,6 +25,7 @@ import com.kotcrab.vis.ui.VisUI;
 /**
  * @author Kotcrab
  * @see List
+ * @see VirtualList
  */
 public class VisList<T> extends List<T> {
 
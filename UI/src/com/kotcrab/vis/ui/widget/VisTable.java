@@ -24,6 +24,7 @@ import com.kotcrab.vis.ui.util.TableUtils;
 /**
  * @author Kotcrab
  * @see Table
+ * @see LayoutBatch
  */
 public class VisTable extends Table {
 	public VisTable () {
@@ -36,6 +37,12 @@ public class VisTable extends Table {
 		if (setVisDefaults) TableUtils.setSpacingDefaults(this);
 	}
 
+	@Override
+	public void invalidateHierarchy () {
+		if (LayoutBatch.deferInvalidation(this)) return;
+		super.invalidateHierarchy();
+	}
+
 	/**
 	 * Adds vertical or horizontal {@link Separator} widget to table with padding top, bottom 2px with fill and expand properties.
 	 * If vertical == false then inserts new row after separator (not before!)
@@ -34,6 +34,7 @@ import com.badlogic.gdx.utils.Pools;
 /**
  * A multiple-line text input field, entirely based on {@link TextField}
  * @author Kotcrab
+ * @see VirtualTextArea
  */
 public class VisTextArea extends VisTextField {
 	/** Array storing lines breaks positions * */
@@ -27,6 +27,7 @@ import com.kotcrab.vis.ui.VisUI;
 /**
  * @author Kotcrab
  * @see Tree
+ * @see VirtualTree
  */
 public class VisTree extends Tree {
 	public VisTree (String styleName) {
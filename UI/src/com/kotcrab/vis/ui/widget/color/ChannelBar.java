@@ -25,6 +25,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener.ChangeEvent;
 import com.badlogic.gdx.utils.Pools;
 import com.kotcrab.vis.ui.Sizes;
 import com.kotcrab.vis.ui.widget.VisImage;
+import com.kotcrab.vis.ui.widget.color.GradientShader.Gradient;
 
 /**
  * Class used to display channel color bars in color picker, not intended to be used outside ColorPicker
@@ -38,6 +39,9 @@ public class ChannelBar extends VisImage {
 	private int value;
 	private float selectorX;
 
+	private GradientShader gradientShader;
+	private final Gradient gradient = new Gradient();
+
 	public ChannelBar (ColorPickerStyle style, Sizes sizes, Texture texture, int value, final int maxValue, ChangeListener listener) {
 		super(texture);
 		this.style = style;
@@ -63,7 +67,9 @@ public class ChannelBar extends VisImage {
 
 	@Override
 	public void draw (Batch batch, float parentAlpha) {
+		if (gradientShader != null) gradientShader.begin(batch, gradient);
 		super.draw(batch, parentAlpha);
+		if (gradientShader != null) gradientShader.end(batch);
 		style.barSelector.draw(batch, getX() + selectorX - style.barSelector.getMinWidth() / 2, getY() - 1, style.barSelector.getMinWidth(), style.barSelector.getMinHeight());
 	}
 
@@ -79,6 +85,16 @@ public class ChannelBar extends VisImage {
 		return value;
 	}
 
+	/** Sets shader used to draw gradient of this bar, if shader is null texture passed in constructor is drawn */
+	public void setGradientShader (GradientShader gradientShader) {
+		this.gradientShader = gradientShader;
+	}
+
+	/** @return gradient drawn when gradient shader is set */
+	public Gradient getGradient () {
+		return gradient;
+	}
+
 	private void updateValueFromTouch (float x) {
 		int newValue = (int) (x / ColorPicker.BAR_WIDTH * maxValue / sizes.scaleFactor);
 		setValue(newValue);
@@ -26,9 +26,12 @@ import com.kotcrab.vis.ui.Sizes;
 import com.kotcrab.vis.ui.widget.VisLabel;
 import com.kotcrab.vis.ui.widget.VisTable;
 import com.kotcrab.vis.ui.widget.color.ColorInputField.ColorInputFieldListener;
+import com.kotcrab.vis.ui.widget.color.GradientShader.Gradient;
 
 /**
- * Used to display one color channel (hue, saturation etc.) with label, ColorInputField and ChannelBar
+ * Used to display one color channel (hue, saturation etc.) with label, ColorInputField and ChannelBar. Bar is drawn using
+ * {@link GradientShader} if it was provided and listener implements {@link ColorChannelGradientListener}, otherwise bar
+ * pixmap is redrawn every time channel is updated.
  * @author Kotcrab
  */
 public class ColorChannelWidget extends VisTable implements Disposable {
@@ -38,6 +41,7 @@ public class ColorChannelWidget extends VisTable implements Disposable {
 	private int maxValue;
 	private ColorChannelWidgetListener drawer;
 	private boolean useAlpha;
+	private GradientShader gradientShader;
 
 	private ColorInputField inputField;
 
@@ -52,6 +56,15 @@ public class ColorChannelWidget extends VisTable implements Disposable {
 	}
 
 	public ColorChannelWidget (ColorPickerStyle style, Sizes sizes, String label, int maxValue, boolean useAlpha, final ColorChannelWidgetListener drawer) {
+		this(style, sizes, null, label, maxValue, useAlpha, drawer);
+	}
+
+	/**
+	 * @param gradientShader shader used to draw channel bar, may be null, shader is not disposed by this widget. Shader is
+	 * only used when drawer implements {@link ColorChannelGradientListener}.
+	 */
+	public ColorChannelWidget (ColorPickerStyle style, Sizes sizes, GradientShader gradientShader, String label, int maxValue, boolean useAlpha,
+							   final ColorChannelWidgetListener drawer) {
 		super(true);
 
 		this.style = style;
@@ -60,6 +73,7 @@ public class ColorChannelWidget extends VisTable implements Disposable {
 		this.maxValue = maxValue;
 		this.drawer = drawer;
 		this.useAlpha = useAlpha;
+		this.gradientShader = drawer instanceof ColorChannelGradientListener ? gradientShader : null;
 
 		barListener = new ChangeListener() {
 			@Override
@@ -70,12 +84,15 @@ public class ColorChannelWidget extends VisTable implements Disposable {
 			}
 		};
 
-		if (useAlpha)
-			pixmap = new Pixmap(maxValue, 1, Format.RGBA8888);
-		else
-			pixmap = new Pixmap(maxValue, 1, Format.RGB888);
+		if (this.gradientShader == null) {
+			if (useAlpha)
+				pixmap = new Pixmap(maxValue, 1, Format.RGBA8888);
+			else
+				pixmap = new Pixmap(maxValue, 1, Format.RGB888);
+
+			texture = new Texture(pixmap);
+		}
 
-		texture = new Texture(pixmap);
 		add(new VisLabel(label)).width(10 * sizes.scaleFactor).center();
 		add(inputField = new ColorInputField(maxValue, new ColorInputFieldListener() {
 			@Override
@@ -92,13 +109,19 @@ public class ColorChannelWidget extends VisTable implements Disposable {
 
 	@Override
 	public void dispose () {
-		pixmap.dispose();
-		texture.dispose();
+		if (pixmap != null) {
+			pixmap.dispose();
+			texture.dispose();
+		}
 	}
 
 	public void redraw () {
-		drawer.draw(pixmap);
-		texture.draw(pixmap, 0, 0);
+		if (gradientShader != null)
+			((ColorChannelGradientListener) drawer).updateGradient(bar.getGradient());
+		else {
+			drawer.draw(pixmap);
+			texture.draw(pixmap, 0, 0);
+		}
 	}
 
 	public int getValue () {
@@ -112,10 +135,16 @@ public class ColorChannelWidget extends VisTable implements Disposable {
 	}
 
 	private ChannelBar createBarImage () {
+		Texture barTexture = gradientShader != null ? gradientShader.getWhiteTexture() : texture;
+		ChannelBar bar;
+
 		if (useAlpha)
-			return new AlphaChannelBar(style, sizes, texture, value, maxValue, barListener);
+			bar = new AlphaChannelBar(style, sizes, barTexture, value, maxValue, barListener);
 		else
-			return new ChannelBar(style, sizes, texture, value, maxValue, barListener);
+			bar = new ChannelBar(style, sizes, barTexture, value, maxValue, barListener);
+
+		bar.setGradientShader(gradientShader);
+		return bar;
 	}
 
 	public boolean isInputValid () {
@@ -127,4 +156,9 @@ public class ColorChannelWidget extends VisTable implements Disposable {
 
 		void draw (Pixmap pixmap);
 	}
+
+	/** Optional extension of {@link ColorChannelWidgetListener} required to draw channel bar using {@link GradientShader} */
+	interface ColorChannelGradientListener extends ColorChannelWidgetListener {
+		void updateGradient (Gradient gradient);
+	}
 }
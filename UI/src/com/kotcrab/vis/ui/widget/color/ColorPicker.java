@@ -30,7 +30,8 @@ import com.kotcrab.vis.ui.VisUI;
 import com.kotcrab.vis.ui.util.ColorUtils;
 import com.kotcrab.vis.ui.widget.*;
 import com.kotcrab.vis.ui.widget.VisTextField.TextFieldFilter;
-import com.kotcrab.vis.ui.widget.color.ColorChannelWidget.ColorChannelWidgetListener;
+import com.kotcrab.vis.ui.widget.color.ColorChannelWidget.ColorChannelGradientListener;
+import com.kotcrab.vis.ui.widget.color.GradientShader.Gradient;
 
 import static com.kotcrab.vis.ui.widget.color.ColorPickerText.*;
 
@@ -38,6 +39,9 @@ import static com.kotcrab.vis.ui.widget.color.ColorPickerText.*;
  * Color Picker widget, allows user to select color. ColorPicker is heavy widget and should be reused whenever possible.
  * This widget must be disposed when no longer needed! ColorPicker will be centered on screen after adding to Stage
  * use {@link #setCenterOnAdd(boolean)} to change this.
+ * <p>
+ * Palette and channel bars are drawn using {@link GradientShader}, if shader can't be compiled they are drawn using
+ * pixmaps which are updated every time color is changed.
  * @author Kotcrab
  * @since 0.6.0
  */
@@ -66,6 +70,9 @@ public class ColorPicker extends VisWindow implements Disposable {
 	private Texture barTexture;
 	private VerticalChannelBar verticalBar;
 
+	/** null when gradients are drawn using pixmaps */
+	private GradientShader gradientShader;
+
 	private Texture paletteTexture;
 	private Pixmap palettePixmap;
 	private Palette palette;
@@ -130,7 +137,7 @@ public class ColorPicker extends VisWindow implements Disposable {
 		createColorWidgets();
 		createUI();
 		createListeners();
-		updatePixmaps();
+		updateColorWidgets();
 
 		pack();
 		centerWindow();
@@ -219,8 +226,12 @@ public class ColorPicker extends VisWindow implements Disposable {
 	}
 
 	private void createColorWidgets () {
-		palettePixmap = new Pixmap(100, 100, Format.RGB888);
-		paletteTexture = new Texture(palettePixmap);
+		gradientShader = GradientShader.create();
+
+		if (gradientShader == null) {
+			palettePixmap = new Pixmap(100, 100, Format.RGB888);
+			paletteTexture = new Texture(palettePixmap);
+		}
 
 		barPixmap = new Pixmap(1, 360, Format.RGB888);
 
@@ -231,32 +242,33 @@ public class ColorPicker extends VisWindow implements Disposable {
 
 		barTexture = new Texture(barPixmap);
 
-		palette = new Palette(style, sizes, paletteTexture, 0, 0, 100, new ChangeListener() {
+		palette = new Palette(style, sizes, gradientShader != null ? gradientShader.getWhiteTexture() : paletteTexture, 0, 0, 100, new ChangeListener() {
 			@Override
 			public void changed (ChangeEvent event, Actor actor) {
 				sBar.setValue(palette.getV());
 				vBar.setValue(palette.getS());
 
 				updateHSVValuesFromFields();
-				updatePixmaps();
+				updateColorWidgets();
 			}
 		});
+		palette.setGradientShader(gradientShader);
 
 		verticalBar = new VerticalChannelBar(style, sizes, barTexture, 0, 360, new ChangeListener() {
 			@Override
 			public void changed (ChangeEvent event, Actor actor) {
 				hBar.setValue(verticalBar.getValue());
 				updateHSVValuesFromFields();
-				updatePixmaps();
+				updateColorWidgets();
 			}
 		});
 
-		hBar = new ColorChannelWidget(style, sizes, "H", 360, new ColorChannelWidgetListener() {
+		hBar = new ColorChannelWidget(style, sizes, gradientShader, "H", 360, false, new ColorChannelGradientListener() {
 			@Override
 			public void updateFields () {
 				verticalBar.setValue(hBar.getValue());
 				updateHSVValuesFromFields();
-				updatePixmaps();
+				updateColorWidgets();
 			}
 
 			@Override
@@ -266,14 +278,19 @@ public class ColorPicker extends VisWindow implements Disposable {
 					pixmap.drawPixel(h, 0, Color.rgba8888(tmpColor));
 				}
 			}
+
+			@Override
+			public void updateGradient (Gradient gradient) {
+				gradient.setHorizontal(true, 0, sBar.getValue() / 100f, vBar.getValue() / 100f, 1, 1, sBar.getValue() / 100f, vBar.getValue() / 100f, 1);
+			}
 		});
 
-		sBar = new ColorChannelWidget(style, sizes, "S", 100, new ColorChannelWidgetListener() {
+		sBar = new ColorChannelWidget(style, sizes, gradientShader, "S", 100, false, new ColorChannelGradientListener() {
 			@Override
 			public void updateFields () {
 				palette.setValue(vBar.getValue(), sBar.getValue());
 				updateHSVValuesFromFields();
-				updatePixmaps();
+				updateColorWidgets();
 			}
 
 			@Override
@@ -283,14 +300,19 @@ public class ColorPicker extends VisWindow implements Disposable {
 					pixmap.drawPixel(s, 0, Color.rgba8888(tmpColor));
 				}
 			}
+
+			@Override
+			public void updateGradient (Gradient gradient) {
+				gradient.setHorizontal(true, hBar.getValue() / 360f, 0, vBar.getValue() / 100f, 1, hBar.getValue() / 360f, 1, vBar.getValue() / 100f, 1);
+			}
 		});
 
-		vBar = new ColorChannelWidget(style, sizes, "V", 100, new ColorChannelWidgetListener() {
+		vBar = new ColorChannelWidget(style, sizes, gradientShader, "V", 100, false, new ColorChannelGradientListener() {
 			@Override
 			public void updateFields () {
 				palette.setValue(vBar.getValue(), sBar.getValue());
 				updateHSVValuesFromFields();
-				updatePixmaps();
+				updateColorWidgets();
 			}
 
 			@Override
@@ -301,13 +323,18 @@ public class ColorPicker extends VisWindow implements Disposable {
 				}
 
 			}
+
+			@Override
+			public void updateGradient (Gradient gradient) {
+				gradient.setHorizontal(true, hBar.getValue() / 360f, sBar.getValue() / 100f, 0, 1, hBar.getValue() / 360f, sBar.getValue() / 100f, 1, 1);
+			}
 		});
 
-		rBar = new ColorChannelWidget(style, sizes, "R", 255, new ColorChannelWidgetListener() {
+		rBar = new ColorChannelWidget(style, sizes, gradientShader, "R", 255, false, new ColorChannelGradientListener() {
 			@Override
 			public void updateFields () {
 				updateRGBValuesFromFields();
-				updatePixmaps();
+				updateColorWidgets();
 			}
 
 			@Override
@@ -317,13 +344,18 @@ public class ColorPicker extends VisWindow implements Disposable {
 					pixmap.drawPixel(r, 0, Color.rgba8888(tmpColor));
 				}
 			}
+
+			@Override
+			public void updateGradient (Gradient gradient) {
+				gradient.setHorizontal(false, 0, color.g, color.b, 1, 1, color.g, color.b, 1);
+			}
 		});
 
-		gBar = new ColorChannelWidget(style, sizes, "G", 255, new ColorChannelWidgetListener() {
+		gBar = new ColorChannelWidget(style, sizes, gradientShader, "G", 255, false, new ColorChannelGradientListener() {
 			@Override
 			public void updateFields () {
 				updateRGBValuesFromFields();
-				updatePixmaps();
+				updateColorWidgets();
 			}
 
 			@Override
@@ -333,13 +365,18 @@ public class ColorPicker extends VisWindow implements Disposable {
 					pixmap.drawPixel(g, 0, Color.rgba8888(tmpColor));
 				}
 			}
+
+			@Override
+			public void updateGradient (Gradient gradient) {
+				gradient.setHorizontal(false, color.r, 0, color.b, 1, color.r, 1, color.b, 1);
+			}
 		});
 
-		bBar = new ColorChannelWidget(style, sizes, "B", 255, new ColorChannelWidgetListener() {
+		bBar = new ColorChannelWidget(style, sizes, gradientShader, "B", 255, false, new ColorChannelGradientListener() {
 			@Override
 			public void updateFields () {
 				updateRGBValuesFromFields();
-				updatePixmaps();
+				updateColorWidgets();
 			}
 
 			@Override
@@ -350,13 +387,18 @@ public class ColorPicker extends VisWindow implements Disposable {
 				}
 
 			}
+
+			@Override
+			public void updateGradient (Gradient gradient) {
+				gradient.setHorizontal(false, color.r, color.g, 0, 1, color.r, color.g, 1, 1);
+			}
 		});
 
-		aBar = new ColorChannelWidget(style, sizes, "A", 255, true, new ColorChannelWidgetListener() {
+		aBar = new ColorChannelWidget(style, sizes, gradientShader, "A", 255, true, new ColorChannelGradientListener() {
 			@Override
 			public void updateFields () {
 				if (aBar.isInputValid()) color.a = aBar.getValue() / 255.0f;
-				updatePixmaps();
+				updateColorWidgets();
 			}
 
 			@Override
@@ -367,6 +409,11 @@ public class ColorPicker extends VisWindow implements Disposable {
 					pixmap.drawPixel(i, 0, Color.rgba8888(tmpColor));
 				}
 			}
+
+			@Override
+			public void updateGradient (Gradient gradient) {
+				gradient.setHorizontal(false, color.r, color.g, color.b, 0, color.r, color.g, color.b, 1);
+			}
 		});
 	}
 
@@ -410,15 +457,19 @@ public class ColorPicker extends VisWindow implements Disposable {
 		this.listener = listener;
 	}
 
-	private void updatePixmaps () {
-		for (int v = 0; v <= 100; v++) {
-			for (int s = 0; s <= 100; s++) {
-				ColorUtils.HSVtoRGB(hBar.getValue(), s, v, tmpColor);
-				palettePixmap.drawPixel(v, 100 - s, Color.rgba8888(tmpColor));
+	private void updateColorWidgets () {
+		if (gradientShader != null)
+			palette.getGradient().setPalette(hBar.getValue() / 360f);
+		else {
+			for (int v = 0; v <= 100; v++) {
+				for (int s = 0; s <= 100; s++) {
+					ColorUtils.HSVtoRGB(hBar.getValue(), s, v, tmpColor);
+					palettePixmap.drawPixel(v, 100 - s, Color.rgba8888(tmpColor));
+				}
 			}
-		}
 
-		paletteTexture.draw(palettePixmap, 0, 0);
+			paletteTexture.draw(palettePixmap, 0, 0);
+		}
 
 		newColorImg.setColor(color);
 
@@ -453,7 +504,7 @@ public class ColorPicker extends VisWindow implements Disposable {
 		}
 		color = new Color(newColor);
 		updateFieldsFromColor();
-		updatePixmaps();
+		updateColorWidgets();
 	}
 
 	/**
@@ -495,10 +546,14 @@ public class ColorPicker extends VisWindow implements Disposable {
 	public void dispose () {
 		if (disposed) throw new IllegalStateException("ColorPicker can't be disposed twice!");
 
-		paletteTexture.dispose();
-		barTexture.dispose();
+		if (gradientShader != null)
+			gradientShader.dispose();
+		else {
+			paletteTexture.dispose();
+			palettePixmap.dispose();
+		}
 
-		palettePixmap.dispose();
+		barTexture.dispose();
 		barPixmap.dispose();
 
 		hBar.dispose();
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.ui.widget.color;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Shader used by {@link ColorPicker} to draw palette and channel bars. Colors are computed on GPU from {@link Gradient}
+ * uniforms so changing picker color doesn't require updating any textures. Not intended to use outside ColorPicker.
+ * @author Kotcrab
+ * @since 0.9.3
+ */
+public class GradientShader implements Disposable {
+	private static final String VERTEX_SHADER = ""
+			+ "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+			+ "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+			+ "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+			+ "uniform mat4 u_projTrans;\n"
+			+ "varying vec4 v_color;\n"
+			+ "varying vec2 v_position;\n"
+			+ "\n"
+			+ "void main () {\n"
+			+ "	v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+			+ "	v_color.a = v_color.a * (255.0/254.0);\n"
+			+ "	v_position = vec2(" + ShaderProgram.TEXCOORD_ATTRIBUTE + "0.x, 1.0 - " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0.y);\n"
+			+ "	gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+			+ "}\n";
+
+	private static final String FRAGMENT_SHADER = ""
+			+ "#ifdef GL_ES\n"
+			+ "precision mediump float;\n"
+			+ "#endif\n"
+			+ "varying vec4 v_color;\n"
+			+ "varying vec2 v_position;\n"
+			+ "uniform vec4 u_start;\n"
+			+ "uniform vec4 u_xDelta;\n"
+			+ "uniform vec4 u_yDelta;\n"
+			+ "uniform float u_hsv;\n"
+			+ "\n"
+			+ "vec3 hsvToRgb (vec3 c) {\n"
+			+ "	vec4 k = vec4(1.0, 2.0 / 3.0, 1.0 / 3.0, 3.0);\n"
+			+ "	vec3 p = abs(fract(c.xxx + k.xyz) * 6.0 - k.www);\n"
+			+ "	return c.z * mix(k.xxx, clamp(p - k.xxx, 0.0, 1.0), c.y);\n"
+			+ "}\n"
+			+ "\n"
+			+ "void main () {\n"
+			+ "	vec4 value = u_start + v_position.x * u_xDelta + v_position.y * u_yDelta;\n"
+			+ "	vec4 color = mix(value, vec4(hsvToRgb(value.rgb), value.a), u_hsv);\n"
+			+ "	gl_FragColor = v_color * color;\n"
+			+ "}\n";
+
+	private final ShaderProgram program;
+	private final Texture whiteTexture;
+	private ShaderProgram previousShader;
+
+	public GradientShader () {
+		program = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+
+		Pixmap pixmap = new Pixmap(1, 1, Format.RGB888);
+		pixmap.setColor(1, 1, 1, 1);
+		pixmap.fill();
+		whiteTexture = new Texture(pixmap);
+		pixmap.dispose();
+	}
+
+	/**
+	 * Compiles gradient shader.
+	 * @return compiled shader or null if shader couldn't be compiled, in such case pixmaps should be used to draw gradients
+	 */
+	public static GradientShader create () {
+		GradientShader shader = new GradientShader();
+		if (shader.program.isCompiled()) return shader;
+
+		Gdx.app.log("VisUI", "ColorPicker gradient shader couldn't be compiled, pixmaps will be used instead:\n" + shader.program.getLog());
+		shader.dispose();
+		return null;
+	}
+
+	/** @return texture that should be drawn by widgets using this shader, texture coordinates are used as gradient position */
+	public Texture getWhiteTexture () {
+		return whiteTexture;
+	}
+
+	/** Sets this shader on batch, everything drawn until {@link #end(Batch)} is called will be filled using given gradient */
+	public void begin (Batch batch, Gradient gradient) {
+		previousShader = batch.getShader();
+		batch.setShader(program);
+		program.setUniformf("u_start", gradient.start[0], gradient.start[1], gradient.start[2], gradient.start[3]);
+		program.setUniformf("u_xDelta", gradient.xDelta[0], gradient.xDelta[1], gradient.xDelta[2], gradient.xDelta[3]);
+		program.setUniformf("u_yDelta", gradient.yDelta[0], gradient.yDelta[1], gradient.yDelta[2], gradient.yDelta[3]);
+		program.setUniformf("u_hsv", gradient.hsv ? 1 : 0);
+	}
+
+	/** Restores shader that was set on batch before {@link #begin(Batch, Gradient)} was called */
+	public void end (Batch batch) {
+		batch.setShader(previousShader);
+		previousShader = null;
+	}
+
+	@Override
+	public void dispose () {
+		program.dispose();
+		whiteTexture.dispose();
+	}
+
+	/**
+	 * Linear gradient drawn by {@link GradientShader}. Gradient is defined by value at bottom left corner of drawn widget and
+	 * change of that value along x and y axis. When gradient is in HSV mode values are hue, saturation and value, all in
+	 * range 0-1, and alpha.
+	 */
+	public static class Gradient {
+		final float[] start = new float[4];
+		final float[] xDelta = new float[4];
+		final float[] yDelta = new float[4];
+		boolean hsv;
+
+		/** Sets horizontal gradient from color (c1, c2, c3, a1) to color (c4, c5, c6, a2) */
+		public void setHorizontal (boolean hsv, float c1, float c2, float c3, float a1, float c4, float c5, float c6, float a2) {
+			this.hsv = hsv;
+			set(start, c1, c2, c3, a1);
+			set(xDelta, c4 - c1, c5 - c2, c6 - c3, a2 - a1);
+			set(yDelta, 0, 0, 0, 0);
+		}
+
+		/** Sets gradient displaying all saturation and value combinations of given hue, value changes along x axis and saturation along y axis */
+		public void setPalette (float hue) {
+			hsv = true;
+			set(start, hue, 0, 0, 1);
+			set(xDelta, 0, 0, 1, 0);
+			set(yDelta, 0, 1, 0, 0);
+		}
+
+		private void set (float[] vector, float x, float y, float z, float w) {
+			vector[0] = x;
+			vector[1] = y;
+			vector[2] = z;
+			vector[3] = w;
+		}
+	}
+}
@@ -25,6 +25,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener.ChangeEvent;
 import com.badlogic.gdx.utils.Pools;
 import com.kotcrab.vis.ui.Sizes;
 import com.kotcrab.vis.ui.widget.VisImage;
+import com.kotcrab.vis.ui.widget.color.GradientShader.Gradient;
 
 /**
  * Colors palette used to display colors using all possible values of saturation and value, not intended to use outside ColorPicker
@@ -38,6 +39,9 @@ public class Palette extends VisImage {
 	private float selectorX;
 	private float selectorY;
 
+	private GradientShader gradientShader;
+	private final Gradient gradient = new Gradient();
+
 	public Palette (ColorPickerStyle style, Sizes sizes, Texture texture, int x, int y, final int maxValue, ChangeListener listener) {
 		super(texture);
 		this.style = style;
@@ -62,7 +66,9 @@ public class Palette extends VisImage {
 
 	@Override
 	public void draw (Batch batch, float parentAlpha) {
+		if (gradientShader != null) gradientShader.begin(batch, gradient);
 		super.draw(batch, parentAlpha);
+		if (gradientShader != null) gradientShader.end(batch);
 		style.verticalSelector.draw(batch, getX(), getY() + selectorY - style.verticalSelector.getMinHeight() / 2 + 0.1f, getImageWidth(), style.verticalSelector.getMinHeight());
 		style.horizontalSelector.draw(batch, getX() + selectorX - style.horizontalSelector.getMinWidth() / 2 + 0.1f, getY(), style.horizontalSelector.getMinWidth(), getImageHeight());
 		style.cross.draw(batch, getX() + selectorX - style.cross.getMinWidth() / 2 + 0.1f, getY() + selectorY - style.cross.getMinHeight() / 2 + 0.1f,
@@ -101,4 +107,14 @@ public class Palette extends VisImage {
 	public int getV () {
 		return y;
 	}
+
+	/** Sets shader used to draw gradient of this palette, if shader is null texture passed in constructor is drawn */
+	public void setGradientShader (GradientShader gradientShader) {
+		this.gradientShader = gradientShader;
+	}
+
+	/** @return gradient drawn when gradient shader is set */
+	public Gradient getGradient () {
+		return gradient;
+	}
 }
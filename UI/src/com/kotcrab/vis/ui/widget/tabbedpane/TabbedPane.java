@@ -19,13 +19,17 @@ package com.kotcrab.vis.ui.widget.tabbedpane;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input.Buttons;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.InputListener;
+import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.Touchable;
 import com.badlogic.gdx.scenes.scene2d.ui.Button;
 import com.badlogic.gdx.scenes.scene2d.ui.ButtonGroup;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
+import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane.ScrollPaneStyle;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
@@ -58,6 +62,10 @@ import com.kotcrab.vis.ui.widget.VisTextButton.VisTextButtonStyle;
  * {@link #getTabsPane()} method to get a reference of {@link DragPane}, and invoke {@link DragPane#setDraggable(Draggable)} with
  * null argument - this will clear draggable listener from all tabs' buttons; naturally, setting this value to non-null
  * {@link Draggable} listener will also add it to all buttons.
+ * <p>
+ * Tabs pane is placed inside {@link ScrollPane} without visible scroll bars (see {@link #getTabsScrollPane()}). When tabs
+ * don't fit they can be scrolled using mouse wheel, only visible tabs buttons are drawn and active tab is always scrolled
+ * into view.
  * @author Kotcrab
  * @author MJ
  * @since 0.7.0
@@ -67,6 +75,7 @@ public class TabbedPane {
 	private VisImageButtonStyle sharedCloseActiveButtonStyle;
 
 	private DragPane tabsPane;
+	private TabsScrollPane tabsScrollPane;
 	private VisTable mainTable;
 
 	private Array<Tab> tabs;
@@ -103,7 +112,12 @@ public class TabbedPane {
 		tabs = new Array<Tab>();
 		tabsButtonMap = new IdentityMap<Tab, TabButtonTable>();
 
-		mainTable.add(tabsPane);
+		tabsScrollPane = new TabsScrollPane(tabsPane, style.vertical);
+		if (style.vertical) {
+			mainTable.add(tabsScrollPane).top().fillY();
+		} else {
+			mainTable.add(tabsScrollPane).left().fillX();
+		}
 
 		// if height is not set bottomBar may sometimes disappear
 		if (style.bottomBar != null) {
@@ -111,7 +125,7 @@ public class TabbedPane {
 				// TODO Separate image. One that actually looks good.
 				mainTable.add(new Image(style.bottomBar)).expand().fill().width(style.bottomBar.getMinWidth());
 			} else {
-				mainTable.getCell(tabsPane).left().expandX();
+				mainTable.getCell(tabsScrollPane).expandX();
 				mainTable.row();
 				mainTable.add(new Image(style.bottomBar)).expand().fill().height(style.bottomBar.getMinHeight());
 			}
@@ -139,6 +153,14 @@ public class TabbedPane {
 		return tabsPane;
 	}
 
+	/**
+	 * @return a direct reference to {@link ScrollPane} containing tabs pane. Scroll bars of this pane are not visible, tabs
+	 * can be scrolled using mouse wheel.
+	 */
+	public ScrollPane getTabsScrollPane () {
+		return tabsScrollPane;
+	}
+
 	/**
 	 * @param allowTabDeselect if true user may deselect tab, meaning that there won't be any active tab. Allows to create similar
 	 * behaviour like in Intellij IDEA bottom quick access bar
@@ -384,7 +406,7 @@ public class TabbedPane {
 		if (table == null) {
 			throwNotBelongingTabException(tab);
 		}
-		table.button.setText(getTabTitle(tab));
+		table.updateTitle();
 	}
 
 	protected String getTabTitle (Tab tab) {
@@ -472,9 +494,12 @@ public class TabbedPane {
 		private VisImageButtonStyle closeButtonStyle;
 		private Drawable up;
 
+		private String title;
+
 		public TabButtonTable (Tab tab) {
 			this.tab = tab;
-			button = new VisTextButton(getTabTitle(tab), style.buttonStyle) {
+			title = getTabTitle(tab);
+			button = new VisTextButton(title, style.buttonStyle) {
 				@Override
 				public void setDisabled (boolean isDisabled) {
 					super.setDisabled(isDisabled);
@@ -505,6 +530,14 @@ public class TabbedPane {
 			}
 		}
 
+		/** Updates button text only if title returned by {@link TabbedPane#getTabTitle(Tab)} has changed, button text isn't measured again otherwise. */
+		public void updateTitle () {
+			String newTitle = getTabTitle(tab);
+			if (newTitle == null ? title == null : newTitle.equals(title)) return;
+			title = newTitle;
+			button.setText(newTitle);
+		}
+
 		private void addListeners () {
 			closeButton.addListener(new ChangeListener() {
 				@Override
@@ -606,6 +639,7 @@ public class TabbedPane {
 				notifyListenersSwitched(tab);
 				tab.onShow();
 				closeButton.setStyle(sharedCloseActiveButtonStyle);
+				tabsScrollPane.scrollToTab(this);
 			} else if (group.getCheckedIndex() == -1) { // no tab selected (allowTabDeselect == true)
 				activeTab = null;
 				notifyListenersSwitched(null);
@@ -630,6 +664,72 @@ public class TabbedPane {
 		}
 	}
 
+	/**
+	 * Scroll pane of tabs strip. Has no visible scroll bars and doesn't allow flick scrolling so it doesn't interfere with tabs
+	 * dragging. Scrolling to tab is delayed until tabs strip is laid out, tab that was just added doesn't have its position yet.
+	 */
+	private static class TabsScrollPane extends ScrollPane {
+		private static final Vector2 tmpVector = new Vector2();
+
+		private final boolean vertical;
+		private TabButtonTable scrollTarget;
+		private Actor previousScrollFocus;
+
+		public TabsScrollPane (DragPane tabsPane, boolean vertical) {
+			super(tabsPane, new ScrollPaneStyle());
+			this.vertical = vertical;
+			setScrollingDisabled(vertical, !vertical);
+			setFlickScroll(false);
+			setOverscroll(false, false);
+			setFadeScrollBars(false);
+			setSmoothScrolling(true);
+
+			addListener(new InputListener() {
+				@Override
+				public void enter (InputEvent event, float x, float y, int pointer, Actor fromActor) {
+					Stage stage = getStage();
+					if (pointer != -1 || stage == null || (fromActor != null && fromActor.isDescendantOf(TabsScrollPane.this)))
+						return;
+					previousScrollFocus = stage.getScrollFocus();
+					stage.setScrollFocus(TabsScrollPane.this);
+				}
+
+				@Override
+				public void exit (InputEvent event, float x, float y, int pointer, Actor toActor) {
+					Stage stage = getStage();
+					if (pointer != -1 || stage == null || (toActor != null && toActor.isDescendantOf(TabsScrollPane.this)))
+						return;
+					if (stage.getScrollFocus() == TabsScrollPane.this) stage.setScrollFocus(previousScrollFocus);
+					previousScrollFocus = null;
+				}
+			});
+		}
+
+		public void scrollToTab (TabButtonTable table) {
+			scrollTarget = table;
+		}
+
+		@Override
+		public void act (float delta) {
+			if (scrollTarget != null) {
+				TabButtonTable table = scrollTarget;
+				scrollTarget = null;
+				if (table.getParent() != null) {
+					validate();
+					Actor widget = getWidget();
+					table.localToAscendantCoordinates(widget, tmpVector.set(0, 0));
+					if (vertical) {
+						scrollTo(0, tmpVector.y, 0, table.getHeight());
+					} else {
+						scrollTo(tmpVector.x, 0, table.getWidth(), 0);
+					}
+				}
+			}
+
+			super.act(delta);
+		}
+	}
+
 	private enum Text implements BundleText {
 		UNSAVED_DIALOG_TITLE("unsavedDialogTitle"), UNSAVED_DIALOG_TEXT("unsavedDialogText");
 
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.ui.test;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.utils.Disableable;
+import com.kotcrab.vis.ui.util.form.AsyncFormInputValidator;
+import com.kotcrab.vis.ui.util.form.SimpleFormValidator;
+import com.kotcrab.vis.ui.util.form.SimpleFormValidator.FormValidatorStyle;
+import com.kotcrab.vis.ui.widget.VisTextField.VisTextFieldStyle;
+import com.kotcrab.vis.ui.widget.VisValidatableTextField;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncFormValidatorTest {
+	private final LinkedBlockingQueue<Runnable> uiThreadQueue = new LinkedBlockingQueue<Runnable>();
+	private Application oldApp;
+
+	@Before
+	public void setUp () {
+		oldApp = Gdx.app;
+		Gdx.app = (Application) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Application.class}, new InvocationHandler() {
+			@Override
+			public Object invoke (Object proxy, Method method, Object[] args) throws Throwable {
+				if (method.getName().equals("postRunnable")) uiThreadQueue.add((Runnable) args[0]);
+				if (method.getName().equals("getType")) return Application.ApplicationType.Desktop;
+				return null;
+			}
+		});
+	}
+
+	@After
+	public void tearDown () {
+		Gdx.app = oldApp;
+	}
+
+	@Test
+	public void testTwoAsyncValidatorsOnSameFieldSettle () throws Exception {
+		VisValidatableTextField field = new VisValidatableTextField("", createFieldStyle());
+		DisableTarget target = new DisableTarget();
+
+		SimpleFormValidator form = new SimpleFormValidator(target, null, new FormValidatorStyle(Color.RED, Color.WHITE));
+		CountingValidator first = new CountingValidator();
+		CountingValidator second = new CountingValidator();
+		form.custom(field, first);
+		form.custom(field, second);
+
+		field.setText("valid");
+		processUntilSettled(first, second);
+
+		assertFalse(first.isValidationPending());
+		assertFalse(second.isValidationPending());
+		assertTrue(field.isInputValid());
+		assertFalse(target.isDisabled());
+
+		//publishing result of one validator must not restart the other one
+		int validations = first.validations.get() + second.validations.get();
+		processFor(first.getDebounceTime() * 3);
+		assertEquals(validations, first.validations.get() + second.validations.get());
+		assertFalse(target.isDisabled());
+	}
+
+	private void processUntilSettled (AsyncFormInputValidator... validators) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (System.currentTimeMillis() < deadline) {
+			boolean pending = false;
+			for (AsyncFormInputValidator validator : validators)
+				pending |= validator.isValidationPending();
+			if (pending == false) return;
+
+			Runnable runnable = uiThreadQueue.poll(50, TimeUnit.MILLISECONDS);
+			if (runnable != null) runnable.run();
+		}
+	}
+
+	private void processFor (float seconds) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + (long) (seconds * 1000);
+		while (System.currentTimeMillis() < deadline) {
+			Runnable runnable = uiThreadQueue.poll(50, TimeUnit.MILLISECONDS);
+			if (runnable != null) runnable.run();
+		}
+	}
+
+	private VisTextFieldStyle createFieldStyle () {
+		BitmapFontData fontData = new BitmapFontData();
+		fontData.imagePaths = new String[0];
+		BitmapFont font = new BitmapFont(fontData, new TextureRegion(), false); //font with empty page, doesn't need OpenGL context
+
+		for (char c = 'a'; c <= 'z'; c++) { //text field skips characters that font doesn't have
+			Glyph glyph = new Glyph();
+			glyph.id = c;
+			glyph.xadvance = 1;
+			fontData.setGlyph(c, glyph);
+		}
+
+		return new VisTextFieldStyle(font, Color.WHITE, null, null, null);
+	}
+
+	private static class CountingValidator extends AsyncFormInputValidator {
+		final AtomicInteger validations = new AtomicInteger();
+
+		public CountingValidator () {
+			super("invalid");
+			setDebounceTime(0.05f);
+		}
+
+		@Override
+		protected boolean validate (String input) {
+			validations.incrementAndGet();
+			return input.equals("valid");
+		}
+	}
+
+	private static class DisableTarget implements Disableable {
+		private boolean disabled;
+
+		@Override
+		public void setDisabled (boolean isDisabled) {
+			this.disabled = isDisabled;
+		}
+
+		@Override
+		public boolean isDisabled () {
+			return disabled;
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.kotcrab.vis.ui.test;
+
+import com.kotcrab.vis.ui.util.PieceTable;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class PieceTableTest {
+
+	@Test
+	public void testEdits () throws Exception {
+		PieceTable table = new PieceTable("hello world");
+
+		table.insert(5, ",");
+		table.insert(table.length(), "!");
+		table.insert(0, ">");
+		assertEquals(">hello, world!", table.toString());
+
+		table.delete(1, 7);
+		assertEquals("> world!", table.toString());
+		assertEquals('w', table.charAt(2));
+		assertEquals("world", table.subSequence(2, 7));
+
+		table.delete(0, table.length());
+		assertEquals("", table.toString());
+		assertEquals(0, table.getPieceCount());
+	}
+
+	@Test
+	public void testTypingExtendsPiece () throws Exception {
+		PieceTable table = new PieceTable("ab");
+		for (int i = 0; i < 100; i++)
+			table.insert(1 + i, "x");
+
+		assertEquals(3, table.getPieceCount());
+		assertEquals(102, table.length());
+	}
+
+	@Test
+	public void testRandomEdits () throws Exception {
+		Random random = new Random(1);
+		PieceTable table = new PieceTable("some\ninitial\ntext");
+		StringBuilder expected = new StringBuilder(table.toString());
+
+		for (int i = 0; i < 5000; i++) {
+			if (random.nextInt(3) != 0 || expected.length() == 0) {
+				int index = random.nextInt(expected.length() + 1);
+				String text = random.nextBoolean() ? "x" : "ab\ncd";
+				table.insert(index, text);
+				expected.insert(index, text);
+			} else {
+				int start = random.nextInt(expected.length());
+				int end = Math.min(expected.length(), start + random.nextInt(20));
+				table.delete(start, end);
+				expected.delete(start, end);
+			}
+
+			int index = random.nextInt(expected.length() + 1);
+			if (index < expected.length()) assertEquals(expected.charAt(index), table.charAt(index));
+			assertEquals(expected.substring(index), table.subSequence(index, table.length()));
+		}
+
+		assertEquals(expected.toString(), table.toString());
+	}
+}
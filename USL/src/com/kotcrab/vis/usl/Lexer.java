@@ -216,17 +216,11 @@ public class Lexer {
 			int includeEnd = usl.indexOf(">", i);
 			if (includeEnd == -1) Utils.throwException("Invalid include format", usl, i);
 
-			String content = null;
 			String includeName = usl.substring(i + 1, includeEnd);
+			String content = readInternalInclude(includeName);
+			if (content == null) Utils.throwException("Invalid internal include file: " + includeName, usl, i);
 
-			if (includeMappings == null) loadIncludeMappings();
-
-			String fileName = includeMappings.get(includeName);
-			if (fileName != null)
-				content = streamToString(USL.class.getResourceAsStream(fileName));
-			else
-				Utils.throwException("Invalid internal include file: " + includeName, usl, i);
-
+			ctx.includes.add("<" + includeName + ">");
 			lexUsl(ctx, content);
 
 			return includeEnd + 1;
@@ -239,6 +233,8 @@ public class Lexer {
 
 			if (file.exists() == false)
 				Utils.throwException("Include file does not exist, file: " + file.getAbsolutePath(), usl, i);
+
+			ctx.includes.add(file.getAbsolutePath());
 			lexUsl(ctx, Utils.readFile(file));
 			return includeEnd + 1;
 		} else
@@ -247,6 +243,15 @@ public class Lexer {
 		return -1;
 	}
 
+	/** @return content of internal include file or null if include with such name does not exist */
+	static String readInternalInclude (String includeName) {
+		if (includeMappings == null) loadIncludeMappings();
+
+		String fileName = includeMappings.get(includeName);
+		if (fileName == null) return null;
+		return streamToString(USL.class.getResourceAsStream(fileName));
+	}
+
 	private static void loadIncludeMappings () {
 		includeMappings = new HashMap<String, String>();
 		includeMappings.put("gdx", "gdx.usl");
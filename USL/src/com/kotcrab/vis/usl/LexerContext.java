@@ -9,6 +9,8 @@ public class LexerContext {
 	final File workingDirectory;
 
 	final List<Token> tokens = new ArrayList<Token>();
+	/** included files in order they were lexed, internal includes are stored as &lt;name&gt; and files as absolute paths */
+	final List<String> includes = new ArrayList<String>();
 	int curliesLevel = 0;
 
 	public LexerContext (File workingDirectory) {
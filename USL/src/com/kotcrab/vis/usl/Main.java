@@ -1,34 +1,47 @@
 package com.kotcrab.vis.usl;
 
+import com.kotcrab.vis.usl.USLCompiler.OutputFormat;
+
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.PrintStream;
 
-/** Main class of ULS, allowing to use it from command line */
 public class Main {
 	public static void main (String[] args) {
-		if (args.length < 2) {
-			System.out.println("Usage: <input usl file> <output json file>");
+		OutputFormat format = OutputFormat.JSON;
+		File cacheDirectory = null;
+
+		int argIndex = 0;
+		for (; argIndex < args.length - 2; argIndex++) {
+			if (args[argIndex].equals("-binary")) {
+				format = OutputFormat.BINARY;
+			} else if (args[argIndex].equals("-cache") && argIndex + 1 < args.length - 2) {
+				cacheDirectory = new File(args[++argIndex]);
+			} else
+				break;
+		}
+
+		if (args.length - argIndex != 2) {
+			System.out.println("Usage: [-binary] [-cache <cache directory>] <input usl file> <output file>");
 			System.exit(-2);
 		}
 
-		File input = new File(args[0]);
-		File output = new File(args[1]);
+		File input = new File(args[argIndex]);
+		File output = new File(args[argIndex + 1]);
 
 		if (input.exists() == false) {
 			System.out.println("Input file does not exist");
 			System.exit(-3);
 		}
 
-		String usl = USL.parse(input);
+		byte[] compiled = new USLCompiler(cacheDirectory).compile(input, format);
 
 		try {
 			if (output.exists() == false)
 				output.createNewFile();
 
-			PrintStream out = new PrintStream(new FileOutputStream(output));
-			out.print(usl);
+			FileOutputStream out = new FileOutputStream(output);
+			out.write(compiled);
 			out.close();
 			System.out.println("Done.");
 		} catch (IOException e) {
@@ -7,9 +7,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Stack;
 
-/** Converts stream of tokens created by {@link Lexer} into json string. */
+/** Converts stream of tokens created by {@link Lexer} into merged style blocks or json string. */
 public class Parser {
-	private StringBuilder out;
 	private List<Token> tokens;
 	private int i = 0;
 
@@ -25,7 +24,11 @@ public class Parser {
 	private Stack<GroupIdentifier> identifiers = new Stack<GroupIdentifier>();
 
 	public String getJson (List<Token> tokens) {
-		out = new StringBuilder();
+		return new USLJsonWriter(getStyleBlocks(tokens)).getJson();
+	}
+
+	/** @return style blocks with all styles inheritance and overrides resolved */
+	public ArrayList<StyleBlock> getStyleBlocks (List<Token> tokens) {
 		this.tokens = tokens;
 
 		for (; i < tokens.size(); ) {
@@ -155,8 +158,7 @@ public class Parser {
 
 		postCheck();
 
-		ArrayList<StyleBlock> mergedStyleBlocks = new StyleMerger(globalStyles, styleBlocks, styleBlocksOverride).merge();
-		return new USLJsonWriter(mergedStyleBlocks).getJson();
+		return new StyleMerger(globalStyles, styleBlocks, styleBlocksOverride).merge();
 	}
 
 	private StyleBlock findMatchingStyle (Token t, String name) {
@@ -18,4 +18,19 @@ public class USL {
 		Lexer.lexUsl(context, usl);
 		return new Parser().getJson(context.tokens);
 	}
+
+	/** @return binary skin, see {@link USLBinaryWriter} */
+	public static byte[] parseBinary (File uslFile) {
+		return parseBinary(uslFile.getParentFile(), Utils.readFile(uslFile));
+	}
+
+	/**
+	 * @param workingDirectory see {@link #parse(File, String)}
+	 * @return binary skin, see {@link USLBinaryWriter}
+	 */
+	public static byte[] parseBinary (File workingDirectory, String usl) {
+		LexerContext context = new LexerContext(workingDirectory);
+		Lexer.lexUsl(context, usl);
+		return new USLBinaryWriter(new Parser().getStyleBlocks(context.tokens)).getBinary();
+	}
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.kotcrab.vis.usl;
+
+import com.kotcrab.vis.usl.lang.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Converts list of blocks created by {@link Parser} into compact binary skin. Binary skin contains the same data as json
+ * created by {@link USLJsonWriter} but values are already parsed and all names are stored once in string table, it can
+ * be loaded by VisUI BinarySkin without parsing json text.
+ * <p>
+ * Format (all indexes and counts are stored as unsigned variable length ints):
+ * <pre>
+ * int magic, byte version
+ * count, strings (modified UTF-8)
+ * count, classes: class name index, count, styles: style name index, object
+ * object: count, fields: field name index, value
+ * value: byte type, then string index for STRING, long for LONG, double for DOUBLE, object for OBJECT
+ * </pre>
+ */
+public class USLBinaryWriter {
+	public static final int MAGIC = 0x5655534C; //VUSL
+	public static final int VERSION = 1;
+
+	public static final byte TYPE_NULL = 0;
+	public static final byte TYPE_STRING = 1;
+	public static final byte TYPE_LONG = 2;
+	public static final byte TYPE_DOUBLE = 3;
+	public static final byte TYPE_TRUE = 4;
+	public static final byte TYPE_FALSE = 5;
+	public static final byte TYPE_OBJECT = 6;
+
+	private static final Pattern longRegex = Pattern.compile("^-?[0-9]+$");
+	private static final Pattern doubleRegex = Pattern.compile("^-?([0-9]+\\.?[0-9]*|\\.[0-9]+)([eE][+-]?[0-9]+)?$");
+
+	private ArrayList<StyleBlock> styleBlocks;
+
+	private ArrayList<String> strings = new ArrayList<String>();
+	private HashMap<String, Integer> stringIndexes = new HashMap<String, Integer>();
+
+	public USLBinaryWriter (ArrayList<StyleBlock> mergedStyleBlocks) {
+		styleBlocks = mergedStyleBlocks;
+	}
+
+	public byte[] getBinary () {
+		try {
+			//body is written first so string table is complete when header is written
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			writeBlocks(new DataOutputStream(body));
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.size() + strings.size() * 16);
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeInt(MAGIC);
+			out.writeByte(VERSION);
+
+			writeVarInt(out, strings.size());
+			for (String string : strings)
+				out.writeUTF(string);
+
+			body.writeTo(out);
+			out.flush();
+			return bytes.toByteArray();
+		} catch (IOException e) {
+			throw new USLException("Writing binary skin failed", e);
+		}
+	}
+
+	private void writeBlocks (DataOutputStream out) throws IOException {
+		writeVarInt(out, styleBlocks.size());
+
+		for (StyleBlock block : styleBlocks) {
+			writeString(out, block.fullName);
+
+			int stylesCount = 0;
+			for (StyleIdentifier style : block.styles)
+				if (style.metaStyle == false) stylesCount++;
+
+			writeVarInt(out, stylesCount);
+			for (StyleIdentifier style : block.styles) {
+				if (style.metaStyle) continue;
+				writeString(out, style.name);
+				writeObject(out, style.content);
+			}
+		}
+	}
+
+	private void writeObject (DataOutputStream out, ArrayList<Identifier> content) throws IOException {
+		int fieldsCount = 0;
+		for (Identifier id : content)
+			if (isWritten(id)) fieldsCount++;
+
+		writeVarInt(out, fieldsCount);
+
+		for (Identifier id : content) {
+			if (isWritten(id) == false) continue;
+			writeString(out, id.name);
+
+			if (id instanceof BasicIdentifier) {
+				writeValue(out, ((BasicIdentifier) id).content);
+			} else {
+				out.writeByte(TYPE_OBJECT);
+				writeObject(out, ((GroupIdentifier) id).content);
+			}
+		}
+	}
+
+	private boolean isWritten (Identifier id) {
+		if (id instanceof BasicIdentifier) return ((BasicIdentifier) id).content.equals("NULL") == false;
+		return id instanceof GroupIdentifier;
+	}
+
+	/** Writes value using the same rules as json reader uses for values from {@link USLJsonWriter} output */
+	private void writeValue (DataOutputStream out, String value) throws IOException {
+		if (value.equals("null")) {
+			out.writeByte(TYPE_NULL);
+		} else if (value.equals("true")) {
+			out.writeByte(TYPE_TRUE);
+		} else if (value.equals("false")) {
+			out.writeByte(TYPE_FALSE);
+		} else if (longRegex.matcher(value).matches()) {
+			try {
+				long longValue = Long.parseLong(value);
+				out.writeByte(TYPE_LONG);
+				out.writeLong(longValue);
+			} catch (NumberFormatException e) { //out of long range
+				out.writeByte(TYPE_DOUBLE);
+				out.writeDouble(Double.parseDouble(value));
+			}
+		} else if (doubleRegex.matcher(value).matches()) {
+			out.writeByte(TYPE_DOUBLE);
+			out.writeDouble(Double.parseDouble(value));
+		} else {
+			out.writeByte(TYPE_STRING);
+			writeString(out, unquote(value));
+		}
+	}
+
+	private String unquote (String value) {
+		if (value.length() < 2 || value.startsWith("\"") == false || value.endsWith("\"") == false) return value;
+
+		StringBuilder builder = new StringBuilder(value.length());
+		for (int i = 1; i < value.length() - 1; i++) {
+			char ch = value.charAt(i);
+
+			if (ch == '\\' && i + 1 < value.length() - 1) {
+				char escaped = value.charAt(++i);
+				switch (escaped) {
+					case 'n':
+						builder.append('\n');
+						break;
+					case 't':
+						builder.append('\t');
+						break;
+					case 'r':
+						builder.append('\r');
+						break;
+					case 'b':
+						builder.append('\b');
+						break;
+					case 'f':
+						builder.append('\f');
+						break;
+					case 'u':
+						builder.append((char) Integer.parseInt(value.substring(i + 1, i + 5), 16));
+						i += 4;
+						break;
+					default:
+						builder.append(escaped);
+				}
+			} else
+				builder.append(ch);
+		}
+
+		return builder.toString();
+	}
+
+	private void writeString (DataOutputStream out, String string) throws IOException {
+		Integer index = stringIndexes.get(string);
+
+		if (index == null) {
+			index = strings.size();
+			strings.add(string);
+			stringIndexes.put(string, index);
+		}
+
+		writeVarInt(out, index);
+	}
+
+	private static void writeVarInt (DataOutputStream out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		out.writeByte(value);
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2014-2015 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.kotcrab.vis.usl;
+
+import com.kotcrab.vis.usl.lang.StyleBlock;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles USL files and caches compilation results in provided directory. Cached result is used when content of
+ * compiled file and all files included by it (including internal includes) wasn't changed since it was compiled.
+ */
+public class USLCompiler {
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	public enum OutputFormat {
+		JSON, BINARY
+	}
+
+	private final File cacheDirectory;
+
+	/** @param cacheDirectory directory where compiled files will be cached, may be null to disable caching */
+	public USLCompiler (File cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	public String compileJson (File uslFile) {
+		return new String(compile(uslFile, OutputFormat.JSON), UTF_8);
+	}
+
+	public byte[] compileBinary (File uslFile) {
+		return compile(uslFile, OutputFormat.BINARY);
+	}
+
+	/** @return compiled file, json is returned as UTF-8 encoded bytes */
+	public byte[] compile (File uslFile, OutputFormat format) {
+		String usl = Utils.readFile(uslFile);
+		if (cacheDirectory == null) return compile(uslFile, usl, format).output;
+
+		File entry = new File(cacheDirectory, getEntryName(uslFile, format));
+		File depsFile = new File(entry.getPath() + ".deps");
+		File outputFile = new File(entry.getPath() + ".out");
+
+		byte[] cached = readCached(usl, format, depsFile, outputFile);
+		if (cached != null) return cached;
+
+		CompilationResult result = compile(uslFile, usl, format);
+		writeCached(result, hash(usl, format, result.includes), depsFile, outputFile);
+		return result.output;
+	}
+
+	private CompilationResult compile (File uslFile, String usl, OutputFormat format) {
+		LexerContext context = new LexerContext(uslFile.getParentFile());
+		Lexer.lexUsl(context, usl);
+		ArrayList<StyleBlock> styleBlocks = new Parser().getStyleBlocks(context.tokens);
+
+		byte[] output;
+		if (format == OutputFormat.JSON)
+			output = new USLJsonWriter(styleBlocks).getJson().getBytes(UTF_8);
+		else
+			output = new USLBinaryWriter(styleBlocks).getBinary();
+
+		return new CompilationResult(output, context.includes);
+	}
+
+	private byte[] readCached (String usl, OutputFormat format, File depsFile, File outputFile) {
+		if (depsFile.exists() == false || outputFile.exists() == false) return null;
+
+		try {
+			List<String> lines = Files.readAllLines(depsFile.toPath(), UTF_8);
+			if (lines.size() == 0) return null;
+
+			String hash = hash(usl, format, lines.subList(1, lines.size()));
+			if (hash == null || hash.equals(lines.get(0)) == false) return null;
+
+			return Files.readAllBytes(outputFile.toPath());
+		} catch (IOException e) {
+			System.out.println("Warn: reading cached file failed: " + e.getMessage());
+			return null;
+		}
+	}
+
+	private void writeCached (CompilationResult result, String hash, File depsFile, File outputFile) {
+		if (hash == null) return;
+
+		StringBuilder deps = new StringBuilder(hash);
+		for (String include : result.includes)
+			deps.append("\n").append(include);
+
+		try {
+			cacheDirectory.mkdirs();
+			//output is written first, if writing deps fails old hash won't match and file will be compiled again
+			Files.write(outputFile.toPath(), result.output);
+			Files.write(depsFile.toPath(), deps.toString().getBytes(UTF_8));
+		} catch (IOException e) {
+			System.out.println("Warn: writing cached file failed: " + e.getMessage());
+		}
+	}
+
+	/** @return hash of compiled file content and all included files content or null if some included file can't be read */
+	private String hash (String usl, OutputFormat format, List<String> includes) {
+		MessageDigest digest;
+
+		try {
+			digest = MessageDigest.getInstance("SHA-1");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+
+		update(digest, format.name() + USLBinaryWriter.VERSION);
+		update(digest, usl);
+
+		for (String include : includes) {
+			String content;
+
+			if (include.startsWith("<")) {
+				content = Lexer.readInternalInclude(include.substring(1, include.length() - 1));
+			} else {
+				File file = new File(include);
+				content = file.exists() ? Utils.readFile(file) : null;
+			}
+
+			if (content == null) return null;
+			update(digest, include);
+			update(digest, content);
+		}
+
+		return String.format("%040x", new BigInteger(1, digest.digest()));
+	}
+
+	private void update (MessageDigest digest, String content) {
+		digest.update(content.getBytes(UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private String getEntryName (File uslFile, OutputFormat format) {
+		String path = uslFile.getAbsolutePath();
+		return uslFile.getName() + "-" + Integer.toHexString(path.hashCode()) + "-" + format.name().toLowerCase();
+	}
+
+	private static class CompilationResult {
+		final byte[] output;
+		final List<String> includes;
+
+		public CompilationResult (byte[] output, List<String> includes) {
+			this.output = output;
+			this.includes = includes;
+		}
+	}
+}
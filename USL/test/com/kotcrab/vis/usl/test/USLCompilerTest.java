@@ -0,0 +1,56 @@
+package com.kotcrab.vis.usl.test;
+
+import com.kotcrab.vis.usl.USL;
+import com.kotcrab.vis.usl.USLBinaryWriter;
+import com.kotcrab.vis.usl.USLCompiler;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+public class USLCompilerTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testBinaryHeader () throws Exception {
+		byte[] binary = USL.parseBinary(null, "include <visui>");
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(binary));
+		assertEquals(USLBinaryWriter.MAGIC, in.readInt());
+		assertEquals(USLBinaryWriter.VERSION, in.readByte());
+	}
+
+	@Test
+	public void testCachedResultMatchesParse () throws Exception {
+		File usl = write("skin.usl", "include <visui>");
+		USLCompiler compiler = new USLCompiler(folder.newFolder("cache"));
+
+		String json = compiler.compileJson(usl);
+		assertEquals(USL.parse(usl), json);
+		assertEquals(json, compiler.compileJson(usl));
+	}
+
+	@Test
+	public void testIncludeChangeInvalidatesCache () throws Exception {
+		File include = write("include.usl", "#com.Style: { default: { value: 1 } }");
+		File usl = write("skin.usl", "include \"" + include.getAbsolutePath() + "\"");
+		USLCompiler compiler = new USLCompiler(folder.newFolder("cache"));
+
+		assertTrue(compiler.compileJson(usl).contains("value: 1"));
+		write("include.usl", "#com.Style: { default: { value: 2 } }");
+		assertTrue(compiler.compileJson(usl).contains("value: 2"));
+	}
+
+	private File write (String name, String content) throws Exception {
+		File file = new File(folder.getRoot(), name);
+		Files.write(file.toPath(), content.getBytes(Charset.forName("UTF-8")));
+		return file;
+	}
+}